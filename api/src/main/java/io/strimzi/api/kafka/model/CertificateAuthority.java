@@ -35,6 +35,7 @@ public class CertificateAuthority implements UnknownPropertyPreserving, Serializ
     private int renewalDays;
     private Map<String, Object> additionalProperties = new HashMap<>(0);
     private CertificateExpirationPolicy certificateExpirationPolicy;
+    private CertificateKeyAlgorithm keyAlgorithm;
     public static final int DEFAULT_CERTS_VALIDITY_DAYS = 365;
     public static final int DEFAULT_CERTS_RENEWAL_DAYS = 30;
 
@@ -99,6 +100,18 @@ public class CertificateAuthority implements UnknownPropertyPreserving, Serializ
     public void setCertificateExpirationPolicy(CertificateExpirationPolicy certificateExpirationPolicy) {
         this.certificateExpirationPolicy = certificateExpirationPolicy;
     }
+
+    @Description("The algorithm used for the private keys of the CA and of the certificates it issues. " +
+            "ECDSA keys are faster to generate and make TLS handshakes cheaper than RSA keys. " +
+            "A changed algorithm applies to keys generated after the change, for example when the CA key is replaced. " +
+            "The default is `rsa`.")
+    public CertificateKeyAlgorithm getKeyAlgorithm() {
+        return keyAlgorithm;
+    }
+
+    public void setKeyAlgorithm(CertificateKeyAlgorithm keyAlgorithm) {
+        this.keyAlgorithm = keyAlgorithm;
+    }
     
     @Override
     public Map<String, Object> getAdditionalProperties() {
@@ -0,0 +1,43 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.api.kafka.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+public enum CertificateKeyAlgorithm {
+
+    RSA,
+    ECDSA_P256,
+    ECDSA_P384;
+
+    @JsonCreator
+    public static CertificateKeyAlgorithm forValue(String value) {
+        switch (value) {
+            case "rsa":
+                return RSA;
+            case "ecdsa-p256":
+                return ECDSA_P256;
+            case "ecdsa-p384":
+                return ECDSA_P384;
+            default:
+                return null;
+        }
+    }
+
+    @JsonValue
+    public String toValue() {
+        switch (this) {
+            case RSA:
+                return "rsa";
+            case ECDSA_P256:
+                return "ecdsa-p256";
+            case ECDSA_P384:
+                return "ecdsa-p384";
+            default:
+                return null;
+        }
+    }
+}
@@ -25,7 +25,21 @@ public interface CertManager {
      * @param days certificate duration
      * @throws IOException If an input or output file could not be read/written.
      */
-    void generateSelfSignedCert(File keyFile, File certFile, Subject sbj, int days) throws IOException;
+    default void generateSelfSignedCert(File keyFile, File certFile, Subject sbj, int days) throws IOException {
+        generateSelfSignedCert(keyFile, certFile, sbj, days, KeyAlgorithm.RSA);
+    }
+
+    /**
+     * Generate a self-signed certificate with a new private key of the given algorithm
+     *
+     * @param keyFile path to the file which will contain the private key
+     * @param certFile path to the file which will contain the self signed certificate
+     * @param sbj subject information
+     * @param days certificate duration
+     * @param keyAlgorithm algorithm of the generated private key
+     * @throws IOException If an input or output file could not be read/written.
+     */
+    void generateSelfSignedCert(File keyFile, File certFile, Subject sbj, int days, KeyAlgorithm keyAlgorithm) throws IOException;
 
     /**
      * Renew a new self-signed certificate, keeping the existing private key
@@ -121,7 +135,20 @@ public interface CertManager {
      * @param sbj subject information
      * @throws IOException If an input or output file could not be read/written.
      */
-    void generateCsr(File keyFile, File csrFile, Subject sbj) throws IOException;
+    default void generateCsr(File keyFile, File csrFile, Subject sbj) throws IOException {
+        generateCsr(keyFile, csrFile, sbj, KeyAlgorithm.RSA);
+    }
+
+    /**
+     * Generate a certificate sign request with a new private key of the given algorithm
+     *
+     * @param keyFile path to the file which will contain the private key
+     * @param csrFile path to the file which will contain the certificate sign request
+     * @param sbj subject information
+     * @param keyAlgorithm algorithm of the generated private key
+     * @throws IOException If an input or output file could not be read/written.
+     */
+    void generateCsr(File keyFile, File csrFile, Subject sbj, KeyAlgorithm keyAlgorithm) throws IOException;
 
     /**
      * Generate a certificate signed by a Certificate Authority
@@ -0,0 +1,45 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+/**
+ * Algorithm used for the private keys generated by the certificate manager
+ */
+public enum KeyAlgorithm {
+    /**
+     * RSA keys. CA keys use 4096 bits, end-entity keys use the OpenSSL default size.
+     */
+    RSA(null),
+
+    /**
+     * ECDSA keys on the NIST P-256 curve
+     */
+    ECDSA_P256("P-256"),
+
+    /**
+     * ECDSA keys on the NIST P-384 curve
+     */
+    ECDSA_P384("P-384");
+
+    private final String curve;
+
+    KeyAlgorithm(String curve) {
+        this.curve = curve;
+    }
+
+    /**
+     * @return  True if this is an elliptic curve algorithm. False otherwise.
+     */
+    public boolean isEllipticCurve() {
+        return curve != null;
+    }
+
+    /**
+     * @return  The name of the elliptic curve as used by OpenSSL or null for non-EC algorithms
+     */
+    public String curve() {
+        return curve;
+    }
+}
@@ -153,11 +153,11 @@ public class OpenSslCertManager implements CertManager {
     }
 
     @Override
-    public void generateSelfSignedCert(File keyFile, File certFile, Subject sbj, int days) throws IOException {
+    public void generateSelfSignedCert(File keyFile, File certFile, Subject sbj, int days, KeyAlgorithm keyAlgorithm) throws IOException {
         Instant now = clock.instant();
         ZonedDateTime notBefore = now.atZone(Clock.systemUTC().getZone());
         ZonedDateTime notAfter = now.plus(days, ChronoUnit.DAYS).atZone(Clock.systemUTC().getZone());
-        generateRootCaCert(sbj, keyFile, certFile, notBefore, notAfter, 0);
+        generateCaCert(null, null, sbj, keyFile, certFile, notBefore, notAfter, 0, keyAlgorithm);
     }
 
     /**
@@ -178,7 +178,7 @@ public class OpenSslCertManager implements CertManager {
     @Override
     public void generateRootCaCert(Subject subject, File subjectKeyFile, File subjectCertFile,
                                    ZonedDateTime notBefore, ZonedDateTime notAfter, int pathLength) throws IOException {
-        generateCaCert(null, null, subject, subjectKeyFile, subjectCertFile, notBefore, notAfter, pathLength);
+        generateCaCert(null, null, subject, subjectKeyFile, subjectCertFile, notBefore, notAfter, pathLength, KeyAlgorithm.RSA);
     }
 
     /**
@@ -205,7 +205,7 @@ public class OpenSslCertManager implements CertManager {
                                            ZonedDateTime notBefore, ZonedDateTime notAfter, int pathLength) throws IOException {
         Objects.requireNonNull(issuerCaKeyFile);
         Objects.requireNonNull(issuerCaCertFile);
-        generateCaCert(issuerCaKeyFile, issuerCaCertFile, subject, subjectKeyFile, subjectCertFile, notBefore, notAfter, pathLength);
+        generateCaCert(issuerCaKeyFile, issuerCaCertFile, subject, subjectKeyFile, subjectCertFile, notBefore, notAfter, pathLength, KeyAlgorithm.RSA);
     }
 
     /**
@@ -223,12 +223,14 @@ public class OpenSslCertManager implements CertManager {
      * @param pathLength The number of CA certificates below this certificate in a certificate chain.
      *                   For example, this would be 0 if the CA certificate and key produced by this call would
      *                   only be used to issue end entity certificates, or &gt;0 when issuing intermediate CA certificates.
+     * @param keyAlgorithm The algorithm used when a new CA key is generated.
      * @throws IOException IO problems
      */
     private void generateCaCert(File issuerCaKeyFile, File issuerCaCertFile,
                                 Subject subject,
                                 File subjectKeyFile, File subjectCertFile,
-                                ZonedDateTime notBefore, ZonedDateTime notAfter, int pathLength) throws IOException {
+                                ZonedDateTime notBefore, ZonedDateTime notAfter, int pathLength,
+                                KeyAlgorithm keyAlgorithm) throws IOException {
         if (issuerCaKeyFile == null ^ issuerCaCertFile == null) {
             throw new IllegalArgumentException();
         }
@@ -236,6 +238,7 @@ public class OpenSslCertManager implements CertManager {
         Objects.requireNonNull(subject);
         Objects.requireNonNull(subjectKeyFile);
         Objects.requireNonNull(subjectCertFile);
+        Objects.requireNonNull(keyAlgorithm);
         checkValidity(notBefore, notAfter);
         if (pathLength < 0) {
             throw new IllegalArgumentException("pathLength cannot be negative: " + pathLength);
@@ -256,7 +259,16 @@ public class OpenSslCertManager implements CertManager {
         try {
             tmpKey = Files.createTempFile(null, null);
             boolean keyInPkcs1;
-            if (subjectKeyFile.length() == 0) {
+            if (subjectKeyFile.length() == 0 && keyAlgorithm.isEllipticCurve()) {
+                // Generate an EC key pair, genpkey writes it directly in pkcs#8 format
+                new OpensslArgs("openssl", "genpkey")
+                        .optArg("-algorithm", "EC")
+                        .optArg("-pkeyopt", "ec_paramgen_curve:" + keyAlgorithm.curve())
+                        .optArg("-out", tmpKey)
+                        .exec();
+                Files.copy(tmpKey, subjectKeyFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                keyInPkcs1 = false;
+            } else if (subjectKeyFile.length() == 0) {
                 // Generate a key pair
                 new OpensslArgs("openssl", "genrsa")
                         .optArg("-out", tmpKey)
@@ -409,20 +421,26 @@ public class OpenSslCertManager implements CertManager {
         Instant now = clock.instant();
         ZonedDateTime notBefore = now.atZone(Clock.systemUTC().getZone());
         ZonedDateTime notAfter = now.plus(days, ChronoUnit.DAYS).atZone(Clock.systemUTC().getZone());
-        generateCaCert(null, null, subject, keyFile, certFile, notBefore, notAfter, 0);
+        generateCaCert(null, null, subject, keyFile, certFile, notBefore, notAfter, 0, KeyAlgorithm.RSA);
     }
 
     @Override
-    public void generateCsr(File keyFile, File csrFile, Subject subject) throws IOException {
+    public void generateCsr(File keyFile, File csrFile, Subject subject, KeyAlgorithm keyAlgorithm) throws IOException {
         Objects.requireNonNull(keyFile);
         Objects.requireNonNull(csrFile);
         Objects.requireNonNull(subject);
+        Objects.requireNonNull(keyAlgorithm);
 
         OpensslArgs cmd = new OpensslArgs("openssl", "req")
                 .opt("-new").opt("-batch").opt("-nodes")
                 .optArg("-keyout", keyFile)
                 .optArg("-out", csrFile);
 
+        if (keyAlgorithm.isEllipticCurve()) {
+            cmd.optArg("-newkey", "ec")
+                    .optArg("-pkeyopt", "ec_paramgen_curve:" + keyAlgorithm.curve());
+        }
+
         Path sna = null;
         try {
             if (subject.hasSubjectAltNames()) {
@@ -7,6 +7,7 @@ package io.strimzi.operator.cluster;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.Watch;
 import io.strimzi.api.kafka.model.nodepool.KafkaNodePool;
+import io.strimzi.operator.cluster.leaderelection.ShardingManager;
 import io.strimzi.operator.cluster.operator.assembly.AbstractConnectOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaBridgeAssemblyOperator;
@@ -17,6 +18,7 @@ import io.strimzi.operator.cluster.operator.assembly.KafkaRebalanceAssemblyOpera
 import io.strimzi.operator.cluster.operator.assembly.StrimziPodSetController;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.common.AbstractOperator;
+import io.strimzi.operator.common.BlockingExecutor;
 import io.vertx.core.AbstractVerticle;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
@@ -60,6 +62,7 @@ public class ClusterOperator extends AbstractVerticle {
     private final KafkaBridgeAssemblyOperator kafkaBridgeAssemblyOperator;
     private final KafkaRebalanceAssemblyOperator kafkaRebalanceAssemblyOperator;
     private final ResourceOperatorSupplier resourceOperatorSupplier;
+    private final ShardingManager shardingManager;
 
     private StrimziPodSetController strimziPodSetController;
 
@@ -80,6 +83,7 @@ public class ClusterOperator extends AbstractVerticle {
      * @param kafkaBridgeAssemblyOperator           KafkaBridge operator
      * @param kafkaRebalanceAssemblyOperator        KafkaRebalance operator
      * @param resourceOperatorSupplier              Resource operator supplier
+     * @param shardingManager                       Sharding manager or null if sharding is not enabled
      */
     public ClusterOperator(String namespace,
                            ClusterOperatorConfig config,
@@ -90,7 +94,8 @@ public class ClusterOperator extends AbstractVerticle {
                            KafkaMirrorMaker2AssemblyOperator kafkaMirrorMaker2AssemblyOperator,
                            KafkaBridgeAssemblyOperator kafkaBridgeAssemblyOperator,
                            KafkaRebalanceAssemblyOperator kafkaRebalanceAssemblyOperator,
-                           ResourceOperatorSupplier resourceOperatorSupplier) {
+                           ResourceOperatorSupplier resourceOperatorSupplier,
+                           ShardingManager shardingManager) {
         LOGGER.info("Creating ClusterOperator for namespace {}", namespace);
         this.namespace = namespace;
         this.config = config;
@@ -102,6 +107,7 @@ public class ClusterOperator extends AbstractVerticle {
         this.kafkaBridgeAssemblyOperator = kafkaBridgeAssemblyOperator;
         this.kafkaRebalanceAssemblyOperator = kafkaRebalanceAssemblyOperator;
         this.resourceOperatorSupplier = resourceOperatorSupplier;
+        this.shardingManager = shardingManager;
     }
 
     @Override
@@ -109,7 +115,7 @@ public class ClusterOperator extends AbstractVerticle {
         LOGGER.info("Starting ClusterOperator for namespace {}", namespace);
 
         // Configure the executor here, but it is used only in other places
-        sharedWorkerExecutor = getVertx().createSharedWorkerExecutor("kubernetes-ops-pool", config.getOperationsThreadPoolSize(), TimeUnit.SECONDS.toNanos(120));
+        sharedWorkerExecutor = getVertx().createSharedWorkerExecutor(BlockingExecutor.KUBERNETES_OPS_POOL, config.getOperationsThreadPoolSize(), TimeUnit.SECONDS.toNanos(120));
 
         List<Future<?>> startFutures = new ArrayList<>(8);
         startFutures.add(maybeStartStrimziPodSetController());
@@ -142,6 +148,14 @@ public class ClusterOperator extends AbstractVerticle {
 
         Future.join(startFutures)
                 .compose(f -> {
+                    if (shardingManager != null) {
+                        // Reconcile right away when this replica takes over some namespaces from another replica
+                        shardingManager.addOwnershipChangeListener(() -> context.runOnContext(v -> {
+                            LOGGER.info("Triggering reconciliation for namespace {} after the namespaces were rebalanced", namespace);
+                            reconcileAll("shard-rebalance");
+                        }));
+                    }
+
                     LOGGER.info("Setting up periodic reconciliation for namespace {}", namespace);
                     this.reconcileTimer = vertx.setPeriodic(this.config.getReconciliationIntervalMs(), res2 -> {
                         if (!config.isPodSetReconciliationOnly()) {
@@ -168,8 +182,13 @@ public class ClusterOperator extends AbstractVerticle {
                         resourceOperatorSupplier.strimziPodSetOperator,
                         resourceOperatorSupplier.podOperations,
                         resourceOperatorSupplier.metricsProvider,
-                        config.getPodSetControllerWorkQueueSize()
+                        config.getPodSetControllerWorkQueueSize(),
+                        config.getPodSetControllerMaxInFlightPodOperations()
                 );
+                if (shardingManager != null) {
+                    strimziPodSetController.setNamespaceOwnership(shardingManager);
+                }
+
                 strimziPodSetController.start();
                 future.complete();
             } catch (Throwable e) {
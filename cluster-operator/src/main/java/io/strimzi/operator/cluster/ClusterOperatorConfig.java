@@ -29,9 +29,12 @@ import static io.strimzi.operator.common.operator.resource.ConfigParameterParser
 import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.INTEGER;
 import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.LOCAL_OBJECT_REFERENCE_LIST;
 import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.NAMESPACE_SET;
+import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.NAMESPACE_WEIGHTS;
 import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.STRING;
 import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.LABEL_PREDICATE;
 import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.BOOLEAN;
+import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.strictlyPositive;
+import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.nonNegative;
 
 /**
  * Cluster Operator configuration
@@ -197,6 +200,51 @@ public class ClusterOperatorConfig {
      */
     public static final ConfigParameter<Integer> OPERATIONS_THREAD_POOL_SIZE = new ConfigParameter<>("STRIMZI_OPERATIONS_THREAD_POOL_SIZE", INTEGER, "10", CONFIG_VALUES);
 
+    /**
+     * Indicates whether the blocking operations should run in virtual threads instead of the operations thread pool
+     */
+    public static final ConfigParameter<Boolean> VIRTUAL_THREADS_ENABLED = new ConfigParameter<>("STRIMZI_VIRTUAL_THREADS_ENABLED", BOOLEAN, "false", CONFIG_VALUES);
+
+    /**
+     * Maximal number of blocking operations running in virtual threads at the same time
+     */
+    public static final ConfigParameter<Integer> VIRTUAL_THREADS_MAX_CONCURRENCY = new ConfigParameter<>("STRIMZI_VIRTUAL_THREADS_MAX_CONCURRENCY", strictlyPositive(INTEGER), "100", CONFIG_VALUES);
+
+    /**
+     * Maximal number of reconciliations of a single custom resource kind running at the same time
+     */
+    public static final ConfigParameter<Integer> MAX_CONCURRENT_RECONCILIATIONS_PER_KIND = new ConfigParameter<>("STRIMZI_MAX_CONCURRENT_RECONCILIATIONS_PER_KIND", nonNegative(INTEGER), "0", CONFIG_VALUES);
+
+    /**
+     * Weights of the namespaces used when scheduling the queued reconciliations
+     */
+    public static final ConfigParameter<Map<String, Integer>> RECONCILIATION_NAMESPACE_WEIGHTS = new ConfigParameter<>("STRIMZI_RECONCILIATION_NAMESPACE_WEIGHTS", NAMESPACE_WEIGHTS, "", CONFIG_VALUES);
+
+    /**
+     * Maximal number of connections kept open to a single Kafka Connect or Cruise Control REST API endpoint
+     */
+    public static final ConfigParameter<Integer> REST_CLIENT_MAX_CONNECTIONS = new ConfigParameter<>("STRIMZI_REST_CLIENT_MAX_CONNECTIONS", strictlyPositive(INTEGER), "5", CONFIG_VALUES);
+
+    /**
+     * Maximal number of requests pipelined on a single REST API connection. 1 disables the pipelining.
+     */
+    public static final ConfigParameter<Integer> REST_CLIENT_PIPELINING_LIMIT = new ConfigParameter<>("STRIMZI_REST_CLIENT_PIPELINING_LIMIT", strictlyPositive(INTEGER), "1", CONFIG_VALUES);
+
+    /**
+     * Number of seconds after which the idle REST API connections are closed
+     */
+    public static final ConfigParameter<Integer> REST_CLIENT_IDLE_TIMEOUT_SECONDS = new ConfigParameter<>("STRIMZI_REST_CLIENT_IDLE_TIMEOUT_SECONDS", strictlyPositive(INTEGER), "60", CONFIG_VALUES);
+
+    /**
+     * Maximal number of connector reconciliations running at the same time against a single Kafka Connect cluster
+     */
+    public static final ConfigParameter<Integer> MAX_CONCURRENT_CONNECTOR_RECONCILIATIONS = new ConfigParameter<>("STRIMZI_MAX_CONCURRENT_CONNECTOR_RECONCILIATIONS", nonNegative(INTEGER), "10", CONFIG_VALUES);
+
+    /**
+     * Maximal number of connector auto-restarts per minute against a single Kafka Connect cluster
+     */
+    public static final ConfigParameter<Integer> MAX_CONNECTOR_AUTO_RESTARTS_PER_MINUTE = new ConfigParameter<>("STRIMZI_MAX_CONNECTOR_AUTO_RESTARTS_PER_MINUTE", nonNegative(INTEGER), "10", CONFIG_VALUES);
+
     /**
      * Session timeout for the Zookeeper Admin client used in ZK scaling operations
      */
@@ -218,6 +266,16 @@ public class ClusterOperatorConfig {
      */
     public static final ConfigParameter<Integer> POD_SET_CONTROLLER_WORK_QUEUE_SIZE = new ConfigParameter<>("STRIMZI_POD_SET_CONTROLLER_WORK_QUEUE_SIZE", INTEGER, "1024", CONFIG_VALUES);
 
+    /**
+     * Maximal number of pod operations executed in parallel by the StrimziPodSetController for a single StrimziPodSet
+     */
+    public static final ConfigParameter<Integer> POD_SET_CONTROLLER_MAX_IN_FLIGHT_POD_OPERATIONS = new ConfigParameter<>("STRIMZI_POD_SET_CONTROLLER_MAX_IN_FLIGHT_POD_OPERATIONS", strictlyPositive(INTEGER), "10", CONFIG_VALUES);
+
+    /**
+     * Maximal number of PVC operations executed in parallel for a single Kafka or ZooKeeper cluster
+     */
+    public static final ConfigParameter<Integer> MAX_IN_FLIGHT_PVC_OPERATIONS = new ConfigParameter<>("STRIMZI_MAX_IN_FLIGHT_PVC_OPERATIONS", strictlyPositive(INTEGER), "10", CONFIG_VALUES);
+
 
     /**
      * The Pod name of the cluster operator, used to identify source of K8s events the operator creates
@@ -234,6 +292,12 @@ public class ClusterOperatorConfig {
      */
     public static final ConfigParameter<Boolean> LEADER_ELECTION_ENABLED = new ConfigParameter<>("STRIMZI_LEADER_ELECTION_ENABLED", BOOLEAN, "false", CONFIG_VALUES);
 
+    /**
+     * Enables sharding of the watched namespaces between several active Cluster Operator replicas. This replaces the
+     * leader election and uses its configuration.
+     */
+    public static final ConfigParameter<Boolean> SHARDING_ENABLED = new ConfigParameter<>("STRIMZI_SHARDING_ENABLED", BOOLEAN, "false", CONFIG_VALUES);
+
     private static final ConfigParameter<String> POD_SECURITY_PROVIDER_BASELINE_SHORTCUT = new ConfigParameter<>("POD_SECURITY_PROVIDER_BASELINE_SHORTCUT", STRING, "baseline", CONFIG_VALUES);
 
     /**
@@ -561,6 +625,20 @@ public class ClusterOperatorConfig {
         return get(OPERATIONS_THREAD_POOL_SIZE);
     }
 
+    /**
+     * @return  Indicates whether the blocking operations should run in virtual threads
+     */
+    public boolean isVirtualThreadsEnabled() {
+        return get(VIRTUAL_THREADS_ENABLED);
+    }
+
+    /**
+     * @return  Maximal number of blocking operations running in virtual threads at the same time
+     */
+    public int getVirtualThreadsMaxConcurrency() {
+        return get(VIRTUAL_THREADS_MAX_CONCURRENCY);
+    }
+
     /**
      * @return Number of seconds to cache a successful DNS name lookup
      */
@@ -575,6 +653,55 @@ public class ClusterOperatorConfig {
         return get(POD_SET_RECONCILIATION_ONLY);
     }
 
+    /**
+     * @return Returns the maximal number of reconciliations of a single custom resource kind running at the same time
+     */
+    public int getMaxConcurrentReconciliationsPerKind() {
+        return get(MAX_CONCURRENT_RECONCILIATIONS_PER_KIND);
+    }
+
+    /**
+     * @return Returns the weights of the namespaces used when scheduling the queued reconciliations
+     */
+    public Map<String, Integer> getReconciliationNamespaceWeights() {
+        return get(RECONCILIATION_NAMESPACE_WEIGHTS);
+    }
+
+    /**
+     * @return Returns the maximal number of connections kept open to a single REST API endpoint
+     */
+    public int getRestClientMaxConnections() {
+        return get(REST_CLIENT_MAX_CONNECTIONS);
+    }
+
+    /**
+     * @return Returns the maximal number of requests pipelined on a single REST API connection
+     */
+    public int getRestClientPipeliningLimit() {
+        return get(REST_CLIENT_PIPELINING_LIMIT);
+    }
+
+    /**
+     * @return Returns the number of seconds after which the idle REST API connections are closed
+     */
+    public int getRestClientIdleTimeoutSeconds() {
+        return get(REST_CLIENT_IDLE_TIMEOUT_SECONDS);
+    }
+
+    /**
+     * @return Returns the maximal number of connector reconciliations running at the same time against a single Kafka Connect cluster
+     */
+    public int getMaxConcurrentConnectorReconciliations() {
+        return get(MAX_CONCURRENT_CONNECTOR_RECONCILIATIONS);
+    }
+
+    /**
+     * @return Returns the maximal number of connector auto-restarts per minute against a single Kafka Connect cluster
+     */
+    public int getMaxConnectorAutoRestartsPerMinute() {
+        return get(MAX_CONNECTOR_AUTO_RESTARTS_PER_MINUTE);
+    }
+
     /**
      * @return Returns the size of the StrimziPodSetController work queue
      */
@@ -582,6 +709,20 @@ public class ClusterOperatorConfig {
         return get(POD_SET_CONTROLLER_WORK_QUEUE_SIZE);
     }
 
+    /**
+     * @return Returns the maximal number of pod operations executed in parallel for a single StrimziPodSet
+     */
+    public int getPodSetControllerMaxInFlightPodOperations() {
+        return get(POD_SET_CONTROLLER_MAX_IN_FLIGHT_POD_OPERATIONS);
+    }
+
+    /**
+     * @return Returns the maximal number of PVC operations executed in parallel for a single Kafka or ZooKeeper cluster
+     */
+    public int getMaxInFlightPvcOperations() {
+        return get(MAX_IN_FLIGHT_PVC_OPERATIONS);
+    }
+
     /**
      * @return  The name of this operator
      */
@@ -607,6 +748,14 @@ public class ClusterOperatorConfig {
         }
     }
 
+    /**
+     * @return  True if the watched namespaces should be sharded between several active Cluster Operator replicas.
+     *          Sharding requires the leader election to be enabled as it uses the leader election configuration.
+     */
+    public boolean isShardingEnabled() {
+        return get(SHARDING_ENABLED) && get(LEADER_ELECTION_ENABLED);
+    }
+
     @Override
     public String toString() {
         return "ClusterOperatorConfig(" +
@@ -623,13 +772,25 @@ public class ClusterOperatorConfig {
                 ",operatorNamespaceLabels=" + getOperatorNamespaceLabels() +
                 ",customResourceSelector=" + getCustomResourceSelector() +
                 ",featureGates=" + featureGates() +
+                ",virtualThreadsEnabled=" + isVirtualThreadsEnabled() +
+                ",virtualThreadsMaxConcurrency=" + getVirtualThreadsMaxConcurrency() +
+                ",maxConcurrentReconciliationsPerKind=" + getMaxConcurrentReconciliationsPerKind() +
+                ",reconciliationNamespaceWeights=" + getReconciliationNamespaceWeights() +
                 ",zkAdminSessionTimeoutMs=" + getZkAdminSessionTimeoutMs() +
                 ",dnsCacheTtlSec=" + getDnsCacheTtlSec() +
                 ",podSetReconciliationOnly=" + isPodSetReconciliationOnly() +
                 ",podSetControllerWorkQueueSize=" + getPodSetControllerWorkQueueSize() +
+                ",podSetControllerMaxInFlightPodOperations=" + getPodSetControllerMaxInFlightPodOperations() +
+                ",maxInFlightPvcOperations=" + getMaxInFlightPvcOperations() +
                 ",operatorName=" + getOperatorName() +
                 ",podSecurityProviderClass=" + getPodSecurityProviderClass() +
                 ",leaderElectionConfig=" + getLeaderElectionConfig() +
+                ",shardingEnabled=" + isShardingEnabled() +
+                ",restClientMaxConnections=" + getRestClientMaxConnections() +
+                ",restClientPipeliningLimit=" + getRestClientPipeliningLimit() +
+                ",restClientIdleTimeoutSeconds=" + getRestClientIdleTimeoutSeconds() +
+                ",maxConcurrentConnectorReconciliations=" + getMaxConcurrentConnectorReconciliations() +
+                ",maxConnectorAutoRestartsPerMinute=" + getMaxConnectorAutoRestartsPerMinute() +
                 ")";
     }
 }
@@ -10,6 +10,7 @@ import io.fabric8.kubernetes.client.KubernetesClient;
 import io.micrometer.prometheus.PrometheusMeterRegistry;
 import io.strimzi.certs.OpenSslCertManager;
 import io.strimzi.operator.cluster.leaderelection.LeaderElectionManager;
+import io.strimzi.operator.cluster.leaderelection.ShardingManager;
 import io.strimzi.operator.cluster.model.securityprofiles.PodSecurityProviderFactory;
 import io.strimzi.operator.cluster.operator.assembly.KafkaAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaBridgeAssemblyOperator;
@@ -18,6 +19,8 @@ import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMaker2AssemblyOp
 import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMakerAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaRebalanceAssemblyOperator;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
+import io.strimzi.operator.common.AbstractOperator;
+import io.strimzi.operator.common.BlockingExecutor;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.OperatorKubernetesClientBuilder;
@@ -82,17 +85,26 @@ public class Main {
                 .setJvmMetricsEnabled(true)
                 .setEnabled(true));
         Vertx vertx = Vertx.vertx(options);
+
+        // Run the blocking operations in virtual threads when enabled and supported
+        BlockingExecutor.create(config.isVirtualThreadsEnabled(), config.getVirtualThreadsMaxConcurrency()).attachTo(vertx);
+
         Runtime.getRuntime().addShutdownHook(new Thread(new ShutdownHook(vertx)));
 
         // Setup Micrometer Metrics provider
         MetricsProvider metricsProvider = new MicrometerMetricsProvider();
         KubernetesClient client = new OperatorKubernetesClientBuilder("strimzi-cluster-operator", strimziVersion).build();
+        if (config.get(ClusterOperatorConfig.SHARDING_ENABLED) && !config.isShardingEnabled()) {
+            LOGGER.warn("Sharding requires the leader election to be enabled => sharding will not be used");
+        }
+
+        ShardingManager shardingManager = config.isShardingEnabled() ? new ShardingManager(client, config.getLeaderElectionConfig()) : null;
 
         maybeCreateClusterRoles(vertx, config, client)
                 .compose(i -> startHealthServer(vertx, metricsProvider))
-                .compose(i -> leaderElection(client, config))
+                .compose(i -> leaderElection(client, config, shardingManager))
                 .compose(i -> createPlatformFeaturesAvailability(vertx, client))
-                .compose(pfa -> deployClusterOperatorVerticles(vertx, client, metricsProvider, pfa, config))
+                .compose(pfa -> deployClusterOperatorVerticles(vertx, client, metricsProvider, pfa, config, shardingManager))
                 .onComplete(res -> {
                     if (res.failed())   {
                         LOGGER.error("Unable to start operator for 1 or more namespace", res.cause());
@@ -139,6 +151,23 @@ public class Main {
      * @return  Future which completes when all Cluster Operator verticles are started and running
      */
     static CompositeFuture deployClusterOperatorVerticles(Vertx vertx, KubernetesClient client, MetricsProvider metricsProvider, PlatformFeaturesAvailability pfa, ClusterOperatorConfig config) {
+        return deployClusterOperatorVerticles(vertx, client, metricsProvider, pfa, config, null);
+    }
+
+    /**
+     * Deploys the ClusterOperator verticles responsible for the actual Cluster Operator functionality. When the
+     * sharding manager is set, the operators reconcile only the resources in the namespaces owned by this replica.
+     *
+     * @param vertx             Vertx instance
+     * @param client            Kubernetes client instance
+     * @param metricsProvider   Metrics provider instance
+     * @param pfa               PlatformFeaturesAvailability instance describing the Kubernetes cluster
+     * @param config            Cluster Operator configuration
+     * @param shardingManager   Sharding manager or null if sharding is not enabled
+     *
+     * @return  Future which completes when all Cluster Operator verticles are started and running
+     */
+    static CompositeFuture deployClusterOperatorVerticles(Vertx vertx, KubernetesClient client, MetricsProvider metricsProvider, PlatformFeaturesAvailability pfa, ClusterOperatorConfig config, ShardingManager shardingManager) {
         ResourceOperatorSupplier resourceOperatorSupplier = new ResourceOperatorSupplier(
                 vertx,
                 client,
@@ -173,6 +202,13 @@ public class Main {
             kafkaMirrorMakerAssemblyOperator = new KafkaMirrorMakerAssemblyOperator(vertx, pfa, certManager, passwordGenerator, resourceOperatorSupplier, config);
             kafkaBridgeAssemblyOperator = new KafkaBridgeAssemblyOperator(vertx, pfa, certManager, passwordGenerator, resourceOperatorSupplier, config);
             kafkaRebalanceAssemblyOperator = new KafkaRebalanceAssemblyOperator(vertx, resourceOperatorSupplier, config);
+
+            if (shardingManager != null) {
+                for (AbstractOperator<?, ?, ?, ?> operator : List.of(kafkaClusterOperations, kafkaConnectClusterOperations, kafkaMirrorMaker2AssemblyOperator,
+                        kafkaMirrorMakerAssemblyOperator, kafkaBridgeAssemblyOperator, kafkaRebalanceAssemblyOperator)) {
+                    operator.setNamespaceOwnership(shardingManager);
+                }
+            }
         }
 
         List<Future<String>> futures = new ArrayList<>(config.getNamespaces().size());
@@ -188,7 +224,8 @@ public class Main {
                     kafkaMirrorMaker2AssemblyOperator,
                     kafkaBridgeAssemblyOperator,
                     kafkaRebalanceAssemblyOperator,
-                    resourceOperatorSupplier);
+                    resourceOperatorSupplier,
+                    shardingManager);
             vertx.deployVerticle(operator,
                 res -> {
                     if (res.succeeded()) {
@@ -212,15 +249,23 @@ public class Main {
      *   - Once it is elected a leader, it will continue and start the ClusterOperator verticles
      *   - If it is removed as a leader, it will loop the operator container to start from the beginning
      *
-     * When the leader election is disabled, it just completes the future without waiting for anything.
+     * When the leader election is disabled, it just completes the future without waiting for anything. When sharding is
+     * enabled, it joins the shard group instead and completes the future right away. The namespaces are then shared
+     * with the other active replicas.
      *
-     * @param client    Kubernetes client
-     * @param config    Cluster Operator configuration
+     * @param client            Kubernetes client
+     * @param config            Cluster Operator configuration
+     * @param shardingManager   Sharding manager or null if sharding is not enabled
      */
-    private static Future<Void> leaderElection(KubernetesClient client, ClusterOperatorConfig config)    {
+    private static Future<Void> leaderElection(KubernetesClient client, ClusterOperatorConfig config, ShardingManager shardingManager)    {
         Promise<Void> leader = Promise.promise();
 
-        if (config.getLeaderElectionConfig() != null) {
+        if (shardingManager != null) {
+            LOGGER.info("Sharding is enabled => the watched namespaces will be shared with the other Cluster Operator replicas");
+            Runtime.getRuntime().addShutdownHook(new Thread(shardingManager::stop));
+            shardingManager.start();
+            leader.complete();
+        } else if (config.getLeaderElectionConfig() != null) {
             LeaderElectionManager leaderElection = new LeaderElectionManager(
                     client, config.getLeaderElectionConfig(),
                     () -> {
@@ -0,0 +1,419 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.leaderelection;
+
+import io.fabric8.kubernetes.api.model.coordination.v1.Lease;
+import io.fabric8.kubernetes.api.model.coordination.v1.LeaseBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.strimzi.operator.common.InvalidConfigurationException;
+import io.strimzi.operator.common.NamespaceOwnership;
+import io.strimzi.operator.common.model.Labels;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ShardingManager allows several operator replicas to be active at the same time and split the watched namespaces
+ * between them. Unlike the LeaderElectionManager, which elects a single leader, each replica keeps its own Kubernetes
+ * Lease resource and periodically renews it. All Leases of the same shard group carry the same label, so each replica
+ * can list them and find out which replicas are alive. The namespaces are assigned to the alive replicas using
+ * rendezvous hashing (a consistent hashing scheme). When a replica joins or leaves, only the namespaces of that replica
+ * move to another replica.
+ *
+ * To avoid two replicas reconciling the same namespace while the membership changes, the namespaces are handed over
+ * in the following steps:
+ *   - Once the membership did not change for the lease duration, it becomes the stable membership. The replicas stop
+ *     starting new reconciliations in the namespaces they lost in the stable membership right away.
+ *   - When all reconciliations in progress in the namespaces it lost finished, the replica marks the stable membership
+ *     as released in an annotation of its own Lease.
+ *   - Only when all alive replicas released the stable membership, the replicas start reconciling the namespaces they
+ *     gained.
+ * A replica which fails to renew its own Lease within the renew deadline stops reconciling all namespaces until it
+ * renews the Lease again.
+ *
+ * Sharding needs the RBAC rights to list the Leases in the lease namespace and to create, get, update and delete the
+ * Lease of each replica. The replica fails to start when it does not have them.
+ */
+public class ShardingManager implements NamespaceOwnership {
+    private static final Logger LOGGER = LogManager.getLogger(ShardingManager.class);
+
+    /**
+     * Label used to identify the Leases belonging to the same shard group
+     */
+    public static final String SHARD_GROUP_LABEL = Labels.STRIMZI_DOMAIN + "shard-group";
+
+    /**
+     * Annotation with the last stable membership for which the replica finished all reconciliations in the namespaces
+     * it does not own
+     */
+    public static final String RELEASED_MEMBERS_ANNOTATION = Labels.STRIMZI_DOMAIN + "shard-released-members";
+
+    private final KubernetesClient client;
+    private final LeaderElectionManagerConfig config;
+    private final Clock clock;
+    private final ScheduledExecutorService executor;
+    private final List<Runnable> ownershipChangeListeners = new CopyOnWriteArrayList<>();
+
+    private volatile List<String> members = List.of();
+    private volatile List<String> stableMembers = List.of();
+    private volatile List<String> fencedMembers = List.of();
+    private volatile List<String> releasedMembers = List.of();
+    private volatile Instant lastRenewal = Instant.MIN;
+    private Instant membersChangedAt = Instant.MIN;
+    private final Map<String, Integer> inFlight = new HashMap<>();
+
+    /**
+     * ShardingManager constructor
+     *
+     * @param client    Kubernetes client
+     * @param config    LeaderElectionManager configuration. The lease name is used as the name of the shard group and
+     *                  as the prefix of the Lease names.
+     */
+    public ShardingManager(KubernetesClient client, LeaderElectionManagerConfig config) {
+        this(client, config, Clock.systemUTC());
+    }
+
+    /**
+     * ShardingManager constructor
+     *
+     * @param client    Kubernetes client
+     * @param config    LeaderElectionManager configuration
+     * @param clock     Clock used to renew the Lease and to evaluate the Leases of the other replicas
+     */
+    /* test */ ShardingManager(KubernetesClient client, LeaderElectionManagerConfig config, Clock clock) {
+        this.client = client;
+        this.config = config;
+        this.clock = clock;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ShardingManager");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts renewing the Lease of this replica and tracking the membership of the shard group. The Lease is created
+     * and the Leases of the shard group are listed right away, so that missing RBAC rights are found when the operator
+     * starts.
+     *
+     * @throws InvalidConfigurationException    When the operator is not allowed to manage its Lease or to list the
+     *                                          Leases of the shard group
+     */
+    public void start() {
+        LOGGER.info("Joining the shard group {} as {}", config.getLeaseName(), config.getIdentity());
+
+        try {
+            renew();
+            groupLeases();
+        } catch (KubernetesClientException e) {
+            if (e.getCode() == 403) {
+                throw new InvalidConfigurationException("Sharding requires the RBAC rights to list the Lease resources in namespace "
+                        + config.getNamespace() + " and to create, get, update and delete the Lease " + leaseName()
+                        + ". The default RBAC resources allow access only to the Lease " + config.getLeaseName() + ".", e);
+            }
+
+            LOGGER.warn("Failed to renew the Lease {} or to list the Leases of the shard group. It will be retried.", leaseName(), e);
+        }
+
+        executor.scheduleWithFixedDelay(this::renewAndRebalance, 0, config.getRetryPeriod().toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops renewing the Lease and deletes it so that the other replicas can take over the namespaces without waiting
+     * for the Lease to expire. Before deleting the Lease, it waits up to the lease duration for the reconciliations in
+     * progress to finish.
+     */
+    public void stop() {
+        LOGGER.info("Leaving the shard group {}", config.getLeaseName());
+        executor.shutdownNow();
+        members = List.of();
+        stableMembers = List.of();
+        fencedMembers = List.of();
+
+        if (!awaitReconciliations(config.getLeaseDuration().toMillis())) {
+            LOGGER.warn("Reconciliations in namespaces {} did not finish before leaving the shard group", inFlightNamespaces());
+        }
+
+        try {
+            client.leases().inNamespace(config.getNamespace()).withName(leaseName()).delete();
+        } catch (Exception e) {
+            LOGGER.warn("Failed to delete the Lease {} in namespace {}", leaseName(), config.getNamespace(), e);
+        }
+    }
+
+    /**
+     * Registers a listener which is called when this replica gains the ownership of some namespaces. This can be used
+     * to reconcile the resources in these namespaces without waiting for the next periodic reconciliation.
+     *
+     * @param listener  Listener which should be called
+     */
+    public void addOwnershipChangeListener(Runnable listener) {
+        ownershipChangeListeners.add(listener);
+    }
+
+    /**
+     * Checks whether this replica owns the given namespace. The replica owns the namespace when it is its owner in the
+     * current membership, in the stable membership and in the last membership released by all replicas.
+     *
+     * @param namespace     Namespace which should be checked
+     *
+     * @return  True if this replica owns the namespace and should reconcile the resources in it. False otherwise.
+     */
+    @Override
+    public boolean isOwner(String namespace) {
+        if (clock.instant().isAfter(lastRenewal.plus(config.getRenewDeadline()))) {
+            // We did not manage to renew our own Lease in time and the other replicas might have taken over already
+            return false;
+        }
+
+        return config.getIdentity().equals(owner(namespace, members))
+                && config.getIdentity().equals(owner(namespace, stableMembers))
+                && config.getIdentity().equals(owner(namespace, fencedMembers));
+    }
+
+    @Override
+    public synchronized boolean acquire(String namespace) {
+        if (isOwner(namespace)) {
+            inFlight.merge(namespace, 1, Integer::sum);
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public synchronized void release(String namespace) {
+        inFlight.computeIfPresent(namespace, (ns, count) -> count > 1 ? count - 1 : null);
+        notifyAll();
+    }
+
+    /**
+     * @return  Namespaces with reconciliations in progress
+     */
+    /* test */ synchronized Set<String> inFlightNamespaces() {
+        return Set.copyOf(inFlight.keySet());
+    }
+
+    /**
+     * Waits for the reconciliations in progress to finish
+     *
+     * @param timeoutMs     Maximal time to wait in milliseconds
+     *
+     * @return  True if all reconciliations finished. False otherwise.
+     */
+    private synchronized boolean awaitReconciliations(long timeoutMs) {
+        long deadline = System.currentTimeMillis() + timeoutMs;
+
+        try {
+            while (!inFlight.isEmpty()) {
+                long remainingMs = deadline - System.currentTimeMillis();
+
+                if (remainingMs <= 0) {
+                    return false;
+                }
+
+                wait(remainingMs);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Renews the Lease of this replica and updates the shard group membership. This is called periodically from the
+     * executor.
+     */
+    /* test */ void renewAndRebalance() {
+        try {
+            renew();
+            updateMembership(groupLeases());
+        } catch (Exception e) {
+            LOGGER.warn("Failed to renew the Lease {} or to update the membership of the shard group", leaseName(), e);
+        }
+    }
+
+    /**
+     * Creates or updates the Lease of this replica with the current time
+     */
+    private void renew() {
+        ZonedDateTime now = ZonedDateTime.now(clock);
+        Lease current = client.leases().inNamespace(config.getNamespace()).withName(leaseName()).get();
+        Lease desired = new LeaseBuilder(current != null ? current : new Lease())
+                .editOrNewMetadata()
+                    .withName(leaseName())
+                    .withNamespace(config.getNamespace())
+                    .addToLabels(SHARD_GROUP_LABEL, config.getLeaseName())
+                    .addToAnnotations(RELEASED_MEMBERS_ANNOTATION, String.join(",", releasedMembers))
+                .endMetadata()
+                .editOrNewSpec()
+                    .withHolderIdentity(config.getIdentity())
+                    .withLeaseDurationSeconds((int) config.getLeaseDuration().toSeconds())
+                    .withRenewTime(now)
+                .endSpec()
+                .build();
+
+        if (current == null) {
+            desired.getSpec().setAcquireTime(now);
+            client.leases().inNamespace(config.getNamespace()).resource(desired).create();
+        } else {
+            // Update uses the resource version from the current Lease => conflicts are retried in the next period
+            client.leases().inNamespace(config.getNamespace()).resource(desired).update();
+        }
+
+        lastRenewal = now.toInstant();
+    }
+
+    /**
+     * @return  Leases of the shard group
+     */
+    private List<Lease> groupLeases() {
+        return client.leases().inNamespace(config.getNamespace()).withLabel(SHARD_GROUP_LABEL, config.getLeaseName()).list().getItems();
+    }
+
+    /**
+     * Finds the replicas with a valid Lease and the memberships they released
+     *
+     * @param leases    Leases of the shard group
+     *
+     * @return  Map with the identities of the alive replicas sorted by the identity and the memberships they released
+     */
+    private SortedMap<String, String> aliveMembers(List<Lease> leases) {
+        Instant now = clock.instant();
+        SortedMap<String, String> alive = new TreeMap<>();
+
+        leases.stream()
+                .filter(lease -> lease.getSpec() != null && lease.getSpec().getHolderIdentity() != null && lease.getSpec().getRenewTime() != null)
+                .filter(lease -> {
+                    long durationSeconds = lease.getSpec().getLeaseDurationSeconds() != null ? lease.getSpec().getLeaseDurationSeconds() : config.getLeaseDuration().toSeconds();
+                    return now.isBefore(lease.getSpec().getRenewTime().toInstant().plusSeconds(durationSeconds));
+                })
+                .forEach(lease -> alive.put(lease.getSpec().getHolderIdentity(),
+                        lease.getMetadata().getAnnotations() != null ? lease.getMetadata().getAnnotations().get(RELEASED_MEMBERS_ANNOTATION) : null));
+
+        return alive;
+    }
+
+    /**
+     * Updates the membership of the shard group. The membership becomes stable once it did not change for the lease
+     * duration. The namespaces this replica lost in the stable membership are released once all reconciliations in
+     * them finished. The namespaces this replica gained are taken over once all alive replicas released the stable
+     * membership.
+     *
+     * @param leases    Leases of the shard group
+     */
+    /* test */ synchronized void updateMembership(List<Lease> leases) {
+        Instant now = clock.instant();
+        SortedMap<String, String> alive = aliveMembers(leases);
+        List<String> aliveIdentities = List.copyOf(alive.keySet());
+
+        if (!aliveIdentities.equals(members)) {
+            LOGGER.info("Membership of the shard group {} changed from {} to {}", config.getLeaseName(), members, aliveIdentities);
+            members = aliveIdentities;
+            membersChangedAt = now;
+        }
+
+        if (!stableMembers.equals(members) && !now.isBefore(membersChangedAt.plus(config.getLeaseDuration()))) {
+            LOGGER.info("Membership of the shard group {} is stable with members {}. Namespaces will be rebalanced.", config.getLeaseName(), members);
+            stableMembers = members;
+        }
+
+        if (!releasedMembers.equals(stableMembers)
+                && inFlight.keySet().stream().allMatch(namespace -> config.getIdentity().equals(owner(namespace, stableMembers)))) {
+            LOGGER.info("All reconciliations in the namespaces not owned with members {} finished. The namespaces will be released.", stableMembers);
+            releasedMembers = stableMembers;
+        }
+
+        String stable = String.join(",", stableMembers);
+        if (!fencedMembers.equals(stableMembers)
+                && members.equals(stableMembers)
+                && alive.values().stream().allMatch(stable::equals)) {
+            LOGGER.info("All members of the shard group {} released their namespaces. Namespaces are rebalanced to members {}.", config.getLeaseName(), stableMembers);
+            fencedMembers = stableMembers;
+            ownershipChangeListeners.forEach(Runnable::run);
+        }
+    }
+
+    /**
+     * @return  Name of the Lease used by this replica
+     */
+    /* test */ String leaseName() {
+        return config.getLeaseName() + "-" + config.getIdentity();
+    }
+
+    /**
+     * Finds the owner of the key using rendezvous hashing. Each member gets a score computed from the hash of the
+     * member identity and the key. The member with the highest score owns the key. When a member leaves, only the keys
+     * it owned get a new owner.
+     *
+     * @param key       Key (namespace) for which the owner should be found
+     * @param members   Sorted list with the identities of the members
+     *
+     * @return  Identity of the owner or null if there are no members
+     */
+    /* test */ static String owner(String key, List<String> members) {
+        String owner = null;
+        long highestScore = Long.MIN_VALUE;
+
+        for (String member : members) {
+            long score = hash(member + "/" + key);
+
+            if (owner == null || score > highestScore) {
+                owner = member;
+                highestScore = score;
+            }
+        }
+
+        return owner;
+    }
+
+    /**
+     * 64-bit FNV-1a hash with a final mixing step. Unlike String#hashCode(), it spreads similar strings evenly.
+     *
+     * @param value     String which should be hashed
+     *
+     * @return  The hash
+     */
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "ShardingManager(" +
+                "group=" + config.getLeaseName() +
+                ", identity=" + config.getIdentity() +
+                ", members=" + fencedMembers +
+                ")";
+    }
+}
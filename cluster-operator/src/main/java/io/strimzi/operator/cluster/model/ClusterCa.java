@@ -22,6 +22,7 @@ import java.util.stream.Collectors;
 
 import io.fabric8.kubernetes.api.model.Secret;
 import io.strimzi.api.kafka.model.CertificateExpirationPolicy;
+import io.strimzi.api.kafka.model.CertificateKeyAlgorithm;
 import io.strimzi.api.kafka.model.CruiseControlResources;
 import io.strimzi.api.kafka.model.KafkaExporterResources;
 import io.strimzi.api.kafka.model.KafkaResources;
@@ -90,12 +91,41 @@ public class ClusterCa extends Ca {
                      int renewalDays,
                      boolean generateCa,
                      CertificateExpirationPolicy policy) {
+        this(reconciliation, certManager, passwordGenerator, clusterName, clusterCaCert, clusterCaKey,
+                validityDays, renewalDays, generateCa, policy, null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param reconciliation        Reconciliation marker
+     * @param certManager           Certificate manager instance
+     * @param passwordGenerator     Password generator instance
+     * @param clusterName           Name of the Kafka cluster
+     * @param clusterCaCert         Secret with the public key
+     * @param clusterCaKey          Secret with the private key
+     * @param validityDays          Validity days
+     * @param renewalDays           Renewal days (how many days before expiration should the CA be renewed)
+     * @param generateCa            Flag indicating if Strimzi CA should be generated or custom CA is used
+     * @param policy                Renewal policy
+     * @param keyAlgorithm          Algorithm used for newly generated keys (RSA when null)
+     */
+    public ClusterCa(Reconciliation reconciliation, CertManager certManager,
+                     PasswordGenerator passwordGenerator,
+                     String clusterName,
+                     Secret clusterCaCert,
+                     Secret clusterCaKey,
+                     int validityDays,
+                     int renewalDays,
+                     boolean generateCa,
+                     CertificateExpirationPolicy policy,
+                     CertificateKeyAlgorithm keyAlgorithm) {
         super(reconciliation, certManager, passwordGenerator,
                 "cluster-ca",
                 AbstractModel.clusterCaCertSecretName(clusterName),
                 clusterCaCert,
                 AbstractModel.clusterCaKeySecretName(clusterName),
-                clusterCaKey, validityDays, renewalDays, generateCa, policy);
+                clusterCaKey, validityDays, renewalDays, generateCa, policy, keyAlgorithm);
         this.clusterName = clusterName;
     }
 
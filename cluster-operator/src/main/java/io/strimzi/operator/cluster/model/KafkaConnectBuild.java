@@ -200,6 +200,15 @@ public class KafkaConnectBuild extends AbstractModel {
         return build;
     }
 
+    /**
+     * Returns the base image used to build the new container image
+     *
+     * @return  Base container image
+     */
+    public String getBaseImage() {
+        return baseImage;
+    }
+
     /**
      * Generates a ConfigMap with the Dockerfile used for the build
      *
@@ -0,0 +1,146 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Plan of the Kafka Connect Build. It compares the revisions of the connector plugins used to build the current
+ * container image with the revisions of the desired plugins and tells which plugins were added, changed, removed or
+ * stayed unchanged. Only the layers of the added and changed plugins need to be built again. The layers of the
+ * unchanged plugins can be reused from the layer cache of the container builder.
+ */
+public class KafkaConnectBuildPlan {
+    private final List<String> addedPlugins = new ArrayList<>();
+    private final List<String> changedPlugins = new ArrayList<>();
+    private final List<String> removedPlugins = new ArrayList<>();
+    private final List<String> unchangedPlugins = new ArrayList<>();
+
+    /**
+     * Constructs the build plan
+     *
+     * @param currentRevisions  Revisions of the plugins in the current container image. Null if they are not known.
+     * @param desiredRevisions  Revisions of the desired plugins
+     */
+    public KafkaConnectBuildPlan(Map<String, String> currentRevisions, Map<String, String> desiredRevisions) {
+        Map<String, String> current = currentRevisions != null ? currentRevisions : Map.of();
+
+        for (Map.Entry<String, String> plugin : desiredRevisions.entrySet())   {
+            String currentRevision = current.get(plugin.getKey());
+
+            if (currentRevision == null) {
+                addedPlugins.add(plugin.getKey());
+            } else if (currentRevision.equals(plugin.getValue())) {
+                unchangedPlugins.add(plugin.getKey());
+            } else {
+                changedPlugins.add(plugin.getKey());
+            }
+        }
+
+        for (String plugin : current.keySet())  {
+            if (!desiredRevisions.containsKey(plugin)) {
+                removedPlugins.add(plugin);
+            }
+        }
+    }
+
+    /**
+     * @return  List of plugins which were added
+     */
+    public List<String> addedPlugins() {
+        return Collections.unmodifiableList(addedPlugins);
+    }
+
+    /**
+     * @return  List of plugins which changed
+     */
+    public List<String> changedPlugins() {
+        return Collections.unmodifiableList(changedPlugins);
+    }
+
+    /**
+     * @return  List of plugins which were removed
+     */
+    public List<String> removedPlugins() {
+        return Collections.unmodifiableList(removedPlugins);
+    }
+
+    /**
+     * @return  List of plugins which did not change
+     */
+    public List<String> unchangedPlugins() {
+        return Collections.unmodifiableList(unchangedPlugins);
+    }
+
+    /**
+     * @return  List of the plugins which need to be built (the added and changed plugins)
+     */
+    public List<String> pluginsToBuild() {
+        List<String> plugins = new ArrayList<>(addedPlugins);
+        plugins.addAll(changedPlugins);
+        return plugins;
+    }
+
+    /**
+     * @return  True if some plugins were added, changed or removed. False otherwise.
+     */
+    public boolean hasPluginChanges() {
+        return !addedPlugins.isEmpty() || !changedPlugins.isEmpty() || !removedPlugins.isEmpty();
+    }
+
+    /**
+     * Creates the value of the annotation with the plugin revisions
+     *
+     * @param revisions     Map with the plugin names and their revisions
+     *
+     * @return  Annotation value in the format plugin1=revision1,plugin2=revision2
+     */
+    public static String revisionsAnnotation(Map<String, String> revisions) {
+        return revisions.entrySet().stream()
+                .map(plugin -> plugin.getKey() + "=" + plugin.getValue())
+                .collect(Collectors.joining(","));
+    }
+
+    /**
+     * Parses the value of the annotation with the plugin revisions
+     *
+     * @param annotation    Annotation value in the format plugin1=revision1,plugin2=revision2
+     *
+     * @return  Map with the plugin names and their revisions or null if the annotation is not set
+     */
+    public static Map<String, String> parseRevisionsAnnotation(String annotation) {
+        if (annotation == null) {
+            return null;
+        }
+
+        Map<String, String> revisions = new LinkedHashMap<>();
+
+        for (String plugin : annotation.split(","))   {
+            int separator = plugin.indexOf('=');
+
+            if (separator > 0) {
+                revisions.put(plugin.substring(0, separator).trim(), plugin.substring(separator + 1).trim());
+            }
+        }
+
+        return revisions;
+    }
+
+    @Override
+    public String toString() {
+        if (hasPluginChanges()) {
+            return "Plugins to build: " + pluginsToBuild()
+                    + ", removed plugins: " + removedPlugins
+                    + ", unchanged plugins: " + unchangedPlugins;
+        } else {
+            return "No plugins changed, unchanged plugins: " + unchangedPlugins;
+        }
+    }
+}
@@ -789,6 +789,17 @@ public class KafkaConnectCluster extends AbstractModel implements SupportsMetric
         }
     }
 
+    /**
+     * Returns the maximal number of pods which are rolled at the same time. It follows the maxUnavailable option from
+     * the PodDisruptionBudget template, so the rolling update does not make more pods unavailable than the voluntary
+     * disruptions are allowed to. At least one pod is always rolled at a time.
+     *
+     * @return  Maximal number of pods rolled at the same time
+     */
+    public int getMaxUnavailablePods() {
+        return Math.max(1, templatePodDisruptionBudget != null ? templatePodDisruptionBudget.getMaxUnavailable() : PodDisruptionBudgetUtils.DEFAULT_MAX_UNAVAILABLE);
+    }
+
     /**
      * @return  Name of the ClusterRoleBinding for the Connect init container
      */
@@ -6,14 +6,17 @@ package io.strimzi.operator.cluster.model;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import io.strimzi.api.kafka.model.connect.build.Artifact;
 import io.strimzi.api.kafka.model.connect.build.Build;
+import io.strimzi.api.kafka.model.connect.build.DockerOutput;
 import io.strimzi.api.kafka.model.connect.build.DownloadableArtifact;
 import io.strimzi.api.kafka.model.connect.build.JarArtifact;
 import io.strimzi.api.kafka.model.connect.build.MavenArtifact;
@@ -30,6 +33,13 @@ import io.strimzi.operator.common.Util;
  * This class is used to generate the Dockerfile used by Kafka Connect Build. It takes the API definition with the
  * desired plugins and generates a Dockerfile which pulls and installs them. To generate the Dockerfile, it is using
  * the PrintWriter.
+ *
+ * When the Kaniko layer cache is enabled (the --cache option in additionalKanikoOptions), the artifacts of each
+ * connector plugin are downloaded in a separate build stage and only copied into the final image. The layers of the
+ * stage depend only on the base image and on the artifacts of the given plugin. So adding, removing or changing one
+ * plugin does not download the artifacts of the other plugins again. Without the layer cache, the separate stages
+ * would only extract the base image once for each plugin. The artifacts are therefore downloaded directly in the
+ * final image in that case.
  */
 public class KafkaConnectDockerfile {
     private static final String BASE_PLUGIN_PATH = "/opt/kafka/plugins/";
@@ -37,6 +47,7 @@ public class KafkaConnectDockerfile {
     private static final String NON_PRIVILEGED_USER = "1001";
 
     private final String dockerfile;
+    private final Map<String, StringBuilder> pluginCommands = new LinkedHashMap<>();
 
     private static final String DEFAULT_MAVEN_IMAGE = "quay.io/strimzi/maven-builder:latest";
     private final String mavenBuilder;
@@ -119,12 +130,23 @@ public class KafkaConnectDockerfile {
         StringWriter stringWriter = new StringWriter();
         PrintWriter writer = new PrintWriter(stringWriter);
 
+        boolean pluginStages = isLayerCacheEnabled(connectBuild);
+
         printHeader(writer); // Print initial comment
-        connectorPluginsPreStage(writer, connectBuild.getPlugins());
+        connectorPluginsPreStage(writer, connectBuild.getPlugins(), pluginStages);
+
+        if (pluginStages) {
+            connectorPluginStages(writer, fromImage, connectBuild.getPlugins(), sharedEnvironmentProvider); // Download the plugins in separate stages
+        }
+
         from(writer, fromImage); // Create FROM statement
         user(writer, ROOT_USER); // Switch to root user to be able to add plugins
-        proxy(writer, sharedEnvironmentProvider); // Configures proxy environment variables
-        connectorPlugins(writer, connectBuild.getPlugins());
+
+        if (!pluginStages) {
+            proxy(writer, sharedEnvironmentProvider); // Configures proxy environment variables
+        }
+
+        connectorPlugins(writer, connectBuild.getPlugins(), pluginStages);
         user(writer, NON_PRIVILEGED_USER); // Switch back to the regular unprivileged user
 
         dockerfile = stringWriter.toString();
@@ -132,20 +154,46 @@ public class KafkaConnectDockerfile {
         writer.close();
     }
 
+    /**
+     * Checks whether the Kaniko layer cache is enabled in the Build definition. Only then the connector plugins are
+     * downloaded in separate stages.
+     *
+     * @param connectBuild  The Build definition from the API
+     *
+     * @return  True if the additional Kaniko options enable the layer cache. False otherwise.
+     */
+    private static boolean isLayerCacheEnabled(Build connectBuild) {
+        return connectBuild.getOutput() instanceof DockerOutput dockerOutput
+                && dockerOutput.getAdditionalKanikoOptions() != null
+                && dockerOutput.getAdditionalKanikoOptions().stream().anyMatch(option -> "--cache".equals(option) || "--cache=true".equals(option));
+    }
+
     /**
      * Generates initial stage for multi-stage build
      * @param writer        Writer for printing the Docker commands
      * @param plugins       List of plugins which should be added to the container image
+     * @param pluginStages  Indicates whether the plugins are downloaded in separate stages
      */
-    private void connectorPluginsPreStage(PrintWriter writer, List<Plugin> plugins) {
-        Map<String, List<MavenArtifact>> artifactMap = plugins.stream().collect(Collectors.toMap(Plugin::getName,
-            plugin -> plugin.getArtifacts().stream().filter(artifact -> artifact instanceof MavenArtifact).map(artifact -> (MavenArtifact) artifact).collect(Collectors.toList())));
+    private void connectorPluginsPreStage(PrintWriter writer, List<Plugin> plugins, boolean pluginStages) {
+        Map<String, List<MavenArtifact>> artifactMap;
+        if (pluginStages) {
+            // Keeps the order of the plugins to not change the layers of the unchanged plugins
+            artifactMap = new LinkedHashMap<>();
+            for (Plugin plugin : plugins) {
+                artifactMap.put(plugin.getName(), mavenArtifacts(plugin));
+            }
+        } else {
+            // Keeps the same order as in the images built without the plugin stages to not rebuild them
+            artifactMap = plugins.stream().collect(Collectors.toMap(Plugin::getName, KafkaConnectDockerfile::mavenArtifacts));
+        }
         artifactMap.entrySet().removeIf(plugin -> plugin.getValue().isEmpty());
 
         if (artifactMap.size() > 0) {
             writer.println("FROM " + mavenBuilder + " AS downloadArtifacts");
-            artifactMap.forEach((plugin, mvnList) ->
-                mvnList.forEach(mvn -> {
+            artifactMap.forEach((plugin, mvnList) -> {
+                // The Maven builder image is part of the plugin revision as the artifacts are downloaded using it
+                pluginCommands(plugin).append("FROM ").append(mavenBuilder).append(System.lineSeparator());
+                printPluginCommands(writer, plugin, pluginWriter -> mvnList.forEach(mvn -> {
                     String repo = mvn.getRepository() == null ? MavenArtifact.DEFAULT_REPOSITORY : maybeAppendSlash(mvn.getRepository());
                     String artifactHash = Util.hashStub(mvn.getGroup() + "/" + mvn.getArtifact() + "/" + mvn.getVersion());
                     String artifactDir = plugin + "/" + artifactHash;
@@ -176,10 +224,10 @@ public class KafkaConnectDockerfile {
                                         assembleResourceUrl(repo, mvn, "jar"));
                     }
                     
-                    writer.append("RUN ").println(cmd);
-                    writer.println();
-                })
-            );
+                    pluginWriter.append("RUN ").println(cmd);
+                    pluginWriter.println();
+                }));
+            });
         }
     }
 
@@ -243,46 +291,176 @@ public class KafkaConnectDockerfile {
     }
 
     /**
-     * Adds the commands to download and possibly unpack the connector plugins
+     * Generates the build stages which download and possibly unpack the connector plugins. Each plugin with at least
+     * one downloadable artifact gets its own stage.
      *
-     * @param writer    Writer for printing the Docker commands
-     * @param plugins   List of plugins which should be added to the container image
+     * @param writer                        Writer for printing the Docker commands
+     * @param fromImage                     Base image which should be used
+     * @param plugins                       List of plugins which should be added to the container image
+     * @param sharedEnvironmentProvider     sharedEnvironmentProvider instance
      */
-    private void connectorPlugins(PrintWriter writer, List<Plugin> plugins) {
+    private void connectorPluginStages(PrintWriter writer, String fromImage, List<Plugin> plugins, SharedEnvironmentProvider sharedEnvironmentProvider) {
         for (Plugin plugin : plugins)   {
-            addPlugin(writer, plugin);
+            if (hasDownloadableArtifacts(plugin)) {
+                printPluginCommands(writer, plugin.getName(), pluginWriter -> addPluginStage(pluginWriter, fromImage, plugin, sharedEnvironmentProvider));
+            }
         }
     }
 
     /**
-     * Adds a particular connector plugin to the container image. It will go through the individual artifacts and add
-     * them one by one depending on their type.
+     * Generates the build stage of a particular connector plugin. It will go through the individual artifacts and
+     * download them one by one depending on their type. The Maven artifacts are downloaded in the downloadArtifacts
+     * stage instead.
      *
-     * @param writer    Writer for printing the Docker commands
-     * @param plugin    A single plugin which should be added to the new container image
+     * @param writer                        Writer for printing the Docker commands
+     * @param fromImage                     Base image which should be used
+     * @param plugin                        A single plugin which should be added to the new container image
+     * @param sharedEnvironmentProvider     sharedEnvironmentProvider instance
      */
-    private void addPlugin(PrintWriter writer, Plugin plugin)    {
+    private void addPluginStage(PrintWriter writer, String fromImage, Plugin plugin, SharedEnvironmentProvider sharedEnvironmentProvider)    {
         printSectionHeader(writer, "Connector plugin " + plugin.getName());
-
-        String connectorPath = BASE_PLUGIN_PATH + plugin.getName();
+        writer.println("FROM " + fromImage + " AS " + pluginStageName(plugin.getName()));
+        writer.println();
+        user(writer, ROOT_USER); // Switch to root user to be able to download the plugin
+        proxy(writer, sharedEnvironmentProvider); // Configures proxy environment variables
 
         for (Artifact art : plugin.getArtifacts())  {
-            if (art instanceof JarArtifact) {
-                addJarArtifact(writer, connectorPath, (JarArtifact) art);
-            } else if (art instanceof TgzArtifact) {
-                addTgzArtifact(writer, connectorPath, (TgzArtifact) art);
-            } else if (art instanceof ZipArtifact) {
-                addZipArtifact(writer, connectorPath, (ZipArtifact) art);
-            } else if (art instanceof MavenArtifact) {
-                addMavenArtifact(writer, plugin.getName(), (MavenArtifact) art);
-            } else if (art instanceof OtherArtifact) {
-                addOtherArtifact(writer, connectorPath, (OtherArtifact) art);
-            } else {
-                throw new RuntimeException("Unexpected artifact type " + art.getType());
+            if (!(art instanceof MavenArtifact)) {
+                addArtifact(writer, plugin.getName(), art);
+            }
+        }
+    }
+
+    /**
+     * Adds the commands to add the connector plugins into the container image
+     *
+     * @param writer        Writer for printing the Docker commands
+     * @param plugins       List of plugins which should be added to the container image
+     * @param pluginStages  Indicates whether the plugins were downloaded in separate stages
+     */
+    private void connectorPlugins(PrintWriter writer, List<Plugin> plugins, boolean pluginStages) {
+        for (Plugin plugin : plugins)   {
+            printPluginCommands(writer, plugin.getName(), pluginWriter -> addPlugin(pluginWriter, plugin, pluginStages));
+        }
+    }
+
+    /**
+     * Prints the Docker commands of a particular connector plugin and remembers them to calculate the revision of the
+     * plugin.
+     *
+     * @param writer        Writer for printing the Docker commands
+     * @param pluginName    Name of the plugin to which the commands belong
+     * @param commands      Consumer printing the commands into the writer passed to it
+     */
+    private void printPluginCommands(PrintWriter writer, String pluginName, Consumer<PrintWriter> commands) {
+        StringWriter stringWriter = new StringWriter();
+        PrintWriter pluginWriter = new PrintWriter(stringWriter);
+
+        commands.accept(pluginWriter);
+        pluginWriter.flush();
+
+        writer.print(stringWriter);
+        pluginCommands(pluginName).append(stringWriter);
+    }
+
+    /**
+     * @param pluginName    Name of the connector plugin
+     *
+     * @return  StringBuilder with the commands of the connector plugin used to calculate its revision
+     */
+    private StringBuilder pluginCommands(String pluginName) {
+        return pluginCommands.computeIfAbsent(pluginName, name -> new StringBuilder());
+    }
+
+    /**
+     * Adds a particular connector plugin to the container image. When the plugins were downloaded in separate stages,
+     * it copies the downloaded artifacts from the stage of the plugin. Otherwise, it downloads them directly. The
+     * Maven artifacts are always copied from the downloadArtifacts stage.
+     *
+     * @param writer        Writer for printing the Docker commands
+     * @param plugin        A single plugin which should be added to the new container image
+     * @param pluginStages  Indicates whether the plugins were downloaded in separate stages
+     */
+    private void addPlugin(PrintWriter writer, Plugin plugin, boolean pluginStages)    {
+        if (plugin.getArtifacts().isEmpty()) {
+            return;
+        }
+
+        printSectionHeader(writer, "Connector plugin " + plugin.getName());
+
+        if (pluginStages) {
+            if (hasDownloadableArtifacts(plugin)) {
+                String connectorPath = BASE_PLUGIN_PATH + plugin.getName();
+
+                writer.append("COPY --from=" + pluginStageName(plugin.getName()) + " ").println(run(connectorPath, connectorPath));
+                writer.println();
             }
+
+            for (MavenArtifact mvn : mavenArtifacts(plugin))  {
+                addMavenArtifact(writer, plugin.getName(), mvn);
+            }
+        } else {
+            for (Artifact art : plugin.getArtifacts())  {
+                addArtifact(writer, plugin.getName(), art);
+            }
+        }
+    }
+
+    /**
+     * Adds a single artifact of a connector plugin depending on its type
+     *
+     * @param writer        Writer for printing the Docker commands
+     * @param pluginName    Name of the connector plugin
+     * @param art           Artifact which should be added
+     */
+    private void addArtifact(PrintWriter writer, String pluginName, Artifact art)  {
+        String connectorPath = BASE_PLUGIN_PATH + pluginName;
+
+        if (art instanceof JarArtifact) {
+            addJarArtifact(writer, connectorPath, (JarArtifact) art);
+        } else if (art instanceof TgzArtifact) {
+            addTgzArtifact(writer, connectorPath, (TgzArtifact) art);
+        } else if (art instanceof ZipArtifact) {
+            addZipArtifact(writer, connectorPath, (ZipArtifact) art);
+        } else if (art instanceof MavenArtifact) {
+            addMavenArtifact(writer, pluginName, (MavenArtifact) art);
+        } else if (art instanceof OtherArtifact) {
+            addOtherArtifact(writer, connectorPath, (OtherArtifact) art);
+        } else {
+            throw new RuntimeException("Unexpected artifact type " + art.getType());
         }
     }
 
+    /**
+     * @param pluginName    Name of the connector plugin
+     *
+     * @return  Name of the build stage which downloads the connector plugin
+     */
+    private static String pluginStageName(String pluginName) {
+        return "connector-plugin-" + pluginName;
+    }
+
+    /**
+     * @param plugin    Connector plugin
+     *
+     * @return  True if the plugin has some artifacts which are not Maven artifacts. False otherwise.
+     */
+    private static boolean hasDownloadableArtifacts(Plugin plugin) {
+        return plugin.getArtifacts().stream().anyMatch(artifact -> !(artifact instanceof MavenArtifact));
+    }
+
+    /**
+     * @param plugin    Connector plugin
+     *
+     * @return  List with the Maven artifacts of the plugin
+     */
+    private static List<MavenArtifact> mavenArtifacts(Plugin plugin) {
+        return plugin.getArtifacts().stream()
+                .filter(artifact -> artifact instanceof MavenArtifact)
+                .map(artifact -> (MavenArtifact) artifact)
+                .toList();
+    }
+
     private void checkUrlIsPresent(DownloadableArtifact art) {
         if (art.getUrl() == null || art.getUrl().isEmpty()) {
             throw new InvalidConfigurationException("`" + art.getType() + "` artifact is missing a URL.");
@@ -496,6 +674,25 @@ public class KafkaConnectDockerfile {
         return Util.hashStub(dockerfile);
     }
 
+    /**
+     * Returns the revisions of the individual connector plugins. The revision of a plugin is the hash stub of the
+     * Docker commands which download and add the plugin. It changes only when the plugin (one of its artifacts) or
+     * the image used to download it changes. Plugins without any artifacts are not included.
+     *
+     * @return  Map with the plugin names as keys and their revisions as values
+     */
+    public Map<String, String> pluginRevisions()    {
+        Map<String, String> revisions = new LinkedHashMap<>();
+
+        for (Map.Entry<String, StringBuilder> plugin : pluginCommands.entrySet())   {
+            if (!plugin.getValue().isEmpty()) {
+                revisions.put(plugin.getKey(), Util.hashStub(plugin.getValue().toString()));
+            }
+        }
+
+        return revisions;
+    }
+
     /**
      * This method escapes some of the basic XML characters. This is used when generating the Maven settings XML file.
      * This method is not perfect - but for this use case it seems as an easier solution then including something like
@@ -21,6 +21,8 @@ import io.fabric8.kubernetes.api.model.ResourceRequirements;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.SecretBuilder;
 import io.strimzi.api.kafka.model.CertificateAuthority;
+import io.strimzi.api.kafka.model.JvmOptions;
+import io.strimzi.api.kafka.model.SystemProperty;
 import io.strimzi.api.kafka.model.TlsSidecar;
 import io.strimzi.api.kafka.model.TlsSidecarLogLevel;
 import io.strimzi.api.kafka.model.storage.Storage;
@@ -329,6 +331,19 @@ public class ModelUtils {
         return validLines;
     }
 
+    static final String DEFAULT_JVM_XMS = "128M";
+
+    static String getJavaSystemPropertiesToString(List<SystemProperty> javaSystemProperties) {
+        if (javaSystemProperties == null) {
+            return null;
+        }
+        List<String> javaSystemPropertiesList = new ArrayList<>(javaSystemProperties.size());
+        for (SystemProperty property: javaSystemProperties) {
+            javaSystemPropertiesList.add("-D" + property.getName() + "=" + property.getValue());
+        }
+        return String.join(" ", javaSystemPropertiesList);
+    }
+
     /**
      * Get the set of JVM options, bringing the Java system properties as well, and fill corresponding Strimzi environment variables
      * in order to pass them to the running application on the command line
@@ -16,7 +16,7 @@ import io.strimzi.operator.common.model.Labels;
  * Shared methods for working with PodDisruptionBudgets (PDB)
  */
 public class PodDisruptionBudgetUtils {
-    private static final int DEFAULT_MAX_UNAVAILABLE = 1;
+    static final int DEFAULT_MAX_UNAVAILABLE = 1;
 
     /**
      * Creates the PodDisruptionBudget
@@ -67,6 +67,22 @@ public class PodSetUtils {
         return MAPPER.convertValue(map, Pod.class);
     }
 
+    /**
+     * Extracts the name of the Pod from its Map representation used in StrimziPodSets without decoding the whole Pod
+     *
+     * @param map   Pod represented as Map
+     *
+     * @return      Name of the Pod or null if it is not set
+     */
+    public static String podName(Map<String, Object> map) {
+        if (map.get("metadata") instanceof Map<?, ?> metadata
+                && metadata.get("name") != null) {
+            return metadata.get("name").toString();
+        } else {
+            return null;
+        }
+    }
+
     /**
      * Converts a PdoSet to a List of Pods. This is useful when extracting information from the Pods in a PodSet
      *
@@ -92,7 +108,13 @@ public class PodSetUtils {
      * @return  List of pod names
      */
     public static List<String> podNames(StrimziPodSet podSet)   {
-        return podSetToPods(podSet).stream().map(pod -> pod.getMetadata().getName()).toList();
+        if (podSet != null
+                && podSet.getSpec() != null
+                && podSet.getSpec().getPods() != null)   {
+            return podSet.getSpec().getPods().stream().map(PodSetUtils::podName).toList();
+        } else {
+            return List.of();
+        }
     }
 
     /**
@@ -48,6 +48,7 @@ import io.strimzi.operator.cluster.model.KafkaConnectorConfiguration;
 import io.strimzi.operator.cluster.model.MetricsAndLoggingUtils;
 import io.strimzi.operator.cluster.model.NoSuchResourceException;
 import io.strimzi.operator.cluster.model.StatusDiff;
+import io.strimzi.operator.cluster.operator.resource.HttpClientPool;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.common.AbstractOperator;
 import io.strimzi.operator.common.Annotations;
@@ -78,6 +79,7 @@ import io.vertx.core.json.JsonObject;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -104,7 +106,7 @@ import static java.util.Collections.emptyMap;
  * @param <P>   Custom Resource Spec type
  * @param <S>   Custom Resource Status type
  */
-@SuppressWarnings({"checkstyle:ClassFanOutComplexity", "checkstyle:CyclomaticComplexity"})
+@SuppressWarnings({"checkstyle:ClassDataAbstractionCoupling", "checkstyle:ClassFanOutComplexity", "checkstyle:CyclomaticComplexity"})
 public abstract class AbstractConnectOperator<C extends KubernetesClient, T extends CustomResource<P, S>,
         L extends DefaultKubernetesResourceList<T>, R extends Resource<T>, P extends AbstractKafkaConnectSpec, S extends KafkaConnectStatus>
         extends AbstractOperator<T, P, S, CrdOperator<C, T, L>> {
@@ -128,6 +130,9 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
     protected final PlatformFeaturesAvailability pfa;
     protected final ServiceAccountOperator serviceAccountOperations;
     private final int port;
+    private final ConnectorConfigCache connectorConfigCache = new ConnectorConfigCache();
+    final ConnectorReconciliationExecutor connectorExecutor;
+    final ConnectorAutoRestartScheduler autoRestartScheduler;
 
     /**
      * Constructor
@@ -146,7 +151,8 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
                                    ResourceOperatorSupplier supplier, ClusterOperatorConfig config,
                                    Function<Vertx, KafkaConnectApi> connectClientProvider,
                                    int port) {
-        super(vertx, kind, resourceOperator, new ConnectOperatorMetricsHolder(kind, config.getCustomResourceSelector(), supplier.metricsProvider), config.getCustomResourceSelector());
+        super(vertx, kind, resourceOperator, new ConnectOperatorMetricsHolder(kind, config.getCustomResourceSelector(), supplier.metricsProvider), config.getCustomResourceSelector(),
+                config.getMaxConcurrentReconciliationsPerKind(), config.getReconciliationNamespaceWeights());
 
         this.isNetworkPolicyGeneration = config.isNetworkPolicyGeneration();
         this.connectorOperator = supplier.kafkaConnectorOperator;
@@ -165,10 +171,33 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
         this.operatorNamespaceLabels = config.getOperatorNamespaceLabels();
         this.pfa = pfa;
         this.port = port;
+        this.connectorExecutor = new ConnectorReconciliationExecutor(config.getMaxConcurrentConnectorReconciliations());
+        this.autoRestartScheduler = new ConnectorAutoRestartScheduler(config.getMaxConnectorAutoRestartsPerMinute(), config.getReconciliationIntervalMs(), metrics());
+    }
+
+    /**
+     * Creates the provider of the Kafka Connect REST API clients. All clients created by the provider share the same
+     * HTTP client pool, so the connections to the Connect REST API are reused across the reconciliations.
+     *
+     * @param vertx     Vert.x instance
+     * @param kind      Kind of the custom resource used in the metrics
+     * @param supplier  The supplier of resource operators
+     * @param config    Cluster operator configuration
+     *
+     * @return  Provider of the Kafka Connect REST API clients
+     */
+    protected static Function<Vertx, KafkaConnectApi> pooledConnectClientProvider(Vertx vertx, String kind, ResourceOperatorSupplier supplier, ClusterOperatorConfig config) {
+        HttpClientPool httpClientPool = new HttpClientPool(vertx, kind, config.getRestClientMaxConnections(),
+                config.getRestClientPipeliningLimit(), config.getRestClientIdleTimeoutSeconds(), supplier.metricsProvider);
+
+        return connect -> new KafkaConnectApiImpl(vertx, httpClientPool);
     }
 
     @Override
     protected Future<Boolean> delete(Reconciliation reconciliation) {
+        connectorConfigCache.invalidateAll(KafkaConnectResources.qualifiedServiceName(reconciliation.name(), reconciliation.namespace()));
+        autoRestartScheduler.clearAll(reconciliation.namespace(), KafkaConnectResources.qualifiedServiceName(reconciliation.name(), reconciliation.namespace()));
+
         // When deleting KafkaConnect we need to update the status of all selected KafkaConnector
         return connectorOperator.listAsync(reconciliation.namespace(), Labels.forStrimziCluster(reconciliation.name())).compose(connectors -> {
             List<Future<Void>> connectorFutures = new ArrayList<>();
@@ -218,6 +247,11 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
                     String connectName = kafkaConnector.getMetadata().getLabels() == null ? null : kafkaConnector.getMetadata().getLabels().get(Labels.STRIMZI_CLUSTER_LABEL);
                     String connectNamespace = connectorNamespace;
 
+                    if (!connectOperator.ownsNamespace(connectNamespace)) {
+                        LOGGER.debugOp("{} {} in namespace {} is owned by another operator instance and will be ignored", connectorKind, connectorName, connectorNamespace);
+                        return;
+                    }
+
                     switch (action) {
                         case ADDED:
                         case DELETED:
@@ -248,10 +282,11 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
                                                     return Future.succeededFuture();
                                                 } else {
                                                     LOGGER.infoCr(reconciliation, "{} {} in namespace {} was {}", connectorKind, connectorName, connectorNamespace, action);
+                                                    String host = KafkaConnectResources.qualifiedServiceName(connectName, connectNamespace);
+                                                    connectOperator.connectorConfigCache.updateWorkerGeneration(host, connect.getMetadata().getGeneration());
 
                                                     return connectOperator.withLock(reconciliation, LOCK_TIMEOUT_MS,
-                                                        () -> connectOperator.reconcileConnectorAndHandleResult(reconciliation,
-                                                                    KafkaConnectResources.qualifiedServiceName(connectName, connectNamespace), apiClient,
+                                                        () -> connectOperator.reconcileConnectorAndHandleResult(reconciliation, host, apiClient,
                                                                     isUseResources(connect),
                                                                     kafkaConnector.getMetadata().getName(), action == Action.DELETED ? null : kafkaConnector)
                                                                     .compose(reconcileResult -> {
@@ -380,31 +415,41 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
                     .map((Void) null);
         }
 
+        connectorConfigCache.updateWorkerGeneration(host, connect.getMetadata().getGeneration());
         KafkaConnectApi apiClient = connectClientProvider.apply(vertx);
 
         return Future.join(
-                apiClient.list(reconciliation, host, port),
+                apiClient.listWithStatusAndInfo(reconciliation, host, port),
                 connectorOperator.listAsync(namespace, Optional.of(new LabelSelectorBuilder().addToMatchLabels(Labels.STRIMZI_CLUSTER_LABEL, connectName).build())),
                 apiClient.listConnectorPlugins(reconciliation, host, port),
                 apiClient.updateConnectLoggers(reconciliation, host, port, desiredLogging, defaultLogging)
         ).compose(cf -> {
-            List<String> runningConnectorNames = cf.resultAt(0);
+            // Snapshot of the status and configuration of the running connectors shared by all connector
+            // reconciliations in this pass. It replaces the separate config and status requests for each connector.
+            Map<String, Map<String, Object>> runningConnectors = cf.resultAt(0);
+            ConnectorSnapshots snapshots = new ConnectorSnapshots(runningConnectors, () -> apiClient.listWithStatusAndInfo(reconciliation, host, port));
             List<KafkaConnector> desiredConnectors = cf.resultAt(1);
             List<ConnectorPlugin> connectorPlugins = cf.resultAt(2);
 
             LOGGER.debugCr(reconciliation, "Setting list of connector plugins in Kafka Connect status");
             connectStatus.setConnectorPlugins(connectorPlugins);
 
-            Set<String> deleteConnectorNames = new HashSet<>(runningConnectorNames);
+            Set<String> deleteConnectorNames = new HashSet<>(runningConnectors.keySet());
             deleteConnectorNames.removeAll(desiredConnectors.stream().map(c -> c.getMetadata().getName()).collect(Collectors.toSet()));
             LOGGER.debugCr(reconciliation, "{} cluster: delete connectors: {}", kind(), deleteConnectorNames);
             Stream<Future<Void>> deletionFutures = deleteConnectorNames.stream().map(connectorName ->
-                    reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connectorName, null)
+                    connectorExecutor.execute(host, ConnectorReconciliationExecutor.Trigger.CHANGE,
+                            waited -> reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connectorName, null))
             );
 
+            // The connectors which are not running yet are changes and are reconciled before the unchanged connectors.
+            // Reconciliations which waited in the queue share a second snapshot listed when the first of them starts.
             LOGGER.debugCr(reconciliation, "{} cluster: required connectors: {}", kind(), desiredConnectors);
             Stream<Future<Void>> createUpdateFutures = desiredConnectors.stream()
-                    .map(connector -> reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connector.getMetadata().getName(), connector));
+                    .map(connector -> connectorExecutor.execute(host,
+                            runningConnectors.containsKey(connector.getMetadata().getName()) ? ConnectorReconciliationExecutor.Trigger.PERIODIC : ConnectorReconciliationExecutor.Trigger.CHANGE,
+                            waited -> snapshots.get(connector.getMetadata().getName(), waited)
+                                    .compose(snapshot -> reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connector.getMetadata().getName(), connector, snapshot))));
 
             return Future.join(Stream.concat(deletionFutures, createUpdateFutures).collect(Collectors.toList())).map((Void) null);
         }).recover(error -> {
@@ -432,6 +477,27 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
 
     /*test*/ Future<Void> reconcileConnectorAndHandleResult(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
                                              boolean useResources, String connectorName, KafkaConnector connector) {
+        return reconcileConnectorAndHandleResult(reconciliation, host, apiClient, useResources, connectorName, connector, null);
+    }
+
+    /**
+     * Reconciles the connector and updates its status
+     *
+     * @param reconciliation        The reconciliation
+     * @param host                  The REST API host
+     * @param apiClient             The client instance
+     * @param useResources          Indicates whether the KafkaConnector resources are enabled for the Connect cluster
+     * @param connectorName         The connector name
+     * @param connector             The KafkaConnector resource or null if the connector should be deleted
+     * @param connectorSnapshot     The status and configuration of the connector from the snapshot of all running
+     *                              connectors taken at the beginning of the reconciliation. Null if the connector is
+     *                              not in the snapshot or when no snapshot is available.
+     *
+     * @return  Future which completes when the connector is reconciled
+     */
+    private Future<Void> reconcileConnectorAndHandleResult(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
+                                                           boolean useResources, String connectorName, KafkaConnector connector,
+                                                           Map<String, Object> connectorSnapshot) {
         Promise<Void> reconciliationResult = Promise.promise();
 
         metrics().connectorsReconciliationsCounter(reconciliation.namespace()).increment();
@@ -447,7 +513,7 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
             );
         }
 
-        reconcileConnector(reconciliation, host, apiClient, useResources, connectorName, connector)
+        reconcileConnector(reconciliation, host, apiClient, useResources, connectorName, connector, connectorSnapshot)
                 .onComplete(result -> {
                     if (result.succeeded() && result.result() == null)  {
                         // The reconciliation succeeded, but there is no status to be set => we complete the reconciliation and return
@@ -486,10 +552,12 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
     }
 
     private Future<ConnectorStatusAndConditions> reconcileConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
-                                             boolean useResources, String connectorName, KafkaConnector connector) {
+                                             boolean useResources, String connectorName, KafkaConnector connector, Map<String, Object> connectorSnapshot) {
         if (connector == null) {
             if (useResources) {
                 LOGGER.infoCr(reconciliation, "deleting connector: {}", connectorName);
+                connectorConfigCache.invalidate(host, connectorName);
+                autoRestartScheduler.clear(reconciliation.namespace(), host, connectorName);
                 return apiClient.delete(reconciliation, host, port, connectorName).mapEmpty();
             } else {
                 return Future.succeededFuture();
@@ -504,7 +572,7 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
             if (!useResources) {
                 return Future.failedFuture(new NoSuchResourceException(reconciliation.kind() + " " + reconciliation.name() + " is not configured with annotation " + Annotations.STRIMZI_IO_USE_CONNECTOR_RESOURCES));
             } else {
-                return maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connector.getSpec(), connector);
+                return maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connector.getSpec(), connector, connectorSnapshot);
             }
         }
     }
@@ -525,19 +593,76 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
     @SuppressWarnings({ "rawtypes" })
     protected Future<ConnectorStatusAndConditions> maybeCreateOrUpdateConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
                                                                                 String connectorName, KafkaConnectorSpec connectorSpec, CustomResource resource) {
+        return maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, resource, null);
+    }
+
+    /**
+     * Same as {@link #maybeCreateOrUpdateConnector(Reconciliation, String, KafkaConnectApi, String, KafkaConnectorSpec, CustomResource)},
+     * but uses the connector configuration and status from the snapshot of the running connectors when available
+     * instead of getting them from the REST API. Without a snapshot, the current configuration of a KafkaConnector is
+     * not read from the REST API at all when the same configuration with the same resource generation was already
+     * applied to the same Connect cluster generation.
+     *
+     * @param reconciliation        The reconciliation.
+     * @param host                  The REST API host.
+     * @param apiClient             The client instance.
+     * @param connectorName         The connector name.
+     * @param connectorSpec         The desired connector spec.
+     * @param resource              The resource that defines the connector.
+     * @param connectorSnapshot     The status and configuration of the connector from the snapshot or null
+     *
+     * @return A Future whose result, when successfully completed, is a ConnectorStatusAndConditions object containing the map of the current connector state plus any conditions that have arisen.
+     */
+    @SuppressWarnings({ "rawtypes" })
+    protected Future<ConnectorStatusAndConditions> maybeCreateOrUpdateConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
+                                                                                String connectorName, KafkaConnectorSpec connectorSpec, CustomResource resource,
+                                                                                Map<String, Object> connectorSnapshot) {
         KafkaConnectorConfiguration desiredConfig = new KafkaConnectorConfiguration(reconciliation, connectorSpec.getConfig().entrySet());
+        Map<String, String> snapshotConfig = snapshotConfig(connectorSnapshot);
+        Map<String, Object> snapshotStatus = snapshotStatus(connectorSnapshot);
+        boolean restartRequested = hasRestartAnnotation(resource, connectorName) || getRestartTaskAnnotationTaskID(resource, connectorName) >= 0;
+
+        // The fingerprints are used only for the KafkaConnector resources
+        String fingerprint = resource instanceof KafkaConnector
+                ? ConnectorConfigCache.fingerprint(resource.getMetadata().getGeneration(), withConnectorOptions(connectorName, connectorSpec, desiredConfig.asOrderedProperties().asMap()))
+                : null;
+        boolean configApplied = snapshotConfig == null && fingerprint != null && connectorConfigCache.isApplied(host, connectorName, fingerprint);
+
+        Future<Map<String, String>> currentConfigFuture;
+        if (snapshotConfig != null) {
+            currentConfigFuture = Future.succeededFuture(snapshotConfig);
+        } else if (configApplied) {
+            // The desired configuration was already applied => we do not need the current configuration
+            currentConfigFuture = Future.succeededFuture(null);
+        } else {
+            currentConfigFuture = apiClient.getConnectorConfig(reconciliation, new BackOff(200L, 2, 6), host, port, connectorName);
+        }
 
-        return apiClient.getConnectorConfig(reconciliation, new BackOff(200L, 2, 6), host, port, connectorName).compose(
+        Future<ConnectorStatusAndConditions> result = currentConfigFuture.compose(
             currentConfig -> {
-                if (!needsReconfiguring(reconciliation, connectorName, connectorSpec, desiredConfig.asOrderedProperties().asMap(), currentConfig)) {
+                if (configApplied) {
+                    LOGGER.debugCr(reconciliation, "Connector {} has the desired config already applied", connectorName);
+                }
+
+                if (configApplied || !needsReconfiguring(reconciliation, connectorName, connectorSpec, desiredConfig.asOrderedProperties().asMap(), currentConfig)) {
                     LOGGER.debugCr(reconciliation, "Connector {} exists and has desired config, {}=={}", connectorName, desiredConfig.asOrderedProperties().asMap(), currentConfig);
-                    return apiClient.status(reconciliation, host, port, connectorName)
+                    Future<Map<String, Object>> currentStatusFuture = snapshotStatus != null
+                            ? Future.succeededFuture(snapshotStatus)
+                            : apiClient.status(reconciliation, host, port, connectorName);
+
+                    return currentStatusFuture
                         .compose(status -> pauseResume(reconciliation, host, apiClient, connectorName, connectorSpec, status))
-                        .compose(ignored -> maybeRestartConnector(reconciliation, host, apiClient, connectorName, resource, new ArrayList<>()))
-                        .compose(conditions -> maybeRestartConnectorTask(reconciliation, host, apiClient, connectorName, resource, conditions))
-                        .compose(conditions ->
-                            apiClient.statusWithBackOff(reconciliation, new BackOff(200L, 2, 10), host, port, connectorName)
-                                .compose(createConnectorStatusAndConditions(conditions)))
+                        .compose(pausedOrResumed -> maybeRestartConnector(reconciliation, host, apiClient, connectorName, resource, new ArrayList<>())
+                            .compose(conditions -> maybeRestartConnectorTask(reconciliation, host, apiClient, connectorName, resource, conditions))
+                            .compose(conditions -> {
+                                if (snapshotStatus != null && !pausedOrResumed && !restartRequested) {
+                                    // Nothing was changed since the snapshot was taken => the status from the snapshot is still valid
+                                    return createConnectorStatusAndConditions(conditions).apply(snapshotStatus);
+                                } else {
+                                    return apiClient.statusWithBackOff(reconciliation, new BackOff(200L, 2, 10), host, port, connectorName)
+                                            .compose(createConnectorStatusAndConditions(conditions));
+                                }
+                            }))
                         .compose(status -> autoRestartFailedConnectorAndTasks(reconciliation, host, apiClient, connectorName, connectorSpec, status, resource))
                         .compose(status -> updateConnectorTopics(reconciliation, host, apiClient, connectorName, status));
                 } else {
@@ -559,19 +684,26 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
                     return Future.failedFuture(error);
                 }
             });
+
+        if (fingerprint != null) {
+            result = result.onComplete(res -> {
+                if (res.succeeded()) {
+                    connectorConfigCache.applied(host, connectorName, fingerprint);
+                } else {
+                    // We do not know in what state the connector is => the next reconciliation has to check it
+                    connectorConfigCache.invalidate(host, connectorName);
+                }
+            });
+        }
+
+        return result;
     }
 
     private boolean needsReconfiguring(Reconciliation reconciliation, String connectorName,
                                        KafkaConnectorSpec connectorSpec,
                                        Map<String, String> desiredConfig,
                                        Map<String, String> actualConfig) {
-        // The actual which comes from Connect API includes tasks.max, connector.class and name,
-        // which connectorSpec.getConfig() does not
-        if (connectorSpec.getTasksMax() != null) {
-            desiredConfig.put("tasks.max", connectorSpec.getTasksMax().toString());
-        }
-        desiredConfig.put("name", connectorName);
-        desiredConfig.put("connector.class", connectorSpec.getClassName());
+        withConnectorOptions(connectorName, connectorSpec, desiredConfig);
 
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debugCr(reconciliation, "Desired configuration for connector {}: {}", connectorName, new TreeMap<>(desiredConfig));
@@ -581,6 +713,26 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
         return !desiredConfig.equals(actualConfig);
     }
 
+    /**
+     * Adds the options which are not part of the connector configuration in the KafkaConnector spec, but which are
+     * included in the configuration returned by the Connect REST API (tasks.max, connector.class and name).
+     *
+     * @param connectorName     The connector name
+     * @param connectorSpec     The desired connector spec
+     * @param desiredConfig     The desired connector configuration which will be modified
+     *
+     * @return  The desired connector configuration with the added options
+     */
+    private static Map<String, String> withConnectorOptions(String connectorName, KafkaConnectorSpec connectorSpec, Map<String, String> desiredConfig) {
+        if (connectorSpec.getTasksMax() != null) {
+            desiredConfig.put("tasks.max", connectorSpec.getTasksMax().toString());
+        }
+        desiredConfig.put("name", connectorName);
+        desiredConfig.put("connector.class", connectorSpec.getClassName());
+
+        return desiredConfig;
+    }
+
     protected Future<Map<String, Object>> createOrUpdateConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
                                                                   String connectorName, KafkaConnectorSpec connectorSpec, KafkaConnectorConfiguration desiredConfig) {
         return apiClient.createOrUpdatePutRequest(reconciliation, host, port, connectorName, asJson(connectorSpec, desiredConfig))
@@ -590,7 +742,19 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
             .compose(ignored ->  apiClient.status(reconciliation, host, port, connectorName));
     }
 
-    private Future<Void> pauseResume(Reconciliation reconciliation, String host, KafkaConnectApi apiClient, String connectorName, KafkaConnectorSpec connectorSpec, Map<String, Object> status) {
+    /**
+     * Pauses or resumes the connector if its state does not match the desired state
+     *
+     * @param reconciliation    The reconciliation
+     * @param host              The REST API host
+     * @param apiClient         The client instance
+     * @param connectorName     The connector name
+     * @param connectorSpec     The desired connector spec
+     * @param status            The current status of the connector
+     *
+     * @return  Future which completes with true if the connector was paused or resumed and with false otherwise
+     */
+    private Future<Boolean> pauseResume(Reconciliation reconciliation, String host, KafkaConnectApi apiClient, String connectorName, KafkaConnectorSpec connectorSpec, Map<String, Object> status) {
         @SuppressWarnings({ "rawtypes" })
         Object path = ((Map) status.getOrDefault("connector", emptyMap())).get("state");
         if (!(path instanceof String)) {
@@ -600,16 +764,52 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
             boolean shouldPause = Boolean.TRUE.equals(connectorSpec.getPause());
             if ("RUNNING".equals(state) && shouldPause) {
                 LOGGER.debugCr(reconciliation, "Pausing connector {}", connectorName);
-                return apiClient.pause(reconciliation, host, port, connectorName);
+                return apiClient.pause(reconciliation, host, port, connectorName).map(true);
             } else if ("PAUSED".equals(state) && !shouldPause) {
                 LOGGER.debugCr(reconciliation, "Resuming connector {}", connectorName);
-                return apiClient.resume(reconciliation, host, port, connectorName);
+                return apiClient.resume(reconciliation, host, port, connectorName).map(true);
             } else {
-                return Future.succeededFuture();
+                return Future.succeededFuture(false);
             }
         }
     }
 
+    /**
+     * Gets the connector configuration from the snapshot of the running connectors
+     *
+     * @param connectorSnapshot     The status and configuration of the connector from the snapshot or null
+     *
+     * @return  The connector configuration or null if it is not available
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static Map<String, String> snapshotConfig(Map<String, Object> connectorSnapshot) {
+        if (connectorSnapshot != null
+                && connectorSnapshot.get("info") instanceof Map info
+                && info.get("config") instanceof Map config) {
+            Map<String, String> result = new HashMap<>(config.size());
+            config.forEach((key, value) -> result.put(String.valueOf(key), String.valueOf(value)));
+            return result;
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Gets the connector status from the snapshot of the running connectors
+     *
+     * @param connectorSnapshot     The status and configuration of the connector from the snapshot or null
+     *
+     * @return  The connector status or null if it is not available
+     */
+    @SuppressWarnings({ "unchecked" })
+    private static Map<String, Object> snapshotStatus(Map<String, Object> connectorSnapshot) {
+        if (connectorSnapshot != null && connectorSnapshot.get("status") instanceof Map) {
+            return (Map<String, Object>) connectorSnapshot.get("status");
+        } else {
+            return null;
+        }
+    }
+
     /**
      * Handles auto-restarting of the connectors and managing the auto-restart status. It checks that current state of
      * the connector and its tasks. If it is failing, it will restart them in periodic intervals with backoff. If the connector is stable after the restart, it resets that auto-restart status.
@@ -641,16 +841,28 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
                      if (needsRestart)    {
                          // Connector or task failed and we should check it for auto-restart
                          if (shouldAutoRestart(previousAutoRestartStatus))    {
-                             // There are failures, and it is a time to restart the connector now
-                             metrics().connectorsAutoRestartsCounter(reconciliation.namespace()).increment();
-                             return autoRestartConnector(reconciliation, host, apiClient, connectorName, status, previousAutoRestartStatus);
+                             // There are failures, and the back-off interval elapsed => the scheduler decides if the connector is restarted now
+                             ConnectorAutoRestartScheduler.Decision decision = autoRestartScheduler.schedule(reconciliation.namespace(), host, connectorName, previousAutoRestartStatus);
+
+                             if (decision == ConnectorAutoRestartScheduler.Decision.RESTART) {
+                                 metrics().connectorsAutoRestartsCounter(reconciliation.namespace()).increment();
+                                 return autoRestartConnector(reconciliation, host, apiClient, connectorName, status, previousAutoRestartStatus);
+                             } else if (decision == ConnectorAutoRestartScheduler.Decision.RATE_LIMITED) {
+                                 LOGGER.infoCr(reconciliation, "Auto restart of connector {} is postponed because of the auto restart rate limit", connectorName);
+                                 metrics().connectorsSuppressedAutoRestartsCounter(reconciliation.namespace()).increment();
+                             }
                          } else {
-                             // There are failures, but the next restart should happen only later => keep the original status
-                             status.autoRestart = new AutoRestartStatusBuilder(previousAutoRestartStatus).build();
-                             return Future.succeededFuture(status);
+                             // There are failures, but the next restart should happen only later
+                             autoRestartScheduler.backOff(reconciliation.namespace(), host, connectorName, previousAutoRestartStatus);
                          }
+
+                         // The restart was postponed => keep the original status
+                         status.autoRestart = previousAutoRestartStatus != null ? new AutoRestartStatusBuilder(previousAutoRestartStatus).build() : null;
+                         return Future.succeededFuture(status);
                      } else {
                          // Connector and tasks are not failed
+                         autoRestartScheduler.clear(reconciliation.namespace(), host, connectorName);
+
                          if (previousAutoRestartStatus != null) {
                              if (shouldResetAutoRestartStatus(previousAutoRestartStatus))    {
                                  // The connector is not failing now for some time => time to reset the auto-restart status
@@ -669,6 +881,7 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
                      }
                  });
         } else {
+            autoRestartScheduler.clear(reconciliation.namespace(), host, connectorName);
             return Future.succeededFuture(status);
         }
     }
@@ -721,23 +934,10 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
             var count = autoRestartStatus.getCount();
             var minutesSinceLastRestart = StatusUtils.minutesDifferenceUntilNow(StatusUtils.isoUtcDatetime(autoRestartStatus.getLastRestartTimestamp()));
 
-            return count < 7 && minutesSinceLastRestart >= autoRestartBackOffInterval(count);
+            return count < ConnectorAutoRestartScheduler.MAX_RESTARTS && minutesSinceLastRestart >= ConnectorAutoRestartScheduler.backOffMinutes(count);
         }
     }
 
-    /**
-     * Calculates the back-off interval for auto-restarting the connectors. It is calculated as (n^2 + n) where n is the
-     * number of previous restarts. As a result, the restarts should be done after 0, 2, 6, 12, 20, 30 and 42 minutes
-     * (there are always only up to 7 restarts).
-     *
-     * @param restartCount  Number of restarts already applied to the connector
-     *
-     * @return  Number of minutes after which the next restart should happen
-     */
-    private int autoRestartBackOffInterval(int restartCount)    {
-        return restartCount * restartCount + restartCount;
-    }
-
     /**
      * Checks whether the connector is stable for long enough after the previous restart to reset the auto-restart
      * counters. Normally, this follows the same backoff intervals as the restarts. For example, after 4 restarts, the
@@ -754,7 +954,7 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
             // There are previous auto-restarts => we check if it is time to reset the status
             long minutesSinceLastRestart = StatusUtils.minutesDifferenceUntilNow(StatusUtils.isoUtcDatetime(autoRestartStatus.getLastRestartTimestamp()));
 
-            return minutesSinceLastRestart > autoRestartBackOffInterval(autoRestartStatus.getCount());
+            return minutesSinceLastRestart > ConnectorAutoRestartScheduler.backOffMinutes(autoRestartStatus.getCount());
         } else {
             // There are no previous restarts => nothing to reset
             return false;
@@ -8,6 +8,7 @@ import io.fabric8.kubernetes.api.model.OwnerReference;
 import io.fabric8.kubernetes.api.model.OwnerReferenceBuilder;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
 import io.strimzi.api.kafka.model.CertificateAuthority;
 import io.strimzi.api.kafka.model.CruiseControlResources;
 import io.strimzi.api.kafka.model.Kafka;
@@ -34,6 +35,7 @@ import io.strimzi.operator.cluster.operator.resource.events.KubernetesRestartEve
 import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.BackOff;
+import io.strimzi.operator.common.BlockingExecutor;
 import io.strimzi.operator.common.PasswordGenerator;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
@@ -48,11 +50,15 @@ import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 
+import java.security.cert.X509Certificate;
 import java.time.Clock;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.function.Function;
 
@@ -92,6 +98,9 @@ public class CaReconciler {
     private ClientsCa clientsCa;
     private Secret oldCoSecret;
 
+    // Cache shared across reconciliations used to skip the CA renewal checks when nothing changed (null disables it)
+    private final Map<String, CachedCaState> cache;
+
     /* test */ boolean isClusterCaNeedFullTrust;
     /* test */ boolean isClusterCaFullyUsed;
 
@@ -114,6 +123,34 @@ public class CaReconciler {
             Vertx vertx,
             CertManager certManager,
             PasswordGenerator passwordGenerator
+    ) {
+        this(reconciliation, kafkaCr, config, supplier, vertx, certManager, passwordGenerator, null);
+    }
+
+    /**
+     * Constructs the CA reconciler which reconciles the Cluster and Client CAs and uses a cache shared between
+     * reconciliations to skip the renewal checks when the CA Secrets and their configuration did not change.
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param kafkaCr           The Kafka custom resource
+     * @param config            Cluster Operator Configuration
+     * @param supplier          Supplier with Kubernetes Resource Operators
+     * @param vertx             Vert.x instance
+     * @param certManager       Certificate Manager for managing certificates
+     * @param passwordGenerator Password generator for generating passwords
+     * @param cache             Map with the cached CA states indexed by the namespace and name of the Kafka cluster.
+     *                          Null disables the caching.
+     */
+    @SuppressWarnings({"checkstyle:ParameterNumber"})
+    /* test */ CaReconciler(
+            Reconciliation reconciliation,
+            Kafka kafkaCr,
+            ClusterOperatorConfig config,
+            ResourceOperatorSupplier supplier,
+            Vertx vertx,
+            CertManager certManager,
+            PasswordGenerator passwordGenerator,
+            Map<String, CachedCaState> cache
     ) {
         this.reconciliation = reconciliation;
         this.vertx = vertx;
@@ -147,6 +184,19 @@ public class CaReconciler {
         this.clusterOperatorSecretLabels = Labels.generateDefaultLabels(kafkaCr, Labels.APPLICATION_NAME, Labels.APPLICATION_NAME, AbstractModel.STRIMZI_CLUSTER_OPERATOR_NAME);
         this.clusterCaCertLabels = clusterCaCertLabels(kafkaCr);
         this.clusterCaCertAnnotations = clusterCaCertAnnotations(kafkaCr);
+        this.cache = cache;
+    }
+
+    /**
+     * Generates the key under which the CA state of given Kafka cluster is cached
+     *
+     * @param namespace     Namespace of the Kafka cluster
+     * @param name          Name of the Kafka cluster
+     *
+     * @return  Key for the CA state cache
+     */
+    /* test */ static String cacheKey(String namespace, String name)  {
+        return namespace + "/" + name;
     }
 
     /**
@@ -202,6 +252,12 @@ public class CaReconciler {
                 .compose(i -> clusterOperatorSecret(clock))
                 .compose(i -> rollingUpdateForNewCaKey())
                 .compose(i -> maybeRemoveOldClusterCaCertificates())
+                .onFailure(e -> {
+                    // The cached state might not reflect what is in the Secrets anymore
+                    if (cache != null) {
+                        cache.remove(cacheKey(reconciliation.namespace(), reconciliation.name()));
+                    }
+                })
                 .map(i -> new CaReconciliationResult(clusterCa, clientsCa));
     }
 
@@ -219,7 +275,7 @@ public class CaReconciler {
     Future<Void> reconcileCas(Clock clock) {
         Promise<Void> resultPromise = Promise.promise();
 
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+        BlockingExecutor.forVertx(vertx).executeBlocking(vertx,
             future -> {
                 try {
                     String clusterCaCertName = AbstractModel.clusterCaCertSecretName(reconciliation.name());
@@ -249,6 +305,36 @@ public class CaReconciler {
                         }
                     }
 
+                    CaFingerprint fingerprint = fingerprint(clusterCaCertSecret, clusterCaKeySecret, clientsCaCertSecret, clientsCaKeySecret);
+                    CachedCaState cachedState = cache != null ? cache.get(cacheKey(reconciliation.namespace(), reconciliation.name())) : null;
+
+                    if (cachedState != null && cachedState.isValid(fingerprint, clock.instant())) {
+                        LOGGER.debugCr(reconciliation, "CA Secrets and configuration did not change since the last reconciliation and no certificate needs renewal. Reusing the cached CAs.");
+
+                        clusterCa = new ClusterCa(reconciliation, certManager, passwordGenerator, reconciliation.name(),
+                                new SecretBuilder(cachedState.clusterCaCertSecret()).build(),
+                                new SecretBuilder(cachedState.clusterCaKeySecret()).build(),
+                                ModelUtils.getCertificateValidity(clusterCaConfig),
+                                ModelUtils.getRenewalDays(clusterCaConfig),
+                                true, clusterCaConfig != null ? clusterCaConfig.getCertificateExpirationPolicy() : null,
+                                clusterCaConfig != null ? clusterCaConfig.getKeyAlgorithm() : null);
+                        clusterCa.initCaSecrets(clusterSecrets);
+
+                        clientsCa = new ClientsCa(reconciliation, certManager,
+                                passwordGenerator, clientsCaCertName,
+                                new SecretBuilder(cachedState.clientsCaCertSecret()).build(), clientsCaKeyName,
+                                new SecretBuilder(cachedState.clientsCaKeySecret()).build(),
+                                ModelUtils.getCertificateValidity(clientsCaConfig),
+                                ModelUtils.getRenewalDays(clientsCaConfig),
+                                true,
+                                clientsCaConfig != null ? clientsCaConfig.getCertificateExpirationPolicy() : null,
+                                clientsCaConfig != null ? clientsCaConfig.getKeyAlgorithm() : null);
+                        clientsCa.initBrokerSecret(brokersSecret);
+
+                        future.complete();
+                        return;
+                    }
+
                     // When we are not supposed to generate the CA, but it does not exist, we should just throw an error
                     checkCustomCaSecret(clusterCaConfig, clusterCaCertSecret, clusterCaKeySecret, "Cluster CA");
 
@@ -256,7 +342,8 @@ public class CaReconciler {
                             clusterCaKeySecret,
                             ModelUtils.getCertificateValidity(clusterCaConfig),
                             ModelUtils.getRenewalDays(clusterCaConfig),
-                            clusterCaConfig == null || clusterCaConfig.isGenerateCertificateAuthority(), clusterCaConfig != null ? clusterCaConfig.getCertificateExpirationPolicy() : null);
+                            clusterCaConfig == null || clusterCaConfig.isGenerateCertificateAuthority(), clusterCaConfig != null ? clusterCaConfig.getCertificateExpirationPolicy() : null,
+                            clusterCaConfig != null ? clusterCaConfig.getKeyAlgorithm() : null);
                     clusterCa.initCaSecrets(clusterSecrets);
                     clusterCa.createRenewOrReplace(
                             reconciliation.namespace(), reconciliation.name(), caLabels,
@@ -274,7 +361,8 @@ public class CaReconciler {
                             ModelUtils.getCertificateValidity(clientsCaConfig),
                             ModelUtils.getRenewalDays(clientsCaConfig),
                             clientsCaConfig == null || clientsCaConfig.isGenerateCertificateAuthority(),
-                            clientsCaConfig != null ? clientsCaConfig.getCertificateExpirationPolicy() : null);
+                            clientsCaConfig != null ? clientsCaConfig.getCertificateExpirationPolicy() : null,
+                            clientsCaConfig != null ? clientsCaConfig.getKeyAlgorithm() : null);
                     clientsCa.initBrokerSecret(brokersSecret);
                     clientsCa.createRenewOrReplace(reconciliation.namespace(), reconciliation.name(),
                             caLabels, Map.of(), Map.of(),
@@ -295,6 +383,8 @@ public class CaReconciler {
                         secretReconciliations.add(clientsSecretReconciliation);
                     }
 
+                    maybeCacheCas(fingerprint, clusterCaCertSecret, clusterCaKeySecret, clientsCaCertSecret, clientsCaKeySecret);
+
                     Future.join(secretReconciliations).onComplete(res -> {
                         if (res.succeeded())    {
                             future.complete();
@@ -312,6 +402,119 @@ public class CaReconciler {
         return resultPromise.future();
     }
 
+    /**
+     * Creates the fingerprint of the current CA Secrets and of the configuration used to reconcile them.
+     *
+     * @param clusterCaCertSecret   Current Cluster CA certificate Secret
+     * @param clusterCaKeySecret    Current Cluster CA key Secret
+     * @param clientsCaCertSecret   Current Clients CA certificate Secret
+     * @param clientsCaKeySecret    Current Clients CA key Secret
+     *
+     * @return  Fingerprint of the CA state
+     */
+    private CaFingerprint fingerprint(Secret clusterCaCertSecret, Secret clusterCaKeySecret, Secret clientsCaCertSecret, Secret clientsCaKeySecret)  {
+        return new CaFingerprint(
+                resourceVersion(clusterCaCertSecret),
+                resourceVersion(clusterCaKeySecret),
+                resourceVersion(clientsCaCertSecret),
+                resourceVersion(clientsCaKeySecret),
+                clusterCaConfig,
+                clientsCaConfig,
+                caLabels,
+                clusterCaCertLabels,
+                clusterCaCertAnnotations,
+                ownerRef,
+                maintenanceWindows
+        );
+    }
+
+    private static String resourceVersion(Secret secret)   {
+        return secret != null && secret.getMetadata() != null ? secret.getMetadata().getResourceVersion() : null;
+    }
+
+    /**
+     * Stores the CAs in the cache when the desired CA Secrets are the same as the current ones. The CAs are cached only
+     * when both of them are generated by the operator. When the Secrets are changed in this reconciliation, their
+     * resource versions will change as well. So they will be cached in the next reconciliation once they are stable.
+     *
+     * @param fingerprint           Fingerprint of the current CA state
+     * @param clusterCaCertSecret   Current Cluster CA certificate Secret
+     * @param clusterCaKeySecret    Current Cluster CA key Secret
+     * @param clientsCaCertSecret   Current Clients CA certificate Secret
+     * @param clientsCaKeySecret    Current Clients CA key Secret
+     */
+    private void maybeCacheCas(CaFingerprint fingerprint, Secret clusterCaCertSecret, Secret clusterCaKeySecret, Secret clientsCaCertSecret, Secret clientsCaKeySecret)  {
+        if (cache == null) {
+            return;
+        }
+
+        String key = cacheKey(reconciliation.namespace(), reconciliation.name());
+
+        boolean generatedCas = (clusterCaConfig == null || clusterCaConfig.isGenerateCertificateAuthority())
+                && (clientsCaConfig == null || clientsCaConfig.isGenerateCertificateAuthority());
+        boolean unchangedSecrets = isUnchanged(clusterCaCertSecret, clusterCa.caCertSecret())
+                && isUnchanged(clusterCaKeySecret, clusterCa.caKeySecret())
+                && isUnchanged(clientsCaCertSecret, clientsCa.caCertSecret())
+                && isUnchanged(clientsCaKeySecret, clientsCa.caKeySecret());
+
+        if (generatedCas && unchangedSecrets && fingerprint.hasResourceVersions()) {
+            Instant validUntil = min(nextCertificateEvent(clusterCa.caCertSecret(), ModelUtils.getRenewalDays(clusterCaConfig)),
+                    nextCertificateEvent(clientsCa.caCertSecret(), ModelUtils.getRenewalDays(clientsCaConfig)));
+
+            // The Secrets are copied as the CA objects might modify them later in the reconciliation
+            cache.put(key, new CachedCaState(fingerprint, validUntil,
+                    new SecretBuilder(clusterCa.caCertSecret()).build(), new SecretBuilder(clusterCa.caKeySecret()).build(),
+                    new SecretBuilder(clientsCa.caCertSecret()).build(), new SecretBuilder(clientsCa.caKeySecret()).build()));
+        } else {
+            cache.remove(key);
+        }
+    }
+
+    /**
+     * Checks whether the desired Secret would not change the current Secret.
+     *
+     * @param current   Current Secret
+     * @param desired   Desired Secret
+     *
+     * @return  True if the data, labels, annotations and owner references are the same. False otherwise.
+     */
+    private static boolean isUnchanged(Secret current, Secret desired)   {
+        return current != null
+                && desired != null
+                && Objects.equals(current.getData(), desired.getData())
+                && Objects.equals(current.getMetadata().getLabels(), desired.getMetadata().getLabels())
+                && Objects.equals(current.getMetadata().getAnnotations(), desired.getMetadata().getAnnotations())
+                && Objects.equals(current.getMetadata().getOwnerReferences(), desired.getMetadata().getOwnerReferences());
+    }
+
+    /**
+     * Finds the first instant when the CA needs to be looked at again. That is either when the current CA certificate
+     * enters its renewal period or when any of the certificates in the Secret expires and should be removed.
+     *
+     * @param caCertSecret  Secret with the CA certificates
+     * @param renewalDays   Renewal period in days
+     *
+     * @return  The instant when the CA state needs to be checked again
+     */
+    private static Instant nextCertificateEvent(Secret caCertSecret, int renewalDays) {
+        Instant next = Instant.MAX;
+
+        for (String key : caCertSecret.getData().keySet()) {
+            if (key.endsWith(".crt")) {
+                X509Certificate cert = Ca.cert(caCertSecret, key);
+                Instant notAfter = cert.getNotAfter().toInstant();
+
+                next = min(next, Ca.CA_CRT.equals(key) ? notAfter.minus(renewalDays, ChronoUnit.DAYS) : notAfter);
+            }
+        }
+
+        return next;
+    }
+
+    private static Instant min(Instant first, Instant second)    {
+        return first.isBefore(second) ? first : second;
+    }
+
     /**
      * Utility method for checking the Secret existence when custom CA is used. The custom CA is configured but the
      * secrets do not exist, it will throw InvalidConfigurationException.
@@ -600,4 +803,39 @@ public class CaReconciler {
      * Helper class to pass both Cluster and Clients CA as a result of the reconciliation
      */
     protected record CaReconciliationResult(ClusterCa clusterCa, ClientsCa clientsCa) { }
+
+    /**
+     * Fingerprint of the CA Secrets and of the configuration used to reconcile them
+     */
+    record CaFingerprint(String clusterCaCertVersion, String clusterCaKeyVersion, String clientsCaCertVersion, String clientsCaKeyVersion,
+                                   CertificateAuthority clusterCaConfig, CertificateAuthority clientsCaConfig, Map<String, String> caLabels,
+                                   Map<String, String> clusterCaCertLabels, Map<String, String> clusterCaCertAnnotations, OwnerReference ownerRef,
+                                   List<String> maintenanceWindows) {
+        /**
+         * @return  True if all CA Secrets exist and have a resource version. False otherwise.
+         */
+        boolean hasResourceVersions()   {
+            return clusterCaCertVersion != null && clusterCaKeyVersion != null && clientsCaCertVersion != null && clientsCaKeyVersion != null;
+        }
+    }
+
+    /**
+     * CA state cached between reconciliations. It holds the CA Secrets as generated in the last reconciliation together
+     * with the fingerprint of the state they were generated from and the instant until which they do not need any
+     * renewal or removal of expired certificates.
+     */
+    record CachedCaState(CaFingerprint fingerprint, Instant validUntil, Secret clusterCaCertSecret, Secret clusterCaKeySecret,
+                                Secret clientsCaCertSecret, Secret clientsCaKeySecret) {
+        /**
+         * Checks whether the cached state can be used instead of reconciling the CAs
+         *
+         * @param fingerprint   Fingerprint of the current CA state
+         * @param now           Current instant
+         *
+         * @return  True if the fingerprint matches and no certificate needs renewal or removal. False otherwise.
+         */
+        boolean isValid(CaFingerprint fingerprint, Instant now)  {
+            return this.fingerprint.equals(fingerprint) && now.isBefore(validUntil);
+        }
+    }
 }
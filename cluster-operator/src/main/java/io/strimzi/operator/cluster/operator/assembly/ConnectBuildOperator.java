@@ -8,14 +8,14 @@ import io.fabric8.kubernetes.api.model.ConfigMap;
 import io.fabric8.kubernetes.api.model.ContainerStateTerminated;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.LocalObjectReference;
-import io.fabric8.kubernetes.api.model.Pod;
-import io.fabric8.openshift.api.model.Build;
 import io.strimzi.api.kafka.model.KafkaConnectResources;
+import io.strimzi.api.kafka.model.connect.build.Build;
 import io.strimzi.api.kafka.model.connect.build.Output;
 import io.strimzi.operator.cluster.PlatformFeaturesAvailability;
 import io.strimzi.operator.cluster.ClusterOperatorConfig;
 import io.strimzi.operator.cluster.model.ImagePullPolicy;
 import io.strimzi.operator.cluster.model.KafkaConnectBuild;
+import io.strimzi.operator.cluster.model.KafkaConnectBuildPlan;
 import io.strimzi.operator.cluster.model.KafkaConnectBuildUtils;
 import io.strimzi.operator.cluster.model.KafkaConnectDockerfile;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
@@ -33,6 +33,9 @@ import io.strimzi.operator.common.operator.resource.ServiceAccountOperator;
 import io.vertx.core.Future;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
@@ -53,6 +56,10 @@ public class ConnectBuildOperator {
     private final long connectBuildTimeoutMs;
     private final PlatformFeaturesAvailability pfa;
 
+    // Builds which were last seen for the Connect clusters. These are used to skip generating and comparing the
+    // Dockerfile when the build configuration did not change.
+    private final Map<String, KnownBuild> knownBuilds = new ConcurrentHashMap<>();
+
     /**
      * Constructor
      *
@@ -88,6 +95,7 @@ public class ConnectBuildOperator {
     public Future<BuildInfo> reconcile(Reconciliation reconciliation, String namespace, HasMetadata controllerResource, KafkaConnectBuild connectBuild) {
         if (connectBuild.getBuild() == null) {
             // Build is not configured => we should delete resources
+            knownBuilds.remove(buildKey(namespace, connectBuild.getCluster()));
             return configMapOperations.reconcile(reconciliation, namespace, KafkaConnectResources.dockerFileConfigMapName(connectBuild.getCluster()), null)
                     .compose(ignore -> podOperator.reconcile(reconciliation, namespace, KafkaConnectResources.buildPodName(connectBuild.getCluster()), null))
                     .compose(ignore -> serviceAccountOperations.reconcile(reconciliation, namespace, KafkaConnectResources.buildServiceAccountName(connectBuild.getCluster()), null))
@@ -100,6 +108,16 @@ public class ConnectBuildOperator {
         }
     }
 
+    /**
+     * Forgets the last known build of a Connect cluster. This is used when the Connect cluster is deleted.
+     *
+     * @param namespace     Namespace of the Connect cluster
+     * @param name          Name of the Connect cluster
+     */
+    public void delete(String namespace, String name) {
+        knownBuilds.remove(buildKey(namespace, name));
+    }
+
     /**
      * Builds a new container image with connectors on Kubernetes using Kaniko or on OpenShift using BuildConfig
      *
@@ -113,33 +131,72 @@ public class ConnectBuildOperator {
     private Future<BuildInfo> build(Reconciliation reconciliation, String namespace, KafkaConnectBuild connectBuild, HasMetadata controllerResource) {
         String currentBuildRevision = "";
         String currentImage = "";
+        String currentPluginRevisions = null;
         boolean forceRebuild = false;
         if (controllerResource != null) {
             // Extract information from the current controllerResource. This is used to figure out if new build needs to be run or not.
             currentBuildRevision = Annotations.stringAnnotation(controllerResource, Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, null);
             currentImage = Annotations.stringAnnotation(controllerResource, Annotations.STRIMZI_IO_CONNECT_BUILD_IMAGE, null);
+            currentPluginRevisions = Annotations.stringAnnotation(controllerResource, Annotations.STRIMZI_IO_CONNECT_BUILD_PLUGIN_REVISIONS, null);
             forceRebuild = Annotations.hasAnnotation(controllerResource, Annotations.STRIMZI_IO_CONNECT_FORCE_REBUILD);
         }
 
+        String buildKey = buildKey(namespace, connectBuild.getCluster());
+        KnownBuild knownBuild = knownBuilds.get(buildKey);
+
+        if (knownBuild != null
+                && knownBuild.matches(connectBuild)
+                && knownBuild.buildRevision().equals(currentBuildRevision)
+                && currentImage != null
+                && !forceRebuild) {
+            // The build configuration is the same as the one which was used for the current image => we do not need
+            // to generate the Dockerfile to know that there is nothing to do
+            LOGGER.debugCr(reconciliation, "Build configuration did not change. Nothing new to build. Container image {} will be used.", currentImage);
+            return Future.succeededFuture(new BuildInfo(currentImage, knownBuild.buildRevision(), knownBuild.pluginRevisions()));
+        }
+
         KafkaConnectDockerfile dockerfile = connectBuild.generateDockerfile();
         String newBuildRevision = dockerfile.hashStub() + Util.hashStub(connectBuild.getBuild().getOutput().getImage());
-        ConfigMap dockerFileConfigMap = connectBuild.generateDockerfileConfigMap(dockerfile);
+        Map<String, String> newPluginRevisions = dockerfile.pluginRevisions();
+        String newPluginRevisionsAnnotation = KafkaConnectBuildPlan.revisionsAnnotation(newPluginRevisions);
+        KnownBuild newKnownBuild = new KnownBuild(connectBuild.getBaseImage(), connectBuild.getBuild(), newBuildRevision, newPluginRevisionsAnnotation);
 
         if (newBuildRevision.equals(currentBuildRevision)
                 && currentImage != null
                 && !forceRebuild) {
             // The revision is the same and rebuild was not forced => nothing to do
             LOGGER.debugCr(reconciliation, "Build configuration did not change. Nothing new to build. Container image {} will be used.", currentImage);
-            return Future.succeededFuture(new BuildInfo(currentImage, newBuildRevision));
-        } else if (pfa.supportsS2I()) {
+            knownBuilds.put(buildKey, newKnownBuild);
+            return Future.succeededFuture(new BuildInfo(currentImage, newBuildRevision, newPluginRevisionsAnnotation));
+        }
+
+        KafkaConnectBuildPlan plan = new KafkaConnectBuildPlan(KafkaConnectBuildPlan.parseRevisionsAnnotation(currentPluginRevisions), newPluginRevisions);
+        LOGGER.infoCr(reconciliation, "Build configuration changed. {}", plan);
+
+        Future<String> buildResult;
+        if (pfa.supportsS2I()) {
             // Revisions differ, and we have S2I support => we are on OpenShift and should do a build
-            return openShiftBuild(reconciliation, namespace, connectBuild, forceRebuild, dockerfile, newBuildRevision)
-                    .compose(image -> Future.succeededFuture(new BuildInfo(image, newBuildRevision)));
+            buildResult = openShiftBuild(reconciliation, namespace, connectBuild, forceRebuild, dockerfile, newBuildRevision);
         } else {
             // Revisions differ, and no S2I support => we are on Kubernetes and should do a build
-            return kubernetesBuild(reconciliation, namespace, connectBuild, forceRebuild, dockerFileConfigMap, newBuildRevision)
-                    .compose(image -> Future.succeededFuture(new BuildInfo(image, newBuildRevision)));
+            buildResult = kubernetesBuild(reconciliation, namespace, connectBuild, forceRebuild, connectBuild.generateDockerfileConfigMap(dockerfile), newBuildRevision);
         }
+
+        return buildResult
+                .map(image -> {
+                    knownBuilds.put(buildKey, newKnownBuild);
+                    return new BuildInfo(image, newBuildRevision, newPluginRevisionsAnnotation);
+                });
+    }
+
+    /**
+     * @param namespace     Namespace of the Connect cluster
+     * @param name          Name of the Connect cluster
+     *
+     * @return  Key identifying the build of the Connect cluster
+     */
+    private static String buildKey(String namespace, String name) {
+        return namespace + "/" + name;
     }
 
     /**
@@ -209,19 +266,6 @@ public class ConnectBuildOperator {
                 .mapEmpty();
     }
 
-    /**
-     * Checks if the builder Pod finished the build
-     *
-     @param namespace               Namespace of the Connect cluster
-     * @param podName               The name of the Pod which should be checked whether it finished
-     *
-     * @return                      True if the build already finished, false if it is still building
-     */
-    private boolean kubernetesBuildPodFinished(String namespace, String podName, String containerName)   {
-        Pod buildPod = podOperator.get(namespace, podName);
-        return KafkaConnectBuildUtils.buildPodComplete(buildPod, containerName);
-    }
-
     /**
      * Waits for the Kafka Connect build to finish and collects the results from it
      *
@@ -235,8 +279,8 @@ public class ConnectBuildOperator {
         String buildPodName = KafkaConnectResources.buildPodName(connectBuild.getCluster());
         String containerName = KafkaConnectBuildUtils.getBuildContainerName(connectBuild.getCluster(), pfa.isOpenshift());
 
-        return podOperator.waitFor(reconciliation, namespace, buildPodName, "complete", 1_000, connectBuildTimeoutMs, (ignore1, ignore2) -> kubernetesBuildPodFinished(namespace, buildPodName, containerName))
-                .compose(ignore -> podOperator.getAsync(namespace, buildPodName))
+        // The build can take a long time => we watch the builder Pod instead of polling it
+        return podOperator.watchFor(reconciliation, namespace, buildPodName, "complete", connectBuildTimeoutMs, pod -> KafkaConnectBuildUtils.buildPodComplete(pod, containerName))
                 .compose(pod -> {
                     if (KafkaConnectBuildUtils.buildPodSucceeded(pod, containerName)) {
                         ContainerStateTerminated state = KafkaConnectBuildUtils.getConnectBuildContainerStateTerminated(pod, containerName);
@@ -345,19 +389,6 @@ public class ConnectBuildOperator {
         return Future.succeededFuture();
     }
 
-    /**
-     * Checks if the Build finished
-     *
-     * @param namespace             Namespace of the Connect cluster
-     * @param buildName             Name of the Build which should be checked
-     *
-     * @return                      True if the Build already finished, false if it is still building
-     */
-    private boolean openShiftBuildFinished(String namespace, String buildName) {
-        Build runningBuild = buildOperator.get(namespace, buildName);
-        return KafkaConnectBuildUtils.buildComplete(runningBuild);
-    }
-
     /**
      * Waits for the Kafka Connect build to finish and collects the results from it
      *
@@ -368,8 +399,8 @@ public class ConnectBuildOperator {
      * @return                      Future which completes with the built image when the build is finished (or fails if it fails)
      */
     private Future<String> openShiftBuildWaitForFinish(Reconciliation reconciliation, String namespace, String buildName)   {
-        return buildOperator.waitFor(reconciliation, namespace, buildName, "complete", 1_000, connectBuildTimeoutMs, (ignore1, ignore2) -> openShiftBuildFinished(namespace, buildName))
-                .compose(ignore -> buildOperator.getAsync(namespace, buildName))
+        // The build can take a long time => we watch the Build instead of polling it
+        return buildOperator.watchFor(reconciliation, namespace, buildName, "complete", connectBuildTimeoutMs, KafkaConnectBuildUtils::buildComplete)
                 .compose(build -> {
                     if (KafkaConnectBuildUtils.buildSucceeded(build))   {
                         // Build completed successfully. Let's extract the new image
@@ -404,6 +435,33 @@ public class ConnectBuildOperator {
 
     /**
      * Utility class to return the information about the Kafka Connect Build.
+     *
+     * @param image             Container image with the connector plugins
+     * @param buildRevision     Revision of the build
+     * @param pluginRevisions   Revisions of the individual connector plugins (in the annotation format)
+     */
+    record BuildInfo(String image, String buildRevision, String pluginRevisions) { }
+
+    /**
+     * Build configuration which was last used for a Connect cluster together with its revisions
+     *
+     * @param baseImage         Base image of the build
+     * @param build             Build configuration from the KafkaConnect custom resource
+     * @param buildRevision     Revision of the build
+     * @param pluginRevisions   Revisions of the individual connector plugins (in the annotation format)
      */
-    record BuildInfo(String image, String buildRevision) { }
+    private record KnownBuild(String baseImage, Build build, String buildRevision, String pluginRevisions) {
+        /**
+         * Checks whether the build configuration is the same as the known one. The Dockerfile depends only on the
+         * base image and on the build configuration. So when they are the same, the revision is the same as well.
+         *
+         * @param connectBuild  KafkaConnectBuild object
+         *
+         * @return  True if the build configuration did not change. False otherwise.
+         */
+        boolean matches(KafkaConnectBuild connectBuild) {
+            return Objects.equals(baseImage, connectBuild.getBaseImage())
+                    && Objects.equals(build, connectBuild.getBuild());
+        }
+    }
 }
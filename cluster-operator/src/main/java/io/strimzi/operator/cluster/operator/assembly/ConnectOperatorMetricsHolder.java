@@ -23,9 +23,11 @@ public class ConnectOperatorMetricsHolder extends OperatorMetricsHolder {
     private final Map<String, Counter> connectorsFailedReconciliationsCounterMap = new ConcurrentHashMap<>(1);
     private final Map<String, Counter> connectorsSuccessfulReconciliationsCounterMap = new ConcurrentHashMap<>(1);
     private final Map<String, Counter> connectorsAutoRestartsCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Counter> connectorsSuppressedAutoRestartsCounterMap = new ConcurrentHashMap<>(1);
     private final Map<String, Timer> connectorsReconciliationsTimerMap = new ConcurrentHashMap<>(1);
     private final Map<String, AtomicInteger> connectorsResourceCounterMap = new ConcurrentHashMap<>(1);
     private final Map<String, AtomicInteger> pausedConnectorsResourceCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<String, AtomicInteger> pendingAutoRestartsCounterMap = new ConcurrentHashMap<>(1);
 
     /**
      * Constructs the operator metrics holder for connect operators
@@ -87,6 +89,34 @@ public class ConnectOperatorMetricsHolder extends OperatorMetricsHolder {
                 "Number of auto restarts of the connector");
     }
 
+    /**
+     * Counter metric for number of auto restarts which were due, but were postponed because of the auto restart rate
+     * limit of the Connect cluster.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics counter
+     */
+    public Counter connectorsSuppressedAutoRestartsCounter(String namespace) {
+        return getCounter(namespace, KafkaConnector.RESOURCE_KIND, METRICS_PREFIX + "auto.restarts.suppressed", metricsProvider, null, connectorsSuppressedAutoRestartsCounterMap,
+                "Number of auto restarts of the connector postponed because of the auto restart rate limit");
+    }
+
+    /**
+     * Gauge metric for number of failed connectors waiting for their next auto restart. Unlike the other connector
+     * metrics, it uses the kind of the operator (KafkaConnect or KafkaMirrorMaker2), because the Connect and
+     * MirrorMaker 2 operators each keep their own count and would otherwise register the same gauge.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics gauge
+     */
+    public AtomicInteger pendingAutoRestartsCounter(String namespace) {
+        return getGauge(namespace, kind, METRICS_PREFIX + "auto.restarts.pending",
+                metricsProvider, null, pendingAutoRestartsCounterMap,
+                "Number of failed connectors waiting for their next auto restart");
+    }
+
     /**
      * Counter metric for number of connector resources.
      *
@@ -0,0 +1,272 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.strimzi.api.kafka.model.status.AutoRestartStatus;
+import io.strimzi.operator.common.operator.resource.StatusUtils;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongSupplier;
+
+/**
+ * Schedules the auto-restarts of the failed connectors. The restarts follow the back-off intervals based on the
+ * auto-restart status of the connector. On top of them, the scheduler:
+ *   - Delays each restart, including the first one, by a jitter, so that connectors which failed at the same time
+ *     (for example because of an outage of the Kafka cluster) are not all restarted in the same reconciliation. The
+ *     restarts are checked only in the reconciliations. So the jitter is a whole number of reconciliation intervals
+ *     and it can be up to 25% of the back-off interval, but at least one reconciliation interval. The jitter is
+ *     derived from the Connect cluster, the connector name and the restart count. It is therefore stable across
+ *     reconciliations. The later restarts are calculated from the auto-restart status stored in the custom resource.
+ *     The first restart is calculated from the time when the scheduler first saw the connector failing, because the
+ *     custom resource has no auto-restart status yet.
+ *   - Limits the number of restarts per minute in a single Connect cluster. Restarts over the limit are postponed
+ *     to one of the next reconciliations.
+ *   - Keeps track of the failed connectors waiting for their next restart and exposes their number as a metric.
+ *
+ * When the maximal number of restarts per minute is zero, the restarts are not limited.
+ */
+class ConnectorAutoRestartScheduler {
+    /**
+     * Maximal number of auto-restarts of a connector before the operator gives up
+     */
+    static final int MAX_RESTARTS = 7;
+
+    /**
+     * Maximal jitter of the restart as a fraction of its back-off interval
+     */
+    /* test */ static final double MAX_JITTER = 0.25;
+
+    private static final long RATE_LIMIT_WINDOW_MS = 60_000L;
+
+    /**
+     * Outcome of the auto-restart scheduling
+     */
+    enum Decision {
+        /**
+         * The connector should be restarted now
+         */
+        RESTART,
+
+        /**
+         * The back-off interval elapsed, but the jitter of the connector did not elapse yet
+         */
+        JITTER,
+
+        /**
+         * The restart is due, but it is postponed because of the rate limit of the Connect cluster
+         */
+        RATE_LIMITED
+    }
+
+    private final int maxRestartsPerMinute;
+    private final long reconciliationIntervalMs;
+    private final ConnectOperatorMetricsHolder metrics;
+    private final LongSupplier clock;
+    private final Map<String, Deque<Long>> restarts = new HashMap<>();
+    private final Map<String, Set<String>> pending = new HashMap<>();
+    private final Map<String, Long> failingSince = new HashMap<>();
+
+    /**
+     * Constructs the scheduler
+     *
+     * @param maxRestartsPerMinute      Maximal number of auto-restarts per minute in a single Connect cluster. Zero
+     *                                  means no limit.
+     * @param reconciliationIntervalMs  Interval of the periodic reconciliations in milliseconds
+     * @param metrics                   Metrics holder used for the pending restarts metric
+     */
+    ConnectorAutoRestartScheduler(int maxRestartsPerMinute, long reconciliationIntervalMs, ConnectOperatorMetricsHolder metrics) {
+        this(maxRestartsPerMinute, reconciliationIntervalMs, metrics, System::currentTimeMillis);
+    }
+
+    /**
+     * Constructs the scheduler
+     *
+     * @param maxRestartsPerMinute      Maximal number of auto-restarts per minute in a single Connect cluster. Zero
+     *                                  means no limit.
+     * @param reconciliationIntervalMs  Interval of the periodic reconciliations in milliseconds
+     * @param metrics                   Metrics holder used for the pending restarts metric
+     * @param clock                     Supplier of the current time in milliseconds
+     */
+    /* test */ ConnectorAutoRestartScheduler(int maxRestartsPerMinute, long reconciliationIntervalMs, ConnectOperatorMetricsHolder metrics, LongSupplier clock) {
+        this.maxRestartsPerMinute = maxRestartsPerMinute;
+        this.reconciliationIntervalMs = Math.max(1L, reconciliationIntervalMs);
+        this.metrics = metrics;
+        this.clock = clock;
+    }
+
+    /**
+     * Calculates the back-off interval for auto-restarting the connectors. It is calculated as (n^2 + n) where n is the
+     * number of previous restarts. As a result, the restarts should be done after 0, 2, 6, 12, 20, 30 and 42 minutes
+     * (there are always only up to 7 restarts).
+     *
+     * @param restartCount  Number of restarts already applied to the connector
+     *
+     * @return  Number of minutes after which the next restart should happen
+     */
+    static int backOffMinutes(int restartCount)    {
+        return restartCount * restartCount + restartCount;
+    }
+
+    /**
+     * Calculates the jitter of the next restart of the connector. The jitter is a whole number of reconciliation
+     * intervals between 0 and 25% of the back-off interval or one reconciliation interval, whichever is bigger. It is
+     * always the same for the same Connect cluster, connector and restart count.
+     *
+     * @param host                      Kafka Connect host
+     * @param connectorName             Name of the connector
+     * @param restartCount              Number of restarts already applied to the connector
+     * @param reconciliationIntervalMs  Interval of the periodic reconciliations in milliseconds
+     *
+     * @return  Jitter in milliseconds
+     */
+    /* test */ static long jitterMs(String host, String connectorName, int restartCount, long reconciliationIntervalMs)    {
+        long maxJitterMs = Math.max((long) (MAX_JITTER * backOffMinutes(restartCount) * 60_000L), reconciliationIntervalMs);
+        long intervals = maxJitterMs / reconciliationIntervalMs;
+
+        return Math.floorMod((host + "/" + connectorName + "/" + restartCount).hashCode(), intervals + 1) * reconciliationIntervalMs;
+    }
+
+    /**
+     * Schedules the restart of a failed connector for which the back-off interval already elapsed. It decides whether
+     * the connector should be restarted now or whether the restart should be postponed because of the jitter or the
+     * rate limit of the Connect cluster. When the connector was not restarted yet, the jitter applies from the first
+     * call for the failing connector.
+     *
+     * @param namespace         Namespace of the connector
+     * @param host              Kafka Connect host
+     * @param connectorName     Name of the connector
+     * @param autoRestartStatus Auto-restart status of the connector or null if it was not restarted yet
+     *
+     * @return  Decision whether the connector should be restarted now
+     */
+    synchronized Decision schedule(String namespace, String host, String connectorName, AutoRestartStatus autoRestartStatus)   {
+        long now = clock.getAsLong();
+        long restartAt;
+
+        if (autoRestartStatus != null && autoRestartStatus.getLastRestartTimestamp() != null) {
+            restartAt = StatusUtils.isoUtcDatetime(autoRestartStatus.getLastRestartTimestamp()).toEpochMilli()
+                    + backOffMinutes(autoRestartStatus.getCount()) * 60_000L
+                    + jitterMs(host, connectorName, autoRestartStatus.getCount(), reconciliationIntervalMs);
+        } else {
+            restartAt = failingSince.computeIfAbsent(host + "/" + connectorName, connector -> now)
+                    + jitterMs(host, connectorName, 0, reconciliationIntervalMs);
+        }
+
+        Decision decision;
+
+        if (now < restartAt) {
+            decision = Decision.JITTER;
+        } else if (tryAcquire(host, now)) {
+            decision = Decision.RESTART;
+        } else {
+            decision = Decision.RATE_LIMITED;
+        }
+
+        if (decision == Decision.RESTART) {
+            failingSince.remove(host + "/" + connectorName);
+        }
+
+        updatePending(namespace, host, connectorName, decision != Decision.RESTART);
+
+        return decision;
+    }
+
+    /**
+     * Marks the failed connector which has to wait for the end of its back-off interval. Connectors which already
+     * used all their restarts are not waiting for any restart anymore.
+     *
+     * @param namespace         Namespace of the connector
+     * @param host              Kafka Connect host
+     * @param connectorName     Name of the connector
+     * @param autoRestartStatus Auto-restart status of the connector
+     */
+    synchronized void backOff(String namespace, String host, String connectorName, AutoRestartStatus autoRestartStatus)   {
+        updatePending(namespace, host, connectorName, autoRestartStatus == null || autoRestartStatus.getCount() < MAX_RESTARTS);
+    }
+
+    /**
+     * Removes the connector from the connectors waiting for a restart. This is used when the connector is not failing
+     * anymore, when its auto-restart is disabled or when it is deleted.
+     *
+     * @param namespace         Namespace of the connector
+     * @param host              Kafka Connect host
+     * @param connectorName     Name of the connector
+     */
+    synchronized void clear(String namespace, String host, String connectorName)   {
+        failingSince.remove(host + "/" + connectorName);
+        updatePending(namespace, host, connectorName, false);
+    }
+
+    /**
+     * Removes all connectors and restarts of a Connect cluster. This is used when the Connect cluster is deleted.
+     *
+     * @param namespace     Namespace of the Connect cluster
+     * @param host          Kafka Connect host
+     */
+    synchronized void clearAll(String namespace, String host)   {
+        restarts.remove(host);
+        failingSince.keySet().removeIf(connector -> connector.startsWith(host + "/"));
+
+        Set<String> pendingInNamespace = pending.get(namespace);
+        if (pendingInNamespace != null) {
+            pendingInNamespace.removeIf(connector -> connector.startsWith(host + "/"));
+            metrics.pendingAutoRestartsCounter(namespace).set(pendingInNamespace.size());
+        }
+    }
+
+    /**
+     * Checks the rate limit of the Connect cluster and records the restart if it is allowed
+     *
+     * @param host  Kafka Connect host
+     * @param now   Current time in milliseconds
+     *
+     * @return  True if the restart is allowed. False otherwise.
+     */
+    private boolean tryAcquire(String host, long now)  {
+        if (maxRestartsPerMinute <= 0) {
+            return true;
+        }
+
+        Deque<Long> recentRestarts = restarts.computeIfAbsent(host, h -> new ArrayDeque<>());
+
+        while (!recentRestarts.isEmpty() && recentRestarts.peekFirst() <= now - RATE_LIMIT_WINDOW_MS) {
+            recentRestarts.pollFirst();
+        }
+
+        if (recentRestarts.size() < maxRestartsPerMinute) {
+            recentRestarts.addLast(now);
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    private void updatePending(String namespace, String host, String connectorName, boolean isPending) {
+        Set<String> pendingInNamespace = pending.computeIfAbsent(namespace, ns -> new HashSet<>());
+
+        if (isPending) {
+            pendingInNamespace.add(host + "/" + connectorName);
+        } else {
+            pendingInNamespace.remove(host + "/" + connectorName);
+        }
+
+        metrics.pendingAutoRestartsCounter(namespace).set(pendingInNamespace.size());
+    }
+
+    /**
+     * @param namespace     Namespace
+     *
+     * @return  Number of connectors in the namespace waiting for their next restart
+     */
+    /* test */ synchronized int pendingCount(String namespace) {
+        Set<String> pendingInNamespace = pending.get(namespace);
+        return pendingInNamespace != null ? pendingInNamespace.size() : 0;
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.strimzi.operator.common.Util;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers the fingerprints of the connector configurations which were last successfully applied to a Connect
+ * cluster. The fingerprint consists of the generation of the resource defining the connector and of the hash of the
+ * desired connector configuration. When the fingerprint of the desired configuration matches the remembered one, the
+ * operator can skip getting the current configuration from the Connect REST API and comparing it.
+ *
+ * The fingerprints are kept per Connect cluster together with the generation of the Connect cluster resource (the
+ * worker generation). When the worker generation changes, for example because the worker configuration or the
+ * configuration providers changed, all fingerprints of that Connect cluster are dropped.
+ */
+class ConnectorConfigCache {
+    private final Map<String, ConnectClusterFingerprints> clusters = new ConcurrentHashMap<>();
+
+    /**
+     * Sets the generation of the Connect cluster resource. If it differs from the generation used when the
+     * fingerprints were remembered, the fingerprints are dropped.
+     *
+     * @param host          Host of the Connect REST API identifying the Connect cluster
+     * @param generation    Generation of the Connect cluster resource
+     */
+    void updateWorkerGeneration(String host, Long generation) {
+        clusters.compute(host, (key, existing) -> {
+            if (existing == null || !Objects.equals(existing.workerGeneration, generation)) {
+                return new ConnectClusterFingerprints(generation);
+            } else {
+                return existing;
+            }
+        });
+    }
+
+    /**
+     * Checks whether the configuration with the given fingerprint was already applied to the connector
+     *
+     * @param host              Host of the Connect REST API identifying the Connect cluster
+     * @param connectorName     Name of the connector
+     * @param fingerprint       Fingerprint of the desired configuration
+     *
+     * @return  True if the configuration with the same fingerprint was already applied. False otherwise.
+     */
+    boolean isApplied(String host, String connectorName, String fingerprint) {
+        ConnectClusterFingerprints cluster = clusters.get(host);
+        return cluster != null && fingerprint.equals(cluster.fingerprints.get(connectorName));
+    }
+
+    /**
+     * Remembers the fingerprint of the configuration which was successfully applied to the connector. The
+     * fingerprint is remembered only when the worker generation of the Connect cluster is known.
+     *
+     * @param host              Host of the Connect REST API identifying the Connect cluster
+     * @param connectorName     Name of the connector
+     * @param fingerprint       Fingerprint of the applied configuration
+     */
+    void applied(String host, String connectorName, String fingerprint) {
+        ConnectClusterFingerprints cluster = clusters.get(host);
+
+        if (cluster != null) {
+            cluster.fingerprints.put(connectorName, fingerprint);
+        }
+    }
+
+    /**
+     * Drops the fingerprint of a single connector. This is used when the connector is deleted or when its
+     * reconciliation failed and the state of the connector is not known.
+     *
+     * @param host              Host of the Connect REST API identifying the Connect cluster
+     * @param connectorName     Name of the connector
+     */
+    void invalidate(String host, String connectorName) {
+        ConnectClusterFingerprints cluster = clusters.get(host);
+
+        if (cluster != null) {
+            cluster.fingerprints.remove(connectorName);
+        }
+    }
+
+    /**
+     * Drops all fingerprints of the Connect cluster. This is used when the Connect cluster is deleted.
+     *
+     * @param host  Host of the Connect REST API identifying the Connect cluster
+     */
+    void invalidateAll(String host) {
+        clusters.remove(host);
+    }
+
+    /**
+     * Creates the fingerprint of the desired connector configuration
+     *
+     * @param resourceGeneration    Generation of the resource defining the connector
+     * @param desiredConfig         Desired connector configuration including the name, class and tasks.max options
+     *
+     * @return  Fingerprint of the configuration
+     */
+    static String fingerprint(Long resourceGeneration, Map<String, String> desiredConfig) {
+        return resourceGeneration + "/" + Util.hashStub(new TreeMap<>(desiredConfig).toString());
+    }
+
+    /**
+     * Fingerprints of the connectors of a single Connect cluster
+     */
+    private static class ConnectClusterFingerprints {
+        private final Long workerGeneration;
+        private final Map<String, String> fingerprints = new ConcurrentHashMap<>();
+
+        ConnectClusterFingerprints(Long workerGeneration) {
+            this.workerGeneration = workerGeneration;
+        }
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs the connector reconciliations of the periodic reconciliations of the Connect clusters. Each Connect cluster
+ * has its own bounded queue, so the connectors of one Connect cluster are reconciled in parallel, but the number of
+ * the reconciliations running against its REST API at the same time is limited. The executor:
+ *   - Runs the reconciliations of the connectors with changes (connectors which have to be created or deleted)
+ *     before the periodic checks of the unchanged connectors.
+ *   - Tells each reconciliation whether it waited in the queue, so that the reconciliations which waited do not rely
+ *     on the state of the connector taken before they were queued.
+ *
+ * The periodic reconciliation of a Connect cluster runs under the lock of the Connect cluster and reconciles each
+ * connector only once. The watch-triggered connector reconciliations take the same lock and do not use the executor.
+ * So the executor never gets two reconciliations of the same connector at the same time.
+ *
+ * When the maximal number of concurrent reconciliations is 0, the reconciliations are not limited and are started
+ * right away.
+ */
+class ConnectorReconciliationExecutor {
+    /**
+     * What triggered the connector reconciliation
+     */
+    enum Trigger {
+        /**
+         * Connector which has to be created or deleted. These are changes and are reconciled before the periodic
+         * checks.
+         */
+        CHANGE,
+
+        /**
+         * Periodic check of a connector which already exists
+         */
+        PERIODIC
+    }
+
+    /**
+     * Connector reconciliation run by the executor
+     */
+    interface Task {
+        /**
+         * Runs the connector reconciliation
+         *
+         * @param waited    True if the reconciliation waited in the queue before it was started. False if it was
+         *                  started right away.
+         *
+         * @return  Future which completes with the result of the reconciliation
+         */
+        Future<Void> run(boolean waited);
+    }
+
+    private final int maxConcurrentReconciliations;
+    private final Map<String, ConnectClusterQueue> clusters = new HashMap<>();
+
+    /**
+     * Constructs the executor
+     *
+     * @param maxConcurrentReconciliations  Maximal number of connector reconciliations running at the same time
+     *                                      against a single Connect cluster. 0 means no limit.
+     */
+    ConnectorReconciliationExecutor(int maxConcurrentReconciliations) {
+        this.maxConcurrentReconciliations = maxConcurrentReconciliations;
+    }
+
+    /**
+     * Executes the connector reconciliation. The reconciliation is started right away when the limit of the Connect
+     * cluster allows it. Otherwise, it waits in the queue.
+     *
+     * @param connectCluster    Identifier of the Connect cluster (e.g. the host of its REST API)
+     * @param trigger           What triggered the reconciliation
+     * @param task              Task which runs the reconciliation
+     *
+     * @return  Future which completes with the result of the reconciliation
+     */
+    Future<Void> execute(String connectCluster, Trigger trigger, Task task) {
+        if (maxConcurrentReconciliations <= 0) {
+            return task.run(false);
+        }
+
+        Entry queued = new Entry(task);
+
+        synchronized (this) {
+            clusters.computeIfAbsent(connectCluster, c -> new ConnectClusterQueue())
+                    .queue(trigger)
+                    .addLast(queued);
+        }
+
+        dispatch(connectCluster, queued);
+
+        return queued.result.future();
+    }
+
+    /**
+     * Starts the queued reconciliations of the Connect cluster while its limit allows it
+     *
+     * @param connectCluster    Identifier of the Connect cluster
+     * @param justQueued        Reconciliation which was just queued by the caller or null. It is the only
+     *                          reconciliation which did not wait in the queue when it is started.
+     */
+    private void dispatch(String connectCluster, Entry justQueued) {
+        while (true) {
+            Entry next;
+
+            synchronized (this) {
+                ConnectClusterQueue cluster = clusters.get(connectCluster);
+
+                if (cluster == null || cluster.running >= maxConcurrentReconciliations) {
+                    return;
+                }
+
+                next = cluster.next();
+
+                if (next == null) {
+                    if (cluster.running == 0) {
+                        clusters.remove(connectCluster);
+                    }
+
+                    return;
+                }
+
+                cluster.running++;
+            }
+
+            start(connectCluster, next, next != justQueued);
+        }
+    }
+
+    /**
+     * Starts the reconciliation and dispatches the next one once it completes
+     *
+     * @param connectCluster    Identifier of the Connect cluster
+     * @param entry             Queued reconciliation
+     * @param waited            Indicates whether the reconciliation waited in the queue
+     */
+    private void start(String connectCluster, Entry entry, boolean waited) {
+        Future<Void> reconciliation;
+        try {
+            reconciliation = entry.task.run(waited);
+        } catch (Throwable t) {
+            reconciliation = Future.failedFuture(t);
+        }
+
+        reconciliation.onComplete(res -> {
+            synchronized (this) {
+                clusters.get(connectCluster).running--;
+            }
+
+            entry.result.handle(res);
+            dispatch(connectCluster, null);
+        });
+    }
+
+    /**
+     * @param connectCluster    Identifier of the Connect cluster
+     *
+     * @return  Number of reconciliations of the Connect cluster waiting in the queue
+     */
+    /* test */ synchronized int queuedCount(String connectCluster) {
+        ConnectClusterQueue cluster = clusters.get(connectCluster);
+        return cluster != null ? cluster.changes.size() + cluster.periodic.size() : 0;
+    }
+
+    /**
+     * @param connectCluster    Identifier of the Connect cluster
+     *
+     * @return  Number of reconciliations of the Connect cluster running
+     */
+    /* test */ synchronized int runningCount(String connectCluster) {
+        ConnectClusterQueue cluster = clusters.get(connectCluster);
+        return cluster != null ? cluster.running : 0;
+    }
+
+    /**
+     * Queues of a single Connect cluster
+     */
+    private static class ConnectClusterQueue {
+        private final Deque<Entry> changes = new ArrayDeque<>();
+        private final Deque<Entry> periodic = new ArrayDeque<>();
+        private int running = 0;
+
+        Deque<Entry> queue(Trigger trigger) {
+            return trigger == Trigger.CHANGE ? changes : periodic;
+        }
+
+        /**
+         * Picks the next reconciliation. The changes are picked before the periodic checks.
+         *
+         * @return  The next reconciliation or null if the queues are empty
+         */
+        Entry next() {
+            for (Deque<Entry> queue : List.of(changes, periodic)) {
+                if (!queue.isEmpty()) {
+                    return queue.pollFirst();
+                }
+            }
+
+            return null;
+        }
+    }
+
+    /**
+     * Queued connector reconciliation
+     */
+    private static class Entry {
+        private final Task task;
+        private final Promise<Void> result = Promise.promise();
+
+        Entry(Task task) {
+            this.task = task;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.vertx.core.Future;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Snapshots of the status and configuration of the running connectors used by the connector reconciliations of a
+ * single periodic reconciliation of a Connect cluster. The reconciliations which are started right away use the
+ * snapshot taken at the beginning of the periodic reconciliation. The reconciliations which waited in the connector
+ * executor queue might act on outdated state with it. So they share a second snapshot, which is listed only once,
+ * when the first of them starts. When the second listing fails, they get the configuration and status of their
+ * connector from the REST API one by one.
+ */
+class ConnectorSnapshots {
+    private final Map<String, Map<String, Object>> initial;
+    private final Supplier<Future<Map<String, Map<String, Object>>>> relist;
+    private Future<Map<String, Map<String, Object>>> relisted;
+
+    /**
+     * Constructs the snapshots
+     *
+     * @param initial   Snapshot of the running connectors taken at the beginning of the periodic reconciliation
+     * @param relist    Lists the running connectors with their status and configuration again
+     */
+    ConnectorSnapshots(Map<String, Map<String, Object>> initial, Supplier<Future<Map<String, Map<String, Object>>>> relist) {
+        this.initial = initial;
+        this.relist = relist;
+    }
+
+    /**
+     * Gets the snapshot of a connector
+     *
+     * @param connectorName     Name of the connector
+     * @param waited            Indicates whether the connector reconciliation waited in the queue
+     *
+     * @return  Future with the status and configuration of the connector or with null if the connector is not running
+     *          or if its state is not known
+     */
+    Future<Map<String, Object>> get(String connectorName, boolean waited) {
+        if (!waited) {
+            return Future.succeededFuture(initial.get(connectorName));
+        }
+
+        Future<Map<String, Map<String, Object>>> connectors;
+        synchronized (this) {
+            if (relisted == null) {
+                relisted = relist.get().otherwise(Map.of());
+            }
+
+            connectors = relisted;
+        }
+
+        return connectors.map(running -> running.get(connectorName));
+    }
+}
@@ -46,6 +46,7 @@ import io.strimzi.operator.common.PasswordGenerator;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationException;
 import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.metrics.ReconciliationStepMetrics;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.CrdOperator;
 import io.strimzi.operator.common.operator.resource.StatusUtils;
@@ -55,12 +56,15 @@ import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 
 import java.time.Clock;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.IntStream;
 
 import static io.strimzi.operator.common.VertxUtil.async;
@@ -87,6 +91,9 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
     private final CrdOperator<KubernetesClient, KafkaNodePool, KafkaNodePoolList> nodePoolOperator;
     protected Clock clock;
 
+    // CA states cached between reconciliations to skip the CA renewal checks when nothing changed
+    /* test */ final Map<String, CaReconciler.CachedCaState> caCache = new ConcurrentHashMap<>();
+
     /**
      * @param vertx The Vertx instance
      * @param pfa Platform features availability properties
@@ -172,18 +179,24 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
             }
         }
 
+        // Measures the duration of the individual reconciliation phases
+        ReconciliationStepMetrics steps = new ReconciliationStepMetrics(metrics().metricsProvider(), reconcileState.reconciliation);
+
         reconcileState.initialStatus()
                 // Preparation steps => prepare cluster descriptions, handle CA creation or changes
-                .compose(state -> state.reconcileCas(clock))
-                .compose(state -> state.versionChange())
+                .compose(state -> steps.timed("cas", () -> state.reconcileCas(clock)))
+                .compose(state -> steps.timed("versionChange", state::versionChange))
 
                 // Run reconciliations of the different components
-                .compose(state -> featureGates.useKRaftEnabled() ? Future.succeededFuture(state) : state.reconcileZooKeeper(clock))
-                .compose(state -> state.reconcileKafka(clock))
-                .compose(state -> state.reconcileEntityOperator(clock))
-                .compose(state -> state.reconcileCruiseControl(clock))
-                .compose(state -> state.reconcileKafkaExporter(clock))
-                .compose(state -> state.reconcileJmxTrans())
+                .compose(state -> featureGates.useKRaftEnabled() ? Future.succeededFuture(state) : steps.timed("zookeeper", () -> state.reconcileZooKeeper(clock)))
+                .compose(state -> steps.timed("kafka", () -> state.reconcileKafka(clock)))
+                // The remaining components do not depend on each other and are reconciled in parallel
+                .compose(state -> state.reconcileComponents(
+                        new Component("Entity Operator", () -> steps.timed("entityOperator", () -> state.reconcileEntityOperator(clock))),
+                        new Component("Cruise Control", () -> steps.timed("cruiseControl", () -> state.reconcileCruiseControl(clock))),
+                        new Component("Kafka Exporter", () -> steps.timed("kafkaExporter", () -> state.reconcileKafkaExporter(clock))),
+                        new Component("JmxTrans", () -> steps.timed("jmxTrans", state::reconcileJmxTrans))
+                ))
 
                 // Finish the reconciliation
                 .map((Void) null)
@@ -196,6 +209,14 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         return new ReconciliationState(reconciliation, kafkaAssembly);
     }
 
+    /**
+     * Component of the Kafka cluster which is reconciled independently of the other components
+     *
+     * @param name          Name of the component used in the conditions and log messages
+     * @param reconcile     Supplier which starts the reconciliation of the component
+     */
+    record Component(String name, Supplier<Future<ReconciliationState>> reconcile) { }
+
     /**
      * Hold the mutable state during a reconciliation
      */
@@ -369,7 +390,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
          * @return  CaReconciler instance
          */
         CaReconciler caReconciler()   {
-            return new CaReconciler(reconciliation, kafkaAssembly, config, supplier, vertx, certManager, passwordGenerator);
+            return new CaReconciler(reconciliation, kafkaAssembly, config, supplier, vertx, certManager, passwordGenerator, caCache);
         }
 
         /**
@@ -678,6 +699,44 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                     .map(this);
         }
 
+        /**
+         * Reconciles the components which do not depend on each other in parallel. All components are reconciled even
+         * when some of them fail. Each failed component adds a warning condition to the Kafka status. The returned
+         * future fails with the error of the first failed component in the order in which they were passed.
+         *
+         * @param components    Components which should be reconciled
+         *
+         * @return  Future with Reconciliation State
+         */
+        Future<ReconciliationState> reconcileComponents(Component... components)  {
+            List<Future<ReconciliationState>> futures = new ArrayList<>(components.length);
+
+            for (Component component : components)  {
+                futures.add(component.reconcile().get());
+            }
+
+            return Future.join(futures)
+                    .transform(i -> {
+                        Throwable firstFailure = null;
+
+                        for (int j = 0; j < components.length; j++)   {
+                            Future<ReconciliationState> result = futures.get(j);
+
+                            if (result.failed()) {
+                                LOGGER.warnCr(reconciliation, "Reconciliation of {} failed", components[j].name(), result.cause());
+                                kafkaStatus.addCondition(StatusUtils.buildWarningCondition("ComponentReconciliationFailed",
+                                        components[j].name() + " reconciliation failed: " + result.cause().getMessage()));
+
+                                if (firstFailure == null) {
+                                    firstFailure = result.cause();
+                                }
+                            }
+                        }
+
+                        return firstFailure == null ? Future.succeededFuture(this) : Future.failedFuture(firstFailure);
+                    });
+        }
+
         /**
          * Provider method for Entity Operator reconciler. Overriding this method can be used to get mocked reconciler.
          *
@@ -729,6 +788,10 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
      */
     @Override
     protected Future<Boolean> delete(Reconciliation reconciliation) {
+        caCache.remove(CaReconciler.cacheKey(reconciliation.namespace(), reconciliation.name()));
+        supplier.zookeeperLeaderFinder.evict(reconciliation);
+        ReconciliationStepMetrics.removeMetrics(metrics().metricsProvider(), reconciliation);
+
         return ReconcilerUtils.withIgnoreRbacError(reconciliation, clusterRoleBindingOperations.reconcile(reconciliation, KafkaResources.initContainerClusterRoleBindingName(reconciliation.name(), reconciliation.namespace()), null), null)
                 .map(Boolean.FALSE); // Return FALSE since other resources are still deleted by garbage collection
     }
@@ -141,6 +141,19 @@ public interface KafkaConnectApi {
      */
     Future<List<String>> list(Reconciliation reconciliation, String host, int port);
 
+    /**
+     * Make a {@code GET} request to {@code /connectors?expand=status&expand=info}. This gets the status and the
+     * configuration of all connectors with a single request.
+     * @param reconciliation The reconciliation
+     * @param host The host to make the request to.
+     * @param port The port to make the request to.
+     * @return A Future which completes with the result of the request. If the request was successful,
+     * this returns a map with the connector names as keys. The values are maps with the {@code status} key containing
+     * the same data as {@link #status(Reconciliation, String, int, String)} and the {@code info} key containing the
+     * connector name, configuration, tasks and type.
+     */
+    Future<Map<String, Map<String, Object>>> listWithStatusAndInfo(Reconciliation reconciliation, String host, int port);
+
     /**
      * Make a {@code GET} request to {@code /connector-plugins}.
      * @param reconciliation The reconciliation
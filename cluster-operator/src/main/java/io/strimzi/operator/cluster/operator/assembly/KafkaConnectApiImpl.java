@@ -23,11 +23,12 @@ import java.util.stream.Collectors;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.strimzi.api.kafka.model.connect.ConnectorPlugin;
-import io.strimzi.operator.cluster.operator.resource.HttpClientUtils;
+import io.strimzi.operator.cluster.operator.resource.HttpClientPool;
 import io.strimzi.operator.common.BackOff;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.VertxUtil;
 import io.strimzi.operator.common.model.OrderedProperties;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
@@ -48,11 +49,26 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     public static final TypeReference<Map<String, String>> MAP_OF_STRINGS = new TypeReference<>() { };
     public static final TypeReference<Map<String, Map<String, String>>> MAP_OF_MAP_OF_STRINGS = new TypeReference<>() { };
     public static final TypeReference<Map<String, Map<String, List<String>>>> MAP_OF_MAP_OF_LIST_OF_STRING = new TypeReference<>() { };
+    public static final TypeReference<Map<String, Map<String, Object>>> MAP_OF_TREES = new TypeReference<>() { };
+    /**
+     * Maximal number of logger updates sent to the Connect REST API at the same time
+     */
+    /* test */ static final int MAX_CONCURRENT_LOGGER_UPDATES = 5;
+    private static final HttpClientOptions HTTP_CLIENT_OPTIONS = new HttpClientOptions().setLogActivity(true);
     private final ObjectMapper mapper = new ObjectMapper();
     private final Vertx vertx;
+    private final HttpClientPool httpClientPool;
 
-    public KafkaConnectApiImpl(Vertx vertx) {
+    /**
+     * Constructs the Kafka Connect REST API client which uses the shared HTTP client pool. The connections to the
+     * Connect REST API are reused by the API clients sharing the pool.
+     *
+     * @param vertx             Vert.x instance
+     * @param httpClientPool    HTTP client pool
+     */
+    public KafkaConnectApiImpl(Vertx vertx, HttpClientPool httpClientPool) {
         this.vertx = vertx;
+        this.httpClientPool = httpClientPool;
     }
 
     @Override
@@ -64,7 +80,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
         Buffer data = configJson.toBuffer();
         String path = "/connectors/" + connectorName + "/config";
         LOGGER.debugCr(reconciliation, "Making PUT request to {} with body {}", path, configJson);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return httpClientPool.withHttpClient(host, port, HTTP_CLIENT_OPTIONS, "PUT /connectors/{name}/config", (httpClient, result) ->
             httpClient.request(HttpMethod.PUT, port, host, path, request -> {
                 if (request.succeeded()) {
                     request.result().setFollowRedirects(true)
@@ -107,14 +123,14 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
             Reconciliation reconciliation,
             String host, int port,
             String connectorName) {
-        return doGet(reconciliation, host, port, String.format("/connectors/%s", connectorName),
+        return doGet(reconciliation, host, port, String.format("/connectors/%s", connectorName), "GET /connectors/{name}",
                 new HashSet<>(asList(200, 201)),
                 TREE_TYPE);
     }
 
-    private <T> Future<T> doGet(Reconciliation reconciliation, String host, int port, String path, Set<Integer> okStatusCodes, TypeReference<T> type) {
+    private <T> Future<T> doGet(Reconciliation reconciliation, String host, int port, String path, String endpoint, Set<Integer> okStatusCodes, TypeReference<T> type) {
         LOGGER.debugCr(reconciliation, "Making GET request to {}", path);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return httpClientPool.withHttpClient(host, port, HTTP_CLIENT_OPTIONS, endpoint, (httpClient, result) ->
             httpClient.request(HttpMethod.GET, port, host, path, request -> {
                 if (request.succeeded()) {
                     request.result().setFollowRedirects(true)
@@ -153,7 +169,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
             Reconciliation reconciliation,
             String host, int port,
             String connectorName) {
-        return doGet(reconciliation, host, port, String.format("/connectors/%s/config", connectorName),
+        return doGet(reconciliation, host, port, String.format("/connectors/%s/config", connectorName), "GET /connectors/{name}/config",
                 new HashSet<>(asList(200, 201)),
                 MAP_OF_STRINGS);
     }
@@ -168,7 +184,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     public Future<Void> delete(Reconciliation reconciliation, String host, int port, String connectorName) {
         String path = "/connectors/" + connectorName;
         LOGGER.debugCr(reconciliation, "Making DELETE request to {}", path);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return httpClientPool.withHttpClient(host, port, HTTP_CLIENT_OPTIONS, "DELETE /connectors/{name}", (httpClient, result) ->
             httpClient.request(HttpMethod.DELETE, port, host, path, request -> {
                 if (request.succeeded()) {
                     request.result().setFollowRedirects(true)
@@ -272,22 +288,22 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     @Override
     public Future<Map<String, Object>> status(Reconciliation reconciliation, String host, int port, String connectorName, Set<Integer> okStatusCodes) {
         String path = "/connectors/" + connectorName + "/status";
-        return doGet(reconciliation, host, port, path, okStatusCodes, TREE_TYPE);
+        return doGet(reconciliation, host, port, path, "GET /connectors/{name}/status", okStatusCodes, TREE_TYPE);
     }
 
     @Override
     public Future<Void> pause(Reconciliation reconciliation, String host, int port, String connectorName) {
-        return pauseResume(reconciliation, host, port, "/connectors/" + connectorName + "/pause");
+        return pauseResume(reconciliation, host, port, "/connectors/" + connectorName + "/pause", "PUT /connectors/{name}/pause");
     }
 
     @Override
     public Future<Void> resume(Reconciliation reconciliation, String host, int port, String connectorName) {
-        return pauseResume(reconciliation, host, port, "/connectors/" + connectorName + "/resume");
+        return pauseResume(reconciliation, host, port, "/connectors/" + connectorName + "/resume", "PUT /connectors/{name}/resume");
     }
 
-    private Future<Void> pauseResume(Reconciliation reconciliation, String host, int port, String path) {
+    private Future<Void> pauseResume(Reconciliation reconciliation, String host, int port, String path, String endpoint) {
         LOGGER.debugCr(reconciliation, "Making PUT request to {} ", path);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return httpClientPool.withHttpClient(host, port, HTTP_CLIENT_OPTIONS, endpoint, (httpClient, result) ->
                 httpClient.request(HttpMethod.PUT, port, host, path, request -> {
                     if (request.succeeded()) {
                         request.result().setFollowRedirects(true)
@@ -316,7 +332,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     public Future<List<String>> list(Reconciliation reconciliation, String host, int port) {
         String path = "/connectors";
         LOGGER.debugCr(reconciliation, "Making GET request to {} ", path);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return httpClientPool.withHttpClient(host, port, HTTP_CLIENT_OPTIONS, "GET /connectors", (httpClient, result) ->
                 httpClient.request(HttpMethod.GET, port, host, path, request -> {
 
                     if (request.succeeded()) {
@@ -350,11 +366,18 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
                 }));
     }
 
+    @Override
+    public Future<Map<String, Map<String, Object>>> listWithStatusAndInfo(Reconciliation reconciliation, String host, int port) {
+        return doGet(reconciliation, host, port, "/connectors?expand=status&expand=info", "GET /connectors?expand=status&expand=info",
+                new HashSet<>(asList(200, 201)),
+                MAP_OF_TREES);
+    }
+
     @Override
     public Future<List<ConnectorPlugin>> listConnectorPlugins(Reconciliation reconciliation, String host, int port) {
         String path = "/connector-plugins";
         LOGGER.debugCr(reconciliation, "Making GET request to {}", path);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return httpClientPool.withHttpClient(host, port, HTTP_CLIENT_OPTIONS, "GET /connector-plugins", (httpClient, result) ->
                 httpClient.request(HttpMethod.GET, port, host, path, request -> {
                     if (request.succeeded()) {
                         request.result().setFollowRedirects(true)
@@ -389,7 +412,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
         JsonObject levelJO = new JsonObject();
         levelJO.put("level", level);
         LOGGER.debugCr(reconciliation, "Making PUT request to {} with body {}", path, levelJO);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) -> {
+        return httpClientPool.withHttpClient(host, port, HTTP_CLIENT_OPTIONS, "PUT /admin/loggers/{logger}", (httpClient, result) -> {
             Buffer buffer = levelJO.toBuffer();
             httpClient
                     .request(HttpMethod.PUT, port, host, path, request -> {
@@ -424,7 +447,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     public Future<Map<String, String>> listConnectLoggers(Reconciliation reconciliation, String host, int port) {
         String path = "/admin/loggers/";
         LOGGER.debugCr(reconciliation, "Making GET request to {}", path);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return httpClientPool.withHttpClient(host, port, HTTP_CLIENT_OPTIONS, "GET /admin/loggers", (httpClient, result) ->
                 httpClient.request(HttpMethod.GET, port, host, path, request -> {
                     if (request.succeeded()) {
                         request.result().setFollowRedirects(true)
@@ -491,14 +514,74 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
             return Future.succeededFuture(false);
         } else {
             Future<Void> result = Future.succeededFuture();
-            for (Map.Entry<String, String> logger : updateLoggers.entrySet()) {
-                result = result.compose(previous -> updateConnectorLogger(reconciliation, host, port,
-                        logger.getKey(), logger.getValue()));
+            for (List<Map.Entry<String, String>> wave : loggerUpdateWaves(updateLoggers)) {
+                result = result.compose(previous -> updateConnectorLoggers(reconciliation, host, port, wave));
             }
             return result.map(true);
         }
     }
 
+    /**
+     * Splits the logger updates into waves which are applied one after another. Kafka Connect sets the new level also
+     * to all loggers with names starting with the name of the updated logger. So a logger has to be updated only after
+     * all loggers which are prefixes of its name. The root logger is always in the first wave on its own. The loggers
+     * within one wave are not prefixes of each other and can be updated in parallel.
+     *
+     * @param updateLoggers     Sorted map with the loggers and their levels
+     *
+     * @return  List of the waves with the loggers and their levels
+     */
+    /* test */ static List<List<Map.Entry<String, String>>> loggerUpdateWaves(Map<String, String> updateLoggers) {
+        List<List<Map.Entry<String, String>>> waves = new ArrayList<>();
+        Map<String, Integer> loggerWaves = new HashMap<>(updateLoggers.size());
+
+        for (Map.Entry<String, String> logger : updateLoggers.entrySet()) {
+            int wave;
+
+            if ("root".equals(logger.getKey())) {
+                wave = 0;
+            } else {
+                // The map is sorted, so the prefixes of the logger were already assigned to their waves
+                wave = 1;
+                for (Map.Entry<String, Integer> previous : loggerWaves.entrySet()) {
+                    if (!"root".equals(previous.getKey()) && logger.getKey().startsWith(previous.getKey())) {
+                        wave = Math.max(wave, previous.getValue() + 1);
+                    }
+                }
+            }
+
+            loggerWaves.put(logger.getKey(), wave);
+
+            while (waves.size() <= wave) {
+                waves.add(new ArrayList<>());
+            }
+
+            waves.get(wave).add(logger);
+        }
+
+        waves.removeIf(List::isEmpty);
+
+        return waves;
+    }
+
+    /**
+     * Updates the loggers in parallel. At most {@code MAX_CONCURRENT_LOGGER_UPDATES} requests are in flight at the
+     * same time. A failed update does not stop the updates of the other loggers. The returned Future fails when any of
+     * the updates failed, so that the loggers from the next waves are not updated.
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param host              Host of the Connect REST API
+     * @param port              Port of the Connect REST API
+     * @param loggers           Loggers and their levels
+     *
+     * @return  Future which completes when all loggers are updated
+     */
+    private Future<Void> updateConnectorLoggers(Reconciliation reconciliation, String host, int port, List<Map.Entry<String, String>> loggers) {
+        return VertxUtil.runWithLimit(MAX_CONCURRENT_LOGGER_UPDATES, loggers.stream()
+                .<Supplier<Future<Void>>>map(logger -> () -> updateConnectorLogger(reconciliation, host, port, logger.getKey(), logger.getValue()))
+                .toList());
+    }
+
     /**
      * Gets the level of the given {@code logger} in the given map of {@code desired} levels,
      * or the level inherited from the logger hierarchy.
@@ -558,17 +641,17 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
 
     @Override
     public Future<Map<String, Object>> restart(String host, int port, String connectorName, boolean includeTasks, boolean onlyFailed) {
-        return restartConnectorOrTask(host, port, "/connectors/" + connectorName + "/restart?includeTasks=" + includeTasks + "&onlyFailed=" + onlyFailed);
+        return restartConnectorOrTask(host, port, "/connectors/" + connectorName + "/restart?includeTasks=" + includeTasks + "&onlyFailed=" + onlyFailed, "POST /connectors/{name}/restart");
     }
 
     @Override
     public Future<Void> restartTask(String host, int port, String connectorName, int taskID) {
-        return restartConnectorOrTask(host, port, "/connectors/" + connectorName + "/tasks/" + taskID + "/restart")
+        return restartConnectorOrTask(host, port, "/connectors/" + connectorName + "/tasks/" + taskID + "/restart", "POST /connectors/{name}/tasks/{id}/restart")
             .compose(result -> Future.succeededFuture());
     }
 
-    private Future<Map<String, Object>> restartConnectorOrTask(String host, int port, String path) {
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+    private Future<Map<String, Object>> restartConnectorOrTask(String host, int port, String path, String endpoint) {
+        return httpClientPool.withHttpClient(host, port, HTTP_CLIENT_OPTIONS, endpoint, (httpClient, result) ->
             httpClient.request(HttpMethod.POST, port, host, path, request -> {
                 if (request.succeeded()) {
                     request.result().setFollowRedirects(true)
@@ -606,7 +689,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     public Future<List<String>> getConnectorTopics(Reconciliation reconciliation, String host, int port, String connectorName) {
         String path = String.format("/connectors/%s/topics", connectorName);
         LOGGER.debugCr(reconciliation, "Making GET request to {}", path);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return httpClientPool.withHttpClient(host, port, HTTP_CLIENT_OPTIONS, "GET /connectors/{name}/topics", (httpClient, result) ->
             httpClient.request(HttpMethod.GET, port, host, path, request -> {
                 if (request.succeeded()) {
                     request.result().setFollowRedirects(true)
@@ -13,26 +13,36 @@ import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.operator.resource.PodOperator;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Deque;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
 
 /**
  * This class contains the methods for rolling Kafka Connect and Kafka Mirror Maker 2 clusters based on StrimziPodSets.
+ * The pods are rolled in batches. The size of the batches is given by the maxUnavailable option of the
+ * PodDisruptionBudget template and defaults to a single pod. When the Connect REST API client is provided, the next
+ * batch is rolled only after the Connect cluster rebalanced and reassigned all connectors and tasks.
  */
 public class KafkaConnectRoller {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaConnectRoller.class.getName());
+    private static final String UNASSIGNED = "UNASSIGNED";
 
     private final Reconciliation reconciliation;
     private final long operationTimeoutMs;
     private final KafkaConnectCluster connect;
 
     private final PodOperator podOperator;
+    private final Vertx vertx;
+    private final KafkaConnectApi connectApi;
 
     /**
-     * Constructs the Manual Pod Cleaner.
+     * Constructs the Kafka Connect Roller which does not wait for the Connect cluster to rebalance between the batches.
      *
      * @param reconciliation        Reconciliation marker
      * @param connect               Kafka Connect Cluster model
@@ -44,11 +54,35 @@ public class KafkaConnectRoller {
             KafkaConnectCluster connect,
             long operationTimeoutMs,
             PodOperator podOperator
+    ) {
+        this(reconciliation, connect, operationTimeoutMs, podOperator, null, null);
+    }
+
+    /**
+     * Constructs the Kafka Connect Roller.
+     *
+     * @param reconciliation        Reconciliation marker
+     * @param connect               Kafka Connect Cluster model
+     * @param operationTimeoutMs    Operations timeout in milliseconds
+     * @param podOperator           Resource Operator for managing Pods
+     * @param vertx                 Vert.x instance used to schedule the rebalance checks
+     * @param connectApi            Kafka Connect REST API client used to check that the connectors and tasks were
+     *                              reassigned before rolling the next batch. Null to not wait for the rebalance.
+     */
+    public KafkaConnectRoller(
+            Reconciliation reconciliation,
+            KafkaConnectCluster connect,
+            long operationTimeoutMs,
+            PodOperator podOperator,
+            Vertx vertx,
+            KafkaConnectApi connectApi
     ) {
         this.reconciliation = reconciliation;
         this.connect = connect;
         this.operationTimeoutMs = operationTimeoutMs;
         this.podOperator = podOperator;
+        this.vertx = vertx;
+        this.connectApi = connectApi;
     }
 
     /**
@@ -88,8 +122,9 @@ public class KafkaConnectRoller {
     }
 
     /**
-     * Goes through the pods in given order and considers them for rolling. It checks if the first pod in the queue
-     * needs rolling and checks its readiness. And then calls itself to move to the next pod.
+     * Goes through the pods in given order and considers them for rolling. It takes the next batch of pods from the
+     * queue, checks if they need rolling and checks their readiness. When some pods of the batch were rolled and more
+     * pods remain, it waits for the Connect cluster to rebalance. And then calls itself to move to the next batch.
      *
      * @param podSet        The current StrimziPodSet resource which the Pods are compared against when checking if they
      *                      are up-to-date
@@ -99,11 +134,25 @@ public class KafkaConnectRoller {
      */
     private Future<Void> maybeRollPods(StrimziPodSet podSet,
                                        Queue<String> rollingOrder)  {
-        String podName = rollingOrder.poll();
+        List<String> batch = new ArrayList<>();
+
+        while (batch.size() < connect.getMaxUnavailablePods() && !rollingOrder.isEmpty())   {
+            batch.add(rollingOrder.poll());
+        }
+
+        if (!batch.isEmpty())    {
+            // The queue is not empty. We consider rolling of the pods in this batch and call this method again to
+            // handle the next batch
+            List<Future<Boolean>> rolls = batch.stream().map(podName -> maybeRollPod(podSet, podName)).toList();
 
-        if (podName != null)    {
-            // The queue is not empty. We consider rolling of this pod and call this method again to handle the next pod
-            return maybeRollPod(podSet, podName)
+            return Future.join(rolls)
+                    .compose(i -> {
+                        if (!rollingOrder.isEmpty() && rolls.stream().anyMatch(Future::result)) {
+                            return waitForRebalance();
+                        } else {
+                            return Future.succeededFuture();
+                        }
+                    })
                     .compose(i -> maybeRollPods(podSet, rollingOrder));
         } else {
             // Queue is empty => we return completely
@@ -111,6 +160,82 @@ public class KafkaConnectRoller {
         }
     }
 
+    /**
+     * Waits until the Connect cluster reassigns all connectors and tasks after some pods were rolled. It polls the
+     * statuses of the connectors from the Connect REST API until none of the connectors and tasks is unassigned. When
+     * the Connect cluster does not rebalance in the operation timeout or when the statuses cannot be read, the rolling
+     * update continues anyway to not block it because of an unrelated connector issue.
+     *
+     * @return  Future which completes when the Connect cluster rebalanced or when the waiting timed out
+     */
+    /* test */ Future<Void> waitForRebalance()  {
+        if (connectApi == null) {
+            return Future.succeededFuture();
+        }
+
+        LOGGER.debugCr(reconciliation, "Waiting for the connectors and tasks to be reassigned");
+
+        Promise<Void> rebalanced = Promise.promise();
+        checkRebalance(rebalanced, System.currentTimeMillis() + operationTimeoutMs);
+        return rebalanced.future();
+    }
+
+    /**
+     * Checks once whether the Connect cluster rebalanced and schedules the next check if it did not
+     *
+     * @param rebalanced    Promise which is completed when the Connect cluster rebalanced or the waiting timed out
+     * @param deadline      Time in milliseconds when the waiting times out
+     */
+    private void checkRebalance(Promise<Void> rebalanced, long deadline)  {
+        connectApi.listWithStatusAndInfo(reconciliation, connect.getServiceName() + "." + reconciliation.namespace() + ".svc", KafkaConnectCluster.REST_API_PORT)
+                .onComplete(res -> {
+                    if (res.failed()) {
+                        // The rolled pods are ready already, so the REST API should be reachable. When it is not, we
+                        // cannot check the rebalance and continue with the rolling update.
+                        LOGGER.warnCr(reconciliation, "Failed to check whether the connectors and tasks were reassigned, the rolling update continues", res.cause());
+                        rebalanced.complete();
+                    } else if (allAssigned(res.result())) {
+                        LOGGER.debugCr(reconciliation, "All connectors and tasks are assigned");
+                        rebalanced.complete();
+                    } else if (System.currentTimeMillis() >= deadline) {
+                        LOGGER.warnCr(reconciliation, "Connectors and tasks were not reassigned within {}ms, the rolling update continues", operationTimeoutMs);
+                        rebalanced.complete();
+                    } else {
+                        vertx.setTimer(1_000, t -> checkRebalance(rebalanced, deadline));
+                    }
+                });
+    }
+
+    /**
+     * Checks whether all connectors and their tasks are assigned to some Connect worker
+     *
+     * @param connectors    Map with the connectors and their status and info from the Connect REST API
+     *
+     * @return  True if none of the connectors and tasks is unassigned. False otherwise.
+     */
+    @SuppressWarnings("unchecked")
+    /* test */ static boolean allAssigned(Map<String, Map<String, Object>> connectors) {
+        for (Map<String, Object> connector : connectors.values()) {
+            Map<String, Object> status = (Map<String, Object>) connector.get("status");
+
+            if (status == null) {
+                continue;
+            }
+
+            Map<String, Object> connectorStatus = (Map<String, Object>) status.get("connector");
+            if (connectorStatus != null && UNASSIGNED.equals(connectorStatus.get("state"))) {
+                return false;
+            }
+
+            List<Map<String, Object>> tasks = (List<Map<String, Object>>) status.get("tasks");
+            if (tasks != null && tasks.stream().anyMatch(task -> UNASSIGNED.equals(task.get("state")))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
     /**
      * Checks given pod if it needs rolling and rolls it if needed. It checks the pod readiness afterwards and waits
      * for it if needed. The Pod is rolled when its revision doesn't match the desired revision from the StrimziPodSet.
@@ -119,28 +244,29 @@ public class KafkaConnectRoller {
      *                  are up-to-date
      * @param podName   Name of the pod which should be considered
      *
-     * @return  Future which completes when the pod is maybe rolled and ready
+     * @return  Future which completes when the pod is maybe rolled and ready. It completes with true if the pod was
+     *          rolled and with false otherwise.
      */
-    /* test */ Future<Void> maybeRollPod(StrimziPodSet podSet,
+    /* test */ Future<Boolean> maybeRollPod(StrimziPodSet podSet,
                                       String podName) {
         return podOperator.getAsync(reconciliation.namespace(), podName)
                 .compose(pod -> {
                     if (pod == null)    {
                         LOGGER.debugCr(reconciliation, "Pod {} does not exist => waiting for its creation", podName);
-                        return Future.succeededFuture();
+                        return Future.succeededFuture(false);
                     } else if (PodRevision.hasChanged(pod, podSet)) {
                         // Pods changed and needs rolling
                         LOGGER.infoCr(reconciliation, "Rolling pod {} (Pod revision changed)", podName);
-                        return podOperator.deleteAsync(reconciliation, reconciliation.namespace(), podName, false);
+                        return podOperator.deleteAsync(reconciliation, reconciliation.namespace(), podName, false).map(true);
                     } else {
                         // Pod exists and does not need to be rolled
                         LOGGER.debugCr(reconciliation, "Pod {} does not need to be rolled", podName);
-                        return Future.succeededFuture();
+                        return Future.succeededFuture(false);
                     }
                 })
-                .compose(i -> {
+                .compose(rolled -> {
                     LOGGER.debugCr(reconciliation, "Waiting for pod {} to become ready", podName);
-                    return podOperator.readiness(reconciliation, reconciliation.namespace(), podName, 1_000, operationTimeoutMs);
+                    return podOperator.readiness(reconciliation, reconciliation.namespace(), podName, 1_000, operationTimeoutMs).map(rolled);
                 });
     }
 }
\ No newline at end of file
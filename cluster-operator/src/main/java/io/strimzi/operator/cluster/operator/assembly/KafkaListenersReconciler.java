@@ -36,6 +36,7 @@ import io.vertx.core.Future;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -122,10 +123,7 @@ public class KafkaListenersReconciler {
                 .compose(i -> routes())
                 .compose(i -> ingresses())
                 .compose(i -> internalServicesReady())
-                .compose(i -> loadBalancerServicesReady())
-                .compose(i -> nodePortServicesReady())
-                .compose(i -> routesReady())
-                .compose(i -> ingressesReady())
+                .compose(i -> externalAddressesReady())
                 .compose(i -> clusterIPServicesReady())
                 .compose(i -> customListenerCertificates())
                 // This method should be called only after customListenerCertificates
@@ -347,6 +345,34 @@ public class KafkaListenersReconciler {
         return Future.succeededFuture();
     }
 
+    /**
+     * Waits for the addresses of all external listeners to be assigned. The Load Balancer services, Node Port
+     * services, Routes and Ingresses of all listeners and all brokers are waited for at the same time and this method
+     * completes once all of them are ready (or once any of them fails after all the others completed). The statuses of
+     * the external listeners are ordered by the listener type and the order in the Kafka custom resource, so that they
+     * do not depend on which address was assigned first.
+     *
+     * @return  Future which completes when the addresses of all external listeners are collected
+     */
+    protected Future<Void> externalAddressesReady() {
+        int firstExternalStatus = result.listenerStatuses.size();
+
+        return Future.join(loadBalancerServicesReady(), nodePortServicesReady(), routesReady(), ingressesReady())
+                .map(i -> {
+                    List<String> externalListenerNames = new ArrayList<>();
+                    ListenersUtils.loadBalancerListeners(kafka.getListeners()).forEach(listener -> externalListenerNames.add(listener.getName()));
+                    ListenersUtils.nodePortListeners(kafka.getListeners()).forEach(listener -> externalListenerNames.add(listener.getName()));
+                    ListenersUtils.routeListeners(kafka.getListeners()).forEach(listener -> externalListenerNames.add(listener.getName()));
+                    ListenersUtils.ingressListeners(kafka.getListeners()).forEach(listener -> externalListenerNames.add(listener.getName()));
+
+                    result.listenerStatuses
+                            .subList(firstExternalStatus, result.listenerStatuses.size())
+                            .sort(Comparator.comparingInt(status -> externalListenerNames.indexOf(status.getName())));
+
+                    return null;
+                });
+    }
+
     /**
      * Makes sure all services related to load balancers are ready and collects their addresses for Statuses,
      * certificates and advertised addresses. This method for all Load Balancer type listeners:
@@ -366,39 +392,39 @@ public class KafkaListenersReconciler {
 
             List<String> bootstrapListenerAddressList = new ArrayList<>();
 
-            Future<Void> perListenerFut = Future.succeededFuture().compose(i -> {
-                if (ListenersUtils.skipCreateBootstrapService(listener)) {
-                    return Future.succeededFuture();
-                } else {
-                    return serviceOperator.hasIngressAddress(reconciliation, reconciliation.namespace(), bootstrapServiceName, 1_000, operationTimeoutMs)
-                            .compose(res -> serviceOperator.getAsync(reconciliation.namespace(), bootstrapServiceName))
-                            .compose(svc -> {
-                                String bootstrapAddress;
+            Future<Void> bootstrapFut;
+            if (ListenersUtils.skipCreateBootstrapService(listener)) {
+                bootstrapFut = Future.succeededFuture();
+            } else {
+                bootstrapFut = serviceOperator.hasIngressAddress(reconciliation, reconciliation.namespace(), bootstrapServiceName, 1_000, operationTimeoutMs)
+                        .compose(res -> serviceOperator.getAsync(reconciliation.namespace(), bootstrapServiceName))
+                        .compose(svc -> {
+                            String bootstrapAddress;
 
-                                if (svc.getStatus().getLoadBalancer().getIngress().get(0).getHostname() != null) {
-                                    bootstrapAddress = svc.getStatus().getLoadBalancer().getIngress().get(0).getHostname();
-                                } else {
-                                    bootstrapAddress = svc.getStatus().getLoadBalancer().getIngress().get(0).getIp();
-                                }
+                            if (svc.getStatus().getLoadBalancer().getIngress().get(0).getHostname() != null) {
+                                bootstrapAddress = svc.getStatus().getLoadBalancer().getIngress().get(0).getHostname();
+                            } else {
+                                bootstrapAddress = svc.getStatus().getLoadBalancer().getIngress().get(0).getIp();
+                            }
 
-                                LOGGER.debugCr(reconciliation, "Found address {} for Service {}", bootstrapAddress, bootstrapServiceName);
+                            LOGGER.debugCr(reconciliation, "Found address {} for Service {}", bootstrapAddress, bootstrapServiceName);
 
-                                result.bootstrapDnsNames.add(bootstrapAddress);
-                                bootstrapListenerAddressList.add(bootstrapAddress);
-                                return Future.succeededFuture();
-                            });
-                }
-            }).compose(res -> {
-                List<Future<Void>> perPodFutures = new ArrayList<>();
+                            result.bootstrapDnsNames.add(bootstrapAddress);
+                            bootstrapListenerAddressList.add(bootstrapAddress);
+                            return Future.succeededFuture();
+                        });
+            }
 
-                for (NodeRef node : kafka.nodes()) {
-                    perPodFutures.add(
-                            serviceOperator.hasIngressAddress(reconciliation, reconciliation.namespace(), ListenersUtils.backwardsCompatiblePerBrokerServiceName(ReconcilerUtils.getControllerNameFromPodName(node.podName()), node.nodeId(), listener), 1_000, operationTimeoutMs)
-                    );
-                }
+            // The broker services are waited for at the same time as the bootstrap service
+            List<Future<Void>> perPodReadyFutures = new ArrayList<>();
 
-                return Future.join(perPodFutures);
-            }).compose(res -> {
+            for (NodeRef node : kafka.nodes()) {
+                perPodReadyFutures.add(
+                        serviceOperator.hasIngressAddress(reconciliation, reconciliation.namespace(), ListenersUtils.backwardsCompatiblePerBrokerServiceName(ReconcilerUtils.getControllerNameFromPodName(node.podName()), node.nodeId(), listener), 1_000, operationTimeoutMs)
+                );
+            }
+
+            Future<Void> perListenerFut = Future.join(bootstrapFut, Future.join(perPodReadyFutures)).compose(res -> {
                 List<Future<Void>> perPodFutures = new ArrayList<>();
 
                 for (NodeRef node : kafka.nodes()) {
@@ -472,8 +498,7 @@ public class KafkaListenersReconciler {
         for (GenericKafkaListener listener : loadBalancerListeners) {
             String bootstrapServiceName = ListenersUtils.backwardsCompatibleBootstrapServiceName(reconciliation.name(), listener);
 
-            @SuppressWarnings({ "rawtypes" }) // Has to use Raw type because of the CompositeFuture
-            Future perListenerFut = serviceOperator.hasNodePort(reconciliation, reconciliation.namespace(), bootstrapServiceName, 1_000, operationTimeoutMs)
+            Future<Void> bootstrapFut = serviceOperator.hasNodePort(reconciliation, reconciliation.namespace(), bootstrapServiceName, 1_000, operationTimeoutMs)
                     .compose(res -> serviceOperator.getAsync(reconciliation.namespace(), bootstrapServiceName))
                     .compose(svc -> {
                         Integer externalBootstrapNodePort = svc.getSpec().getPorts().get(0).getNodePort();
@@ -481,18 +506,19 @@ public class KafkaListenersReconciler {
                         result.bootstrapNodePorts.put(ListenersUtils.identifier(listener), externalBootstrapNodePort);
 
                         return Future.succeededFuture();
-                    })
-                    .compose(res -> {
-                        List<Future<Void>> perPodFutures = new ArrayList<>();
+                    });
 
-                        for (NodeRef node : kafka.nodes()) {
-                            perPodFutures.add(
-                                    serviceOperator.hasNodePort(reconciliation, reconciliation.namespace(), ListenersUtils.backwardsCompatiblePerBrokerServiceName(ReconcilerUtils.getControllerNameFromPodName(node.podName()), node.nodeId(), listener), 1_000, operationTimeoutMs)
-                            );
-                        }
+            // The broker services are waited for at the same time as the bootstrap service
+            List<Future<Void>> perPodReadyFutures = new ArrayList<>();
 
-                        return Future.join(perPodFutures);
-                    })
+            for (NodeRef node : kafka.nodes()) {
+                perPodReadyFutures.add(
+                        serviceOperator.hasNodePort(reconciliation, reconciliation.namespace(), ListenersUtils.backwardsCompatiblePerBrokerServiceName(ReconcilerUtils.getControllerNameFromPodName(node.podName()), node.nodeId(), listener), 1_000, operationTimeoutMs)
+                );
+            }
+
+            @SuppressWarnings({ "rawtypes" }) // Has to use Raw type because of the CompositeFuture
+            Future perListenerFut = Future.join(bootstrapFut, Future.join(perPodReadyFutures))
                     .compose(res -> {
                         List<Future<Void>> perPodFutures = new ArrayList<>();
 
@@ -553,8 +579,7 @@ public class KafkaListenersReconciler {
         for (GenericKafkaListener listener : routeListeners) {
             String bootstrapRouteName = ListenersUtils.backwardsCompatibleBootstrapRouteOrIngressName(reconciliation.name(), listener);
 
-            @SuppressWarnings({ "rawtypes" }) // Has to use Raw type because of the CompositeFuture
-            Future perListenerFut = routeOperator.hasAddress(reconciliation, reconciliation.namespace(), bootstrapRouteName, 1_000, operationTimeoutMs)
+            Future<Void> bootstrapFut = routeOperator.hasAddress(reconciliation, reconciliation.namespace(), bootstrapRouteName, 1_000, operationTimeoutMs)
                     .compose(res -> routeOperator.getAsync(reconciliation.namespace(), bootstrapRouteName))
                     .compose(route -> {
                         String bootstrapAddress = route.getStatus().getIngress().get(0).getHost();
@@ -572,18 +597,19 @@ public class KafkaListenersReconciler {
                         result.listenerStatuses.add(ls);
 
                         return Future.succeededFuture();
-                    })
-                    .compose(res -> {
-                        List<Future<Void>> perPodFutures = new ArrayList<>();
+                    });
 
-                        for (NodeRef node : kafka.nodes()) {
-                            perPodFutures.add(
-                                    routeOperator.hasAddress(reconciliation, reconciliation.namespace(), ListenersUtils.backwardsCompatiblePerBrokerServiceName(ReconcilerUtils.getControllerNameFromPodName(node.podName()), node.nodeId(), listener), 1_000, operationTimeoutMs)
-                            );
-                        }
+            // The broker routes are waited for at the same time as the bootstrap route
+            List<Future<Void>> perPodReadyFutures = new ArrayList<>();
 
-                        return Future.join(perPodFutures);
-                    })
+            for (NodeRef node : kafka.nodes()) {
+                perPodReadyFutures.add(
+                        routeOperator.hasAddress(reconciliation, reconciliation.namespace(), ListenersUtils.backwardsCompatiblePerBrokerServiceName(ReconcilerUtils.getControllerNameFromPodName(node.podName()), node.nodeId(), listener), 1_000, operationTimeoutMs)
+                );
+            }
+
+            @SuppressWarnings({ "rawtypes" }) // Has to use Raw type because of the CompositeFuture
+            Future perListenerFut = Future.join(bootstrapFut, Future.join(perPodReadyFutures))
                     .compose(res -> {
                         List<Future<Void>> perPodFutures = new ArrayList<>();
 
@@ -639,7 +665,7 @@ public class KafkaListenersReconciler {
         for (GenericKafkaListener listener : ingressListeners) {
             String bootstrapIngressName = ListenersUtils.backwardsCompatibleBootstrapRouteOrIngressName(reconciliation.name(), listener);
 
-            Future<Void> perListenerFut = ingressOperator.hasIngressAddress(reconciliation, reconciliation.namespace(), bootstrapIngressName, 1_000, operationTimeoutMs)
+            Future<Void> bootstrapFut = ingressOperator.hasIngressAddress(reconciliation, reconciliation.namespace(), bootstrapIngressName, 1_000, operationTimeoutMs)
                     .compose(res -> {
                         String bootstrapAddress = listener.getConfiguration().getBootstrap().getHost();
                         LOGGER.debugCr(reconciliation, "Using address {} for Ingress {}", bootstrapAddress, bootstrapIngressName);
@@ -655,17 +681,19 @@ public class KafkaListenersReconciler {
                                 .build();
                         result.listenerStatuses.add(ls);
 
-                        // Check if broker ingresses are ready
-                        List<Future<Void>> perPodFutures = new ArrayList<>();
+                        return Future.succeededFuture();
+                    });
 
-                        for (NodeRef node : kafka.nodes()) {
-                            perPodFutures.add(
-                                    ingressOperator.hasIngressAddress(reconciliation, reconciliation.namespace(), ListenersUtils.backwardsCompatiblePerBrokerServiceName(ReconcilerUtils.getControllerNameFromPodName(node.podName()), node.nodeId(), listener), 1_000, operationTimeoutMs)
-                            );
-                        }
+            // The broker ingresses are waited for at the same time as the bootstrap ingress
+            List<Future<Void>> perPodReadyFutures = new ArrayList<>();
 
-                        return Future.join(perPodFutures);
-                    })
+            for (NodeRef node : kafka.nodes()) {
+                perPodReadyFutures.add(
+                        ingressOperator.hasIngressAddress(reconciliation, reconciliation.namespace(), ListenersUtils.backwardsCompatiblePerBrokerServiceName(ReconcilerUtils.getControllerNameFromPodName(node.podName()), node.nodeId(), listener), 1_000, operationTimeoutMs)
+                );
+            }
+
+            Future<Void> perListenerFut = Future.join(bootstrapFut, Future.join(perPodReadyFutures))
                     .compose(res -> {
                         for (NodeRef node : kafka.nodes()) {
                             //final int finalBrokerId = brokerId;
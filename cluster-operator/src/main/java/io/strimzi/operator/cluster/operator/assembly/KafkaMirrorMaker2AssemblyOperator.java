@@ -60,11 +60,15 @@ import org.apache.kafka.common.config.SslConfigs;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.regex.Matcher;
@@ -126,7 +130,7 @@ public class KafkaMirrorMaker2AssemblyOperator extends AbstractConnectOperator<K
     public KafkaMirrorMaker2AssemblyOperator(Vertx vertx, PlatformFeaturesAvailability pfa,
                                         ResourceOperatorSupplier supplier,
                                         ClusterOperatorConfig config) {
-        this(vertx, pfa, supplier, config, connect -> new KafkaConnectApiImpl(vertx));
+        this(vertx, pfa, supplier, config, pooledConnectClientProvider(vertx, KafkaMirrorMaker2.RESOURCE_KIND, supplier, config));
     }
 
     /**
@@ -281,7 +285,7 @@ public class KafkaMirrorMaker2AssemblyOperator extends AbstractConnectOperator<K
                                          Map<String, String> podAnnotations)  {
         return podSetOperations.reconcile(reconciliation, reconciliation.namespace(), connect.getComponentName(), connect.generatePodSet(connect.getReplicas(), null, podAnnotations, pfa.isOpenshift(), imagePullPolicy, imagePullSecrets, null))
                 .compose(reconciliationResult -> {
-                    KafkaConnectRoller roller = new KafkaConnectRoller(reconciliation, connect, operationTimeoutMs, podOperations);
+                    KafkaConnectRoller roller = new KafkaConnectRoller(reconciliation, connect, operationTimeoutMs, podOperations, vertx, getKafkaConnectApi());
                     return roller.maybeRoll(reconciliationResult.resource());
                 })
                 .compose(i -> podSetOperations.readiness(reconciliation, reconciliation.namespace(), connect.getComponentName(), 1_000, operationTimeoutMs));
@@ -323,46 +327,108 @@ public class KafkaMirrorMaker2AssemblyOperator extends AbstractConnectOperator<K
     }
 
     /**
-     * Reconcile all the MirrorMaker 2 connectors selected by the given MirrorMaker 2 instance.
+     * Reconcile all the MirrorMaker 2 connectors selected by the given MirrorMaker 2 instance. The connectors of all
+     * mirrors are reconciled in a single pass:
+     *   - The running connectors together with their status and configuration are listed only once.
+     *   - The desired connectors are computed for all mirrors.
+     *   - The connectors are reconciled concurrently within the connector reconciliation limit of the MirrorMaker 2
+     *     cluster. Only the connectors with a changed configuration are updated.
+     *   - The connector statuses are collected in the MirrorMaker 2 status, which is written only once at the end of
+     *     the reconciliation. Invalid mirrors and failed connectors fail the reconciliation instead of writing the
+     *     status for each of them.
+     *
      * @param reconciliation The reconciliation
      * @param kafkaMirrorMaker2 The MirrorMaker 2
+     * @param mirrorMaker2Cluster The MirrorMaker 2 cluster model
+     * @param mirrorMaker2Status The MirrorMaker 2 status to which the connector statuses are added
+     * @param desiredLogging The desired logging configuration
      * @return A future, failed if any of the connectors could not be reconciled.
      */
     protected Future<Void> reconcileConnectors(Reconciliation reconciliation, KafkaMirrorMaker2 kafkaMirrorMaker2, KafkaMirrorMaker2Cluster mirrorMaker2Cluster, KafkaMirrorMaker2Status mirrorMaker2Status, String desiredLogging) {
         String mirrorMaker2Name = kafkaMirrorMaker2.getMetadata().getName();
         if (kafkaMirrorMaker2.getSpec() == null) {
-            return maybeUpdateMirrorMaker2Status(reconciliation, kafkaMirrorMaker2,
-                    new InvalidResourceException("spec property is required"));
+            return Future.failedFuture(new InvalidResourceException("spec property is required"));
+        }
+
+        Map<String, KafkaConnectorSpec> desiredConnectors = new LinkedHashMap<>();
+        List<Throwable> errors = new ArrayList<>();
+
+        for (KafkaMirrorMaker2MirrorSpec mirror : ModelUtils.asListOrEmptyList(kafkaMirrorMaker2.getSpec().getMirrors())) {
+            try {
+                desiredConnectors.putAll(desiredMirrorMaker2Connectors(reconciliation, kafkaMirrorMaker2, mirror, mirrorMaker2Cluster));
+            } catch (InvalidResourceException e) {
+                LOGGER.warnCr(reconciliation, "Invalid mirror in MirrorMaker 2 {}", mirrorMaker2Name, e);
+                errors.add(e);
+            }
         }
-        List<KafkaMirrorMaker2MirrorSpec> mirrors = ModelUtils.asListOrEmptyList(kafkaMirrorMaker2.getSpec().getMirrors());
+
         String host = KafkaMirrorMaker2Resources.qualifiedServiceName(mirrorMaker2Name, reconciliation.namespace());
         KafkaConnectApi apiClient = getKafkaConnectApi();
-        return apiClient.list(reconciliation, host, KafkaConnectCluster.REST_API_PORT).compose(deleteMirrorMaker2ConnectorNames -> {
 
-            for (Map.Entry<String, Function<KafkaMirrorMaker2MirrorSpec, KafkaMirrorMaker2ConnectorSpec>> connectorEntry : MIRRORMAKER2_CONNECTORS.entrySet()) {
-                deleteMirrorMaker2ConnectorNames.removeAll(mirrors.stream()
-                        .filter(mirror -> connectorEntry.getValue().apply(mirror) != null) // filter out non-existent connectors
-                        .map(mirror -> mirror.getSourceCluster() + "->" + mirror.getTargetCluster() + connectorEntry.getKey())
-                        .collect(Collectors.toSet()));
-            }
+        return Future.join(
+                apiClient.listWithStatusAndInfo(reconciliation, host, KafkaConnectCluster.REST_API_PORT),
+                apiClient.updateConnectLoggers(reconciliation, host, KafkaConnectCluster.REST_API_PORT, desiredLogging, mirrorMaker2Cluster.defaultLogConfig())
+        ).compose(cf -> {
+            // Snapshot of the status and configuration of the running connectors shared by all connectors. The
+            // connector reconciliations which waited in the queue share a second snapshot instead.
+            Map<String, Map<String, Object>> runningConnectors = cf.resultAt(0);
+            ConnectorSnapshots snapshots = new ConnectorSnapshots(runningConnectors, () -> apiClient.listWithStatusAndInfo(reconciliation, host, KafkaConnectCluster.REST_API_PORT));
+
+            Set<String> deleteMirrorMaker2ConnectorNames = new HashSet<>(runningConnectors.keySet());
+            deleteMirrorMaker2ConnectorNames.removeAll(desiredConnectors.keySet());
             LOGGER.debugCr(reconciliation, "delete MirrorMaker 2 connectors: {}", deleteMirrorMaker2ConnectorNames);
             Stream<Future<Void>> deletionFutures = deleteMirrorMaker2ConnectorNames.stream()
-                    .map(connectorName -> apiClient.delete(reconciliation, host, KafkaConnectCluster.REST_API_PORT, connectorName));
-            Stream<Future<Void>> createUpdateFutures = mirrors.stream()
-                    .map(mirror -> reconcileMirrorMaker2Connectors(reconciliation, host, apiClient, kafkaMirrorMaker2, mirror, mirrorMaker2Cluster, mirrorMaker2Status, desiredLogging));
-            return Future.join(Stream.concat(deletionFutures, createUpdateFutures).collect(Collectors.toList())).map((Void) null);
+                    .map(connectorName -> connectorExecutor.execute(host, ConnectorReconciliationExecutor.Trigger.CHANGE,
+                            waited -> {
+                                autoRestartScheduler.clear(reconciliation.namespace(), host, connectorName);
+                                return apiClient.delete(reconciliation, host, KafkaConnectCluster.REST_API_PORT, connectorName);
+                            }));
+
+            Stream<Future<Void>> createUpdateFutures = desiredConnectors.entrySet().stream()
+                    .map(connector -> connectorExecutor.execute(host,
+                            runningConnectors.containsKey(connector.getKey()) ? ConnectorReconciliationExecutor.Trigger.PERIODIC : ConnectorReconciliationExecutor.Trigger.CHANGE,
+                            waited -> snapshots.get(connector.getKey(), waited)
+                                    .compose(snapshot -> reconcileMirrorMaker2Connector(reconciliation, kafkaMirrorMaker2, apiClient, host, connector.getKey(), connector.getValue(),
+                                            snapshot, mirrorMaker2Status, errors))));
+
+            return Future.join(Stream.concat(deletionFutures, createUpdateFutures).collect(Collectors.toList()));
+        }).compose(i -> {
+            boolean failedConnector = mirrorMaker2Status.getConnectors().stream()
+                    .anyMatch(connector -> {
+                        @SuppressWarnings({ "rawtypes" })
+                        Object state = ((Map) connector.getOrDefault("connector", emptyMap())).get("state");
+                        return "FAILED".equalsIgnoreCase(state.toString());
+                    });
+
+            if (!errors.isEmpty()) {
+                return Future.failedFuture(errors.get(0));
+            } else if (failedConnector) {
+                return Future.failedFuture("One or more connectors are in FAILED state");
+            } else {
+                return Future.succeededFuture();
+            }
         });
     }
 
-    private Future<Void> reconcileMirrorMaker2Connectors(Reconciliation reconciliation, String host, KafkaConnectApi apiClient, KafkaMirrorMaker2 mirrorMaker2, KafkaMirrorMaker2MirrorSpec mirror, KafkaMirrorMaker2Cluster mirrorMaker2Cluster, KafkaMirrorMaker2Status mirrorMaker2Status, String desiredLogging) {
+    /**
+     * Computes the desired connectors of a single mirror
+     *
+     * @param reconciliation        The reconciliation
+     * @param mirrorMaker2          The MirrorMaker 2
+     * @param mirror                The mirror
+     * @param mirrorMaker2Cluster   The MirrorMaker 2 cluster model
+     *
+     * @return  Map with the names of the desired connectors and their specs
+     *
+     * @throws InvalidResourceException When the mirror is not valid
+     */
+    private static Map<String, KafkaConnectorSpec> desiredMirrorMaker2Connectors(Reconciliation reconciliation, KafkaMirrorMaker2 mirrorMaker2, KafkaMirrorMaker2MirrorSpec mirror, KafkaMirrorMaker2Cluster mirrorMaker2Cluster) {
         String targetClusterAlias = mirror.getTargetCluster();
         String sourceClusterAlias = mirror.getSourceCluster();
         if (targetClusterAlias == null) {
-            return maybeUpdateMirrorMaker2Status(reconciliation, mirrorMaker2,
-                    new InvalidResourceException("targetCluster property is required"));
+            throw new InvalidResourceException("targetCluster property is required");
         } else if (sourceClusterAlias == null) {
-            return maybeUpdateMirrorMaker2Status(reconciliation, mirrorMaker2,
-                    new InvalidResourceException("sourceCluster property is required"));
+            throw new InvalidResourceException("sourceCluster property is required");
         }
         List<KafkaMirrorMaker2ClusterSpec> clusters = ModelUtils.asListOrEmptyList(mirrorMaker2.getSpec().getClusters());
         Map<String, KafkaMirrorMaker2ClusterSpec> clusterMap = clusters.stream()
@@ -370,48 +436,34 @@ public class KafkaMirrorMaker2AssemblyOperator extends AbstractConnectOperator<K
             .collect(Collectors.toMap(KafkaMirrorMaker2ClusterSpec::getAlias, Function.identity()));
 
         if (!clusterMap.containsKey(targetClusterAlias)) {
-            return maybeUpdateMirrorMaker2Status(reconciliation, mirrorMaker2,
-                    new InvalidResourceException("targetCluster with alias " + mirror.getTargetCluster() + " cannot be found in the list of clusters at spec.clusters"));
+            throw new InvalidResourceException("targetCluster with alias " + mirror.getTargetCluster() + " cannot be found in the list of clusters at spec.clusters");
         } else if (!clusterMap.containsKey(sourceClusterAlias)) {
-            return maybeUpdateMirrorMaker2Status(reconciliation, mirrorMaker2,
-                    new InvalidResourceException("sourceCluster with alias " + mirror.getSourceCluster() + " cannot be found in the list of clusters at spec.clusters"));
+            throw new InvalidResourceException("sourceCluster with alias " + mirror.getSourceCluster() + " cannot be found in the list of clusters at spec.clusters");
         }
 
-        return Future.join(MIRRORMAKER2_CONNECTORS.entrySet().stream()
-                    .filter(entry -> entry.getValue().apply(mirror) != null) // filter out non-existent connectors
-                    .map(entry -> {
-                        String connectorName = sourceClusterAlias + "->" + targetClusterAlias + entry.getKey();
-                        String className = MIRRORMAKER2_CONNECTOR_PACKAGE + entry.getKey();
-
-                        KafkaMirrorMaker2ConnectorSpec mm2ConnectorSpec = entry.getValue().apply(mirror);
-                        KafkaConnectorSpec connectorSpec = new KafkaConnectorSpecBuilder()
-                                .withClassName(className)
-                                .withConfig(mm2ConnectorSpec.getConfig())
-                                .withPause(mm2ConnectorSpec.getPause())
-                                .withTasksMax(mm2ConnectorSpec.getTasksMax())
-                                .build();
-
-                        prepareMirrorMaker2ConnectorConfig(reconciliation, mirror, clusterMap.get(sourceClusterAlias), clusterMap.get(targetClusterAlias), connectorSpec, mirrorMaker2Cluster);
-                        LOGGER.debugCr(reconciliation, "creating/updating connector {} config: {}", connectorName, connectorSpec.getConfig());
-                        return reconcileMirrorMaker2Connector(reconciliation, mirrorMaker2, apiClient, host, connectorName, connectorSpec, mirrorMaker2Status);
-                    })
-                    .collect(Collectors.toList()))
-                    .map((Void) null)
-                    .compose(i -> apiClient.updateConnectLoggers(reconciliation, host, KafkaConnectCluster.REST_API_PORT, desiredLogging, mirrorMaker2Cluster.defaultLogConfig()))
-                    .compose(i -> {
-                        boolean failedConnector = mirrorMaker2Status.getConnectors().stream()
-                                .anyMatch(connector -> {
-                                    @SuppressWarnings({ "rawtypes" })
-                                    Object state = ((Map) connector.getOrDefault("connector", emptyMap())).get("state");
-                                    return "FAILED".equalsIgnoreCase(state.toString());
-                                });
-                        if (failedConnector) {
-                            return Future.failedFuture("One or more connectors are in FAILED state");
-                        } else {
-                            return Future.succeededFuture();
-                        }
-                    })
-                    .map((Void) null);
+        Map<String, KafkaConnectorSpec> connectors = new LinkedHashMap<>(MIRRORMAKER2_CONNECTORS.size());
+
+        for (Map.Entry<String, Function<KafkaMirrorMaker2MirrorSpec, KafkaMirrorMaker2ConnectorSpec>> entry : MIRRORMAKER2_CONNECTORS.entrySet()) {
+            KafkaMirrorMaker2ConnectorSpec mm2ConnectorSpec = entry.getValue().apply(mirror);
+
+            if (mm2ConnectorSpec != null) { // filter out non-existent connectors
+                String connectorName = sourceClusterAlias + "->" + targetClusterAlias + entry.getKey();
+                String className = MIRRORMAKER2_CONNECTOR_PACKAGE + entry.getKey();
+
+                KafkaConnectorSpec connectorSpec = new KafkaConnectorSpecBuilder()
+                        .withClassName(className)
+                        .withConfig(mm2ConnectorSpec.getConfig())
+                        .withPause(mm2ConnectorSpec.getPause())
+                        .withTasksMax(mm2ConnectorSpec.getTasksMax())
+                        .build();
+
+                prepareMirrorMaker2ConnectorConfig(reconciliation, mirror, clusterMap.get(sourceClusterAlias), clusterMap.get(targetClusterAlias), connectorSpec, mirrorMaker2Cluster);
+                LOGGER.debugCr(reconciliation, "creating/updating connector {} config: {}", connectorName, connectorSpec.getConfig());
+                connectors.put(connectorName, connectorSpec);
+            }
+        }
+
+        return connectors;
     }
 
     @SuppressWarnings("deprecation")
@@ -566,8 +618,9 @@ public class KafkaMirrorMaker2AssemblyOperator extends AbstractConnectOperator<K
         return securityProtocol;
     }
 
-    private Future<Void> reconcileMirrorMaker2Connector(Reconciliation reconciliation, KafkaMirrorMaker2 mirrorMaker2, KafkaConnectApi apiClient, String host, String connectorName, KafkaConnectorSpec connectorSpec, KafkaMirrorMaker2Status mirrorMaker2Status) {
-        return maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, mirrorMaker2)
+    private Future<Void> reconcileMirrorMaker2Connector(Reconciliation reconciliation, KafkaMirrorMaker2 mirrorMaker2, KafkaConnectApi apiClient, String host, String connectorName, KafkaConnectorSpec connectorSpec,
+                                                        Map<String, Object> connectorSnapshot, KafkaMirrorMaker2Status mirrorMaker2Status, List<Throwable> errors) {
+        return maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, mirrorMaker2, connectorSnapshot)
                 .onComplete(result -> {
                     if (result.succeeded()) {
                         mirrorMaker2Status.addConditions(result.result().conditions);
@@ -580,19 +633,11 @@ public class KafkaMirrorMaker2AssemblyOperator extends AbstractConnectOperator<K
                             mirrorMaker2Status.getAutoRestartStatuses().sort(Comparator.comparing(AutoRestartStatus::getConnectorName));
                         }
                     } else {
-                        maybeUpdateMirrorMaker2Status(reconciliation, mirrorMaker2, result.cause());
+                        // The error is reported in the MirrorMaker 2 status at the end of the reconciliation
+                        LOGGER.warnCr(reconciliation, "Error reconciling connector {} of MirrorMaker 2 {}", connectorName, mirrorMaker2.getMetadata().getName(), result.cause());
+                        errors.add(result.cause());
                     }
-                }).compose(ignored -> Future.succeededFuture());
-    }
-
-    private Future<Void> maybeUpdateMirrorMaker2Status(Reconciliation reconciliation, KafkaMirrorMaker2 mirrorMaker2, Throwable error) {
-        KafkaMirrorMaker2Status status = new KafkaMirrorMaker2Status();
-        if (error != null) {
-            LOGGER.warnCr(reconciliation, "Error reconciling MirrorMaker 2 {}", mirrorMaker2.getMetadata().getName(), error);
-        }
-        StatusUtils.setStatusConditionAndObservedGeneration(mirrorMaker2, status, error);
-        return maybeUpdateStatusCommon(resourceOperator, mirrorMaker2, reconciliation, status,
-            (mirror1, status2) -> new KafkaMirrorMaker2Builder(mirror1).withStatus(status2).build());
+                }).compose(ignored -> Future.succeededFuture(), error -> Future.succeededFuture());
     }
 
     /**
@@ -59,10 +59,12 @@ import io.strimzi.operator.cluster.operator.resource.events.KubernetesRestartEve
 import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.BackOff;
+import io.strimzi.operator.common.BlockingExecutor;
 import io.strimzi.operator.common.MetricsAndLogging;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.metrics.ReconciliationStepMetrics;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.ClusterRoleBindingOperator;
 import io.strimzi.operator.common.operator.resource.ConfigMapOperator;
@@ -114,6 +116,7 @@ public class KafkaReconciler {
     /* test */ final Reconciliation reconciliation;
     private final Vertx vertx;
     private final long operationTimeoutMs;
+    private final int maxInFlightPvcOperations;
     /* test */ final KafkaCluster kafka;
     private final List<KafkaNodePool> kafkaNodePoolCrs;
     private final ClusterCa clusterCa;
@@ -148,6 +151,8 @@ public class KafkaReconciler {
 
     private final AdminClientProvider adminClientProvider;
 
+    private final ReconciliationStepMetrics steps;
+
     private final Set<String> fsResizingRestartRequest = new HashSet<>();
     private String logging = "";
     private String loggingHash = "";
@@ -192,6 +197,7 @@ public class KafkaReconciler {
         this.reconciliation = reconciliation;
         this.vertx = vertx;
         this.operationTimeoutMs = config.getOperationTimeoutMs();
+        this.maxInFlightPvcOperations = config.getMaxInFlightPvcOperations();
         this.kafkaNodePoolCrs = nodePools;
 
         // We prepare the KafkaPool models and create the KafkaCluster model
@@ -239,6 +245,8 @@ public class KafkaReconciler {
         this.eventsPublisher = supplier.restartEventsPublisher;
 
         this.adminClientProvider = supplier.adminClientProvider;
+
+        this.steps = new ReconciliationStepMetrics(supplier.metricsProvider, reconciliation).forPhase("kafka");
     }
 
     /**
@@ -252,32 +260,32 @@ public class KafkaReconciler {
      * @return              Future which completes when the reconciliation completes
      */
     public Future<Void> reconcile(KafkaStatus kafkaStatus, Clock clock)    {
-        return modelWarnings(kafkaStatus)
-                .compose(i -> manualPodCleaning())
-                .compose(i -> networkPolicy())
-                .compose(i -> manualRollingUpdate())
-                .compose(i -> pvcs(kafkaStatus))
-                .compose(i -> serviceAccount())
-                .compose(i -> initClusterRoleBinding())
-                .compose(i -> scaleDown())
-                .compose(i -> updateNodePoolStatuses(kafkaStatus))
-                .compose(i -> listeners())
-                .compose(i -> certificateSecret(clock))
-                .compose(i -> brokerConfigurationConfigMaps())
-                .compose(i -> jmxSecret())
-                .compose(i -> podDisruptionBudget())
-                .compose(i -> migrateFromStatefulSetToPodSet())
-                .compose(i -> podSet())
-                .compose(podSetDiffs -> rollingUpdate(podSetDiffs)) // We pass the PodSet reconciliation result this way to avoid storing it in the instance
-                .compose(i -> podsReady())
-                .compose(i -> serviceEndpointsReady())
-                .compose(i -> headlessServiceEndpointsReady())
-                .compose(i -> clusterId(kafkaStatus))
-                .compose(i -> deletePersistentClaims())
-                .compose(i -> sharedKafkaConfigurationCleanup())
+        return steps.timed("modelWarnings", () -> modelWarnings(kafkaStatus))
+                .compose(i -> steps.timed("manualPodCleaning", this::manualPodCleaning))
+                .compose(i -> steps.timed("networkPolicy", this::networkPolicy))
+                .compose(i -> steps.timed("manualRollingUpdate", this::manualRollingUpdate))
+                .compose(i -> steps.timed("pvcs", () -> pvcs(kafkaStatus)))
+                .compose(i -> steps.timed("serviceAccount", this::serviceAccount))
+                .compose(i -> steps.timed("initClusterRoleBinding", this::initClusterRoleBinding))
+                .compose(i -> steps.timed("scaleDown", this::scaleDown))
+                .compose(i -> steps.timed("updateNodePoolStatuses", () -> updateNodePoolStatuses(kafkaStatus)))
+                .compose(i -> steps.timed("listeners", this::listeners))
+                .compose(i -> steps.timed("certificateSecret", () -> certificateSecret(clock)))
+                .compose(i -> steps.timed("brokerConfigurationConfigMaps", this::brokerConfigurationConfigMaps))
+                .compose(i -> steps.timed("jmxSecret", this::jmxSecret))
+                .compose(i -> steps.timed("podDisruptionBudget", this::podDisruptionBudget))
+                .compose(i -> steps.timed("migrateFromStatefulSetToPodSet", this::migrateFromStatefulSetToPodSet))
+                .compose(i -> steps.timed("podSet", this::podSet))
+                .compose(podSetDiffs -> steps.timed("rollingUpdate", () -> rollingUpdate(podSetDiffs))) // We pass the PodSet reconciliation result this way to avoid storing it in the instance
+                .compose(i -> steps.timed("podsReady", this::podsReady))
+                .compose(i -> steps.timed("serviceEndpointsReady", this::serviceEndpointsReady))
+                .compose(i -> steps.timed("headlessServiceEndpointsReady", this::headlessServiceEndpointsReady))
+                .compose(i -> steps.timed("clusterId", () -> clusterId(kafkaStatus)))
+                .compose(i -> steps.timed("deletePersistentClaims", this::deletePersistentClaims))
+                .compose(i -> steps.timed("sharedKafkaConfigurationCleanup", this::sharedKafkaConfigurationCleanup))
                 // This has to run after all possible rolling updates which might move the pods to different nodes
-                .compose(i -> nodePortExternalListenerStatus())
-                .compose(i -> addListenersToKafkaStatus(kafkaStatus));
+                .compose(i -> steps.timed("nodePortExternalListenerStatus", this::nodePortExternalListenerStatus))
+                .compose(i -> steps.timed("addListenersToKafkaStatus", () -> addListenersToKafkaStatus(kafkaStatus)));
     }
 
     /**
@@ -466,7 +474,7 @@ public class KafkaReconciler {
     protected Future<Void> pvcs(KafkaStatus kafkaStatus) {
         List<PersistentVolumeClaim> pvcs = kafka.generatePersistentVolumeClaims();
 
-        return new PvcReconciler(reconciliation, pvcOperator, storageClassOperator)
+        return new PvcReconciler(reconciliation, pvcOperator, storageClassOperator, maxInFlightPvcOperations)
                 .resizeAndReconcilePvcs(kafkaStatus, podIndex -> KafkaResources.kafkaPodName(reconciliation.name(), podIndex), pvcs)
                 .compose(podsToRestart -> {
                     fsResizingRestartRequest.addAll(podsToRestart);
@@ -529,7 +537,7 @@ public class KafkaReconciler {
 
                         for (StrimziPodSet podSet : podSets) {
                             List<Map<String, Object>> desiredPods = podSet.getSpec().getPods().stream()
-                                    .filter(pod -> desiredPodNames.contains(PodSetUtils.mapToPod(pod).getMetadata().getName()))
+                                    .filter(pod -> desiredPodNames.contains(PodSetUtils.podName(pod)))
                                     .collect(Collectors.toList());
 
                             StrimziPodSet scaledDownPodSet = new StrimziPodSetBuilder(podSet)
@@ -852,7 +860,7 @@ public class KafkaReconciler {
                 .compose(compositeFuture -> {
                     LOGGER.debugCr(reconciliation, "Attempt to get clusterId");
                     Promise<Void> resultPromise = Promise.promise();
-                    vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+                    BlockingExecutor.forVertx(vertx).executeBlocking(vertx,
                             future -> {
                                 Admin kafkaAdmin = null;
 
@@ -897,7 +905,7 @@ public class KafkaReconciler {
                     List<String> maybeDeletePvcs = pvcs.stream().map(pvc -> pvc.getMetadata().getName()).collect(Collectors.toList());
                     List<String> desiredPvcs = kafka.generatePersistentVolumeClaims().stream().map(pvc -> pvc.getMetadata().getName()).collect(Collectors.toList());
 
-                    return new PvcReconciler(reconciliation, pvcOperator, storageClassOperator)
+                    return new PvcReconciler(reconciliation, pvcOperator, storageClassOperator, maxInFlightPvcOperations)
                             .deletePersistentClaims(maybeDeletePvcs, desiredPvcs);
                 });
     }
@@ -10,6 +10,8 @@ import io.strimzi.operator.cluster.model.StorageUtils;
 import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.VertxUtil;
+import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.PvcOperator;
 import io.strimzi.operator.common.operator.resource.StatusUtils;
 import io.strimzi.operator.common.operator.resource.StorageClassOperator;
@@ -17,11 +19,14 @@ import io.vertx.core.Future;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * This class reconciles the PVCs for the Kafka and ZooKeeper clusters. It has two public methods:
@@ -31,9 +36,15 @@ import java.util.function.Function;
 public class PvcReconciler {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(PvcReconciler.class.getName());
 
+    /**
+     * Default maximal number of PVC operations which run in parallel
+     */
+    public static final int DEFAULT_MAX_IN_FLIGHT_OPERATIONS = 10;
+
     private final Reconciliation reconciliation;
     private final PvcOperator pvcOperator;
     private final StorageClassOperator storageClassOperator;
+    private final int maxInFlightOperations;
 
     /**
      * Constructs the PVC Reconciler
@@ -43,9 +54,22 @@ public class PvcReconciler {
      * @param storageClassOperator  The Storage Class operator for working with Kubernetes Storage Classes
      */
     public PvcReconciler(Reconciliation reconciliation, PvcOperator pvcOperator, StorageClassOperator storageClassOperator) {
+        this(reconciliation, pvcOperator, storageClassOperator, DEFAULT_MAX_IN_FLIGHT_OPERATIONS);
+    }
+
+    /**
+     * Constructs the PVC Reconciler
+     *
+     * @param reconciliation            Reconciliation marker
+     * @param pvcOperator               The Persistent Volume Claim operator for working with Kubernetes PVC
+     * @param storageClassOperator      The Storage Class operator for working with Kubernetes Storage Classes
+     * @param maxInFlightOperations     Maximal number of PVC operations running in parallel
+     */
+    public PvcReconciler(Reconciliation reconciliation, PvcOperator pvcOperator, StorageClassOperator storageClassOperator, int maxInFlightOperations) {
         this.reconciliation = reconciliation;
         this.pvcOperator = pvcOperator;
         this.storageClassOperator = storageClassOperator;
+        this.maxInFlightOperations = maxInFlightOperations;
     }
 
     /**
@@ -54,6 +78,10 @@ public class PvcReconciler {
      * created or updated. This method does not delete any PVCs. This is done by a separate method which should be
      * called separately at the end of the reconciliation.
      *
+     * The current PVCs are obtained with a single list call. Only the PVCs which are not found in the list (for example
+     * because they do not have the expected labels) are fetched individually. The PVCs are then reconciled in parallel
+     * with at most maxInFlightOperations operations running at the same time.
+     *
      * @param kafkaStatus       Status of the Kafka custom resource where warnings about any issues with resizing will be added
      * @param podNameProvider   Function to generate a pod name from its index
      * @param pvcs              List of desired PVC used by this controller
@@ -62,50 +90,87 @@ public class PvcReconciler {
      */
     public Future<Collection<String>> resizeAndReconcilePvcs(KafkaStatus kafkaStatus, Function<Integer, String> podNameProvider, List<PersistentVolumeClaim> pvcs) {
         Set<String> podsToRestart = new HashSet<>();
-        List<Future<Void>> futures = new ArrayList<>(pvcs.size());
-
-        for (PersistentVolumeClaim desiredPvc : pvcs)  {
-            Future<Void> perPvcFuture = pvcOperator.getAsync(reconciliation.namespace(), desiredPvc.getMetadata().getName())
-                    .compose(currentPvc -> {
-                        if (currentPvc == null || currentPvc.getStatus() == null || !"Bound".equals(currentPvc.getStatus().getPhase())) {
-                            // This branch handles the following conditions:
-                            // * The PVC doesn't exist yet, we should create it
-                            // * The PVC is not Bound, we should reconcile it
-                            return pvcOperator.reconcile(reconciliation, reconciliation.namespace(), desiredPvc.getMetadata().getName(), desiredPvc)
-                                    .map((Void) null);
-                        } else if (currentPvc.getStatus().getConditions().stream().anyMatch(cond -> "Resizing".equals(cond.getType()) && "true".equals(cond.getStatus().toLowerCase(Locale.ENGLISH))))  {
-                            // The PVC is Bound, but it is already resizing => Nothing to do, we should let it resize
-                            LOGGER.debugCr(reconciliation, "The PVC {} is resizing, nothing to do", desiredPvc.getMetadata().getName());
-                            return Future.succeededFuture();
-                        } else if (currentPvc.getStatus().getConditions().stream().anyMatch(cond -> "FileSystemResizePending".equals(cond.getType()) && "true".equals(cond.getStatus().toLowerCase(Locale.ENGLISH))))  {
-                            // The PVC is Bound and resized but waiting for FS resizing => We need to restart the pod which is using it
-                            String podName = podNameProvider.apply(getPodIndexFromPvcName(desiredPvc.getMetadata().getName()));
-                            podsToRestart.add(podName);
-                            LOGGER.infoCr(reconciliation, "The PVC {} is waiting for file system resizing and the pod {} needs to be restarted.", desiredPvc.getMetadata().getName(), podName);
-                            return Future.succeededFuture();
-                        } else {
-                            // The PVC is Bound and resizing is not in progress => We should check if the SC supports resizing and check if size changed
-                            Long currentSize = StorageUtils.convertToMillibytes(currentPvc.getSpec().getResources().getRequests().get("storage"));
-                            Long desiredSize = StorageUtils.convertToMillibytes(desiredPvc.getSpec().getResources().getRequests().get("storage"));
-
-                            if (!currentSize.equals(desiredSize))   {
-                                // The sizes are different => we should resize (shrinking will be handled in StorageDiff, so we do not need to check that)
-                                return resizePvc(kafkaStatus, currentPvc, desiredPvc);
-                            } else  {
-                                // size didn't change, just reconcile
-                                return pvcOperator.reconcile(reconciliation, reconciliation.namespace(), desiredPvc.getMetadata().getName(), desiredPvc)
-                                        .map((Void) null);
-                            }
-                        }
-                    });
 
-            futures.add(perPvcFuture);
-        }
+        return pvcOperator.listAsync(reconciliation.namespace(), Labels.EMPTY.withStrimziKind(reconciliation.kind()).withStrimziCluster(reconciliation.name()))
+                .compose(currentPvcs -> {
+                    Map<String, PersistentVolumeClaim> currentPvcsByName = new HashMap<>(currentPvcs.size());
+                    for (PersistentVolumeClaim pvc : currentPvcs) {
+                        currentPvcsByName.put(pvc.getMetadata().getName(), pvc);
+                    }
 
-        return Future.all(futures)
+                    List<Supplier<Future<Void>>> operations = new ArrayList<>(pvcs.size());
+                    for (PersistentVolumeClaim desiredPvc : pvcs)  {
+                        operations.add(() -> currentPvc(currentPvcsByName, desiredPvc.getMetadata().getName())
+                                .compose(currentPvc -> reconcilePvc(kafkaStatus, podNameProvider, podsToRestart, currentPvc, desiredPvc)));
+                    }
+
+                    return VertxUtil.runWithLimit(maxInFlightOperations, operations);
+                })
                 .map(podsToRestart);
     }
 
+    /**
+     * Gets the current PVC from the listed PVCs or from the Kubernetes API if it was not listed.
+     *
+     * @param currentPvcsByName     Map with the listed PVCs
+     * @param name                  Name of the PVC
+     *
+     * @return  Future with the current PVC or null if it does not exist
+     */
+    private Future<PersistentVolumeClaim> currentPvc(Map<String, PersistentVolumeClaim> currentPvcsByName, String name)   {
+        PersistentVolumeClaim currentPvc = currentPvcsByName.get(name);
+
+        if (currentPvc != null) {
+            return Future.succeededFuture(currentPvc);
+        } else {
+            return pvcOperator.getAsync(reconciliation.namespace(), name);
+        }
+    }
+
+    /**
+     * Reconciles a single PVC
+     *
+     * @param kafkaStatus       Status of the Kafka custom resource where warnings about any issues with resizing will be added
+     * @param podNameProvider   Function to generate a pod name from its index
+     * @param podsToRestart     Set to which the pods which need to be restarted to complete the resizing will be added
+     * @param currentPvc        The current PVC or null if it does not exist
+     * @param desiredPvc        The desired PVC
+     *
+     * @return  Future which completes when the PVC is reconciled
+     */
+    private Future<Void> reconcilePvc(KafkaStatus kafkaStatus, Function<Integer, String> podNameProvider, Set<String> podsToRestart, PersistentVolumeClaim currentPvc, PersistentVolumeClaim desiredPvc)   {
+        if (currentPvc == null || currentPvc.getStatus() == null || !"Bound".equals(currentPvc.getStatus().getPhase())) {
+            // This branch handles the following conditions:
+            // * The PVC doesn't exist yet, we should create it
+            // * The PVC is not Bound, we should reconcile it
+            return pvcOperator.reconcile(reconciliation, reconciliation.namespace(), desiredPvc.getMetadata().getName(), desiredPvc)
+                    .map((Void) null);
+        } else if (currentPvc.getStatus().getConditions().stream().anyMatch(cond -> "Resizing".equals(cond.getType()) && "true".equals(cond.getStatus().toLowerCase(Locale.ENGLISH))))  {
+            // The PVC is Bound, but it is already resizing => Nothing to do, we should let it resize
+            LOGGER.debugCr(reconciliation, "The PVC {} is resizing, nothing to do", desiredPvc.getMetadata().getName());
+            return Future.succeededFuture();
+        } else if (currentPvc.getStatus().getConditions().stream().anyMatch(cond -> "FileSystemResizePending".equals(cond.getType()) && "true".equals(cond.getStatus().toLowerCase(Locale.ENGLISH))))  {
+            // The PVC is Bound and resized but waiting for FS resizing => We need to restart the pod which is using it
+            String podName = podNameProvider.apply(getPodIndexFromPvcName(desiredPvc.getMetadata().getName()));
+            podsToRestart.add(podName);
+            LOGGER.infoCr(reconciliation, "The PVC {} is waiting for file system resizing and the pod {} needs to be restarted.", desiredPvc.getMetadata().getName(), podName);
+            return Future.succeededFuture();
+        } else {
+            // The PVC is Bound and resizing is not in progress => We should check if the SC supports resizing and check if size changed
+            Long currentSize = StorageUtils.convertToMillibytes(currentPvc.getSpec().getResources().getRequests().get("storage"));
+            Long desiredSize = StorageUtils.convertToMillibytes(desiredPvc.getSpec().getResources().getRequests().get("storage"));
+
+            if (!currentSize.equals(desiredSize))   {
+                // The sizes are different => we should resize (shrinking will be handled in StorageDiff, so we do not need to check that)
+                return resizePvc(kafkaStatus, currentPvc, desiredPvc);
+            } else  {
+                // size didn't change, just reconcile
+                return pvcOperator.reconcile(reconciliation, reconciliation.namespace(), desiredPvc.getMetadata().getName(), desiredPvc)
+                        .map((Void) null);
+            }
+        }
+    }
+
     /**
      * Resizes a PVC. This includes the check whether the Storage Class used by this PVC allows volume resizing. This
      * method does not wait for the resizing to happen. It just requests it from Kubernetes / Storage Class.
@@ -13,7 +13,6 @@ import io.fabric8.kubernetes.api.model.OwnerReference;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.client.KubernetesClient;
-import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.dsl.base.PatchContext;
 import io.fabric8.kubernetes.client.dsl.base.PatchType;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
@@ -32,13 +31,14 @@ import io.strimzi.api.kafka.model.StrimziPodSetBuilder;
 import io.strimzi.api.kafka.model.status.StrimziPodSetStatus;
 import io.strimzi.operator.cluster.model.ModelUtils;
 import io.strimzi.operator.cluster.model.PodSetUtils;
-import io.strimzi.operator.cluster.model.StatusDiff;
 import io.strimzi.operator.cluster.operator.resource.PodRevision;
 import io.strimzi.operator.common.InformerUtils;
 import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.NamespaceOwnership;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.controller.StatusWriter;
 import io.strimzi.operator.common.metrics.ControllerMetricsHolder;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.CrdOperator;
@@ -46,14 +46,24 @@ import io.strimzi.operator.common.operator.resource.PodOperator;
 import io.strimzi.operator.common.operator.resource.StatusUtils;
 import io.strimzi.operator.common.operator.resource.StrimziPodSetOperator;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 /**
@@ -67,7 +77,15 @@ public class StrimziPodSetController implements Runnable {
             .withMatchExpressions(new LabelSelectorRequirement(Labels.STRIMZI_KIND_LABEL, "Exists", null))
             .build();
 
+    /**
+     * Default maximal number of pod operations (create, patch or delete) executed in parallel for a single StrimziPodSet
+     */
+    public static final int DEFAULT_MAX_IN_FLIGHT_POD_OPERATIONS = 10;
+
     private final Thread controllerThread;
+    private final ExecutorService podOperationsExecutor;
+    private final ScheduledExecutorService statusExecutor;
+    private final StatusWriter<StrimziPodSet, StrimziPodSetStatus> statusWriter;
 
     private volatile boolean stop = false;
 
@@ -89,6 +107,13 @@ public class StrimziPodSetController implements Runnable {
     private final Lister<KafkaConnect> kafkaConnectLister;
     private final Lister<KafkaMirrorMaker2> kafkaMirrorMaker2Lister;
 
+    // Desired pods decoded from the StrimziPodSets. They are cached together with the resourceVersion of the PodSet they
+    // were decoded from, so that they are decoded only when the PodSet changes and not on every Pod event. The cache is
+    // modified only from the controller thread, but the informer threads check it to enqueue the removal of the entries
+    // when the PodSet is deleted or stops matching the selector.
+    private final Map<String, DesiredPods> desiredPodsCache = new ConcurrentHashMap<>();
+    private volatile NamespaceOwnership namespaceOwnership = NamespaceOwnership.ALL;
+
     /**
      * Creates the StrimziPodSet controller. The controller should normally exist once per operator for cluster-wide mode
      * or once per namespace for namespaced mode.
@@ -115,6 +140,41 @@ public class StrimziPodSetController implements Runnable {
             PodOperator podOperator,
             MetricsProvider metricsProvider,
             int podSetControllerWorkQueueSize
+    ) {
+        this(watchedNamespace, crSelectorLabels, kafkaOperator, kafkaConnectOperator, kafkaMirrorMaker2Operator,
+                strimziPodSetOperator, podOperator, metricsProvider, podSetControllerWorkQueueSize, DEFAULT_MAX_IN_FLIGHT_POD_OPERATIONS);
+    }
+
+    /**
+     * Creates the StrimziPodSet controller. The controller should normally exist once per operator for cluster-wide mode
+     * or once per namespace for namespaced mode.
+     *
+     * @param watchedNamespace              Namespace which should be watched. Use * for all namespaces.
+     * @param crSelectorLabels              Selector labels for custom resource managed by this operator instance. This is used
+     *                                      to check that the pods belong to a Kafka cluster matching these labels.
+     * @param kafkaOperator                 Kafka Operator for getting the Kafka custom resources
+     * @param kafkaConnectOperator          KafkaConnect Operator for getting the KafkaConnect custom resources
+     * @param kafkaMirrorMaker2Operator     KafkaMirrorMaker2 Operator for getting the KafkaMirrorMaker2 custom resources
+     * @param strimziPodSetOperator         StrimziPodSet Operator used to manage the StrimziPodSet resources - get them, update
+     *                                      their status etc.
+     * @param podOperator                   Pod operator for managing pods
+     * @param metricsProvider               Metrics provider
+     * @param podSetControllerWorkQueueSize Indicates the size of the StrimziPodSetController work queue
+     * @param maxInFlightPodOperations      Maximal number of pod operations (create, patch or delete) executed in
+     *                                      parallel while reconciling a single StrimziPodSet
+     */
+    @SuppressWarnings({"checkstyle:ParameterNumber"})
+    public StrimziPodSetController(
+            String watchedNamespace,
+            Labels crSelectorLabels,
+            CrdOperator<KubernetesClient, Kafka, KafkaList> kafkaOperator,
+            CrdOperator<KubernetesClient, KafkaConnect, KafkaConnectList> kafkaConnectOperator,
+            CrdOperator<KubernetesClient, KafkaMirrorMaker2, KafkaMirrorMaker2List> kafkaMirrorMaker2Operator,
+            StrimziPodSetOperator strimziPodSetOperator,
+            PodOperator podOperator,
+            MetricsProvider metricsProvider,
+            int podSetControllerWorkQueueSize,
+            int maxInFlightPodOperations
     ) {
         this.podOperator = podOperator;
         this.strimziPodSetOperator = strimziPodSetOperator;
@@ -143,6 +203,42 @@ public class StrimziPodSetController implements Runnable {
         this.podLister = new Lister<>(podInformer.getIndexer());
 
         this.controllerThread = new Thread(this, "StrimziPodSetController");
+
+        // The StrimziPodSets are reconciled one by one from the controller thread. So the size of the pool limits the
+        // number of pod operations in-flight for a single StrimziPodSet.
+        AtomicInteger podOperationsThreadCounter = new AtomicInteger(0);
+        this.podOperationsExecutor = Executors.newFixedThreadPool(maxInFlightPodOperations, runnable -> {
+            Thread thread = new Thread(runnable, "StrimziPodSetController-pod-operations-" + podOperationsThreadCounter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        // The status writer skips status updates which would not change anything and coalesces the status updates of
+        // PodSets which are reconciled repeatedly within a short time (e.g. because of many pod events)
+        this.statusExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "StrimziPodSetController-status");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.statusWriter = new StatusWriter<>(
+                r -> strimziPodSetLister.namespace(r.namespace()).get(r.name()),
+                r -> strimziPodSetOperator.client().inNamespace(r.namespace()).withName(r.name()).get(),
+                (podSet, status) -> new StrimziPodSetBuilder(podSet).withStatus(status).build(),
+                podSet -> strimziPodSetOperator.client().inNamespace(podSet.getMetadata().getNamespace()).resource(podSet).updateStatus(),
+                statusExecutor,
+                StatusWriter.DEFAULT_COALESCING_WINDOW_MS
+        );
+    }
+
+    /**
+     * Sets the namespace ownership which decides whether this operator instance owns the given namespace. The
+     * StrimziPodSets in the namespaces owned by other operator instances are not reconciled. By default, all
+     * namespaces are owned.
+     *
+     * @param namespaceOwnership    Namespace ownership of this operator instance
+     */
+    public void setNamespaceOwnership(NamespaceOwnership namespaceOwnership) {
+        this.namespaceOwnership = namespaceOwnership;
     }
 
     protected ControllerMetricsHolder metrics()   {
@@ -197,6 +293,10 @@ public class StrimziPodSetController implements Runnable {
 
         if (matchesCrSelector(podSet)) {
             enqueue(new SimplifiedReconciliation(podSet.getMetadata().getNamespace(), podSet.getMetadata().getName()));
+        } else if (isDesiredPodsCached(podSet.getMetadata().getNamespace(), podSet.getMetadata().getName())) {
+            // The PodSet matched the selector before => the reconciliation drops its cached desired Pods
+            LOGGER.debugOp("StrimziPodSet {} in namespace {} was {} and does not belong to a Kafka cluster managed by this operator anymore", podSet.getMetadata().getName(), podSet.getMetadata().getNamespace(), action);
+            enqueue(new SimplifiedReconciliation(podSet.getMetadata().getNamespace(), podSet.getMetadata().getName()));
         } else {
             LOGGER.debugOp("StrimziPodSet {} in namespace {} was {} but does not belong to a Kafka cluster managed by this operator", podSet.getMetadata().getName(), podSet.getMetadata().getNamespace(), action);
         }
@@ -364,9 +464,12 @@ public class StrimziPodSetController implements Runnable {
 
             if (podSet == null) {
                 LOGGER.debugCr(reconciliation, "StrimziPodSet is null => nothing to do");
+                desiredPodsCache.remove(namespace + "/" + name);
+                statusWriter.forget(reconciliation);
                 metrics.successfulReconciliationsCounter(reconciliation.namespace()).increment();
             } else if (!matchesCrSelector(podSet)) {
                 LOGGER.debugCr(reconciliation, "StrimziPodSet doesn't match the selector => nothing to do");
+                desiredPodsCache.remove(namespace + "/" + name);
                 metrics.successfulReconciliationsCounter(reconciliation.namespace()).increment();
             } else if (isDeleting(podSet)) {
                 // When the PodSet is deleted, the pod deletion is done by Kubernetes Garbage Collection. When the PodSet
@@ -392,26 +495,40 @@ public class StrimziPodSetController implements Runnable {
                     PodCounter podCounter = new PodCounter();
                     podCounter.pods = podSet.getSpec().getPods().size();
 
-                    for (Map<String, Object> desiredPod : podSet.getSpec().getPods()) {
-                        Pod pod = PodSetUtils.mapToPod(desiredPod);
+                    OwnerReference owner = ModelUtils.createOwnerReference(podSet, true);
+                    Map<String, Callable<Void>> podOperations = new LinkedHashMap<>();
+
+                    for (Pod pod : desiredPods(podSet)) {
                         desiredPods.add(pod.getMetadata().getName());
 
-                        maybeCreateOrPatchPod(reconciliation, pod, ModelUtils.createOwnerReference(podSet, true), podCounter);
+                        Callable<Void> podOperation = maybeCreateOrPatchPod(reconciliation, pod, owner, podCounter);
+                        if (podOperation != null)   {
+                            podOperations.put(pod.getMetadata().getName(), podOperation);
+                        }
                     }
 
+                    // Execute the pod operations in parallel. The failures are collected and reported together after
+                    // the rest of the reconciliation is done.
+                    Map<String, Throwable> failedPodOperations = executePodOperations(reconciliation, podOperations);
+
                     // Check if any pods needs to be deleted
                     removeDeletedPods(reconciliation, podSet.getSpec().getSelector(), desiredPods, podCounter);
 
                     status.setPods(podCounter.pods);
                     status.setReadyPods(podCounter.readyPods);
                     status.setCurrentPods(podCounter.currentPods);
+
+                    if (!failedPodOperations.isEmpty()) {
+                        throw new PodOperationsException(failedPodOperations);
+                    }
+
                     metrics.successfulReconciliationsCounter(reconciliation.namespace()).increment();
                 } catch (Exception e) {
                     LOGGER.errorCr(reconciliation, "StrimziPodSet {} in namespace {} reconciliation failed", reconciliation.name(), reconciliation.namespace(), e);
                     status.addCondition(StatusUtils.buildConditionFromException("Error", "true", e));
                     metrics.failedReconciliationsCounter(reconciliation.namespace()).increment();
                 } finally {
-                    maybeUpdateStatus(reconciliation, podSet, status);
+                    statusWriter.maybeUpdateStatus(reconciliation, podSet, status);
                     LOGGER.infoCr(reconciliation, "reconciled");
                 }
             }
@@ -422,73 +539,130 @@ public class StrimziPodSetController implements Runnable {
     }
 
     /**
-     * Updates the status of the StrimziPodSet. The status will be updated only when it changed since last time.
+     * Gets the desired pods from the StrimziPodSet. The pods are decoded from the StrimziPodSet only when it changed
+     * since the last reconciliation (based on its resourceVersion). Otherwise, the previously decoded pods are reused.
+     * The returned pods should not be modified.
+     *
+     * @param podSet    StrimziPodSet with the desired pods
+     *
+     * @return  List with the desired pods
+     */
+    /* test */ List<Pod> desiredPods(StrimziPodSet podSet)    {
+        String key = podSet.getMetadata().getNamespace() + "/" + podSet.getMetadata().getName();
+        String resourceVersion = podSet.getMetadata().getResourceVersion();
+        DesiredPods cached = desiredPodsCache.get(key);
+
+        if (cached != null && resourceVersion != null && resourceVersion.equals(cached.resourceVersion())) {
+            return cached.pods();
+        } else {
+            List<Pod> pods = PodSetUtils.podSetToPods(podSet);
+            desiredPodsCache.put(key, new DesiredPods(resourceVersion, pods));
+            return pods;
+        }
+    }
+
+    /**
+     * Checks whether the desired pods of a StrimziPodSet are cached.
+     *
+     * @param namespace     Namespace of the StrimziPodSet
+     * @param name          Name of the StrimziPodSet
+     *
+     * @return  True if the desired pods of this StrimziPodSet are cached. False otherwise.
+     */
+    /* test */ boolean isDesiredPodsCached(String namespace, String name)    {
+        return desiredPodsCache.containsKey(namespace + "/" + name);
+    }
+
+    /**
+     * Executes the pod operations in parallel. The number of operations running at the same time is limited by the
+     * size of the pod operations executor. The method waits for all operations to complete.
      *
      * @param reconciliation    Reconciliation in which this is executed
-     * @param podSet            Original pod set with the current status
-     * @param desiredStatus     The desired status which should be set if it differs
+     * @param podOperations     Map with the pod operations. The key is the name of the pod.
+     *
+     * @return  Map with the errors of the failed operations. The key is the name of the pod. Empty when all operations
+     *          succeeded.
+     *
+     * @throws InterruptedException     When the controller thread is interrupted while waiting for the operations
      */
-    private void maybeUpdateStatus(Reconciliation reconciliation, StrimziPodSet podSet, StrimziPodSetStatus desiredStatus) {
-        if (!new StatusDiff(podSet.getStatus(), desiredStatus).isEmpty())  {
+    private Map<String, Throwable> executePodOperations(Reconciliation reconciliation, Map<String, Callable<Void>> podOperations) throws InterruptedException {
+        Map<String, Throwable> failed = new LinkedHashMap<>();
+
+        if (podOperations.isEmpty()) {
+            return failed;
+        }
+
+        List<String> podNames = new ArrayList<>(podOperations.keySet());
+        List<Future<Void>> results = podOperationsExecutor.invokeAll(podOperations.values());
+
+        for (int i = 0; i < podNames.size(); i++)   {
             try {
-                LOGGER.debugCr(reconciliation, "Updating status of StrimziPodSet {} in namespace {}", reconciliation.name(), reconciliation.namespace());
-                StrimziPodSet latestPodSet = strimziPodSetLister.namespace(reconciliation.namespace()).get(reconciliation.name());
-                if (latestPodSet != null) {
-                    StrimziPodSet updatedPodSet = new StrimziPodSetBuilder(latestPodSet)
-                            .withStatus(desiredStatus)
-                            .build();
-
-                    strimziPodSetOperator.client().inNamespace(reconciliation.namespace()).resource(updatedPodSet).updateStatus();
-                }
-            } catch (KubernetesClientException e)   {
-                if (e.getCode() == 409) {
-                    LOGGER.debugCr(reconciliation, "StrimziPodSet {} in namespace {} changed while trying to update status", reconciliation.name(), reconciliation.namespace());
-                } else if (e.getCode() == 404) {
-                    LOGGER.debugCr(reconciliation, "StrimziPodSet {} in namespace {} was deleted while trying to update status", reconciliation.name(), reconciliation.namespace());
-                } else {
-                    LOGGER.errorCr(reconciliation, "Failed to update status of StrimziPodSet {} in namespace {}", reconciliation.name(), reconciliation.namespace(), e);
-                }
+                results.get(i).get();
+            } catch (ExecutionException e) {
+                LOGGER.warnCr(reconciliation, "Operation on pod {} in namespace {} failed", podNames.get(i), reconciliation.namespace(), e.getCause());
+                failed.put(podNames.get(i), e.getCause());
             }
         }
+
+        return failed;
     }
 
     /**
-     * Creates missing pod defined in the StrimziPodSet. If the pod already exists, it checks the owner reference and if
-     * needed adds it to the Pod.
+     * Checks the pod defined in the StrimziPodSet against the current pod and returns the operation which needs to be
+     * executed: creating of the missing pod, deleting of a pod in terminal state or adding of the missing owner
+     * reference. The operation is only returned and not executed so that the operations for the different pods can be
+     * executed in parallel. The pod counter is updated right away.
      *
      * @param reconciliation    Reconciliation in which this is executed
      * @param pod               Pod which should be checked and created if needed
      * @param owner             The OwnerReference which should be set to the pod
      * @param podCounter        Pod Counter used to count pods for the status
+     *
+     * @return  The operation which should be executed for the pod or null if there is nothing to do
      */
-    private void maybeCreateOrPatchPod(Reconciliation reconciliation, Pod pod, OwnerReference owner, PodCounter podCounter)    {
+    private Callable<Void> maybeCreateOrPatchPod(Reconciliation reconciliation, Pod pod, OwnerReference owner, PodCounter podCounter)    {
         Pod currentPod = podLister.namespace(reconciliation.namespace()).get(pod.getMetadata().getName());
+        Callable<Void> operation = null;
 
         if (currentPod == null) {
             // Pod does not exist => we create it
-            LOGGER.debugCr(reconciliation, "Creating pod {} in namespace {}", pod.getMetadata().getName(), reconciliation.namespace());
-            pod.getMetadata().setOwnerReferences(List.of(owner));
-            podOperator.client().inNamespace(reconciliation.namespace()).resource(pod).create();
+            operation = () -> {
+                LOGGER.debugCr(reconciliation, "Creating pod {} in namespace {}", pod.getMetadata().getName(), reconciliation.namespace());
+                // The desired pod is cached => we set the owner reference on a copy
+                Pod podWithOwnerReference = new PodBuilder(pod)
+                        .editMetadata()
+                            .withOwnerReferences(owner)
+                        .endMetadata()
+                        .build();
+                podOperator.client().inNamespace(reconciliation.namespace()).resource(podWithOwnerReference).create();
+                return null;
+            };
         } else {
             if (PodSetUtils.isInTerminalState(currentPod))  {
                 // The Pods might reach a terminal state of Succeeded or Failed in some situations such as node failures
                 // The controller detects these states and deletes such pods. Another reconciliation triggered by the
                 // deletion will recreate it.
-                LOGGER.debugCr(reconciliation, "Pod {} in namespace {} reached terminal phase {} => deleting it", currentPod.getMetadata().getName(), reconciliation.namespace(), currentPod.getStatus().getPhase());
-                podOperator.client().inNamespace(reconciliation.namespace()).resource(currentPod).withPropagationPolicy(DeletionPropagation.BACKGROUND).delete();
+                operation = () -> {
+                    LOGGER.debugCr(reconciliation, "Pod {} in namespace {} reached terminal phase {} => deleting it", currentPod.getMetadata().getName(), reconciliation.namespace(), currentPod.getStatus().getPhase());
+                    podOperator.client().inNamespace(reconciliation.namespace()).resource(currentPod).withPropagationPolicy(DeletionPropagation.BACKGROUND).delete();
+                    return null;
+                };
             } else if (ModelUtils.hasOwnerReference(currentPod, owner))    {
                 LOGGER.debugCr(reconciliation, "Pod {} in namespace {} already exists => nothing to do right now", pod.getMetadata().getName(), reconciliation.namespace());
             } else  {
-                LOGGER.debugCr(reconciliation, "Pod {} in namespace {} is missing owner reference => patching it", currentPod.getMetadata().getName(), reconciliation.namespace());
-                Pod podWithOwnerReference = new PodBuilder(currentPod).build();
-
-                if (podWithOwnerReference.getMetadata().getOwnerReferences() != null)   {
-                    podWithOwnerReference.getMetadata().getOwnerReferences().add(owner);
-                } else {
-                    podWithOwnerReference.getMetadata().setOwnerReferences(List.of(owner));
-                }
+                operation = () -> {
+                    LOGGER.debugCr(reconciliation, "Pod {} in namespace {} is missing owner reference => patching it", currentPod.getMetadata().getName(), reconciliation.namespace());
+                    Pod podWithOwnerReference = new PodBuilder(currentPod).build();
+
+                    if (podWithOwnerReference.getMetadata().getOwnerReferences() != null)   {
+                        podWithOwnerReference.getMetadata().getOwnerReferences().add(owner);
+                    } else {
+                        podWithOwnerReference.getMetadata().setOwnerReferences(List.of(owner));
+                    }
 
-                podOperator.client().inNamespace(reconciliation.namespace()).withName(pod.getMetadata().getName()).patch(PatchContext.of(PatchType.JSON), podWithOwnerReference);
+                    podOperator.client().inNamespace(reconciliation.namespace()).withName(pod.getMetadata().getName()).patch(PatchContext.of(PatchType.JSON), podWithOwnerReference);
+                    return null;
+                };
             }
 
             if (Readiness.isPodReady(currentPod))   {
@@ -502,6 +676,8 @@ public class StrimziPodSetController implements Runnable {
             // TODO: Add patching of exiting pods => to be done in the future to handle selected changes to the Pods
             //  which might not require rolling updates
         }
+
+        return operation;
     }
 
     /**
@@ -536,7 +712,9 @@ public class StrimziPodSetController implements Runnable {
      * @param reconciliation    Reconciliation identifier
      */
     private void enqueue(SimplifiedReconciliation reconciliation)    {
-        if (!workQueue.contains(reconciliation)) {
+        if (!namespaceOwnership.isOwner(reconciliation.namespace)) {
+            LOGGER.debugOp("StrimziPodSet {} in namespace {} is owned by another operator instance => ignoring", reconciliation.name, reconciliation.namespace);
+        } else if (!workQueue.contains(reconciliation)) {
             LOGGER.debugOp("Enqueueing StrimziPodSet {} in namespace {}", reconciliation.name, reconciliation.name);
             workQueue.add(reconciliation);
         } else {
@@ -564,7 +742,17 @@ public class StrimziPodSetController implements Runnable {
             try {
                 LOGGER.debugOp("Waiting for next event from work queue");
                 Reconciliation reconciliation = workQueue.take().toReconciliation();
-                reconcile(reconciliation);
+                NamespaceOwnership ownership = namespaceOwnership;
+
+                if (ownership.acquire(reconciliation.namespace())) {
+                    try {
+                        reconcile(reconciliation);
+                    } finally {
+                        ownership.release(reconciliation.namespace());
+                    }
+                } else {
+                    LOGGER.debugCr(reconciliation, "StrimziPodSet is owned by another operator instance => ignoring");
+                }
             } catch (InterruptedException e)    {
                 LOGGER.debugOp("StrimziPodSet Controller was interrupted", e);
             } catch (Exception e)   {
@@ -574,6 +762,8 @@ public class StrimziPodSetController implements Runnable {
 
         LOGGER.infoOp("Stopping StrimziPodSet controller");
 
+        podOperationsExecutor.shutdownNow();
+        statusExecutor.shutdownNow();
         stopController();
     }
 
@@ -604,6 +794,29 @@ public class StrimziPodSetController implements Runnable {
         int currentPods = 0;
     }
 
+    /**
+     * Desired pods decoded from a StrimziPodSet
+     *
+     * @param resourceVersion   Resource version of the StrimziPodSet from which the pods were decoded
+     * @param pods              The decoded pods
+     */
+    record DesiredPods(String resourceVersion, List<Pod> pods) { }
+
+    /**
+     * Exception used to report the failed pod operations. It aggregates the errors from all failed pods into a single
+     * message so that they are all visible in the condition of the StrimziPodSet status.
+     */
+    static class PodOperationsException extends RuntimeException {
+        PodOperationsException(Map<String, Throwable> failedPodOperations) {
+            super(failedPodOperations.size() + " pod operation(s) failed: "
+                    + failedPodOperations.entrySet().stream()
+                        .map(e -> e.getKey() + ": " + e.getValue().getMessage())
+                        .collect(Collectors.joining("; ")));
+
+            failedPodOperations.values().forEach(this::addSuppressed);
+        }
+    }
+
     /**
      * Helper class to track the pod counts during reconciliation and to pass through different methods. This simplified
      * class is used initially instead of the regular Reconciliation class. It also has a custom equals implementation
@@ -690,7 +903,10 @@ public class StrimziPodSetController implements Runnable {
             }
 
             LOGGER.debugOp("StrimziPodSet {} in namespace {} was {}", podSet.getMetadata().getName(), podSet.getMetadata().getNamespace(), "DELETED");
-            // Nothing to do => garbage collection should take care of things
+            // The Pods are deleted by the garbage collection => the reconciliation only drops the cached desired Pods
+            if (isDesiredPodsCached(podSet.getMetadata().getNamespace(), podSet.getMetadata().getName())) {
+                enqueue(new SimplifiedReconciliation(podSet.getMetadata().getNamespace(), podSet.getMetadata().getName()));
+            }
         }
     }
 
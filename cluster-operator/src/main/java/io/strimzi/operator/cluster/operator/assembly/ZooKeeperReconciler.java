@@ -35,6 +35,7 @@ import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.metrics.ReconciliationStepMetrics;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.ConfigMapOperator;
 import io.strimzi.operator.common.operator.resource.NetworkPolicyOperator;
@@ -77,6 +78,7 @@ public class ZooKeeperReconciler {
     private final Reconciliation reconciliation;
     private final Vertx vertx;
     private final long operationTimeoutMs;
+    private final int maxInFlightPvcOperations;
     private final ZookeeperCluster zk;
     private final KafkaVersionChange versionChange;
     private final ClusterCa clusterCa;
@@ -104,6 +106,8 @@ public class ZooKeeperReconciler {
     private final ZookeeperScalerProvider zooScalerProvider;
     private final ZookeeperLeaderFinder zooLeaderFinder;
 
+    private final ReconciliationStepMetrics steps;
+
     private final Integer currentReplicas;
 
     private final Set<String> fsResizingRestartRequest = new HashSet<>();
@@ -141,6 +145,7 @@ public class ZooKeeperReconciler {
         this.reconciliation = reconciliation;
         this.vertx = vertx;
         this.operationTimeoutMs = config.getOperationTimeoutMs();
+        this.maxInFlightPvcOperations = config.getMaxInFlightPvcOperations();
         this.zk = ZookeeperCluster.fromCrd(reconciliation, kafkaAssembly, config.versions(), oldStorage, currentReplicas, supplier.sharedEnvironmentProvider);
         this.versionChange = versionChange;
         this.currentReplicas = currentReplicas;
@@ -168,6 +173,8 @@ public class ZooKeeperReconciler {
 
         this.zooScalerProvider = supplier.zkScalerProvider;
         this.zooLeaderFinder = supplier.zookeeperLeaderFinder;
+
+        this.steps = new ReconciliationStepMetrics(supplier.metricsProvider, reconciliation).forPhase("zookeeper");
     }
 
     /**
@@ -181,29 +188,29 @@ public class ZooKeeperReconciler {
      * @return              Future which completes when the reconciliation completes
      */
     public Future<Void> reconcile(KafkaStatus kafkaStatus, Clock clock)    {
-        return modelWarnings(kafkaStatus)
-                .compose(i -> jmxSecret())
-                .compose(i -> manualPodCleaning())
-                .compose(i -> networkPolicy())
-                .compose(i -> manualRollingUpdate())
-                .compose(i -> logVersionChange())
-                .compose(i -> serviceAccount())
-                .compose(i -> pvcs(kafkaStatus))
-                .compose(i -> service())
-                .compose(i -> headlessService())
-                .compose(i -> certificateSecret(clock))
-                .compose(i -> loggingAndMetricsConfigMap())
-                .compose(i -> podDisruptionBudget())
-                .compose(i -> migrateFromStatefulSetToPodSet())
-                .compose(i -> podSet())
-                .compose(i -> scaleDown())
-                .compose(i -> rollingUpdate())
-                .compose(i -> podsReady())
-                .compose(i -> scaleUp())
-                .compose(i -> scalingCheck())
-                .compose(i -> serviceEndpointsReady())
-                .compose(i -> headlessServiceEndpointsReady())
-                .compose(i -> deletePersistentClaims());
+        return steps.timed("modelWarnings", () -> modelWarnings(kafkaStatus))
+                .compose(i -> steps.timed("jmxSecret", this::jmxSecret))
+                .compose(i -> steps.timed("manualPodCleaning", this::manualPodCleaning))
+                .compose(i -> steps.timed("networkPolicy", this::networkPolicy))
+                .compose(i -> steps.timed("manualRollingUpdate", this::manualRollingUpdate))
+                .compose(i -> steps.timed("logVersionChange", this::logVersionChange))
+                .compose(i -> steps.timed("serviceAccount", this::serviceAccount))
+                .compose(i -> steps.timed("pvcs", () -> pvcs(kafkaStatus)))
+                .compose(i -> steps.timed("service", this::service))
+                .compose(i -> steps.timed("headlessService", this::headlessService))
+                .compose(i -> steps.timed("certificateSecret", () -> certificateSecret(clock)))
+                .compose(i -> steps.timed("loggingAndMetricsConfigMap", this::loggingAndMetricsConfigMap))
+                .compose(i -> steps.timed("podDisruptionBudget", this::podDisruptionBudget))
+                .compose(i -> steps.timed("migrateFromStatefulSetToPodSet", this::migrateFromStatefulSetToPodSet))
+                .compose(i -> steps.timed("podSet", this::podSet))
+                .compose(i -> steps.timed("scaleDown", this::scaleDown))
+                .compose(i -> steps.timed("rollingUpdate", this::rollingUpdate))
+                .compose(i -> steps.timed("podsReady", this::podsReady))
+                .compose(i -> steps.timed("scaleUp", this::scaleUp))
+                .compose(i -> steps.timed("scalingCheck", this::scalingCheck))
+                .compose(i -> steps.timed("serviceEndpointsReady", this::serviceEndpointsReady))
+                .compose(i -> steps.timed("headlessServiceEndpointsReady", this::headlessServiceEndpointsReady))
+                .compose(i -> steps.timed("deletePersistentClaims", this::deletePersistentClaims));
     }
 
     /**
@@ -372,7 +379,7 @@ public class ZooKeeperReconciler {
     protected Future<Void> pvcs(KafkaStatus kafkaStatus) {
         List<PersistentVolumeClaim> pvcs = zk.generatePersistentVolumeClaims();
 
-        return new PvcReconciler(reconciliation, pvcOperator, storageClassOperator)
+        return new PvcReconciler(reconciliation, pvcOperator, storageClassOperator, maxInFlightPvcOperations)
                 .resizeAndReconcilePvcs(kafkaStatus, podIndex -> KafkaResources.zookeeperPodName(reconciliation.name(), podIndex), pvcs)
                 .compose(podsToRestart -> {
                     fsResizingRestartRequest.addAll(podsToRestart);
@@ -578,8 +585,9 @@ public class ZooKeeperReconciler {
     }
 
     /**
-     * General method which orchestrates ZooKeeper scale-down from N to M pods. This relies on other methods which scale
-     * the pods one by one.
+     * General method which orchestrates ZooKeeper scale-down from N to M pods. All the removed nodes are removed from
+     * the quorum in a single dynamic reconfiguration. That is safe because all current nodes are still running and
+     * ready. Only then the pods are removed one by one.
      *
      * @return  Future which completes ZooKeeper scale-down is complete
      */
@@ -595,7 +603,15 @@ public class ZooKeeperReconciler {
                     .compose(zkScaler -> {
                         Promise<Void> scalingPromise = Promise.promise();
 
-                        scaleDownByOne(zkScaler, currentReplicas, desired)
+                        ReconcilerUtils
+                                .podsReady(
+                                        reconciliation,
+                                        podOperator,
+                                        operationTimeoutMs,
+                                        IntStream.rangeClosed(0, currentReplicas - 1).mapToObj(i -> KafkaResources.zookeeperPodName(reconciliation.name(), i)).collect(Collectors.toList())
+                                )
+                                .compose(i -> zkScaler.scale(desired))
+                                .compose(i -> scaleDownByOne(currentReplicas, desired))
                                 .onComplete(res -> {
                                     zkScaler.close();
 
@@ -616,23 +632,14 @@ public class ZooKeeperReconciler {
     }
 
     /**
-     * Scales-down ZooKeeper by one node. To not break the quorum when scaling down, we always remove the pod from the
-     * quorum and only then remove the Pod.
+     * Scales-down the ZooKeeper pods one by one. The removed nodes have to be already removed from the quorum.
      *
-     * @return  Future which completes new pod is removed
+     * @return  Future which completes when the pods are removed
      */
-    private Future<Void> scaleDownByOne(ZookeeperScaler zkScaler, int current, int desired) {
+    private Future<Void> scaleDownByOne(int current, int desired) {
         if (current > desired) {
-            return ReconcilerUtils
-                    .podsReady(
-                            reconciliation,
-                            podOperator,
-                            operationTimeoutMs,
-                            IntStream.rangeClosed(0, current - 1).mapToObj(i -> KafkaResources.zookeeperPodName(reconciliation.name(), i)).collect(Collectors.toList())
-                    )
-                    .compose(i -> zkScaler.scale(current - 1))
-                    .compose(i -> scaleDownPodSet(current - 1))
-                    .compose(i -> scaleDownByOne(zkScaler, current - 1, desired));
+            return scaleDownPodSet(current - 1)
+                    .compose(i -> scaleDownByOne(current - 1, desired));
         } else {
             return Future.succeededFuture();
         }
@@ -861,7 +868,7 @@ public class ZooKeeperReconciler {
                     List<String> maybeDeletePvcs = pvcs.stream().map(pvc -> pvc.getMetadata().getName()).collect(Collectors.toList());
                     List<String> desiredPvcs = zk.generatePersistentVolumeClaims().stream().map(pvc -> pvc.getMetadata().getName()).collect(Collectors.toList());
 
-                    return new PvcReconciler(reconciliation, pvcOperator, storageClassOperator)
+                    return new PvcReconciler(reconciliation, pvcOperator, storageClassOperator, maxInFlightPvcOperations)
                             .deletePersistentClaims(maybeDeletePvcs, desiredPvcs);
                 });
     }
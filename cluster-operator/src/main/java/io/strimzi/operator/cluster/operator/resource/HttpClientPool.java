@@ -0,0 +1,246 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.AbstractOperator;
+import io.strimzi.operator.common.MetricsProvider;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+/**
+ * Pool of long-lived HTTP clients used for the REST API calls to the operands such as Kafka Connect or Cruise Control.
+ * Instead of creating a new client and closing it after each call, the pool keeps one HTTP/1.1 keep-alive client per
+ * target (host, port and client options). The connections to the target are reused by the subsequent calls. The pool:
+ *   - Limits the number of connections opened to a single target. The requests which do not get a connection wait in
+ *     the queue of the client.
+ *   - Optionally pipelines several requests on a single connection.
+ *   - Closes the connections which were idle for longer than the idle timeout and drops the clients of the targets
+ *     which were not used for longer than the idle timeout (for example because the operand was deleted).
+ *   - Records the latency of the requests per client and endpoint.
+ */
+public class HttpClientPool {
+    private static final Logger LOGGER = LogManager.getLogger(HttpClientPool.class);
+
+    /**
+     * Name of the timer metric used for the REST API requests
+     */
+    public static final String METRIC_NAME = AbstractOperator.METRICS_PREFIX + "http.client.request.duration";
+
+    /**
+     * Default maximal number of connections to a single target
+     */
+    public static final int DEFAULT_MAX_CONNECTIONS = 5;
+
+    /**
+     * Default pipelining limit (1 means no pipelining)
+     */
+    public static final int DEFAULT_PIPELINING_LIMIT = 1;
+
+    /**
+     * Default idle timeout in seconds
+     */
+    public static final int DEFAULT_IDLE_TIMEOUT_SECONDS = 60;
+
+    private final Vertx vertx;
+    private final String name;
+    private final int maxConnections;
+    private final int pipeliningLimit;
+    private final int idleTimeoutSeconds;
+    private final MetricsProvider metricsProvider;
+
+    private final Map<String, PooledClient> clients = new ConcurrentHashMap<>();
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private volatile long lastEvictionNanos = System.nanoTime();
+
+    /**
+     * Constructs the HTTP client pool with the default settings and without metrics
+     *
+     * @param vertx     Vert.x instance
+     * @param name      Name of the pool used in the metrics (e.g. the kind of the operand)
+     */
+    public HttpClientPool(Vertx vertx, String name) {
+        this(vertx, name, DEFAULT_MAX_CONNECTIONS, DEFAULT_PIPELINING_LIMIT, DEFAULT_IDLE_TIMEOUT_SECONDS, null);
+    }
+
+    /**
+     * Constructs the HTTP client pool
+     *
+     * @param vertx                 Vert.x instance
+     * @param name                  Name of the pool used in the metrics (e.g. the kind of the operand)
+     * @param maxConnections        Maximal number of connections to a single target
+     * @param pipeliningLimit       Maximal number of requests pipelined on a single connection. 1 disables pipelining.
+     * @param idleTimeoutSeconds    Number of seconds after which the idle connections and clients are closed
+     * @param metricsProvider       Metrics provider used for the latency metrics. When null, no metrics are recorded.
+     */
+    public HttpClientPool(Vertx vertx, String name, int maxConnections, int pipeliningLimit, int idleTimeoutSeconds, MetricsProvider metricsProvider) {
+        this.vertx = vertx;
+        this.name = name;
+        this.maxConnections = maxConnections;
+        this.pipeliningLimit = pipeliningLimit;
+        this.idleTimeoutSeconds = idleTimeoutSeconds;
+        this.metricsProvider = metricsProvider;
+    }
+
+    /**
+     * Performs the given operation, which completes the promise, using the pooled HTTP client for the target. The
+     * client is not closed once the operation completes, so the connection can be reused by the next operation.
+     *
+     * @param host          Host of the target
+     * @param port          Port of the target
+     * @param options       Client options such as TLS. The pooling options are set by the pool.
+     * @param endpoint      Endpoint used in the metrics. It should not contain any resource names (e.g. GET /connectors/{name}).
+     * @param operation     The operation to perform
+     *
+     * @return  A future which is completed with the result of the operation
+     *
+     * @param <T>   Type of the result
+     */
+    public <T> Future<T> withHttpClient(String host, int port, HttpClientOptions options, String endpoint, BiConsumer<HttpClient, Promise<T>> operation) {
+        evictIdleClients();
+
+        PooledClient client = clients.compute(key(host, port, options), (key, existing) -> {
+            PooledClient pooled = existing != null ? existing : new PooledClient(vertx.createHttpClient(pooledOptions(options)));
+            pooled.inFlight.incrementAndGet();
+            return pooled;
+        });
+
+        long startNanos = System.nanoTime();
+        Promise<T> promise = Promise.promise();
+
+        try {
+            operation.accept(client.httpClient, promise);
+        } catch (Throwable t) {
+            promise.tryFail(t);
+        }
+
+        return promise.future()
+                .onComplete(i -> {
+                    client.lastUsedNanos = System.nanoTime();
+                    client.inFlight.decrementAndGet();
+                    recordLatency(endpoint, System.nanoTime() - startNanos);
+                });
+    }
+
+    /**
+     * @return  Number of the clients currently in the pool
+     */
+    /* test */ int size() {
+        return clients.size();
+    }
+
+    /**
+     * Closes and removes the clients which were not used for longer than the idle timeout. The connections of these
+     * clients were already closed by the keep-alive timeout, so this only drops the clients of the targets which are
+     * not used anymore. It runs at most once per idle timeout.
+     */
+    /* test */ void evictIdleClients() {
+        long now = System.nanoTime();
+        long idleTimeoutNanos = TimeUnit.SECONDS.toNanos(idleTimeoutSeconds);
+
+        if (now - lastEvictionNanos < idleTimeoutNanos) {
+            return;
+        }
+
+        lastEvictionNanos = now;
+
+        for (String key : clients.keySet()) {
+            clients.computeIfPresent(key, (k, client) -> {
+                if (client.inFlight.get() == 0 && now - client.lastUsedNanos >= idleTimeoutNanos) {
+                    LOGGER.debug("Closing idle HTTP client for {} from pool {}", k.substring(0, k.indexOf('/')), name);
+                    client.httpClient.close();
+                    return null;
+                } else {
+                    return client;
+                }
+            });
+        }
+    }
+
+    /**
+     * Copies the options and applies the pooling settings to them
+     *
+     * @param options   Client options passed by the caller
+     *
+     * @return  Client options used for the pooled client
+     */
+    private HttpClientOptions pooledOptions(HttpClientOptions options) {
+        return new HttpClientOptions(options)
+                .setKeepAlive(true)
+                .setKeepAliveTimeout(idleTimeoutSeconds)
+                .setMaxPoolSize(maxConnections)
+                .setPipelining(pipeliningLimit > 1)
+                .setPipeliningLimit(pipeliningLimit);
+    }
+
+    private void recordLatency(String endpoint, long durationNanos) {
+        if (metricsProvider == null || metricsProvider.meterRegistry() == null) {
+            return;
+        }
+
+        timers.computeIfAbsent(endpoint, e -> timer(metricsProvider.meterRegistry(), e))
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Creates the latency timer. The timers created by the MetricsProvider have buckets suitable for the
+     * reconciliations which take seconds or minutes. The REST API requests usually take milliseconds, so the timer has
+     * its own buckets.
+     *
+     * @param registry  Meter registry
+     * @param endpoint  Endpoint
+     *
+     * @return  Timer metric
+     */
+    private Timer timer(MeterRegistry registry, String endpoint) {
+        return Timer.builder(METRIC_NAME)
+                .description("The time the REST API requests take to complete")
+                .serviceLevelObjectives(Duration.ofMillis(10), Duration.ofMillis(50), Duration.ofMillis(100), Duration.ofMillis(250),
+                        Duration.ofMillis(500), Duration.ofMillis(1000), Duration.ofMillis(5000), Duration.ofMillis(30000))
+                .tags(Tags.of("client", name, "endpoint", endpoint))
+                .register(registry);
+    }
+
+    /**
+     * The clients are shared only by the calls to the same target with the same options. This makes sure that for
+     * example calls to Cruise Control instances of different Kafka clusters do not share the TLS trust.
+     *
+     * @param host      Host of the target
+     * @param port      Port of the target
+     * @param options   Client options
+     *
+     * @return  Key of the client
+     */
+    private static String key(String host, int port, HttpClientOptions options) {
+        return host + ":" + port + "/" + options.toJson().encode();
+    }
+
+    /**
+     * Pooled HTTP client with its usage
+     */
+    private static class PooledClient {
+        private final HttpClient httpClient;
+        private final AtomicInteger inFlight = new AtomicInteger(0);
+        private volatile long lastUsedNanos = System.nanoTime();
+
+        PooledClient(HttpClient httpClient) {
+            this.httpClient = httpClient;
+        }
+    }
+}
@@ -58,8 +58,8 @@ public class PodRevision {
                 .getSpec()
                 .getPods()
                 .stream()
+                .filter(pod -> currentPod.getMetadata().getName().equals(PodSetUtils.podName(pod)))
                 .map(pod -> PodSetUtils.mapToPod(pod))
-                .filter(pod -> currentPod.getMetadata().getName().equals(pod.getMetadata().getName()))
                 .findFirst()
                 .orElse(null);
 
@@ -158,6 +158,8 @@ public class ZooKeeperRoller {
      */
     Future<Void> restartPod(Reconciliation reconciliation, String podName, List<String> reasons) {
         LOGGER.infoCr(reconciliation, "Rolling Pod {} due to {}", podName, reasons);
+        // Restarting any of the ZooKeeper pods might change the leader
+        leaderFinder.invalidateLeader(reconciliation);
         return podOperator.getAsync(reconciliation.namespace(), podName)
                 .compose(pod -> podOperator.restart(reconciliation, pod, operationTimeoutMs))
                 .compose(ignore -> {
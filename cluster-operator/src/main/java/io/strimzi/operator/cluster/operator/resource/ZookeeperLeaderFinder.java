@@ -19,23 +19,32 @@ import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.net.NetClient;
 import io.vertx.core.net.NetClientOptions;
 import io.vertx.core.net.NetSocket;
 import io.vertx.core.net.PemKeyCertOptions;
 import io.vertx.core.net.PemTrustOptions;
 
 import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.security.cert.CertificateException;
 import java.security.cert.CertificateFactory;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
- * Helper class for finding the leader of a ZK cluster
+ * Helper class for finding the leader of a ZK cluster. It is long-lived and shared by all reconciliations. It probes
+ * all ZooKeeper nodes in parallel and caches the leader it found for a short time. The cached leader is invalidated
+ * when a ZooKeeper pod is restarted. The TLS client used to probe the nodes is reused until the certificates change.
  */
 public class ZookeeperLeaderFinder {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ZookeeperLeaderFinder.class);
@@ -47,8 +56,18 @@ public class ZookeeperLeaderFinder {
      */
     public static final String UNKNOWN_LEADER = "-1";
 
+    /**
+     * Default time for which the found leader is cached
+     */
+    public static final long DEFAULT_LEADER_CACHE_TTL_MS = 10_000L;
+
     private final Vertx vertx;
     private final Supplier<BackOff> backOffSupplier;
+    private final long leaderCacheTtlMs;
+
+    // Leaders and TLS clients per ZooKeeper cluster. The key is the namespace and name of the Kafka cluster.
+    /* test */ final Map<String, CachedLeader> leaders = new ConcurrentHashMap<>();
+    /* test */ final Map<String, CachedClient> clients = new ConcurrentHashMap<>();
 
     /**
      * Constructor
@@ -57,8 +76,20 @@ public class ZookeeperLeaderFinder {
      * @param backOffSupplier   Backoff supplier
      */
     public ZookeeperLeaderFinder(Vertx vertx, Supplier<BackOff> backOffSupplier) {
+        this(vertx, backOffSupplier, DEFAULT_LEADER_CACHE_TTL_MS);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param vertx             Vert.x instance
+     * @param backOffSupplier   Backoff supplier
+     * @param leaderCacheTtlMs  Time for which the found leader is cached
+     */
+    public ZookeeperLeaderFinder(Vertx vertx, Supplier<BackOff> backOffSupplier, long leaderCacheTtlMs) {
         this.vertx = vertx;
         this.backOffSupplier = backOffSupplier;
+        this.leaderCacheTtlMs = leaderCacheTtlMs;
     }
 
     /*test*/ NetClientOptions clientOptions(Reconciliation reconciliation, Secret coCertKeySecret, Secret clusterCaCertificateSecret) {
@@ -135,6 +166,7 @@ public class ZookeeperLeaderFinder {
 
     /**
      * Returns a Future which completes with the id of the Zookeeper leader.
+     * If the leader was found recently and is still one of the pods, the cached leader is returned.
      * An exponential backoff is used if no ZK node is leader on the attempt to find it.
      * If there is no leader after 3 attempts then the returned Future completes with {@link #UNKNOWN_LEADER}.
      */
@@ -145,21 +177,109 @@ public class ZookeeperLeaderFinder {
             return Future.succeededFuture(pods.stream().findFirst().get());
         }
 
+        String key = clusterKey(reconciliation);
+        CachedLeader cachedLeader = leaders.get(key);
+
+        if (cachedLeader != null && cachedLeader.isValid(pods)) {
+            LOGGER.debugCr(reconciliation, "Using cached ZooKeeper leader {}", cachedLeader.leader());
+            return Future.succeededFuture(cachedLeader.leader());
+        }
+
         try {
-            NetClientOptions netClientOptions = clientOptions(reconciliation, coKeySecret, clusterCaSecret);
-            return zookeeperLeaderWithBackoff(reconciliation, pods, netClientOptions);
+            NetClient netClient = netClient(reconciliation, coKeySecret, clusterCaSecret);
+            return zookeeperLeaderWithBackoff(reconciliation, pods, netClient)
+                    .onSuccess(leader -> {
+                        if (!UNKNOWN_LEADER.equals(leader)) {
+                            leaders.put(key, new CachedLeader(leader, System.nanoTime() + leaderCacheTtlMs * 1_000_000L));
+                        }
+                    });
         } catch (Throwable e) {
             return Future.failedFuture(e);
         }
     }
 
-    private Future<String> zookeeperLeaderWithBackoff(Reconciliation reconciliation, Set<String> pods, NetClientOptions netClientOptions) {
+    /**
+     * Invalidates the cached leader of the ZooKeeper cluster. This should be called when any of the ZooKeeper pods is
+     * restarted as that might change the leader.
+     *
+     * @param reconciliation    Reconciliation identifying the cluster
+     */
+    public void invalidateLeader(Reconciliation reconciliation) {
+        leaders.remove(clusterKey(reconciliation));
+    }
+
+    /**
+     * Removes the cached leader and closes the TLS client of the ZooKeeper cluster. This should be called when the
+     * Kafka cluster is deleted.
+     *
+     * @param reconciliation    Reconciliation identifying the cluster
+     */
+    public void evict(Reconciliation reconciliation) {
+        String key = clusterKey(reconciliation);
+        leaders.remove(key);
+
+        CachedClient cachedClient = clients.remove(key);
+        if (cachedClient != null) {
+            LOGGER.debugCr(reconciliation, "Closing ZooKeeper TLS client");
+            cachedClient.client().close();
+        }
+    }
+
+    /**
+     * Gets the TLS client for connecting to the ZooKeeper nodes. The client is reused as long as the certificates in
+     * the Secrets do not change. So the certificates do not need to be decoded and validated for every lookup.
+     *
+     * @param reconciliation                Reconciliation identifying the cluster
+     * @param coCertKeySecret               Secret with the Cluster Operator certificate and key
+     * @param clusterCaCertificateSecret    Secret with the Cluster CA certificates
+     *
+     * @return  Net client for connecting to the ZooKeeper nodes
+     */
+    private NetClient netClient(Reconciliation reconciliation, Secret coCertKeySecret, Secret clusterCaCertificateSecret) {
+        String key = clusterKey(reconciliation);
+        String secretsHash = secretsHash(coCertKeySecret, clusterCaCertificateSecret);
+        CachedClient cachedClient = clients.get(key);
+
+        if (cachedClient != null && cachedClient.secretsHash().equals(secretsHash)) {
+            return cachedClient.client();
+        } else {
+            LOGGER.debugCr(reconciliation, "Creating new ZooKeeper TLS client");
+            NetClient client = vertx.createNetClient(clientOptions(reconciliation, coCertKeySecret, clusterCaCertificateSecret));
+            CachedClient previous = clients.put(key, new CachedClient(secretsHash, client));
+
+            if (previous != null) {
+                previous.client().close();
+            }
+
+            return client;
+        }
+    }
+
+    private static String secretsHash(Secret... secrets) {
+        StringBuilder sb = new StringBuilder();
+
+        for (Secret secret : secrets) {
+            if (secret.getData() != null) {
+                new TreeMap<>(secret.getData()).forEach((k, v) -> sb.append(k).append('=').append(v).append('\n'));
+            }
+
+            sb.append("---\n");
+        }
+
+        return HexFormat.of().formatHex(Util.sha1Digest(sb.toString().getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    private static String clusterKey(Reconciliation reconciliation) {
+        return reconciliation.namespace() + "/" + reconciliation.name();
+    }
+
+    private Future<String> zookeeperLeaderWithBackoff(Reconciliation reconciliation, Set<String> pods, NetClient netClient) {
         Promise<String> result = Promise.promise();
         BackOff backOff = backOffSupplier.get();
         Handler<Long> handler = new Handler<Long>() {
             @Override
             public void handle(Long tid) {
-                zookeeperLeader(reconciliation, pods, netClientOptions).onComplete(leader -> {
+                zookeeperLeader(reconciliation, pods, netClient).onComplete(leader -> {
                     if (leader.succeeded()) {
                         if (!UNKNOWN_LEADER.equals(leader.result())) {
                             result.complete(leader.result());
@@ -201,33 +321,34 @@ public class ZookeeperLeaderFinder {
     }
 
     /**
-     * Synchronously find the leader by testing each pod in the given list
-     * using {@link #isLeader(Reconciliation, String, NetClientOptions)}.
+     * Find the leader by testing all pods in the given list in parallel
+     * using {@link #isLeader(Reconciliation, String, NetClient)}.
      */
-    private Future<String> zookeeperLeader(Reconciliation reconciliation, Set<String> pods, NetClientOptions netClientOptions) {
+    private Future<String> zookeeperLeader(Reconciliation reconciliation, Set<String> pods, NetClient netClient) {
         try {
-            Future<String> f = Future.succeededFuture(UNKNOWN_LEADER);
-
-            for (String podName : pods) {
-                f = f.compose(leader -> {
-                    if (UNKNOWN_LEADER.equals(leader)) {
-                        LOGGER.debugCr(reconciliation, "Checker whether {} is leader", podName);
-                        return isLeader(reconciliation, podName, netClientOptions).map(isLeader -> {
-                            if (isLeader != null && isLeader) {
-                                LOGGER.infoCr(reconciliation, "Pod {} is leader", podName);
-                                return podName;
+            List<String> podNames = new ArrayList<>(pods);
+            List<Future<Boolean>> probes = new ArrayList<>(podNames.size());
+
+            for (String podName : podNames) {
+                LOGGER.debugCr(reconciliation, "Checker whether {} is leader", podName);
+                probes.add(isLeader(reconciliation, podName, netClient));
+            }
+
+            return Future.join(probes)
+                    .map(i -> {
+                        String leader = UNKNOWN_LEADER;
+
+                        for (int j = 0; j < podNames.size(); j++) {
+                            if (UNKNOWN_LEADER.equals(leader) && Boolean.TRUE.equals(probes.get(j).result())) {
+                                LOGGER.infoCr(reconciliation, "Pod {} is leader", podNames.get(j));
+                                leader = podNames.get(j);
                             } else {
-                                LOGGER.infoCr(reconciliation, "Pod {} is not a leader", podName);
-                                return UNKNOWN_LEADER;
+                                LOGGER.infoCr(reconciliation, "Pod {} is not a leader", podNames.get(j));
                             }
-                        });
-                    } else {
-                        return Future.succeededFuture(leader);
-                    }
-                });
-            }
+                        }
 
-            return f;
+                        return leader;
+                    });
         } catch (Throwable t) {
             return Future.failedFuture(t);
         }
@@ -236,13 +357,13 @@ public class ZookeeperLeaderFinder {
     /**
      * Returns whether the given pod is the zookeeper leader.
      */
-    protected Future<Boolean> isLeader(Reconciliation reconciliation, String podName, NetClientOptions netClientOptions) {
+    protected Future<Boolean> isLeader(Reconciliation reconciliation, String podName, NetClient netClient) {
 
         Promise<Boolean> promise = Promise.promise();
         String host = host(reconciliation, podName);
         int port = port(podName);
         LOGGER.debugCr(reconciliation, "Connecting to zookeeper on {}:{}", host, port);
-        vertx.createNetClient(netClientOptions)
+        netClient
             .connect(port, host, ar -> {
                 if (ar.failed()) {
                     LOGGER.warnCr(reconciliation, "ZK {}:{}: failed to connect to zookeeper:", host, port, ar.cause().getMessage());
@@ -313,4 +434,24 @@ public class ZookeeperLeaderFinder {
     protected int port(String podName) {
         return ZookeeperCluster.CLIENT_TLS_PORT;
     }
+
+    /**
+     * Leader found for a ZooKeeper cluster
+     *
+     * @param leader            Name of the leader pod
+     * @param expiresAtNanos    Time (as in System.nanoTime()) when the cached leader expires
+     */
+    /* test */ record CachedLeader(String leader, long expiresAtNanos) {
+        boolean isValid(Set<String> pods) {
+            return pods.contains(leader) && System.nanoTime() - expiresAtNanos < 0;
+        }
+    }
+
+    /**
+     * TLS client used for a ZooKeeper cluster
+     *
+     * @param secretsHash   Hash of the Secrets with the certificates used by the client
+     * @param client        The client
+     */
+    /* test */ record CachedClient(String secretsHash, NetClient client) { }
 }
@@ -29,7 +29,10 @@ import java.util.Map;
 import java.util.function.Function;
 
 /**
- * Class for scaling Zookeeper 3.5 using the ZookeeperAdmin client
+ * Class for scaling Zookeeper 3.5 using the ZookeeperAdmin client. The ZooKeeperAdmin session is opened with the first
+ * scaling step and reused by the following steps until the scaler is closed. This avoids a new TLS handshake and
+ * session establishment for every scaling step. When a scaling step fails, the session is closed and a new one is
+ * opened by the next step.
  */
 public class ZookeeperScaler implements AutoCloseable {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ZookeeperScaler.class);
@@ -55,6 +58,8 @@ public class ZookeeperScaler implements AutoCloseable {
 
     private final Reconciliation reconciliation;
 
+    private ZooKeeperAdmin zkAdmin;
+
     /**
      * ZookeeperScaler constructor
      *
@@ -105,33 +110,47 @@ public class ZookeeperScaler implements AutoCloseable {
      * @return          Future which succeeds / fails when the scaling is finished
      */
     public Future<Void> scale(int scaleTo) {
-        return getClientConfig()
-                .compose(this::connect)
+        return session()
                 .compose(zkAdmin -> {
                     Promise<Void> scalePromise = Promise.promise();
 
                     getCurrentConfig(zkAdmin)
                             .compose(servers -> scaleTo(zkAdmin, servers, scaleTo))
-                            .onComplete(res ->
-                                closeConnection(zkAdmin)
-                                    .onComplete(closeResult -> {
-                                        // Ignoring the result of `closeConnection`
-                                        if (res.succeeded()) {
-                                            scalePromise.complete();
-                                        } else {
-                                            scalePromise.fail(res.cause());
-                                        }
-                                    }));
+                            .onComplete(res -> {
+                                if (res.succeeded()) {
+                                    scalePromise.complete();
+                                } else {
+                                    // The session might be broken => we close it and the next step will open a new one
+                                    this.zkAdmin = null;
+
+                                    closeConnection(zkAdmin)
+                                            // Ignoring the result of `closeConnection`
+                                            .onComplete(closeResult -> scalePromise.fail(res.cause()));
+                                }
+                            });
 
                     return scalePromise.future();
                 });
     }
 
     /**
-     * Close the ZookeeperScaler instance. This deletes the certificate files.
+     * Close the ZookeeperScaler instance. This closes the ZooKeeperAdmin session (if it is open) and deletes the
+     * certificate files. The session is closed asynchronously and the files are deleted once it is closed.
      */
     @Override
     public void close() {
+        ZooKeeperAdmin zkAdmin = this.zkAdmin;
+        this.zkAdmin = null;
+
+        // Ignoring the result of `closeConnection`
+        closeConnection(zkAdmin)
+                .onComplete(closeResult -> deleteStores());
+    }
+
+    /**
+     * Deletes the certificate files
+     */
+    private void deleteStores() {
         if (trustStoreFile != null) {
             if (!trustStoreFile.delete())   {
                 LOGGER.warnCr(reconciliation, "Failed to delete file {}", trustStoreFile);
@@ -145,6 +164,29 @@ public class ZookeeperScaler implements AutoCloseable {
         }
     }
 
+    /**
+     * Returns the ZooKeeperAdmin session shared by the scaling steps. When there is no session yet or when the
+     * existing session is not alive anymore, a new session is opened.
+     *
+     * @return  Future with connected ZooKeeperAdmin client
+     */
+    private Future<ZooKeeperAdmin> session() {
+        if (zkAdmin != null) {
+            if (zkAdmin.getState().isAlive()) {
+                LOGGER.debugCr(reconciliation, "Reusing the ZooKeeperAdmin session to {}", zookeeperConnectionString);
+                return Future.succeededFuture(zkAdmin);
+            } else {
+                LOGGER.debugCr(reconciliation, "ZooKeeperAdmin session to {} is not alive anymore and will be reopened", zookeeperConnectionString);
+                closeConnection(zkAdmin);
+                zkAdmin = null;
+            }
+        }
+
+        return getClientConfig()
+                .compose(this::connect)
+                .onSuccess(connected -> zkAdmin = connected);
+    }
+
     /**
      * Internal method used to create the Zookeeper Admin client and connect it to Zookeeper
      *
@@ -4,10 +4,10 @@
  */
 package io.strimzi.operator.cluster.operator.resource.cruisecontrol;
 
-import io.strimzi.operator.cluster.operator.resource.HttpClientUtils;
 import io.fabric8.kubernetes.api.model.HTTPHeader;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.strimzi.operator.cluster.model.CruiseControl;
+import io.strimzi.operator.cluster.operator.resource.HttpClientPool;
 import io.strimzi.operator.common.Util;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
@@ -37,14 +37,14 @@ public class CruiseControlApiImpl implements CruiseControlApi {
     private static final boolean HTTP_CLIENT_ACTIVITY_LOGGING = false;
     private static final String STATUS_KEY = "Status";
 
-    private final Vertx vertx;
     private final long idleTimeout;
+    private final HttpClientPool httpClientPool;
     private boolean apiSslEnabled;
     private HTTPHeader authHttpHeader;
     private PemTrustOptions pto;
 
     /**
-     * Constructor
+     * Constructor. The connections to Cruise Control are reused by the API clients sharing the HTTP client pool.
      *
      * @param vertx             Vert.x instance
      * @param idleTimeout       Idle timeout
@@ -52,10 +52,11 @@ public class CruiseControlApiImpl implements CruiseControlApi {
      * @param ccApiSecret       Cruise Control API Secret
      * @param apiAuthEnabled    Flag indicating if authentication is enabled
      * @param apiSslEnabled     Flag indicating if TLS is enabled
+     * @param httpClientPool    HTTP client pool
      */
-    public CruiseControlApiImpl(Vertx vertx, int idleTimeout, Secret ccSecret, Secret ccApiSecret, Boolean apiAuthEnabled, boolean apiSslEnabled) {
-        this.vertx = vertx;
+    public CruiseControlApiImpl(Vertx vertx, int idleTimeout, Secret ccSecret, Secret ccApiSecret, Boolean apiAuthEnabled, boolean apiSslEnabled, HttpClientPool httpClientPool) {
         this.idleTimeout = idleTimeout;
+        this.httpClientPool = httpClientPool;
         this.apiSslEnabled = apiSslEnabled;
         this.authHttpHeader = getAuthHttpHeader(apiAuthEnabled, ccApiSecret);
         this.pto = new PemTrustOptions().addCertValue(Buffer.buffer(Util.decodeFromSecret(ccSecret, "cruise-control.crt")));
@@ -108,7 +109,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
 
         HttpClientOptions options = getHttpClientOptions();
 
-        return HttpClientUtils.withHttpClient(vertx, options, (httpClient, result) -> {
+        return httpClientPool.withHttpClient(host, port, options, "GET " + CruiseControlEndpoints.STATE, (httpClient, result) -> {
             httpClient.request(HttpMethod.GET, port, host, path, request -> {
                 if (request.succeeded()) {
 
@@ -250,7 +251,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
 
         HttpClientOptions httpOptions = getHttpClientOptions();
 
-        return HttpClientUtils.withHttpClient(vertx, httpOptions, (httpClient, result) -> {
+        return httpClientPool.withHttpClient(host, port, httpOptions, "POST " + CruiseControlEndpoints.REBALANCE, (httpClient, result) -> {
             httpClient.request(HttpMethod.POST, port, host, path, request -> internalRebalance(host, port, path, userTaskId, request, result));
         });
     }
@@ -269,7 +270,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
 
         HttpClientOptions httpOptions = getHttpClientOptions();
 
-        return HttpClientUtils.withHttpClient(vertx, httpOptions, (httpClient, result) -> {
+        return httpClientPool.withHttpClient(host, port, httpOptions, "POST " + CruiseControlEndpoints.ADD_BROKER, (httpClient, result) -> {
             httpClient.request(HttpMethod.POST, port, host, path, request -> internalRebalance(host, port, path, userTaskId, request, result));
         });
     }
@@ -288,7 +289,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
 
         HttpClientOptions httpOptions = getHttpClientOptions();
 
-        return HttpClientUtils.withHttpClient(vertx, httpOptions, (httpClient, result) -> {
+        return httpClientPool.withHttpClient(host, port, httpOptions, "POST " + CruiseControlEndpoints.REMOVE_BROKER, (httpClient, result) -> {
             httpClient.request(HttpMethod.POST, port, host, path, request -> internalRebalance(host, port, path, userTaskId, request, result));
         });
     }
@@ -309,7 +310,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
 
         HttpClientOptions options = getHttpClientOptions();
 
-        return HttpClientUtils.withHttpClient(vertx, options, (httpClient, result) -> {
+        return httpClientPool.withHttpClient(host, port, options, "GET " + CruiseControlEndpoints.USER_TASKS, (httpClient, result) -> {
             httpClient.request(HttpMethod.GET, port, host, path, request -> {
                 if (request.succeeded()) {
 
@@ -406,7 +407,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
 
         HttpClientOptions options = getHttpClientOptions();
 
-        return HttpClientUtils.withHttpClient(vertx, options, (httpClient, result) -> {
+        return httpClientPool.withHttpClient(host, port, options, "POST " + CruiseControlEndpoints.STOP, (httpClient, result) -> {
             httpClient.request(HttpMethod.POST, port, host, path, request -> {
                 if (request.succeeded()) {
 
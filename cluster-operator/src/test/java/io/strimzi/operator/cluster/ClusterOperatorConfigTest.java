@@ -358,6 +358,57 @@ public class ClusterOperatorConfigTest {
         assertThat(e.getMessage(), containsString("Failed to parse. Value nsLabelKey1,nsLabelKey2 is not valid"));
     }
 
+    @Test
+    public void testReconciliationScheduling() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+
+        ClusterOperatorConfig config = ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getMaxConcurrentReconciliationsPerKind(), is(0));
+        assertThat(config.getReconciliationNamespaceWeights(), is(Map.of()));
+
+        envVars.put(ClusterOperatorConfig.MAX_CONCURRENT_RECONCILIATIONS_PER_KIND.key(), "5");
+        envVars.put(ClusterOperatorConfig.RECONCILIATION_NAMESPACE_WEIGHTS.key(), "production=3, staging = 1");
+
+        config = ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getMaxConcurrentReconciliationsPerKind(), is(5));
+        assertThat(config.getReconciliationNamespaceWeights(), is(Map.of("production", 3, "staging", 1)));
+
+        envVars.put(ClusterOperatorConfig.MAX_CONCURRENT_RECONCILIATIONS_PER_KIND.key(), "-1");
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+    }
+
+    @Test
+    public void testVirtualThreads() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+
+        ClusterOperatorConfig config = ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.isVirtualThreadsEnabled(), is(false));
+        assertThat(config.getVirtualThreadsMaxConcurrency(), is(100));
+
+        envVars.put(ClusterOperatorConfig.VIRTUAL_THREADS_ENABLED.key(), "true");
+        envVars.put(ClusterOperatorConfig.VIRTUAL_THREADS_MAX_CONCURRENCY.key(), "500");
+
+        config = ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.isVirtualThreadsEnabled(), is(true));
+        assertThat(config.getVirtualThreadsMaxConcurrency(), is(500));
+
+        envVars.put(ClusterOperatorConfig.VIRTUAL_THREADS_MAX_CONCURRENCY.key(), "0");
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+    }
+
+    @Test
+    public void testInvalidReconciliationNamespaceWeights() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+
+        envVars.put(ClusterOperatorConfig.RECONCILIATION_NAMESPACE_WEIGHTS.key(), "production=0");
+        InvalidConfigurationException e = assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+        assertThat(e.getMessage(), containsString("Not a valid namespace weight: production=0"));
+
+        envVars.put(ClusterOperatorConfig.RECONCILIATION_NAMESPACE_WEIGHTS.key(), "production=high");
+        e = assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+        assertThat(e.getMessage(), containsString("Not a valid namespace weight: production=high"));
+    }
+
     @Test
     public void testParsePodSecurityProviderClass() {
         assertThat(ClusterOperatorConfig.parsePodSecurityProviderClass("Baseline"), is(ClusterOperatorConfig.POD_SECURITY_PROVIDER_BASELINE_CLASS.defaultValue()));
@@ -380,4 +431,108 @@ public class ClusterOperatorConfigTest {
         config.getLeaderElectionConfig();
         assertThat(ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).getLeaderElectionConfig(), is(notNullValue()));
     }
+
+    @Test
+    public void testShardingConfig() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        envVars.put(ClusterOperatorConfig.SHARDING_ENABLED.key(), "true");
+
+        // Sharding requires leader election
+        assertThat(ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).isShardingEnabled(), is(false));
+
+        envVars.put(ClusterOperatorConfig.LEADER_ELECTION_ENABLED.key(), "true");
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_LEASE_NAME.key(), "my-lease");
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_LEASE_NAMESPACE.key(), "my-namespace");
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_IDENTITY.key(), "my-pod");
+
+        assertThat(ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()).isShardingEnabled(), is(true));
+    }
+
+    @Test
+    public void testPodSetControllerMaxInFlightPodOperations() {
+        ClusterOperatorConfig config = ClusterOperatorConfig.buildFromMap(ClusterOperatorConfigTest.ENV_VARS, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getPodSetControllerMaxInFlightPodOperations(), is(10));
+
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        envVars.put(ClusterOperatorConfig.POD_SET_CONTROLLER_MAX_IN_FLIGHT_POD_OPERATIONS.key(), "20");
+
+        config = ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getPodSetControllerMaxInFlightPodOperations(), is(20));
+
+        envVars.put(ClusterOperatorConfig.POD_SET_CONTROLLER_MAX_IN_FLIGHT_POD_OPERATIONS.key(), "0");
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+
+        envVars.put(ClusterOperatorConfig.POD_SET_CONTROLLER_MAX_IN_FLIGHT_POD_OPERATIONS.key(), "-1");
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+    }
+
+    @Test
+    public void testMaxInFlightPvcOperations() {
+        ClusterOperatorConfig config = ClusterOperatorConfig.buildFromMap(ClusterOperatorConfigTest.ENV_VARS, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getMaxInFlightPvcOperations(), is(10));
+
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        envVars.put(ClusterOperatorConfig.MAX_IN_FLIGHT_PVC_OPERATIONS.key(), "20");
+
+        config = ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getMaxInFlightPvcOperations(), is(20));
+
+        envVars.put(ClusterOperatorConfig.MAX_IN_FLIGHT_PVC_OPERATIONS.key(), "0");
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+    }
+
+    @Test
+    public void testRestClientConfig() {
+        ClusterOperatorConfig config = ClusterOperatorConfig.buildFromMap(ClusterOperatorConfigTest.ENV_VARS, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getRestClientMaxConnections(), is(5));
+        assertThat(config.getRestClientPipeliningLimit(), is(1));
+        assertThat(config.getRestClientIdleTimeoutSeconds(), is(60));
+
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        envVars.put(ClusterOperatorConfig.REST_CLIENT_MAX_CONNECTIONS.key(), "10");
+        envVars.put(ClusterOperatorConfig.REST_CLIENT_PIPELINING_LIMIT.key(), "4");
+        envVars.put(ClusterOperatorConfig.REST_CLIENT_IDLE_TIMEOUT_SECONDS.key(), "30");
+
+        config = ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getRestClientMaxConnections(), is(10));
+        assertThat(config.getRestClientPipeliningLimit(), is(4));
+        assertThat(config.getRestClientIdleTimeoutSeconds(), is(30));
+
+        envVars.put(ClusterOperatorConfig.REST_CLIENT_MAX_CONNECTIONS.key(), "0");
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+    }
+
+    @Test
+    public void testMaxConcurrentConnectorReconciliations() {
+        ClusterOperatorConfig config = ClusterOperatorConfig.buildFromMap(ClusterOperatorConfigTest.ENV_VARS, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getMaxConcurrentConnectorReconciliations(), is(10));
+
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        envVars.put(ClusterOperatorConfig.MAX_CONCURRENT_CONNECTOR_RECONCILIATIONS.key(), "50");
+
+        config = ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getMaxConcurrentConnectorReconciliations(), is(50));
+
+        envVars.put(ClusterOperatorConfig.MAX_CONCURRENT_CONNECTOR_RECONCILIATIONS.key(), "0");
+        config = ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getMaxConcurrentConnectorReconciliations(), is(0));
+
+        envVars.put(ClusterOperatorConfig.MAX_CONCURRENT_CONNECTOR_RECONCILIATIONS.key(), "-1");
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+    }
+
+    @Test
+    public void testMaxConnectorAutoRestartsPerMinute() {
+        ClusterOperatorConfig config = ClusterOperatorConfig.buildFromMap(ClusterOperatorConfigTest.ENV_VARS, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getMaxConnectorAutoRestartsPerMinute(), is(10));
+
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.ENV_VARS);
+        envVars.put(ClusterOperatorConfig.MAX_CONNECTOR_AUTO_RESTARTS_PER_MINUTE.key(), "0");
+
+        config = ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getMaxConnectorAutoRestartsPerMinute(), is(0));
+
+        envVars.put(ClusterOperatorConfig.MAX_CONNECTOR_AUTO_RESTARTS_PER_MINUTE.key(), "-1");
+        assertThrows(InvalidConfigurationException.class, () -> ClusterOperatorConfig.buildFromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup()));
+    }
 }
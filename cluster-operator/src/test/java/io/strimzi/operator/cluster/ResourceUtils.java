@@ -84,7 +84,7 @@ import io.strimzi.operator.common.operator.resource.StrimziPodSetOperator;
 import io.strimzi.test.TestUtils;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
-import io.vertx.core.net.NetClientOptions;
+import io.vertx.core.net.NetClient;
 import io.vertx.core.net.PemKeyCertOptions;
 import io.vertx.core.net.PemTrustOptions;
 import org.apache.kafka.clients.admin.Admin;
@@ -454,7 +454,7 @@ public class ResourceUtils {
     public static ZookeeperLeaderFinder zookeeperLeaderFinder(Vertx vertx, KubernetesClient client) {
         return new ZookeeperLeaderFinder(vertx, () -> new BackOff(5_000, 2, 4)) {
                 @Override
-                protected Future<Boolean> isLeader(Reconciliation reconciliation, String podName, NetClientOptions options) {
+                protected Future<Boolean> isLeader(Reconciliation reconciliation, String podName, NetClient netClient) {
                     return Future.succeededFuture(true);
                 }
 
@@ -0,0 +1,231 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.leaderelection;
+
+import io.fabric8.kubernetes.api.model.coordination.v1.Lease;
+import io.fabric8.kubernetes.api.model.coordination.v1.LeaseList;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
+import io.fabric8.kubernetes.client.dsl.Resource;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.strimzi.operator.common.InvalidConfigurationException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@EnableKubernetesMockClient(crud = true)
+public class ShardingManagerMockTest {
+    private final static String NAMESPACE = "my-le-namespace";
+    private final static String LEASE_NAME = "my-lease";
+    private final static List<String> NAMESPACES = IntStream.range(0, 50).mapToObj(i -> "namespace-" + i).toList();
+
+    // Injected by Fabric8 Mock Kubernetes Server
+    @SuppressWarnings("unused")
+    private KubernetesClient client;
+
+    private final MutableClock clock = new MutableClock();
+
+    @Test
+    public void testOwnerChangesOnlyForTheKeysOfTheRemovedMember() {
+        List<String> members = List.of("member-0", "member-1", "member-2");
+        Map<String, String> owners = NAMESPACES.stream().collect(Collectors.toMap(ns -> ns, ns -> ShardingManager.owner(ns, members)));
+
+        // All members own some namespaces
+        for (String member : members) {
+            assertThat(owners.containsValue(member), is(true));
+        }
+
+        // Only the namespaces of the removed member move
+        List<String> remaining = List.of("member-0", "member-2");
+        for (String namespace : NAMESPACES) {
+            String newOwner = ShardingManager.owner(namespace, remaining);
+
+            if ("member-1".equals(owners.get(namespace))) {
+                assertThat(newOwner, is(not("member-1")));
+            } else {
+                assertThat(newOwner, is(owners.get(namespace)));
+            }
+        }
+
+        assertThat(ShardingManager.owner("namespace-0", List.of()), is(nullValue()));
+    }
+
+    @Test
+    public void testShardingManager() {
+        AtomicInteger sm1Rebalances = new AtomicInteger(0);
+        AtomicInteger sm2Rebalances = new AtomicInteger(0);
+        ShardingManager sm1 = createShardingManager("sm-1");
+        ShardingManager sm2 = createShardingManager("sm-2");
+        sm1.addOwnershipChangeListener(sm1Rebalances::incrementAndGet);
+        sm2.addOwnershipChangeListener(sm2Rebalances::incrementAndGet);
+
+        // The first member joins => it owns all namespaces once the membership is stable and released
+        sm1.renewAndRebalance();
+        assertThat(client.leases().inNamespace(NAMESPACE).withName(sm1.leaseName()).get().getSpec().getHolderIdentity(), is("sm-1"));
+        assertThat(owned(sm1).size(), is(0));
+
+        tick(sm1);
+        tick(sm1);
+        assertThat(owned(sm1).size(), is(0));
+
+        tick(sm1);
+        assertThat(owned(sm1), is(NAMESPACES));
+        assertThat(sm1Rebalances.get(), is(1));
+        assertThat(client.leases().inNamespace(NAMESPACE).withName(sm1.leaseName()).get().getMetadata().getAnnotations().get(ShardingManager.RELEASED_MEMBERS_ANNOTATION), is("sm-1"));
+
+        // The first member is reconciling a namespace which will move to the second member
+        String movingNamespace = NAMESPACES.stream().filter(ns -> "sm-2".equals(ShardingManager.owner(ns, List.of("sm-1", "sm-2")))).findFirst().orElseThrow();
+        assertThat(sm1.acquire(movingNamespace), is(true));
+
+        // The second member joins => the first member stops starting new reconciliations in the namespaces it loses
+        // right away
+        sm2.renewAndRebalance();
+        tick(sm1, sm2);
+        List<String> sm1Owned = owned(sm1);
+        assertThat(sm1Owned.size() < NAMESPACES.size(), is(true));
+        assertThat(sm1Owned.contains(movingNamespace), is(false));
+        assertThat(sm1.acquire(movingNamespace), is(false));
+        assertThat(owned(sm2).size(), is(0));
+
+        // The second member does not take over any namespaces until the reconciliation in progress finishes
+        for (int i = 0; i < 5; i++) {
+            tick(sm1, sm2);
+            assertThat(owned(sm1), is(sm1Owned));
+            assertThat(owned(sm2).size(), is(0));
+        }
+
+        sm1.release(movingNamespace);
+        assertThat(sm1.inFlightNamespaces().size(), is(0));
+
+        tick(sm1, sm2);
+        assertThat(owned(sm2).size(), is(0));
+
+        tick(sm1, sm2);
+        assertThat(owned(sm1), is(sm1Owned));
+        assertThat(owned(sm2).contains(movingNamespace), is(true));
+        assertThat(sm1Rebalances.get(), is(2));
+        assertThat(sm2Rebalances.get(), is(1));
+
+        for (String namespace : NAMESPACES) {
+            assertThat(sm1.isOwner(namespace) != sm2.isOwner(namespace), is(true));
+        }
+
+        // The second member leaves => the first member takes over its namespaces once the membership is stable
+        sm2.stop();
+        assertThat(client.leases().inNamespace(NAMESPACE).withName(sm2.leaseName()).get(), is(nullValue()));
+        assertThat(owned(sm2).size(), is(0));
+
+        tick(sm1);
+        assertThat(owned(sm1), is(sm1Owned));
+
+        tick(sm1);
+        tick(sm1);
+        tick(sm1);
+        assertThat(owned(sm1), is(NAMESPACES));
+
+        // The first member fails to renew its Lease => it gives up all namespaces
+        clock.advance(Duration.ofSeconds(2));
+        assertThat(owned(sm1).size(), is(0));
+        assertThat(sm1.acquire(NAMESPACES.get(0)), is(false));
+
+        sm1.stop();
+    }
+
+    @Test
+    public void testStartFailsWithoutRbacRights() {
+        @SuppressWarnings("unchecked")
+        MixedOperation<Lease, LeaseList, Resource<Lease>> leases = mock(MixedOperation.class);
+        @SuppressWarnings("unchecked")
+        NonNamespaceOperation<Lease, LeaseList, Resource<Lease>> leasesInNamespace = mock(NonNamespaceOperation.class);
+        @SuppressWarnings("unchecked")
+        Resource<Lease> lease = mock(Resource.class);
+        KubernetesClient forbiddenClient = mock(KubernetesClient.class);
+        when(forbiddenClient.leases()).thenReturn(leases);
+        when(leases.inNamespace(anyString())).thenReturn(leasesInNamespace);
+        when(leasesInNamespace.withName(anyString())).thenReturn(lease);
+        when(lease.get()).thenThrow(new KubernetesClientException("Forbidden", 403, null));
+
+        ShardingManager sm = new ShardingManager(forbiddenClient, config("sm-1"), clock);
+
+        InvalidConfigurationException e = assertThrows(InvalidConfigurationException.class, sm::start);
+        assertThat(e.getMessage(), containsString("RBAC"));
+    }
+
+    private void tick(ShardingManager... managers) {
+        clock.advance(Duration.ofSeconds(1));
+
+        for (ShardingManager manager : managers) {
+            manager.renewAndRebalance();
+        }
+    }
+
+    private List<String> owned(ShardingManager manager) {
+        return NAMESPACES.stream().filter(manager::isOwner).toList();
+    }
+
+    private ShardingManager createShardingManager(String identity)   {
+        return new ShardingManager(client, config(identity), clock);
+    }
+
+    private static LeaderElectionManagerConfig config(String identity)   {
+        Map<String, String> envVars = new HashMap<>();
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_LEASE_NAME.key(), LEASE_NAME);
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_LEASE_NAMESPACE.key(), NAMESPACE);
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_IDENTITY.key(), identity);
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_LEASE_DURATION_MS.key(), "2000");
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_RENEW_DEADLINE_MS.key(), "1500");
+        envVars.put(LeaderElectionManagerConfig.ENV_VAR_LEADER_ELECTION_RETRY_PERIOD_MS.key(), "200");
+
+        return LeaderElectionManagerConfig.fromMap(envVars);
+    }
+
+    /**
+     * Clock which moves only when the test advances it
+     */
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2023-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -9,6 +9,7 @@ import io.fabric8.kubernetes.api.model.EnvVar;
 import io.fabric8.kubernetes.api.model.EnvVarBuilder;
 import io.fabric8.kubernetes.api.model.rbac.RoleBinding;
 import io.strimzi.api.kafka.model.CertificateAuthority;
+import io.strimzi.api.kafka.model.CertificateKeyAlgorithm;
 import io.strimzi.api.kafka.model.EntityOperatorSpec;
 import io.strimzi.api.kafka.model.EntityOperatorSpecBuilder;
 import io.strimzi.api.kafka.model.EntityUserOperatorSpec;
@@ -320,6 +321,27 @@ public class EntityUserOperatorTest {
         assertThat(Integer.parseInt(envvar.stream().filter(a -> a.getName().equals(EntityUserOperator.ENV_VAR_CLIENTS_CA_RENEWAL)).findFirst().orElseThrow().getValue()), is(renewal));
     }
 
+    @ParallelTest
+    public void testEntityUserOperatorEnvVarKeyAlgorithm() {
+        Kafka kafkaAssembly = new KafkaBuilder(ResourceUtils.createKafka(namespace, cluster, replicas,
+                image, healthDelay, healthTimeout, jmxMetricsConfig, singletonMap("foo", "bar"), emptyMap()))
+                .editSpec()
+                .withNewClientsCa()
+                .withKeyAlgorithm(CertificateKeyAlgorithm.ECDSA_P256)
+                .endClientsCa()
+                .withNewEntityOperator()
+                .withNewUserOperator()
+                .endUserOperator()
+                .endEntityOperator()
+                .endSpec()
+                .build();
+
+        EntityUserOperator f = EntityUserOperator.fromCrd(new Reconciliation("test", resource.getKind(), resource.getMetadata().getNamespace(), resource.getMetadata().getName()), kafkaAssembly, SHARED_ENV_PROVIDER);
+
+        List<EnvVar> envvar = f.getEnvVars();
+        assertThat(envvar.stream().filter(a -> a.getName().equals(EntityUserOperator.ENV_VAR_CLIENTS_CA_KEY_ALGORITHM)).findFirst().orElseThrow().getValue(), is("ecdsa-p256"));
+    }
+
     @ParallelTest
     public void testRoleBindingInOtherNamespace()   {
         RoleBinding binding = entityUserOperator.generateRoleBindingForRole(namespace, uoWatchedNamespace);
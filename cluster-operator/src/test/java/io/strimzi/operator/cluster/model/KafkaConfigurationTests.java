@@ -4,15 +4,19 @@
  */
 package io.strimzi.operator.cluster.model;
 
+import io.strimzi.kafka.config.model.ConfigModel;
 import io.strimzi.operator.cluster.KafkaVersionTestUtils;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.test.annotations.ParallelSuite;
 import io.strimzi.test.annotations.ParallelTest;
 import org.junit.jupiter.api.Assertions;
 
+import java.util.Map;
+
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 
@@ -97,6 +101,16 @@ public class KafkaConfigurationTests {
         assertNoError("inter.broker.protocol.version", "2.5-IV0");
     }
 
+    @ParallelTest
+    public void testConfigModelIsCached() {
+        KafkaVersion version = KafkaVersionTestUtils.getKafkaVersionLookup().defaultVersion();
+        Map<String, ConfigModel> configModel = KafkaConfiguration.readConfigModel(version);
+
+        assertThat(configModel.containsKey("min.insync.replicas"), is(true));
+        assertThat(KafkaConfiguration.readConfigModel(version), is(sameInstance(configModel)));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> configModel.remove("min.insync.replicas"));
+    }
+
     @ParallelTest
     public void unsupportedVersion() {
         RuntimeException exc = Assertions.assertThrows(RuntimeException.class, () ->
@@ -0,0 +1,78 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model;
+
+import io.strimzi.test.annotations.ParallelSuite;
+import io.strimzi.test.annotations.ParallelTest;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ParallelSuite
+public class KafkaConnectBuildPlanTest {
+    @ParallelTest
+    public void testPluginChanges()   {
+        Map<String, String> current = new LinkedHashMap<>();
+        current.put("unchanged-plugin", "aaaaaaaa");
+        current.put("changed-plugin", "bbbbbbbb");
+        current.put("removed-plugin", "cccccccc");
+
+        Map<String, String> desired = new LinkedHashMap<>();
+        desired.put("unchanged-plugin", "aaaaaaaa");
+        desired.put("changed-plugin", "dddddddd");
+        desired.put("added-plugin", "eeeeeeee");
+
+        KafkaConnectBuildPlan plan = new KafkaConnectBuildPlan(current, desired);
+
+        assertThat(plan.addedPlugins(), is(List.of("added-plugin")));
+        assertThat(plan.changedPlugins(), is(List.of("changed-plugin")));
+        assertThat(plan.removedPlugins(), is(List.of("removed-plugin")));
+        assertThat(plan.unchangedPlugins(), is(List.of("unchanged-plugin")));
+        assertThat(plan.pluginsToBuild(), is(List.of("added-plugin", "changed-plugin")));
+        assertThat(plan.hasPluginChanges(), is(true));
+        assertThat(plan.toString(), is("Plugins to build: [added-plugin, changed-plugin], removed plugins: [removed-plugin], unchanged plugins: [unchanged-plugin]"));
+    }
+
+    @ParallelTest
+    public void testNoPluginChanges()   {
+        Map<String, String> revisions = Map.of("my-plugin", "aaaaaaaa");
+
+        KafkaConnectBuildPlan plan = new KafkaConnectBuildPlan(revisions, revisions);
+
+        assertThat(plan.pluginsToBuild(), is(List.of()));
+        assertThat(plan.removedPlugins(), is(List.of()));
+        assertThat(plan.unchangedPlugins(), is(List.of("my-plugin")));
+        assertThat(plan.hasPluginChanges(), is(false));
+        assertThat(plan.toString(), is("No plugins changed, unchanged plugins: [my-plugin]"));
+    }
+
+    @ParallelTest
+    public void testUnknownCurrentRevisions()   {
+        KafkaConnectBuildPlan plan = new KafkaConnectBuildPlan(null, Map.of("my-plugin", "aaaaaaaa"));
+
+        assertThat(plan.addedPlugins(), is(List.of("my-plugin")));
+        assertThat(plan.removedPlugins(), is(List.of()));
+        assertThat(plan.hasPluginChanges(), is(true));
+    }
+
+    @ParallelTest
+    public void testRevisionsAnnotation()   {
+        Map<String, String> revisions = new LinkedHashMap<>();
+        revisions.put("my-plugin", "aaaaaaaa");
+        revisions.put("other-plugin", "bbbbbbbb");
+
+        String annotation = KafkaConnectBuildPlan.revisionsAnnotation(revisions);
+
+        assertThat(annotation, is("my-plugin=aaaaaaaa,other-plugin=bbbbbbbb"));
+        assertThat(KafkaConnectBuildPlan.parseRevisionsAnnotation(annotation), is(revisions));
+        assertThat(KafkaConnectBuildPlan.parseRevisionsAnnotation(""), is(Map.of()));
+        assertThat(KafkaConnectBuildPlan.parseRevisionsAnnotation(null), is(nullValue()));
+    }
+}
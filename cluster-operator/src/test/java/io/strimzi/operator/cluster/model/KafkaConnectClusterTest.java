@@ -1267,6 +1267,8 @@ public class KafkaConnectClusterTest {
         pdb = kc.generatePodDisruptionBudget(true);
         assertThat(pdb.getSpec().getMinAvailable(), is(new IntOrString(0)));
         assertThat(pdb.getSpec().getMaxUnavailable(), is(nullValue()));
+
+        assertThat(kc.getMaxUnavailablePods(), is(2));
     }
 
     @ParallelTest
@@ -1281,6 +1283,8 @@ public class KafkaConnectClusterTest {
         pdb = kc.generatePodDisruptionBudget(true);
         assertThat(pdb.getSpec().getMinAvailable(), is(new IntOrString(1)));
         assertThat(pdb.getSpec().getMaxUnavailable(), is(nullValue()));
+
+        assertThat(kc.getMaxUnavailablePods(), is(1));
     }
 
     @ParallelTest
@@ -7,6 +7,8 @@ package io.strimzi.operator.cluster.model;
 import io.strimzi.api.kafka.model.connect.build.Artifact;
 import io.strimzi.api.kafka.model.connect.build.Build;
 import io.strimzi.api.kafka.model.connect.build.BuildBuilder;
+import io.strimzi.api.kafka.model.connect.build.DockerOutput;
+import io.strimzi.api.kafka.model.connect.build.DockerOutputBuilder;
 import io.strimzi.api.kafka.model.connect.build.JarArtifact;
 import io.strimzi.api.kafka.model.connect.build.JarArtifactBuilder;
 import io.strimzi.api.kafka.model.connect.build.MavenArtifact;
@@ -23,16 +25,24 @@ import io.strimzi.operator.cluster.operator.resource.SharedEnvironmentProvider;
 import io.strimzi.test.annotations.ParallelSuite;
 import io.strimzi.test.annotations.ParallelTest;
 
+import java.util.Map;
+import java.util.Set;
+
 import static io.strimzi.operator.cluster.model.KafkaBrokerConfigurationBuilderTest.IsEquivalent.isEquivalent;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @ParallelSuite
 public class KafkaConnectDockerfileTest {
     private static final SharedEnvironmentProvider SHARED_ENV_PROVIDER = new MockSharedEnvironmentProvider();
+    private static final DockerOutput DOCKER_OUTPUT_WITH_CACHE = new DockerOutputBuilder()
+            .withImage("my-image:latest")
+            .withAdditionalKanikoOptions("--cache=true", "--cache-repo=my-registry/cache")
+            .build();
 
     private final Artifact jarArtifactNoChecksum = new JarArtifactBuilder()
             .withUrl("https://mydomain.tld/my.jar")
@@ -409,6 +419,159 @@ public class KafkaConnectDockerfileTest {
                 "USER 1001\n\n"));
     }
 
+    @ParallelTest
+    public void testDockerfileWithPluginStages()   {
+        Build connectBuild = new BuildBuilder()
+                .withPlugins(new PluginBuilder()
+                        .withName("my-connector-plugin")
+                        .withArtifacts(jarArtifactNoChecksum, jarArtifactWithChecksum)
+                        .build())
+                .withOutput(DOCKER_OUTPUT_WITH_CACHE)
+                .build();
+
+        KafkaConnectDockerfile df = new KafkaConnectDockerfile("myImage:latest", connectBuild, SHARED_ENV_PROVIDER);
+
+        assertThat(df.getDockerfile(), is("##############################\n" +
+                "##############################\n" +
+                "# This file is automatically generated by the Strimzi Cluster Operator\n" +
+                "# Any changes to this file will be ignored and overwritten!\n" +
+                "##############################\n" +
+                "##############################\n" +
+                "\n" +
+                "##########\n" +
+                "# Connector plugin my-connector-plugin\n" +
+                "##########\n" +
+                "FROM myImage:latest AS connector-plugin-my-connector-plugin\n" +
+                "\n" +
+                "USER root:root\n" +
+                "\n" +
+                "RUN 'mkdir' '-p' '/opt/kafka/plugins/my-connector-plugin/51e5038c' \\\n" +
+                "      && 'curl' '-f' '-L' '--output' '/opt/kafka/plugins/my-connector-plugin/51e5038c/51e5038c.jar' 'https://mydomain.tld/my.jar'\n" +
+                "\n" +
+                "RUN 'mkdir' '-p' '/opt/kafka/plugins/my-connector-plugin/0df6d15c' \\\n" +
+                "      && 'curl' '-f' '-L' '--output' '/opt/kafka/plugins/my-connector-plugin/0df6d15c/0df6d15c.jar' 'https://mydomain.tld/my2.jar' \\\n" +
+                "      && 'echo' 'sha-512-checksum /opt/kafka/plugins/my-connector-plugin/0df6d15c/0df6d15c.jar' > '/opt/kafka/plugins/my-connector-plugin/0df6d15c/0df6d15c.jar.sha512' \\\n" +
+                "      && 'sha512sum' '--check' '/opt/kafka/plugins/my-connector-plugin/0df6d15c/0df6d15c.jar.sha512' \\\n" +
+                "      && 'rm' '-f' '/opt/kafka/plugins/my-connector-plugin/0df6d15c/0df6d15c.jar.sha512'\n" +
+                "\n" +
+                "FROM myImage:latest\n" +
+                "\n" +
+                "USER root:root\n" +
+                "\n" +
+                "##########\n" +
+                "# Connector plugin my-connector-plugin\n" +
+                "##########\n" +
+                "COPY --from=connector-plugin-my-connector-plugin '/opt/kafka/plugins/my-connector-plugin' '/opt/kafka/plugins/my-connector-plugin'\n" +
+                "\n" +
+                "USER 1001\n\n"));
+    }
+
+    @ParallelTest
+    public void testPluginStagesDoNotDependOnOtherPlugins()   {
+        Build connectBuild = new BuildBuilder()
+                .withPlugins(new PluginBuilder()
+                        .withName("my-connector-plugin")
+                        .withArtifacts(jarArtifactWithChecksum, tgzArtifactNoChecksum)
+                        .build())
+                .withOutput(DOCKER_OUTPUT_WITH_CACHE)
+                .build();
+
+        Build connectBuildWithMorePlugins = new BuildBuilder()
+                .withPlugins(new PluginBuilder()
+                        .withName("other-connector-plugin")
+                        .withArtifacts(zipArtifactWithChecksum)
+                        .build(),
+                    new PluginBuilder()
+                        .withName("my-connector-plugin")
+                        .withArtifacts(jarArtifactWithChecksum, tgzArtifactNoChecksum)
+                        .build())
+                .withOutput(DOCKER_OUTPUT_WITH_CACHE)
+                .build();
+
+        String stage = pluginStage(new KafkaConnectDockerfile("myImage:latest", connectBuild, SHARED_ENV_PROVIDER).getDockerfile(), "my-connector-plugin");
+        String stageWithMorePlugins = pluginStage(new KafkaConnectDockerfile("myImage:latest", connectBuildWithMorePlugins, SHARED_ENV_PROVIDER).getDockerfile(), "my-connector-plugin");
+
+        // The stage of the unchanged plugin is the same => its layers can be reused from the cache
+        assertThat(stageWithMorePlugins, is(stage));
+        assertThat(stage.contains("'https://mydomain.tld/my2.zip'"), is(false));
+    }
+
+    @ParallelTest
+    public void testPluginRevisions()   {
+        Artifact mavenArtifact = new MavenArtifactBuilder()
+                .withGroup("g1")
+                .withArtifact("a1")
+                .withVersion("v1")
+                .build();
+
+        Build connectBuild = new BuildBuilder()
+                .withPlugins(new PluginBuilder()
+                        .withName("my-connector-plugin")
+                        .withArtifacts(jarArtifactWithChecksum)
+                        .build(),
+                    new PluginBuilder()
+                        .withName("my-maven-plugin")
+                        .withArtifacts(mavenArtifact)
+                        .build())
+                .build();
+
+        Build connectBuildWithMorePlugins = new BuildBuilder()
+                .withPlugins(new PluginBuilder()
+                        .withName("my-connector-plugin")
+                        .withArtifacts(jarArtifactWithChecksum)
+                        .build(),
+                    new PluginBuilder()
+                        .withName("my-maven-plugin")
+                        .withArtifacts(mavenArtifact)
+                        .build(),
+                    new PluginBuilder()
+                        .withName("other-connector-plugin")
+                        .withArtifacts(zipArtifactWithChecksum)
+                        .build())
+                .build();
+
+        Build connectBuildWithChangedPlugin = new BuildBuilder()
+                .withPlugins(new PluginBuilder()
+                        .withName("my-connector-plugin")
+                        .withArtifacts(jarArtifactNoChecksum)
+                        .build(),
+                    new PluginBuilder()
+                        .withName("my-maven-plugin")
+                        .withArtifacts(mavenArtifact)
+                        .build())
+                .build();
+
+        Map<String, String> revisions = new KafkaConnectDockerfile("myImage:latest", connectBuild, SHARED_ENV_PROVIDER).pluginRevisions();
+        Map<String, String> revisionsWithMorePlugins = new KafkaConnectDockerfile("myImage:latest", connectBuildWithMorePlugins, SHARED_ENV_PROVIDER).pluginRevisions();
+        Map<String, String> revisionsWithChangedPlugin = new KafkaConnectDockerfile("myImage:latest", connectBuildWithChangedPlugin, SHARED_ENV_PROVIDER).pluginRevisions();
+
+        assertThat(revisions.keySet(), is(Set.of("my-connector-plugin", "my-maven-plugin")));
+
+        // Adding a plugin does not change the revisions of the other plugins
+        assertThat(revisionsWithMorePlugins.keySet(), is(Set.of("my-connector-plugin", "my-maven-plugin", "other-connector-plugin")));
+        assertThat(revisionsWithMorePlugins.get("my-connector-plugin"), is(revisions.get("my-connector-plugin")));
+        assertThat(revisionsWithMorePlugins.get("my-maven-plugin"), is(revisions.get("my-maven-plugin")));
+
+        // Changing an artifact changes only the revision of its plugin
+        assertThat(revisionsWithChangedPlugin.get("my-connector-plugin"), is(not(revisions.get("my-connector-plugin"))));
+        assertThat(revisionsWithChangedPlugin.get("my-maven-plugin"), is(revisions.get("my-maven-plugin")));
+    }
+
+    /**
+     * Extracts the build stage of a connector plugin from the Dockerfile
+     *
+     * @param dockerfile    Dockerfile
+     * @param pluginName    Name of the plugin
+     *
+     * @return  Part of the Dockerfile with the stage of the plugin
+     */
+    private static String pluginStage(String dockerfile, String pluginName)  {
+        int start = dockerfile.indexOf("FROM myImage:latest AS connector-plugin-" + pluginName + "\n");
+        int end = dockerfile.indexOf("\n#", start);
+
+        return dockerfile.substring(start, end);
+    }
+
     @ParallelTest
     public void testNoUrlWhenRequired() {
         Artifact tgzArtifact = new TgzArtifactBuilder()
@@ -569,6 +732,74 @@ public class KafkaConnectDockerfileTest {
                 "\n"));
     }
 
+    @ParallelTest
+    public void testMavenDockerfileWithMultiplePlugins()   {
+        Build connectBuild = new BuildBuilder()
+                .withPlugins(
+                    new PluginBuilder()
+                        .withName("my-connector-plugin")
+                        .withArtifacts(new MavenArtifactBuilder().withGroup("g1").withArtifact("a1").withVersion("v1").build())
+                        .build(),
+                    new PluginBuilder()
+                        .withName("other-connector-plugin")
+                        .withArtifacts(new MavenArtifactBuilder().withGroup("g2").withArtifact("a2").withVersion("v2").build())
+                        .build(),
+                    new PluginBuilder()
+                        .withName("third-connector-plugin")
+                        .withArtifacts(new MavenArtifactBuilder().withGroup("g3").withArtifact("a3").withVersion("v3").build())
+                        .build())
+                .build();
+
+        KafkaConnectDockerfile df = new KafkaConnectDockerfile("myImage:latest", connectBuild, SHARED_ENV_PROVIDER);
+
+        // Without the Kaniko layer cache, the artifacts are downloaded in the same order as before the plugin stages
+        // were added, so that the Dockerfile and the image revision do not change
+        assertThat(df.getDockerfile(), is("##############################\n" +
+                "##############################\n" +
+                "# This file is automatically generated by the Strimzi Cluster Operator\n" +
+                "# Any changes to this file will be ignored and overwritten!\n" +
+                "##############################\n" +
+                "##############################\n" +
+                "\n" +
+                "FROM quay.io/strimzi/maven-builder:latest AS downloadArtifacts\n" +
+                "RUN 'curl' '-f' '-L' '--create-dirs' '--output' '/tmp/third-connector-plugin/3d420d55/pom.xml' 'https://repo1.maven.org/maven2/g3/a3/v3/a3-v3.pom' \\\n" +
+                "      && 'echo' '<settings xmlns=\"http://maven.apache.org/SETTINGS/1.0.0\"><profiles><profile><id>download</id><repositories><repository><id>custom-repo</id><url>https://repo1.maven.org/maven2/</url></repository></repositories></profile></profiles><activeProfiles><activeProfile>download</activeProfile></activeProfiles></settings>' > '/tmp/3d420d55.xml' \\\n" +
+                "      && 'mvn' 'dependency:copy-dependencies' '-s' '/tmp/3d420d55.xml' '-DoutputDirectory=/tmp/artifacts/third-connector-plugin/3d420d55' '-f' '/tmp/third-connector-plugin/3d420d55/pom.xml' \\\n" +
+                "      && 'curl' '-f' '-L' '--create-dirs' '--output' '/tmp/artifacts/third-connector-plugin/3d420d55/a3-v3.jar' 'https://repo1.maven.org/maven2/g3/a3/v3/a3-v3.jar'\n" +
+                "\n" +
+                "RUN 'curl' '-f' '-L' '--create-dirs' '--output' '/tmp/my-connector-plugin/64cebd9c/pom.xml' 'https://repo1.maven.org/maven2/g1/a1/v1/a1-v1.pom' \\\n" +
+                "      && 'echo' '<settings xmlns=\"http://maven.apache.org/SETTINGS/1.0.0\"><profiles><profile><id>download</id><repositories><repository><id>custom-repo</id><url>https://repo1.maven.org/maven2/</url></repository></repositories></profile></profiles><activeProfiles><activeProfile>download</activeProfile></activeProfiles></settings>' > '/tmp/64cebd9c.xml' \\\n" +
+                "      && 'mvn' 'dependency:copy-dependencies' '-s' '/tmp/64cebd9c.xml' '-DoutputDirectory=/tmp/artifacts/my-connector-plugin/64cebd9c' '-f' '/tmp/my-connector-plugin/64cebd9c/pom.xml' \\\n" +
+                "      && 'curl' '-f' '-L' '--create-dirs' '--output' '/tmp/artifacts/my-connector-plugin/64cebd9c/a1-v1.jar' 'https://repo1.maven.org/maven2/g1/a1/v1/a1-v1.jar'\n" +
+                "\n" +
+                "RUN 'curl' '-f' '-L' '--create-dirs' '--output' '/tmp/other-connector-plugin/9983060e/pom.xml' 'https://repo1.maven.org/maven2/g2/a2/v2/a2-v2.pom' \\\n" +
+                "      && 'echo' '<settings xmlns=\"http://maven.apache.org/SETTINGS/1.0.0\"><profiles><profile><id>download</id><repositories><repository><id>custom-repo</id><url>https://repo1.maven.org/maven2/</url></repository></repositories></profile></profiles><activeProfiles><activeProfile>download</activeProfile></activeProfiles></settings>' > '/tmp/9983060e.xml' \\\n" +
+                "      && 'mvn' 'dependency:copy-dependencies' '-s' '/tmp/9983060e.xml' '-DoutputDirectory=/tmp/artifacts/other-connector-plugin/9983060e' '-f' '/tmp/other-connector-plugin/9983060e/pom.xml' \\\n" +
+                "      && 'curl' '-f' '-L' '--create-dirs' '--output' '/tmp/artifacts/other-connector-plugin/9983060e/a2-v2.jar' 'https://repo1.maven.org/maven2/g2/a2/v2/a2-v2.jar'\n" +
+                "\n" +
+                "FROM myImage:latest\n" +
+                "\n" +
+                "USER root:root\n" +
+                "\n" +
+                "##########\n" +
+                "# Connector plugin my-connector-plugin\n" +
+                "##########\n" +
+                "COPY --from=downloadArtifacts '/tmp/artifacts/my-connector-plugin/64cebd9c' '/opt/kafka/plugins/my-connector-plugin/64cebd9c'\n" +
+                "\n" +
+                "##########\n" +
+                "# Connector plugin other-connector-plugin\n" +
+                "##########\n" +
+                "COPY --from=downloadArtifacts '/tmp/artifacts/other-connector-plugin/9983060e' '/opt/kafka/plugins/other-connector-plugin/9983060e'\n" +
+                "\n" +
+                "##########\n" +
+                "# Connector plugin third-connector-plugin\n" +
+                "##########\n" +
+                "COPY --from=downloadArtifacts '/tmp/artifacts/third-connector-plugin/3d420d55' '/opt/kafka/plugins/third-connector-plugin/3d420d55'\n" +
+                "\n" +
+                "USER 1001\n" +
+                "\n"));
+    }
+
     @ParallelTest
     public void testMavenDockerfileWithCustomRepoUrl()   {
         MavenArtifact mvn = new MavenArtifactBuilder()
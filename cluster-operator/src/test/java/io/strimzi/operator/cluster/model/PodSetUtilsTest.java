@@ -13,6 +13,7 @@ import io.strimzi.test.annotations.ParallelTest;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 @ParallelSuite
@@ -40,4 +41,17 @@ public class PodSetUtilsTest {
 
         assertThat(PodSetUtils.mapToPod(PodSetUtils.podToMap(pod)), is(pod));
     }
+
+    @ParallelTest
+    public void testPodName() {
+        Pod pod = new PodBuilder()
+                    .withNewMetadata()
+                        .withName("my-pod")
+                        .withNamespace("my-namespace")
+                    .endMetadata()
+                    .build();
+
+        assertThat(PodSetUtils.podName(PodSetUtils.podToMap(pod)), is("my-pod"));
+        assertThat(PodSetUtils.podName(Map.of()), is(nullValue()));
+    }
 }
@@ -154,4 +154,45 @@ public class StatusDiffTest {
         StatusDiff diff = new StatusDiff(status1, status2);
         assertThat(diff.isEmpty(), is(true));
     }
+
+    @ParallelTest
+    public void testHash() {
+        Condition condition1 = new ConditionBuilder()
+                .withLastTransitionTime(StatusUtils.iso8601(Clock.systemUTC().instant()))
+                .withType("Ready")
+                .withStatus("True")
+                .build();
+
+        Condition condition2 = new ConditionBuilder()
+                .withLastTransitionTime(StatusUtils.iso8601(Instant.parse("2011-01-01T00:00:00Z")))
+                .withType("Ready")
+                .withStatus("True")
+                .build();
+
+        Condition condition3 = new ConditionBuilder()
+                .withLastTransitionTime(StatusUtils.iso8601(Instant.parse("2011-01-01T00:00:00Z")))
+                .withType("NotReady")
+                .withStatus("True")
+                .build();
+
+        KafkaStatus status1 = new KafkaStatusBuilder()
+                .withConditions(condition1)
+                .withObservedGeneration(1L)
+                .build();
+
+        KafkaStatus status2 = new KafkaStatusBuilder()
+                .withConditions(condition2)
+                .withObservedGeneration(1L)
+                .build();
+
+        KafkaStatus status3 = new KafkaStatusBuilder()
+                .withConditions(condition3)
+                .withObservedGeneration(1L)
+                .build();
+
+        // The last transition time is ignored
+        assertThat(StatusDiff.hash(status1), is(StatusDiff.hash(status2)));
+        assertThat(StatusDiff.hash(status1).equals(StatusDiff.hash(status3)), is(false));
+        assertThat(StatusDiff.hash(status1).equals(StatusDiff.hash(null)), is(false));
+    }
 }
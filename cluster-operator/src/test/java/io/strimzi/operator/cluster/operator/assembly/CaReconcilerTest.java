@@ -9,6 +9,7 @@ import io.fabric8.kubernetes.api.model.OwnerReferenceBuilder;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
 import io.fabric8.kubernetes.api.model.apps.Deployment;
 import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
 import io.strimzi.api.kafka.model.CertificateAuthority;
@@ -67,6 +68,7 @@ import java.security.cert.CertificateException;
 import java.security.cert.CertificateFactory;
 import java.security.cert.X509Certificate;
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Base64;
@@ -1637,6 +1639,107 @@ public class CaReconcilerTest {
                 })));
     }
 
+    @Test
+    public void testReconcileCasUsesCacheWhenNothingChanged(Vertx vertx, VertxTestContext context)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        CertificateAuthority certificateAuthority = new CertificateAuthorityBuilder()
+                .withValidityDays(100)
+                .withRenewalDays(10)
+                .withGenerateCertificateAuthority(true)
+                .build();
+
+        Kafka kafka = new KafkaBuilder()
+                .editOrNewMetadata()
+                    .withName(NAME)
+                    .withNamespace(NAMESPACE)
+                .endMetadata()
+                .withNewSpec()
+                    .withClusterCa(certificateAuthority)
+                    .withClientsCa(certificateAuthority)
+                .endSpec()
+                .build();
+
+        secrets.addAll(initialClusterCaSecrets(certificateAuthority));
+        secrets.addAll(initialClientsCaSecrets(certificateAuthority));
+
+        ResourceOperatorSupplier supplier = ResourceUtils.supplierWithMocks(false);
+        SecretOperator secretOps = supplier.secretOperations;
+
+        // The Secrets are returned as they are stored
+        when(secretOps.list(eq(NAMESPACE), any())).thenAnswer(i -> new ArrayList<>(secrets));
+        List<Secret> reconciled = new ArrayList<>();
+        when(secretOps.reconcile(any(), eq(NAMESPACE), any(), any())).thenAnswer(i -> {
+            reconciled.add(i.getArgument(3));
+            return Future.succeededFuture(ReconcileResult.noop(i.getArgument(3)));
+        });
+        when(supplier.deploymentOperations.getAsync(eq(NAMESPACE), any())).thenReturn(Future.succeededFuture());
+        when(supplier.strimziPodSetOperator.getAsync(eq(NAMESPACE), any())).thenReturn(Future.succeededFuture());
+        when(supplier.strimziPodSetOperator.listAsync(eq(NAMESPACE), any(Labels.class))).thenReturn(Future.succeededFuture());
+        when(supplier.podOperations.listAsync(eq(NAMESPACE), any(Labels.class))).thenReturn(Future.succeededFuture(List.of()));
+
+        Reconciliation reconciliation = new Reconciliation("test-trigger", Kafka.RESOURCE_KIND, NAMESPACE, NAME);
+        ClusterOperatorConfig config = new ClusterOperatorConfig.ClusterOperatorConfigBuilder(ResourceUtils.dummyClusterOperatorConfig(), KafkaVersionTestUtils.getKafkaVersionLookup()).with(ClusterOperatorConfig.OPERATION_TIMEOUT_MS.key(), "1").build();
+        Map<String, CaReconciler.CachedCaState> cache = new HashMap<>();
+        Set<String> caSecretNames = Set.of(AbstractModel.clusterCaCertSecretName(NAME), AbstractModel.clusterCaKeySecretName(NAME),
+                KafkaResources.clientsCaCertificateSecretName(NAME), KafkaResources.clientsCaKeySecretName(NAME));
+
+        Checkpoint async = context.checkpoint();
+
+        // The initial Secrets are missing the labels and annotations => they are updated and not cached
+        new CaReconciler(reconciliation, kafka, config, supplier, vertx, certManager, passwordGenerator, cache)
+                .reconcile(Clock.systemUTC())
+                .compose(i -> {
+                    context.verify(() -> assertThat(cache, aMapWithSize(0)));
+
+                    // Store the updated CA Secrets with a resource version
+                    secrets.clear();
+                    reconciled.stream()
+                            .filter(s -> caSecretNames.contains(s.getMetadata().getName()))
+                            .forEach(s -> secrets.add(new SecretBuilder(s).editMetadata().withResourceVersion("1").endMetadata().build()));
+                    reconciled.clear();
+
+                    return new CaReconciler(reconciliation, kafka, config, supplier, vertx, certManager, passwordGenerator, cache)
+                            .reconcile(Clock.systemUTC());
+                })
+                .compose(i -> {
+                    // The Secrets did not change => they are cached
+                    context.verify(() -> assertThat(cache, aMapWithSize(1)));
+                    reconciled.clear();
+
+                    return new CaReconciler(reconciliation, kafka, config, supplier, vertx, certManager, passwordGenerator, cache)
+                            .reconcile(Clock.systemUTC());
+                })
+                .compose(result -> {
+                    // The cached CAs are used and the CA Secrets are not reconciled
+                    context.verify(() -> {
+                        assertThat(reconciled.stream().map(s -> s.getMetadata().getName()).filter(caSecretNames::contains).count(), is(0L));
+                        assertThat(result.clusterCa().currentCaCertBase64(), is(secrets.get(0).getData().get(CA_CRT)));
+                        assertThat(result.clientsCa().keyCreated(), is(false));
+                        assertThat(result.clusterCa().certRenewed(), is(false));
+                    });
+
+                    // Changing the Secret invalidates the cache
+                    secrets.set(0, new SecretBuilder(secrets.get(0)).editMetadata().withResourceVersion("2").endMetadata().build());
+                    reconciled.clear();
+
+                    return new CaReconciler(reconciliation, kafka, config, supplier, vertx, certManager, passwordGenerator, cache)
+                            .reconcile(Clock.systemUTC());
+                })
+                .compose(i -> {
+                    context.verify(() -> assertThat(reconciled.stream().map(s -> s.getMetadata().getName()).filter(caSecretNames::contains).count(), is(4L)));
+
+                    // A clock inside the renewal period bypasses the cache
+                    reconciled.clear();
+
+                    return new CaReconciler(reconciliation, kafka, config, supplier, vertx, certManager, passwordGenerator, cache)
+                            .reconcile(Clock.offset(Clock.systemUTC(), Duration.ofDays(95)));
+                })
+                .onComplete(context.succeeding(i -> context.verify(() -> {
+                    assertThat(reconciled.stream().map(s -> s.getMetadata().getName()).filter(caSecretNames::contains).count(), is(4L));
+                    async.flag();
+                })));
+    }
+
     static class MockCaReconciler extends CaReconciler {
 
         RestartReasons zkPodRestartReasons;
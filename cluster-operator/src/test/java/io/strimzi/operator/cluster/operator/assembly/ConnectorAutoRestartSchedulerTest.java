@@ -0,0 +1,202 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.api.kafka.model.KafkaConnect;
+import io.strimzi.api.kafka.model.KafkaMirrorMaker2;
+import io.strimzi.api.kafka.model.status.AutoRestartStatus;
+import io.strimzi.api.kafka.model.status.AutoRestartStatusBuilder;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.operator.resource.StatusUtils;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.strimzi.operator.cluster.operator.assembly.ConnectorAutoRestartScheduler.Decision.JITTER;
+import static io.strimzi.operator.cluster.operator.assembly.ConnectorAutoRestartScheduler.Decision.RATE_LIMITED;
+import static io.strimzi.operator.cluster.operator.assembly.ConnectorAutoRestartScheduler.Decision.RESTART;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class ConnectorAutoRestartSchedulerTest {
+    private static final String NAMESPACE = "my-namespace";
+    private static final String CONNECT = "my-connect-connect-api.my-namespace.svc";
+    private static final String OTHER_CONNECT = "other-connect-connect-api.my-namespace.svc";
+
+    private static final long RECONCILIATION_INTERVAL_MS = 120_000L;
+
+    private final ConnectOperatorMetricsHolder metrics = new ConnectOperatorMetricsHolder(KafkaConnect.RESOURCE_KIND, null, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
+    private final AtomicLong clock = new AtomicLong(Instant.now().truncatedTo(ChronoUnit.SECONDS).toEpochMilli());
+
+    private AutoRestartStatus autoRestartStatus(int count, long lastRestartMs)  {
+        return new AutoRestartStatusBuilder()
+                .withCount(count)
+                .withLastRestartTimestamp(StatusUtils.iso8601(Instant.ofEpochMilli(lastRestartMs)))
+                .build();
+    }
+
+    // Auto-restart status of a connector which is due for a restart regardless of its jitter
+    private AutoRestartStatus dueAutoRestartStatus()  {
+        return autoRestartStatus(1, clock.get() - 3_600_000L);
+    }
+
+    private String connectorWithJitter(long jitterMs)  {
+        for (int connector = 0; ; connector++) {
+            if (ConnectorAutoRestartScheduler.jitterMs(CONNECT, "connector-" + connector, 0, RECONCILIATION_INTERVAL_MS) == jitterMs) {
+                return "connector-" + connector;
+            }
+        }
+    }
+
+    @Test
+    public void testJitter() {
+        for (int count = 0; count < ConnectorAutoRestartScheduler.MAX_RESTARTS; count++) {
+            long maxJitterMs = Math.max((long) (ConnectorAutoRestartScheduler.backOffMinutes(count) * 60_000L * ConnectorAutoRestartScheduler.MAX_JITTER), RECONCILIATION_INTERVAL_MS);
+            Set<Long> jitters = new HashSet<>();
+
+            for (int connector = 0; connector < 100; connector++) {
+                long jitter = ConnectorAutoRestartScheduler.jitterMs(CONNECT, "connector-" + connector, count, RECONCILIATION_INTERVAL_MS);
+
+                assertThat(jitter, is(greaterThanOrEqualTo(0L)));
+                assertThat(jitter, is(lessThanOrEqualTo(maxJitterMs)));
+                assertThat(jitter % RECONCILIATION_INTERVAL_MS, is(0L));
+                assertThat(ConnectorAutoRestartScheduler.jitterMs(CONNECT, "connector-" + connector, count, RECONCILIATION_INTERVAL_MS), is(jitter));
+
+                jitters.add(jitter);
+            }
+
+            // The connectors are spread over at least two reconciliations
+            assertThat(jitters.size(), is(greaterThan(1)));
+        }
+    }
+
+    @Test
+    public void testRestartAfterBackOffAndJitter() {
+        ConnectorAutoRestartScheduler scheduler = new ConnectorAutoRestartScheduler(0, RECONCILIATION_INTERVAL_MS, metrics, clock::get);
+
+        long lastRestart = clock.get();
+        long restartAt = lastRestart + ConnectorAutoRestartScheduler.backOffMinutes(2) * 60_000L + ConnectorAutoRestartScheduler.jitterMs(CONNECT, "my-connector", 2, RECONCILIATION_INTERVAL_MS);
+        AutoRestartStatus status = autoRestartStatus(2, lastRestart);
+
+        clock.set(restartAt - 1);
+        assertThat(scheduler.schedule(NAMESPACE, CONNECT, "my-connector", status), is(JITTER));
+        assertThat(scheduler.pendingCount(NAMESPACE), is(1));
+        assertThat(metrics.pendingAutoRestartsCounter(NAMESPACE).get(), is(1));
+
+        clock.set(restartAt);
+        assertThat(scheduler.schedule(NAMESPACE, CONNECT, "my-connector", status), is(RESTART));
+        assertThat(scheduler.pendingCount(NAMESPACE), is(0));
+        assertThat(metrics.pendingAutoRestartsCounter(NAMESPACE).get(), is(0));
+    }
+
+    @Test
+    public void testFirstRestartIsJittered() {
+        ConnectorAutoRestartScheduler scheduler = new ConnectorAutoRestartScheduler(0, RECONCILIATION_INTERVAL_MS, metrics, clock::get);
+        String restartedNow = connectorWithJitter(0L);
+        String restartedLater = connectorWithJitter(RECONCILIATION_INTERVAL_MS);
+
+        assertThat(scheduler.schedule(NAMESPACE, CONNECT, restartedNow, null), is(RESTART));
+        assertThat(scheduler.schedule(NAMESPACE, CONNECT, restartedLater, null), is(JITTER));
+        assertThat(scheduler.pendingCount(NAMESPACE), is(1));
+
+        // The jitter of the first restart applies from the first time the connector was seen failing
+        clock.addAndGet(RECONCILIATION_INTERVAL_MS - 1);
+        assertThat(scheduler.schedule(NAMESPACE, CONNECT, restartedLater, null), is(JITTER));
+
+        clock.addAndGet(1L);
+        assertThat(scheduler.schedule(NAMESPACE, CONNECT, restartedLater, null), is(RESTART));
+        assertThat(scheduler.pendingCount(NAMESPACE), is(0));
+
+        // Once the connector recovers, a new failure waits for the jitter again
+        scheduler.clear(NAMESPACE, CONNECT, restartedLater);
+        assertThat(scheduler.schedule(NAMESPACE, CONNECT, restartedLater, null), is(JITTER));
+    }
+
+    @Test
+    public void testRateLimit() {
+        ConnectorAutoRestartScheduler scheduler = new ConnectorAutoRestartScheduler(2, RECONCILIATION_INTERVAL_MS, metrics, clock::get);
+
+        assertThat(scheduler.schedule(NAMESPACE, CONNECT, "connector-1", dueAutoRestartStatus()), is(RESTART));
+        assertThat(scheduler.schedule(NAMESPACE, CONNECT, "connector-2", dueAutoRestartStatus()), is(RESTART));
+        assertThat(scheduler.schedule(NAMESPACE, CONNECT, "connector-3", dueAutoRestartStatus()), is(RATE_LIMITED));
+        assertThat(scheduler.pendingCount(NAMESPACE), is(1));
+
+        // The limit applies to each Connect cluster separately
+        assertThat(scheduler.schedule(NAMESPACE, OTHER_CONNECT, "connector-1", dueAutoRestartStatus()), is(RESTART));
+
+        clock.addAndGet(59_999L);
+        assertThat(scheduler.schedule(NAMESPACE, CONNECT, "connector-3", dueAutoRestartStatus()), is(RATE_LIMITED));
+        assertThat(scheduler.pendingCount(NAMESPACE), is(1));
+
+        clock.addAndGet(1L);
+        assertThat(scheduler.schedule(NAMESPACE, CONNECT, "connector-3", dueAutoRestartStatus()), is(RESTART));
+        assertThat(scheduler.pendingCount(NAMESPACE), is(0));
+    }
+
+    @Test
+    public void testUnlimited() {
+        ConnectorAutoRestartScheduler scheduler = new ConnectorAutoRestartScheduler(0, RECONCILIATION_INTERVAL_MS, metrics, clock::get);
+
+        for (int connector = 0; connector < 100; connector++) {
+            assertThat(scheduler.schedule(NAMESPACE, CONNECT, "connector-" + connector, dueAutoRestartStatus()), is(RESTART));
+        }
+    }
+
+    @Test
+    public void testPendingRestarts() {
+        ConnectorAutoRestartScheduler scheduler = new ConnectorAutoRestartScheduler(1, RECONCILIATION_INTERVAL_MS, metrics, clock::get);
+
+        scheduler.backOff(NAMESPACE, CONNECT, "connector-1", autoRestartStatus(3, clock.get()));
+        scheduler.backOff(NAMESPACE, OTHER_CONNECT, "connector-1", autoRestartStatus(3, clock.get()));
+        scheduler.backOff("other-namespace", CONNECT, "connector-1", autoRestartStatus(3, clock.get()));
+        assertThat(scheduler.pendingCount(NAMESPACE), is(2));
+        assertThat(scheduler.pendingCount("other-namespace"), is(1));
+
+        // Connectors which used all restarts are not waiting for a restart anymore
+        scheduler.backOff(NAMESPACE, CONNECT, "connector-1", autoRestartStatus(ConnectorAutoRestartScheduler.MAX_RESTARTS, clock.get()));
+        assertThat(scheduler.pendingCount(NAMESPACE), is(1));
+
+        scheduler.backOff(NAMESPACE, CONNECT, "connector-2", autoRestartStatus(1, clock.get()));
+        scheduler.backOff(NAMESPACE, CONNECT, "connector-3", autoRestartStatus(1, clock.get()));
+        assertThat(scheduler.pendingCount(NAMESPACE), is(3));
+
+        scheduler.clear(NAMESPACE, CONNECT, "connector-2");
+        assertThat(scheduler.pendingCount(NAMESPACE), is(2));
+        assertThat(metrics.pendingAutoRestartsCounter(NAMESPACE).get(), is(2));
+
+        // Deleting the Connect cluster removes its connectors and resets its rate limit
+        assertThat(scheduler.schedule(NAMESPACE, CONNECT, "connector-4", dueAutoRestartStatus()), is(RESTART));
+        assertThat(scheduler.schedule(NAMESPACE, CONNECT, "connector-5", dueAutoRestartStatus()), is(RATE_LIMITED));
+        scheduler.clearAll(NAMESPACE, CONNECT);
+        assertThat(scheduler.pendingCount(NAMESPACE), is(1));
+        assertThat(metrics.pendingAutoRestartsCounter(NAMESPACE).get(), is(1));
+        assertThat(scheduler.schedule(NAMESPACE, CONNECT, "connector-5", dueAutoRestartStatus()), is(RESTART));
+    }
+
+    @Test
+    public void testPendingRestartsMetricPerOperatorKind() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        MicrometerMetricsProvider metricsProvider = new MicrometerMetricsProvider(registry);
+        ConnectorAutoRestartScheduler connectScheduler = new ConnectorAutoRestartScheduler(0, RECONCILIATION_INTERVAL_MS,
+                new ConnectOperatorMetricsHolder(KafkaConnect.RESOURCE_KIND, null, metricsProvider), clock::get);
+        ConnectorAutoRestartScheduler mirrorMaker2Scheduler = new ConnectorAutoRestartScheduler(0, RECONCILIATION_INTERVAL_MS,
+                new ConnectOperatorMetricsHolder(KafkaMirrorMaker2.RESOURCE_KIND, null, metricsProvider), clock::get);
+
+        connectScheduler.backOff(NAMESPACE, CONNECT, "connector-1", autoRestartStatus(1, clock.get()));
+        mirrorMaker2Scheduler.backOff(NAMESPACE, OTHER_CONNECT, "connector-1", autoRestartStatus(1, clock.get()));
+        mirrorMaker2Scheduler.backOff(NAMESPACE, OTHER_CONNECT, "connector-2", autoRestartStatus(1, clock.get()));
+
+        assertThat(registry.get("strimzi.auto.restarts.pending").tag("kind", KafkaConnect.RESOURCE_KIND).gauge().value(), is(1.0));
+        assertThat(registry.get("strimzi.auto.restarts.pending").tag("kind", KafkaMirrorMaker2.RESOURCE_KIND).gauge().value(), is(2.0));
+    }
+}
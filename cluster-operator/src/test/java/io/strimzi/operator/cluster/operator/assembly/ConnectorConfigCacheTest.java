@@ -0,0 +1,62 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ConnectorConfigCacheTest {
+    private static final String HOST = "my-connect-connect-api.my-namespace.svc";
+    private static final String FINGERPRINT = ConnectorConfigCache.fingerprint(1L, Map.of("name", "my-connector", "connector.class", "Dummy"));
+
+    @Test
+    public void testFingerprint() {
+        assertThat(ConnectorConfigCache.fingerprint(1L, Map.of("connector.class", "Dummy", "name", "my-connector")), is(FINGERPRINT));
+        assertThat(ConnectorConfigCache.fingerprint(2L, Map.of("name", "my-connector", "connector.class", "Dummy")), is(not(FINGERPRINT)));
+        assertThat(ConnectorConfigCache.fingerprint(1L, Map.of("name", "my-connector", "connector.class", "Dummy2")), is(not(FINGERPRINT)));
+    }
+
+    @Test
+    public void testAppliedFingerprints() {
+        ConnectorConfigCache cache = new ConnectorConfigCache();
+
+        // Unknown worker generation => nothing is remembered
+        cache.applied(HOST, "my-connector", FINGERPRINT);
+        assertThat(cache.isApplied(HOST, "my-connector", FINGERPRINT), is(false));
+
+        cache.updateWorkerGeneration(HOST, 1L);
+        cache.applied(HOST, "my-connector", FINGERPRINT);
+        assertThat(cache.isApplied(HOST, "my-connector", FINGERPRINT), is(true));
+        assertThat(cache.isApplied(HOST, "my-connector", "1/other"), is(false));
+        assertThat(cache.isApplied(HOST, "other-connector", FINGERPRINT), is(false));
+        assertThat(cache.isApplied("other-host", "my-connector", FINGERPRINT), is(false));
+
+        // Same worker generation => fingerprints are kept
+        cache.updateWorkerGeneration(HOST, 1L);
+        assertThat(cache.isApplied(HOST, "my-connector", FINGERPRINT), is(true));
+
+        cache.invalidate(HOST, "my-connector");
+        assertThat(cache.isApplied(HOST, "my-connector", FINGERPRINT), is(false));
+    }
+
+    @Test
+    public void testWorkerGenerationChangeDropsFingerprints() {
+        ConnectorConfigCache cache = new ConnectorConfigCache();
+        cache.updateWorkerGeneration(HOST, 1L);
+        cache.applied(HOST, "my-connector", FINGERPRINT);
+
+        cache.updateWorkerGeneration(HOST, 2L);
+        assertThat(cache.isApplied(HOST, "my-connector", FINGERPRINT), is(false));
+
+        cache.applied(HOST, "my-connector", FINGERPRINT);
+        cache.invalidateAll(HOST);
+        assertThat(cache.isApplied(HOST, "my-connector", FINGERPRINT), is(false));
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.strimzi.operator.cluster.operator.assembly.ConnectorReconciliationExecutor.Trigger.CHANGE;
+import static io.strimzi.operator.cluster.operator.assembly.ConnectorReconciliationExecutor.Trigger.PERIODIC;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ConnectorReconciliationExecutorTest {
+    private static final String CONNECT = "my-connect-connect-api.my-namespace.svc";
+    private static final String OTHER_CONNECT = "other-connect-connect-api.my-namespace.svc";
+
+    private final List<String> started = new ArrayList<>();
+    private final Map<String, Promise<Void>> promises = new HashMap<>();
+    private final Map<String, Boolean> waited = new HashMap<>();
+
+    private ConnectorReconciliationExecutor.Task task(String id) {
+        return waitedInQueue -> {
+            started.add(id);
+            waited.put(id, waitedInQueue);
+            Promise<Void> promise = Promise.promise();
+            promises.put(id, promise);
+            return promise.future();
+        };
+    }
+
+    @Test
+    public void testUnlimited() {
+        ConnectorReconciliationExecutor executor = new ConnectorReconciliationExecutor(0);
+
+        executor.execute(CONNECT, PERIODIC, task("a"));
+        executor.execute(CONNECT, PERIODIC, task("b"));
+        executor.execute(CONNECT, PERIODIC, task("c"));
+
+        assertThat(started, is(List.of("a", "b", "c")));
+    }
+
+    @Test
+    public void testConcurrencyIsLimitedPerConnectCluster() {
+        ConnectorReconciliationExecutor executor = new ConnectorReconciliationExecutor(2);
+
+        executor.execute(CONNECT, PERIODIC, task("a"));
+        executor.execute(CONNECT, PERIODIC, task("b"));
+        Future<Void> c = executor.execute(CONNECT, PERIODIC, task("c"));
+        executor.execute(OTHER_CONNECT, PERIODIC, task("other-a"));
+
+        assertThat(started, is(List.of("a", "b", "other-a")));
+        assertThat(executor.runningCount(CONNECT), is(2));
+        assertThat(executor.queuedCount(CONNECT), is(1));
+        assertThat(executor.runningCount(OTHER_CONNECT), is(1));
+
+        promises.get("b").complete();
+        assertThat(started, is(List.of("a", "b", "other-a", "c")));
+        assertThat(c.isComplete(), is(false));
+
+        promises.get("c").fail(new RuntimeException("failed"));
+        assertThat(c.failed(), is(true));
+        assertThat(executor.runningCount(CONNECT), is(1));
+    }
+
+    @Test
+    public void testChangesArePreferred() {
+        ConnectorReconciliationExecutor executor = new ConnectorReconciliationExecutor(1);
+
+        executor.execute(CONNECT, CHANGE, task("blocker"));
+        executor.execute(CONNECT, PERIODIC, task("a"));
+        executor.execute(CONNECT, PERIODIC, task("b"));
+        executor.execute(CONNECT, CHANGE, task("c"));
+        executor.execute(CONNECT, CHANGE, task("d"));
+        assertThat(executor.queuedCount(CONNECT), is(4));
+
+        promises.get("blocker").complete();
+        promises.get("c").complete();
+        promises.get("d").complete();
+        promises.get("a").complete();
+        promises.get("b").complete();
+
+        assertThat(started, is(List.of("blocker", "c", "d", "a", "b")));
+        assertThat(executor.runningCount(CONNECT), is(0));
+        assertThat(executor.queuedCount(CONNECT), is(0));
+    }
+
+    @Test
+    public void testWaitedInQueue() {
+        ConnectorReconciliationExecutor executor = new ConnectorReconciliationExecutor(1);
+
+        executor.execute(CONNECT, PERIODIC, task("a"));
+        executor.execute(CONNECT, PERIODIC, task("b"));
+        assertThat(waited.get("a"), is(false));
+        assertThat(waited.containsKey("b"), is(false));
+
+        // The reconciliation started after the previous one finished waited in the queue
+        promises.get("a").complete();
+        assertThat(waited.get("b"), is(true));
+
+        promises.get("b").complete();
+        executor.execute(CONNECT, PERIODIC, task("c"));
+        assertThat(waited.get("c"), is(false));
+
+        // Without a limit, the reconciliations never wait
+        ConnectorReconciliationExecutor unlimited = new ConnectorReconciliationExecutor(0);
+        unlimited.execute(CONNECT, PERIODIC, task("d"));
+        assertThat(waited.get("d"), is(false));
+    }
+}
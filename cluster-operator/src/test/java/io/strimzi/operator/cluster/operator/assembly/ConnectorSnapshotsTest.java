@@ -0,0 +1,57 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.vertx.core.Future;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ConnectorSnapshotsTest {
+    private static final Map<String, Object> INITIAL = Map.of("status", Map.of("name", "initial"));
+    private static final Map<String, Object> RELISTED = Map.of("status", Map.of("name", "relisted"));
+
+    @Test
+    public void testWaitedReconciliationsShareOneRelisting() {
+        AtomicInteger listings = new AtomicInteger();
+        ConnectorSnapshots snapshots = new ConnectorSnapshots(Map.of("a", INITIAL, "b", INITIAL), () -> {
+            listings.incrementAndGet();
+            return Future.succeededFuture(Map.of("a", RELISTED, "b", RELISTED));
+        });
+
+        // Reconciliations started right away use the initial snapshot
+        assertThat(snapshots.get("a", false).result(), is(INITIAL));
+        assertThat(snapshots.get("c", false).result(), is(nullValue()));
+        assertThat(listings.get(), is(0));
+
+        // Reconciliations which waited share the second listing
+        assertThat(snapshots.get("a", true).result(), is(RELISTED));
+        assertThat(snapshots.get("b", true).result(), is(RELISTED));
+        assertThat(snapshots.get("c", true).result(), is(nullValue()));
+        assertThat(listings.get(), is(1));
+    }
+
+    @Test
+    public void testFailedRelistingFallsBackToRestApi() {
+        AtomicInteger listings = new AtomicInteger();
+        ConnectorSnapshots snapshots = new ConnectorSnapshots(Map.of("a", INITIAL), () -> {
+            listings.incrementAndGet();
+            return Future.failedFuture(new RuntimeException("failed"));
+        });
+
+        // No snapshot => the connector reconciliation gets the state of the connector from the REST API
+        Future<Map<String, Object>> snapshot = snapshots.get("a", true);
+        assertThat(snapshot.succeeded(), is(true));
+        assertThat(snapshot.result(), is(nullValue()));
+
+        snapshots.get("a", true);
+        assertThat(listings.get(), is(1));
+    }
+}
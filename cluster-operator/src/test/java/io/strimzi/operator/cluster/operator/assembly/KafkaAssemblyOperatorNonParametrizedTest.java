@@ -18,10 +18,12 @@ import io.strimzi.operator.cluster.ResourceUtils;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.common.PasswordGenerator;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.metrics.ReconciliationStepMetrics;
 import io.strimzi.operator.common.operator.resource.ClusterRoleBindingOperator;
 import io.strimzi.operator.common.operator.resource.CrdOperator;
 import io.strimzi.platform.KubernetesVersion;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.WorkerExecutor;
 import io.vertx.junit5.Checkpoint;
@@ -35,6 +37,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -83,6 +86,7 @@ public class KafkaAssemblyOperatorNonParametrizedTest {
         KafkaAssemblyOperator op = new KafkaAssemblyOperator(vertx, new PlatformFeaturesAvailability(false, KubernetesVersion.MINIMAL_SUPPORTED_VERSION), certManager, passwordGenerator,
                 supplier, new ClusterOperatorConfig.ClusterOperatorConfigBuilder(ResourceUtils.dummyClusterOperatorConfig(), KafkaVersionTestUtils.getKafkaVersionLookup()).with(ClusterOperatorConfig.OPERATION_TIMEOUT_MS.key(), "1").build());
         Reconciliation reconciliation = new Reconciliation("test-trigger", Kafka.RESOURCE_KIND, NAMESPACE, NAME);
+        new ReconciliationStepMetrics(supplier.metricsProvider, reconciliation).timed("cas", () -> Future.succeededFuture());
 
         Checkpoint async = context.checkpoint();
 
@@ -90,6 +94,8 @@ public class KafkaAssemblyOperatorNonParametrizedTest {
                 .onComplete(context.succeeding(c -> context.verify(() -> {
                     assertThat(desiredCrb.getValue(), is(nullValue()));
                     Mockito.verify(mockCrbOps, times(1)).reconcile(any(), any(), any());
+                    Mockito.verify(supplier.zookeeperLeaderFinder, times(1)).evict(reconciliation);
+                    assertThat(supplier.metricsProvider.meterRegistry().find(ReconciliationStepMetrics.METRIC_NAME).tags("cluster", NAME).timers().size(), is(0));
 
                     async.flag();
                 })));
@@ -151,4 +157,47 @@ public class KafkaAssemblyOperatorNonParametrizedTest {
                     async.flag();
                 })));
     }
+
+    @Test
+    public void testComponentsAreReconciledIndependently(VertxTestContext context) {
+        Kafka kafka = new KafkaBuilder()
+                .withNewMetadata()
+                    .withName(NAME)
+                    .withNamespace(NAMESPACE)
+                .endMetadata()
+                .withNewSpec()
+                .endSpec()
+                .build();
+
+        KafkaAssemblyOperator op = new KafkaAssemblyOperator(vertx, new PlatformFeaturesAvailability(false, KubernetesVersion.MINIMAL_SUPPORTED_VERSION), certManager, passwordGenerator,
+                ResourceUtils.supplierWithMocks(false), new ClusterOperatorConfig.ClusterOperatorConfigBuilder(ResourceUtils.dummyClusterOperatorConfig(), KafkaVersionTestUtils.getKafkaVersionLookup()).build());
+        Reconciliation reconciliation = new Reconciliation("test-trigger", Kafka.RESOURCE_KIND, NAMESPACE, NAME);
+        KafkaAssemblyOperator.ReconciliationState state = op.createReconciliationState(reconciliation, kafka);
+
+        // The first component completes only after the others are started => they run in parallel
+        Promise<KafkaAssemblyOperator.ReconciliationState> slowComponent = Promise.promise();
+        AtomicInteger reconciled = new AtomicInteger(0);
+
+        Checkpoint async = context.checkpoint();
+
+        state.reconcileComponents(
+                new KafkaAssemblyOperator.Component("Slow", slowComponent::future),
+                new KafkaAssemblyOperator.Component("Failing", () -> Future.failedFuture("Failed")),
+                new KafkaAssemblyOperator.Component("Working", () -> {
+                    reconciled.incrementAndGet();
+                    slowComponent.complete(state);
+                    return Future.succeededFuture(state);
+                })
+        ).onComplete(context.failing(e -> context.verify(() -> {
+            assertThat(e.getMessage(), is("Failed"));
+            assertThat(reconciled.get(), is(1));
+
+            assertThat(state.kafkaStatus.getConditions().size(), is(1));
+            assertThat(state.kafkaStatus.getConditions().get(0).getType(), is("Warning"));
+            assertThat(state.kafkaStatus.getConditions().get(0).getReason(), is("ComponentReconciliationFailed"));
+            assertThat(state.kafkaStatus.getConditions().get(0).getMessage(), is("Failing reconciliation failed: Failed"));
+
+            async.flag();
+        })));
+    }
 }
@@ -940,9 +940,14 @@ public class KafkaAssemblyOperatorTest {
         when(mockPvcOps.listAsync(eq(clusterNamespace), ArgumentMatchers.any(Labels.class)))
                 .thenAnswer(invocation -> {
                     Labels labels = invocation.getArgument(1);
-                    if (labels.toMap().get(Labels.STRIMZI_NAME_LABEL).contains("kafka")) {
+                    String name = labels.toMap().get(Labels.STRIMZI_NAME_LABEL);
+                    if (name == null) {
+                        List<PersistentVolumeClaim> pvcs = new ArrayList<>(kafkaPvcs.values());
+                        pvcs.addAll(zkPvcs.values());
+                        return Future.succeededFuture(pvcs);
+                    } else if (name.contains("kafka")) {
                         return Future.succeededFuture(new ArrayList<>(kafkaPvcs.values()));
-                    } else if (labels.toMap().get(Labels.STRIMZI_NAME_LABEL).contains("zookeeper")) {
+                    } else if (name.contains("zookeeper")) {
                         return Future.succeededFuture(new ArrayList<>(zkPvcs.values()));
                     }
                     return Future.succeededFuture(Collections.EMPTY_LIST);
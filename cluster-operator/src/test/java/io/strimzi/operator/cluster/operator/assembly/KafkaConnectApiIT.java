@@ -10,6 +10,7 @@ import java.util.List;
 import java.util.Map;
 
 import io.strimzi.api.kafka.model.connect.ConnectorPlugin;
+import io.strimzi.operator.cluster.operator.resource.HttpClientPool;
 import io.strimzi.operator.common.BackOff;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.model.OrderedProperties;
@@ -48,6 +49,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 public class KafkaConnectApiIT {
     private static StrimziKafkaCluster cluster;
     private static Vertx vertx;
+    private static HttpClientPool httpClientPool;
 
     private ConnectCluster connectCluster;
     private int port;
@@ -72,6 +74,7 @@ public class KafkaConnectApiIT {
     @BeforeAll
     public static void before() throws IOException {
         vertx = Vertx.vertx();
+        httpClientPool = new HttpClientPool(vertx, "KafkaConnect");
         final Map<String, String> kafkaClusterConfiguration = new HashMap<>();
         kafkaClusterConfiguration.put("zookeeper.connect", "zookeeper:2181");
         cluster = new StrimziKafkaCluster(3, 1, kafkaClusterConfiguration);
@@ -87,7 +90,7 @@ public class KafkaConnectApiIT {
     @IsolatedTest
     @SuppressWarnings({"unchecked", "checkstyle:MethodLength", "checkstyle:NPathComplexity"})
     public void test(VertxTestContext context) throws InterruptedException {
-        KafkaConnectApi client = new KafkaConnectApiImpl(vertx);
+        KafkaConnectApi client = new KafkaConnectApiImpl(vertx, httpClientPool);
         Checkpoint async = context.checkpoint();
         Thread.sleep(10_000L);
         client.listConnectorPlugins(Reconciliation.DUMMY_RECONCILIATION, "localhost", port)
@@ -240,7 +243,7 @@ public class KafkaConnectApiIT {
                 "log4j.logger.foo.bar=TRACE\n" +
                 "log4j.logger.foo.bar.quux=DEBUG";
 
-        KafkaConnectApi client = new KafkaConnectApiImpl(vertx);
+        KafkaConnectApi client = new KafkaConnectApiImpl(vertx, httpClientPool);
         Checkpoint async = context.checkpoint();
 
         OrderedProperties ops = new OrderedProperties();
@@ -281,7 +284,7 @@ public class KafkaConnectApiIT {
                 "log4j.logger.oorg.eclipse.jetty.util=DEBUG\n" +
                 "log4j.logger.foo.bar.quux=DEBUG";
 
-        KafkaConnectApiImpl client = new KafkaConnectApiImpl(vertx);
+        KafkaConnectApiImpl client = new KafkaConnectApiImpl(vertx, httpClientPool);
         OrderedProperties ops = new OrderedProperties();
         ops.addStringPairs(desired);
         assertEquals("TRACE", client.getEffectiveLevel("foo.bar", ops.asMap()));
@@ -4,9 +4,12 @@
  */
 package io.strimzi.operator.cluster.operator.assembly;
 
+import io.strimzi.operator.cluster.operator.resource.HttpClientPool;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.model.OrderedProperties;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServer;
 import io.vertx.core.json.JsonObject;
 import io.vertx.junit5.Checkpoint;
@@ -15,10 +18,19 @@ import io.vertx.junit5.VertxTestContext;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 
 @ExtendWith(VertxExtension.class)
@@ -34,7 +46,7 @@ public class KafkaConnectApiImplTest {
     public void testFeatureCompletionWithBadlyFormattedError(Vertx vertx, VertxTestContext context) throws ExecutionException, InterruptedException {
         HttpServer server = mockApi(vertx, "Some error message");
 
-        KafkaConnectApi api = new KafkaConnectApiImpl(vertx);
+        KafkaConnectApi api = new KafkaConnectApiImpl(vertx, new HttpClientPool(vertx, "KafkaConnect"));
 
         Checkpoint async = context.checkpoint();
         api.createOrUpdatePutRequest(Reconciliation.DUMMY_RECONCILIATION, "127.0.0.1", server.actualPort(), "my-connector", new JsonObject())
@@ -50,7 +62,7 @@ public class KafkaConnectApiImplTest {
     public void testFeatureCompletionWithWellFormattedError(Vertx vertx, VertxTestContext context) throws ExecutionException, InterruptedException {
         HttpServer server = mockApi(vertx, "{\"message\": \"This is the error\"}");
 
-        KafkaConnectApi api = new KafkaConnectApiImpl(vertx);
+        KafkaConnectApi api = new KafkaConnectApiImpl(vertx, new HttpClientPool(vertx, "KafkaConnect"));
 
         Checkpoint async = context.checkpoint();
         api.createOrUpdatePutRequest(Reconciliation.DUMMY_RECONCILIATION, "127.0.0.1", server.actualPort(), "my-connector", new JsonObject())
@@ -62,6 +74,96 @@ public class KafkaConnectApiImplTest {
                 })));
     }
 
+    @Test
+    public void testListWithStatusAndInfo(Vertx vertx, VertxTestContext context) throws ExecutionException, InterruptedException {
+        HttpServer server = vertx.createHttpServer().requestHandler(request -> {
+            if ("/connectors".equals(request.path()) && request.params().getAll("expand").containsAll(List.of("status", "info"))) {
+                request.response().setStatusCode(200).end("{\"my-connector\": {" +
+                        "\"status\": {\"name\": \"my-connector\", \"connector\": {\"state\": \"RUNNING\", \"worker_id\": \"worker-0:8083\"}, \"tasks\": []}, " +
+                        "\"info\": {\"name\": \"my-connector\", \"config\": {\"name\": \"my-connector\", \"tasks.max\": \"1\"}, \"tasks\": [], \"type\": \"source\"}}}");
+            } else {
+                request.response().setStatusCode(404).end();
+            }
+        }).listen(0).toCompletionStage().toCompletableFuture().get();
+
+        KafkaConnectApi api = new KafkaConnectApiImpl(vertx, new HttpClientPool(vertx, "KafkaConnect"));
+
+        Checkpoint async = context.checkpoint();
+        api.listWithStatusAndInfo(Reconciliation.DUMMY_RECONCILIATION, "127.0.0.1", server.actualPort())
+                .onComplete(context.succeeding(connectors -> context.verify(() -> {
+                    assertThat(connectors.keySet(), is(Set.of("my-connector")));
+                    assertThat(((Map<?, ?>) ((Map<?, ?>) connectors.get("my-connector").get("status")).get("connector")).get("state"), is("RUNNING"));
+                    assertThat(((Map<?, ?>) connectors.get("my-connector").get("info")).get("config"), is(Map.of("name", "my-connector", "tasks.max", "1")));
+
+                    server.close();
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testLoggerUpdateWaves()  {
+        Map<String, String> loggers = new TreeMap<>((k1, k2) -> "root".equals(k1) ? ("root".equals(k2) ? 0 : -1) : ("root".equals(k2) ? 1 : k1.compareTo(k2)));
+        loggers.put("root", "INFO");
+        loggers.put("foo", "WARN");
+        loggers.put("foo.bar", "TRACE");
+        loggers.put("foo.bar.quux", "DEBUG");
+        loggers.put("foo.baz", "ERROR");
+        loggers.put("org.reflections", "FATAL");
+
+        List<List<Map.Entry<String, String>>> waves = KafkaConnectApiImpl.loggerUpdateWaves(loggers);
+
+        assertThat(waves.stream().map(wave -> wave.stream().map(Map.Entry::getKey).collect(Collectors.toList())).collect(Collectors.toList()),
+                is(List.of(List.of("root"), List.of("foo", "org.reflections"), List.of("foo.bar", "foo.baz"), List.of("foo.bar.quux"))));
+    }
+
+    @Test
+    public void testUpdateConnectLoggersInParallel(Vertx vertx, VertxTestContext context) throws ExecutionException, InterruptedException {
+        List<String> updatedLoggers = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+
+        HttpServer server = vertx.createHttpServer().requestHandler(request -> {
+            if ("/admin/loggers/".equals(request.path()) && request.method() == HttpMethod.GET) {
+                request.response().setStatusCode(200).end("{\"root\": {\"level\": \"INFO\"}}");
+            } else if (request.path().startsWith("/admin/loggers/") && request.method() == HttpMethod.PUT) {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                updatedLoggers.add(request.path().substring("/admin/loggers/".length()));
+
+                // Delay the response to let the other requests start in the meantime
+                vertx.setTimer(50, t -> {
+                    inFlight.decrementAndGet();
+                    request.response().setStatusCode(200).end("[]");
+                });
+            } else {
+                request.response().setStatusCode(404).end();
+            }
+        }).listen(0).toCompletionStage().toCompletableFuture().get();
+
+        StringBuilder desiredLogging = new StringBuilder("log4j.rootLogger=DEBUG, CONSOLE\n");
+        for (char c = 'a'; c < 'm'; c++) {
+            desiredLogging.append("log4j.logger.logger-").append(c).append("=WARN\n");
+        }
+        desiredLogging.append("log4j.logger.logger-a.child=TRACE\n");
+
+        KafkaConnectApi api = new KafkaConnectApiImpl(vertx, new HttpClientPool(vertx, "KafkaConnect"));
+
+        Checkpoint async = context.checkpoint();
+        api.updateConnectLoggers(Reconciliation.DUMMY_RECONCILIATION, "127.0.0.1", server.actualPort(), desiredLogging.toString(), new OrderedProperties())
+                .onComplete(context.succeeding(updated -> context.verify(() -> {
+                    assertThat(updated, is(true));
+                    assertThat(updatedLoggers, hasSize(14));
+                    // The root logger is updated first and the parent logger before its child
+                    assertThat(updatedLoggers.get(0), is("root"));
+                    assertThat(updatedLoggers.get(updatedLoggers.size() - 1), is("logger-a.child"));
+                    // The loggers are updated in parallel, but within the limit
+                    assertThat(maxInFlight.get() > 1, is(true));
+                    assertThat(maxInFlight.get() <= KafkaConnectApiImpl.MAX_CONCURRENT_LOGGER_UPDATES, is(true));
+
+                    server.close();
+                    async.flag();
+                })));
+    }
+
     HttpServer mockApi(Vertx vertx, String error) throws InterruptedException, ExecutionException {
         HttpServer httpServer = vertx.createHttpServer().requestHandler(request -> request.response().setStatusCode(500).end(error));
 
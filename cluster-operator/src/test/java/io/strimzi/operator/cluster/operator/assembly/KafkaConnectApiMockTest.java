@@ -4,6 +4,7 @@
  */
 package io.strimzi.operator.cluster.operator.assembly;
 
+import io.strimzi.operator.cluster.operator.resource.HttpClientPool;
 import io.strimzi.operator.common.BackOff;
 import io.strimzi.operator.common.Reconciliation;
 import io.vertx.core.Future;
@@ -24,11 +25,13 @@ import java.util.concurrent.ArrayBlockingQueue;
 @ExtendWith(VertxExtension.class)
 public class KafkaConnectApiMockTest {
     private static Vertx vertx;
+    private static HttpClientPool httpClientPool;
     private final BackOff backOff = new BackOff(1L, 2, 3);
 
     @BeforeAll
     public static void before() {
         vertx = Vertx.vertx();
+        httpClientPool = new HttpClientPool(vertx, "KafkaConnect");
     }
 
     @AfterAll
@@ -93,7 +96,7 @@ public class KafkaConnectApiMockTest {
         private final Queue<Future<Map<String, Object>>> statusResults;
 
         public MockKafkaConnectApi(Vertx vertx, Queue<Future<Map<String, Object>>> statusResults) {
-            super(vertx);
+            super(vertx, httpClientPool);
             this.statusResults = statusResults;
         }
 
@@ -30,6 +30,7 @@ import io.strimzi.operator.cluster.PlatformFeaturesAvailability;
 import io.strimzi.operator.cluster.KafkaVersionTestUtils;
 import io.strimzi.operator.cluster.ResourceUtils;
 import io.strimzi.operator.cluster.model.KafkaConnectBuild;
+import io.strimzi.operator.cluster.model.KafkaConnectBuildPlan;
 import io.strimzi.operator.cluster.model.KafkaConnectCluster;
 import io.strimzi.operator.cluster.model.KafkaVersion;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
@@ -62,7 +63,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.function.BiPredicate;
 import java.util.stream.Collectors;
 
 import static java.util.Collections.emptyList;
@@ -77,6 +77,9 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -202,8 +205,8 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
                         .build())
                 .endStatus()
                 .build();
-        when(mockPodOps.waitFor(any(), eq(NAMESPACE), eq(KafkaConnectResources.buildPodName(NAME)), anyString(), anyLong(), anyLong(), any(BiPredicate.class))).thenReturn(Future.succeededFuture((Void) null));
-        when(mockPodOps.getAsync(eq(NAMESPACE), eq(KafkaConnectResources.buildPodName(NAME)))).thenReturn(Future.succeededFuture(null), Future.succeededFuture(terminatedPod));
+        when(mockPodOps.watchFor(any(), eq(NAMESPACE), eq(KafkaConnectResources.buildPodName(NAME)), anyString(), anyLong(), any())).thenReturn(Future.succeededFuture(terminatedPod));
+        when(mockPodOps.getAsync(eq(NAMESPACE), eq(KafkaConnectResources.buildPodName(NAME)))).thenReturn(Future.succeededFuture(null));
 
         // Mock and capture BuildConfig ops
         when(mockBcOps.reconcile(any(), eq(NAMESPACE), eq(KafkaConnectResources.buildConfigName(NAME)), eq(null))).thenReturn(Future.succeededFuture(ReconcileResult.noop(null)));
@@ -237,6 +240,7 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
                 assertThat(dep.getMetadata().getName(), is(connect.getComponentName()));
                 assertThat(dep.getSpec().getTemplate().getSpec().getContainers().get(0).getImage(), is("my-connect-build@sha256:blablabla"));
                 assertThat(Annotations.stringAnnotation(dep.getSpec().getTemplate(), Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, null), is(build.generateDockerfile().hashStub() + OUTPUT_IMAGE_HASH_STUB));
+                assertThat(Annotations.stringAnnotation(dep, Annotations.STRIMZI_IO_CONNECT_BUILD_PLUGIN_REVISIONS, null), is(KafkaConnectBuildPlan.revisionsAnnotation(build.generateDockerfile().pluginRevisions())));
 
                 // Verify ConfigMap
                 List<ConfigMap> capturedCms = dockerfileCaptor.getAllValues();
@@ -361,8 +365,8 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
                         .build())
                 .endStatus()
                 .build();
-        when(mockPodOps.waitFor(any(), eq(NAMESPACE), eq(KafkaConnectResources.buildPodName(NAME)), anyString(), anyLong(), anyLong(), any(BiPredicate.class))).thenReturn(Future.succeededFuture((Void) null));
-        when(mockPodOps.getAsync(eq(NAMESPACE), eq(KafkaConnectResources.buildPodName(NAME)))).thenReturn(Future.succeededFuture(null), Future.succeededFuture(terminatedPod));
+        when(mockPodOps.watchFor(any(), eq(NAMESPACE), eq(KafkaConnectResources.buildPodName(NAME)), anyString(), anyLong(), any())).thenReturn(Future.succeededFuture(terminatedPod));
+        when(mockPodOps.getAsync(eq(NAMESPACE), eq(KafkaConnectResources.buildPodName(NAME)))).thenReturn(Future.succeededFuture(null));
 
         // Mock and capture BuildConfig ops
         when(mockBcOps.reconcile(any(), eq(NAMESPACE), eq(KafkaConnectResources.buildConfigName(NAME)), eq(null))).thenReturn(Future.succeededFuture(ReconcileResult.noop(null)));
@@ -511,8 +515,8 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
                         .build())
                 .endStatus()
                 .build();
-        when(mockPodOps.waitFor(any(), eq(NAMESPACE), eq(KafkaConnectResources.buildPodName(NAME)), anyString(), anyLong(), anyLong(), any(BiPredicate.class))).thenReturn(Future.succeededFuture((Void) null));
-        when(mockPodOps.getAsync(eq(NAMESPACE), eq(KafkaConnectResources.buildPodName(NAME)))).thenReturn(Future.succeededFuture(null), Future.succeededFuture(terminatedPod));
+        when(mockPodOps.watchFor(any(), eq(NAMESPACE), eq(KafkaConnectResources.buildPodName(NAME)), anyString(), anyLong(), any())).thenReturn(Future.succeededFuture(terminatedPod));
+        when(mockPodOps.getAsync(eq(NAMESPACE), eq(KafkaConnectResources.buildPodName(NAME)))).thenReturn(Future.succeededFuture(null));
 
         // Mock and capture BuildConfig ops
         when(mockBcOps.reconcile(any(), eq(NAMESPACE), eq(KafkaConnectResources.buildConfigName(NAME)), eq(null))).thenReturn(Future.succeededFuture(ReconcileResult.noop(null)));
@@ -684,8 +688,8 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
                     .build())
                 .endStatus()
                 .build();
-        when(mockPodOps.waitFor(any(), eq(NAMESPACE), eq(KafkaConnectResources.buildPodName(NAME)), anyString(), anyLong(), anyLong(), any(BiPredicate.class))).thenReturn(Future.succeededFuture((Void) null));
-        when(mockPodOps.getAsync(eq(NAMESPACE), eq(KafkaConnectResources.buildPodName(NAME)))).thenReturn(Future.succeededFuture(null), Future.succeededFuture(terminatedPod));
+        when(mockPodOps.watchFor(any(), eq(NAMESPACE), eq(KafkaConnectResources.buildPodName(NAME)), anyString(), anyLong(), any())).thenReturn(Future.succeededFuture(terminatedPod));
+        when(mockPodOps.getAsync(eq(NAMESPACE), eq(KafkaConnectResources.buildPodName(NAME)))).thenReturn(Future.succeededFuture(null));
 
         // Mock and capture BuildConfig ops
         when(mockBcOps.reconcile(any(), eq(NAMESPACE), eq(KafkaConnectResources.buildConfigName(NAME)), eq(null))).thenReturn(Future.succeededFuture(ReconcileResult.noop(null)));
@@ -869,8 +873,8 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
                         .build())
                 .endStatus()
                 .build();
-        when(mockPodOps.waitFor(any(), eq(NAMESPACE), eq(KafkaConnectResources.buildPodName(NAME)), anyString(), anyLong(), anyLong(), any(BiPredicate.class))).thenReturn(Future.succeededFuture((Void) null));
-        when(mockPodOps.getAsync(eq(NAMESPACE), eq(KafkaConnectResources.buildPodName(NAME)))).thenReturn(Future.succeededFuture(runningBuild), Future.succeededFuture(terminatedPod));
+        when(mockPodOps.watchFor(any(), eq(NAMESPACE), eq(KafkaConnectResources.buildPodName(NAME)), anyString(), anyLong(), any())).thenReturn(Future.succeededFuture(terminatedPod));
+        when(mockPodOps.getAsync(eq(NAMESPACE), eq(KafkaConnectResources.buildPodName(NAME)))).thenReturn(Future.succeededFuture(runningBuild));
 
         // Mock and capture BuildConfig ops
         when(mockBcOps.reconcile(any(), eq(NAMESPACE), eq(KafkaConnectResources.buildConfigName(NAME)), eq(null))).thenReturn(Future.succeededFuture(ReconcileResult.noop(null)));
@@ -1052,8 +1056,8 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
                 .endStatus()
                 .build();
 
-        when(mockPodOps.waitFor(any(), eq(NAMESPACE), eq(KafkaConnectResources.buildPodName(NAME)), anyString(), anyLong(), anyLong(), any(BiPredicate.class))).thenReturn(Future.succeededFuture((Void) null));
-        when(mockPodOps.getAsync(eq(NAMESPACE), eq(KafkaConnectResources.buildPodName(NAME)))).thenReturn(Future.succeededFuture(runningBuild), Future.succeededFuture(terminatedPod));
+        when(mockPodOps.watchFor(any(), eq(NAMESPACE), eq(KafkaConnectResources.buildPodName(NAME)), anyString(), anyLong(), any())).thenReturn(Future.succeededFuture(terminatedPod));
+        when(mockPodOps.getAsync(eq(NAMESPACE), eq(KafkaConnectResources.buildPodName(NAME)))).thenReturn(Future.succeededFuture(runningBuild));
 
         // Mock and capture BuildConfig ops
         when(mockBcOps.reconcile(any(), eq(NAMESPACE), eq(KafkaConnectResources.buildConfigName(NAME)), eq(null))).thenReturn(Future.succeededFuture(ReconcileResult.noop(null)));
@@ -1240,8 +1244,8 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
                         .build())
                 .endStatus()
                 .build();
-        when(mockPodOps.waitFor(any(), eq(NAMESPACE), eq(KafkaConnectResources.buildPodName(NAME)), anyString(), anyLong(), anyLong(), any(BiPredicate.class))).thenReturn(Future.succeededFuture((Void) null));
-        when(mockPodOps.getAsync(eq(NAMESPACE), eq(KafkaConnectResources.buildPodName(NAME)))).thenReturn(Future.succeededFuture(runningBuild), Future.succeededFuture(terminatedPod));
+        when(mockPodOps.watchFor(any(), eq(NAMESPACE), eq(KafkaConnectResources.buildPodName(NAME)), anyString(), anyLong(), any())).thenReturn(Future.succeededFuture(terminatedPod));
+        when(mockPodOps.getAsync(eq(NAMESPACE), eq(KafkaConnectResources.buildPodName(NAME)))).thenReturn(Future.succeededFuture(runningBuild));
 
         // Mock and capture BuildConfig ops
         when(mockBcOps.reconcile(any(), eq(NAMESPACE), eq(KafkaConnectResources.buildConfigName(NAME)), eq(null))).thenReturn(Future.succeededFuture(ReconcileResult.noop(null)));
@@ -1537,7 +1541,7 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
                         .build())
                 .endStatus()
                 .build();
-        when(mockPodOps.waitFor(any(), eq(NAMESPACE), eq(KafkaConnectResources.buildPodName(NAME)), anyString(), anyLong(), anyLong(), any(BiPredicate.class))).thenReturn(Future.succeededFuture((Void) null));
+        when(mockPodOps.watchFor(any(), eq(NAMESPACE), eq(KafkaConnectResources.buildPodName(NAME)), anyString(), anyLong(), any())).thenReturn(Future.succeededFuture(terminatedPod));
         when(mockPodOps.getAsync(eq(NAMESPACE), eq(KafkaConnectResources.buildPodName(NAME)))).thenReturn(Future.succeededFuture(terminatedPod));
 
         // Mock and capture BuildConfig ops
@@ -1593,4 +1597,69 @@ public class KafkaConnectBuildAssemblyOperatorKubeTest {
                 async.flag();
             })));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testKnownBuildSkipsDockerfileGenerationOnKube(VertxTestContext context) {
+        Plugin plugin1 = new PluginBuilder()
+                .withName("plugin1")
+                .withArtifacts(new JarArtifactBuilder().withUrl("https://my-domain.tld/my.jar").build())
+                .build();
+
+        KafkaConnect kc = new KafkaConnectBuilder()
+                .withNewMetadata()
+                    .withName(NAME)
+                    .withNamespace(NAMESPACE)
+                .endMetadata()
+                .withNewSpec()
+                    .withReplicas(1)
+                    .withBootstrapServers("my-cluster-kafka-bootstrap:9092")
+                    .withNewBuild()
+                        .withNewDockerOutput()
+                            .withImage(OUTPUT_IMAGE)
+                            .withPushSecret("my-docker-credentials")
+                        .endDockerOutput()
+                        .withPlugins(plugin1)
+                    .endBuild()
+                .endSpec()
+                .build();
+
+        KafkaConnectCluster connect = KafkaConnectCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, kc, VERSIONS, sharedEnvironmentProvider);
+        KafkaConnectBuild build = spy(KafkaConnectBuild.fromCrd(Reconciliation.DUMMY_RECONCILIATION, kc, VERSIONS, sharedEnvironmentProvider));
+        String buildRevision = KafkaConnectBuild.fromCrd(Reconciliation.DUMMY_RECONCILIATION, kc, VERSIONS, sharedEnvironmentProvider).generateDockerfile().hashStub() + OUTPUT_IMAGE_HASH_STUB;
+
+        // The current Deployment was already built from the same build configuration
+        Deployment dep = connect.generateDeployment(3, null, emptyMap(), false, null, null, null);
+        dep.getMetadata().getAnnotations().put(Annotations.STRIMZI_IO_CONNECT_BUILD_REVISION, buildRevision);
+        dep.getMetadata().getAnnotations().put(Annotations.STRIMZI_IO_CONNECT_BUILD_IMAGE, "my-connect-build@sha256:blablabla");
+
+        ResourceOperatorSupplier supplier = ResourceUtils.supplierWithMocks(false);
+        ConnectBuildOperator ops = new ConnectBuildOperator(new PlatformFeaturesAvailability(false, kubernetesVersion), supplier, ResourceUtils.dummyClusterOperatorConfig(VERSIONS));
+        Reconciliation reconciliation = new Reconciliation("test-trigger", KafkaConnect.RESOURCE_KIND, NAMESPACE, NAME);
+
+        Checkpoint async = context.checkpoint();
+        ops.reconcile(reconciliation, NAMESPACE, dep, build)
+            .onComplete(context.succeeding(buildInfo -> context.verify(() -> {
+                // The first reconciliation does not know the build yet and has to generate the Dockerfile
+                assertThat(buildInfo.image(), is("my-connect-build@sha256:blablabla"));
+                assertThat(buildInfo.buildRevision(), is(buildRevision));
+                verify(build, times(1)).generateDockerfile();
+            })))
+            .compose(i -> ops.reconcile(reconciliation, NAMESPACE, dep, build))
+            .onComplete(context.succeeding(buildInfo -> context.verify(() -> {
+                // The known build matches => the Dockerfile is not generated again
+                assertThat(buildInfo.image(), is("my-connect-build@sha256:blablabla"));
+                assertThat(buildInfo.buildRevision(), is(buildRevision));
+                verify(build, times(1)).generateDockerfile();
+
+                // Deleting the Connect cluster forgets the known build
+                ops.delete(NAMESPACE, NAME);
+            })))
+            .compose(i -> ops.reconcile(reconciliation, NAMESPACE, dep, build))
+            .onComplete(context.succeeding(buildInfo -> context.verify(() -> {
+                assertThat(buildInfo.image(), is("my-connect-build@sha256:blablabla"));
+                verify(build, times(2)).generateDockerfile();
+
+                async.flag();
+            })));
+    }
+}
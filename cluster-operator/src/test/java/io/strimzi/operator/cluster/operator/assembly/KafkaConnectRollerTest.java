@@ -21,6 +21,8 @@ import io.strimzi.operator.cluster.operator.resource.SharedEnvironmentProvider;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.PodOperator;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
@@ -28,9 +30,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
+import java.util.Set;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -339,6 +344,100 @@ public class KafkaConnectRollerTest {
                 })));
     }
 
+    @Test
+    public void testMaybeRollInBatchesWithRebalance(Vertx vertx, VertxTestContext context)  {
+        KafkaConnectCluster cluster = KafkaConnectCluster.fromCrd(RECONCILIATION, new KafkaConnectBuilder(CONNECT)
+                .editSpec()
+                    .withNewTemplate()
+                        .withNewPodDisruptionBudget()
+                            .withMaxUnavailable(2)
+                        .endPodDisruptionBudget()
+                    .endTemplate()
+                .endSpec()
+                .build(), VERSIONS, SHARED_ENV_PROVIDER);
+
+        StrimziPodSet podSet = new StrimziPodSetBuilder()
+                .withNewMetadata()
+                    .withName("my-connect-connect")
+                .endMetadata()
+                .withNewSpec()
+                    .withPods(PodSetUtils.podToMap(renamePod(READY_POD, "my-connect-connect-0")),
+                            PodSetUtils.podToMap(renamePod(READY_POD, "my-connect-connect-1")),
+                            PodSetUtils.podToMap(renamePod(READY_POD, "my-connect-connect-2")))
+                .endSpec()
+                .build();
+
+        List<String> events = Collections.synchronizedList(new ArrayList<>());
+        PodOperator mockPodOps = mock(PodOperator.class);
+
+        when(mockPodOps.listAsync(eq(NAMESPACE), any(Labels.class))).thenReturn(Future.succeededFuture(List.of(renamePod(READY_POD, "my-connect-connect-0"), renamePod(READY_POD, "my-connect-connect-1"), renamePod(READY_POD, "my-connect-connect-2"))));
+        when(mockPodOps.getAsync(eq(NAMESPACE), any())).thenAnswer(i -> Future.succeededFuture(changeRevision(renamePod(READY_POD, i.getArgument(1)), "skso1919")));
+        when(mockPodOps.deleteAsync(any(), eq(NAMESPACE), any(), eq(false))).thenAnswer(i -> {
+            events.add("delete " + i.getArgument(2));
+            return Future.succeededFuture();
+        });
+        when(mockPodOps.readiness(any(), eq(NAMESPACE), any(), anyLong(), anyLong())).thenAnswer(i -> {
+            // The pods become ready only later to check that the pods in the same batch are rolled in parallel
+            Promise<Void> ready = Promise.promise();
+            vertx.setTimer(100, t -> {
+                events.add("ready " + i.getArgument(2));
+                ready.complete();
+            });
+            return ready.future();
+        });
+
+        KafkaConnectApi mockConnectApi = mock(KafkaConnectApi.class);
+        when(mockConnectApi.listWithStatusAndInfo(any(), eq("my-connect-connect-api.my-namespace.svc"), eq(KafkaConnectCluster.REST_API_PORT)))
+                .thenAnswer(i -> {
+                    events.add("rebalance check");
+                    return Future.succeededFuture(connectors("UNASSIGNED"));
+                })
+                .thenAnswer(i -> {
+                    events.add("rebalance check");
+                    return Future.succeededFuture(connectors("RUNNING"));
+                });
+
+        KafkaConnectRoller roller = new KafkaConnectRoller(RECONCILIATION, cluster, 10_000L, mockPodOps, vertx, mockConnectApi);
+
+        Checkpoint async = context.checkpoint();
+        roller.maybeRoll(podSet)
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    // The first batch is rolled in parallel
+                    assertThat(events.subList(0, 2), is(List.of("delete my-connect-connect-0", "delete my-connect-connect-1")));
+                    assertThat(Set.copyOf(events.subList(2, 4)), is(Set.of("ready my-connect-connect-0", "ready my-connect-connect-1")));
+                    // The next batch is rolled only after the connectors and tasks are reassigned
+                    assertThat(events.subList(4, events.size()), is(List.of("rebalance check", "rebalance check", "delete my-connect-connect-2", "ready my-connect-connect-2")));
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testAllAssigned()  {
+        assertThat(KafkaConnectRoller.allAssigned(Map.of()), is(true));
+        assertThat(KafkaConnectRoller.allAssigned(connectors("RUNNING")), is(true));
+        assertThat(KafkaConnectRoller.allAssigned(connectors("FAILED")), is(true));
+        assertThat(KafkaConnectRoller.allAssigned(connectors("UNASSIGNED")), is(false));
+
+        Map<String, Map<String, Object>> unassignedConnector = Map.of("my-connector", Map.of("status", Map.of(
+                "connector", Map.of("state", "UNASSIGNED"),
+                "tasks", List.of())));
+        assertThat(KafkaConnectRoller.allAssigned(unassignedConnector), is(false));
+    }
+
+    /**
+     * Utility method for creating the connectors with their status as returned by the Connect REST API
+     *
+     * @param taskState     State of the task of the connector
+     *
+     * @return  Map with the connector and its status
+     */
+    private static Map<String, Map<String, Object>> connectors(String taskState) {
+        return Map.of("my-connector", Map.of("status", Map.of(
+                "connector", Map.of("state", "RUNNING", "worker_id", "my-connect-connect-0:8083"),
+                "tasks", List.of(Map.of("id", 0, "state", taskState, "worker_id", "my-connect-connect-1:8083")))));
+    }
+
     /**
      * Utility method for easily renaming pods
      *
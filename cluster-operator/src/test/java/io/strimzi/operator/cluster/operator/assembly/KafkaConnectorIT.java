@@ -17,6 +17,7 @@ import io.strimzi.operator.cluster.PlatformFeaturesAvailability;
 import io.strimzi.operator.cluster.ClusterOperatorConfig;
 import io.strimzi.operator.cluster.KafkaVersionTestUtils;
 import io.strimzi.operator.cluster.operator.resource.DefaultZookeeperScalerProvider;
+import io.strimzi.operator.cluster.operator.resource.HttpClientPool;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.cluster.operator.resource.ZookeeperLeaderFinder;
 import io.strimzi.operator.common.AbstractOperator;
@@ -67,6 +68,7 @@ import static org.hamcrest.Matchers.notNullValue;
 public class KafkaConnectorIT {
     private static StrimziKafkaCluster cluster;
     private static Vertx vertx;
+    private static HttpClientPool httpClientPool;
 
     // Injected by Fabric8 Mock Kubernetes Server
     @SuppressWarnings("unused")
@@ -94,6 +96,7 @@ public class KafkaConnectorIT {
                         .setPrometheusOptions(new VertxPrometheusOptions().setEnabled(true))
                         .setEnabled(true)
         ));
+        httpClientPool = new HttpClientPool(vertx, "KafkaConnect");
         // Configure the Kubernetes Mock
         mockKube = new MockKube2.MockKube2Builder(client)
                 .withKafkaConnectorCrd()
@@ -119,7 +122,7 @@ public class KafkaConnectorIT {
 
     @Test
     public void testConnectorNotUpdatedWhenConfigUnchanged(VertxTestContext context) {
-        KafkaConnectApiImpl connectClient = new KafkaConnectApiImpl(vertx);
+        KafkaConnectApiImpl connectClient = new KafkaConnectApiImpl(vertx, httpClientPool);
 
         PlatformFeaturesAvailability pfa = new PlatformFeaturesAvailability(false, KubernetesVersion.V1_21);
 
@@ -152,7 +155,7 @@ public class KafkaConnectorIT {
 
         KafkaConnectAssemblyOperator operator = new KafkaConnectAssemblyOperator(vertx, pfa, ros,
                 ClusterOperatorConfig.buildFromMap(Map.of(), KafkaVersionTestUtils.getKafkaVersionLookup()),
-            connect -> new KafkaConnectApiImpl(vertx),
+            connect -> new KafkaConnectApiImpl(vertx, httpClientPool),
             connectCluster.getPort(2)
         ) { };
 
@@ -188,7 +191,7 @@ public class KafkaConnectorIT {
 
     @Test
     public void testConnectorResourceNotReadyWhenConnectorFailed(VertxTestContext context) {
-        KafkaConnectApiImpl connectClient = new KafkaConnectApiImpl(vertx);
+        KafkaConnectApiImpl connectClient = new KafkaConnectApiImpl(vertx, httpClientPool);
 
         PlatformFeaturesAvailability pfa = new PlatformFeaturesAvailability(false, KubernetesVersion.V1_21);
 
@@ -222,7 +225,7 @@ public class KafkaConnectorIT {
 
         KafkaConnectAssemblyOperator operator = new KafkaConnectAssemblyOperator(vertx, pfa, ros,
                 ClusterOperatorConfig.buildFromMap(Map.of(), KafkaVersionTestUtils.getKafkaVersionLookup()),
-                connect -> new KafkaConnectApiImpl(vertx),
+                connect -> new KafkaConnectApiImpl(vertx, httpClientPool),
                 connectCluster.getPort(2)
         ) { };
 
@@ -237,7 +240,7 @@ public class KafkaConnectorIT {
 
     @Test
     public void testConnectorResourceNotReadyWhenTaskFailed(VertxTestContext context) {
-        KafkaConnectApiImpl connectClient = new KafkaConnectApiImpl(vertx);
+        KafkaConnectApiImpl connectClient = new KafkaConnectApiImpl(vertx, httpClientPool);
 
         PlatformFeaturesAvailability pfa = new PlatformFeaturesAvailability(false, KubernetesVersion.V1_21);
 
@@ -271,7 +274,7 @@ public class KafkaConnectorIT {
 
         KafkaConnectAssemblyOperator operator = new KafkaConnectAssemblyOperator(vertx, pfa, ros,
                 ClusterOperatorConfig.buildFromMap(Map.of(), KafkaVersionTestUtils.getKafkaVersionLookup()),
-                connect -> new KafkaConnectApiImpl(vertx),
+                connect -> new KafkaConnectApiImpl(vertx, httpClientPool),
                 connectCluster.getPort(2)
         ) { };
 
@@ -297,7 +300,7 @@ public class KafkaConnectorIT {
 
     @Test
     public void testConnectorIsAutoRestarted(VertxTestContext context) {
-        KafkaConnectApiImpl connectClient = new KafkaConnectApiImpl(vertx);
+        KafkaConnectApiImpl connectClient = new KafkaConnectApiImpl(vertx, httpClientPool);
 
         PlatformFeaturesAvailability pfa = new PlatformFeaturesAvailability(false, KubernetesVersion.V1_21);
 
@@ -331,7 +334,7 @@ public class KafkaConnectorIT {
 
         KafkaConnectAssemblyOperator operator = new KafkaConnectAssemblyOperator(vertx, pfa, ros,
             ClusterOperatorConfig.buildFromMap(Map.of(), KafkaVersionTestUtils.getKafkaVersionLookup()),
-            connect -> new KafkaConnectApiImpl(vertx),
+            connect -> new KafkaConnectApiImpl(vertx, httpClientPool),
             connectCluster.getPort(2)
         ) { };
 
@@ -346,7 +349,7 @@ public class KafkaConnectorIT {
 
     @Test
     public void testTaskIsAutoRestarted(VertxTestContext context) {
-        KafkaConnectApiImpl connectClient = new KafkaConnectApiImpl(vertx);
+        KafkaConnectApiImpl connectClient = new KafkaConnectApiImpl(vertx, httpClientPool);
 
         PlatformFeaturesAvailability pfa = new PlatformFeaturesAvailability(false, KubernetesVersion.V1_21);
 
@@ -380,7 +383,7 @@ public class KafkaConnectorIT {
 
         KafkaConnectAssemblyOperator operator = new KafkaConnectAssemblyOperator(vertx, pfa, ros,
             ClusterOperatorConfig.buildFromMap(Map.of(), KafkaVersionTestUtils.getKafkaVersionLookup()),
-            connect -> new KafkaConnectApiImpl(vertx),
+            connect -> new KafkaConnectApiImpl(vertx, httpClientPool),
             connectCluster.getPort(2)
         ) { };
 
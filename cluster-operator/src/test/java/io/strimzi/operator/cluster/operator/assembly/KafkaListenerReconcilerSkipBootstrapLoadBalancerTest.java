@@ -29,6 +29,7 @@ import io.strimzi.operator.common.operator.resource.SecretOperator;
 import io.strimzi.operator.common.operator.resource.ServiceOperator;
 import io.strimzi.platform.KubernetesVersion;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
@@ -41,6 +42,7 @@ import java.util.Map;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.notNull;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
@@ -277,6 +279,73 @@ public class KafkaListenerReconcilerSkipBootstrapLoadBalancerTest {
                 })));
     }
 
+    @Test
+    public void testLoadBalancerBrokerAddressesAreAwaitedTogetherWithBootstrap(VertxTestContext context) {
+        Kafka kafka = new KafkaBuilder()
+                .withNewMetadata()
+                    .withName(CLUSTER_NAME)
+                    .withNamespace(NAMESPACE)
+                .endMetadata()
+                .withNewSpec()
+                    .withNewKafka()
+                        .withReplicas(3)
+                        .withListeners(new GenericKafkaListenerBuilder()
+                                .withName("external")
+                                .withPort(LISTENER_PORT)
+                                .withTls(true)
+                                .withType(KafkaListenerType.LOADBALANCER)
+                                .build())
+                        .withNewEphemeralStorage()
+                        .endEphemeralStorage()
+                    .endKafka()
+                    .withNewZookeeper()
+                        .withReplicas(3)
+                        .withNewEphemeralStorage()
+                        .endEphemeralStorage()
+                    .endZookeeper()
+                .endSpec()
+                .build();
+        List<KafkaPool> pools = NodePoolUtils.createKafkaPools(Reconciliation.DUMMY_RECONCILIATION, kafka, null, Map.of(), Map.of(), false, SHARED_ENV_PROVIDER);
+        KafkaCluster kafkaCluster = KafkaCluster.fromCrd(Reconciliation.DUMMY_RECONCILIATION, kafka, pools, VERSIONS, false, null, SHARED_ENV_PROVIDER);
+
+        ResourceOperatorSupplier supplier = prepareResourceOperatorSupplier();
+
+        // The bootstrap service gets its address only after the broker services
+        Promise<Void> bootstrapAddress = Promise.promise();
+        when(supplier.serviceOperations.hasIngressAddress(any(), eq(NAMESPACE), any(), anyLong(), anyLong())).thenReturn(Future.succeededFuture());
+        when(supplier.serviceOperations.hasIngressAddress(any(), eq(NAMESPACE), eq(CLUSTER_NAME + "-kafka-external-bootstrap"), anyLong(), anyLong())).thenReturn(bootstrapAddress.future());
+
+        MockKafkaListenersReconciler reconciler = new MockKafkaListenersReconciler(
+                new Reconciliation("test-trigger", Kafka.RESOURCE_KIND, NAMESPACE, CLUSTER_NAME),
+                kafkaCluster,
+                new PlatformFeaturesAvailability(false, KubernetesVersion.MINIMAL_SUPPORTED_VERSION),
+                supplier.secretOperations,
+                supplier.serviceOperations,
+                supplier.routeOperations,
+                supplier.ingressOperations
+        );
+
+        Checkpoint async = context.checkpoint();
+        Future<KafkaListenersReconciler.ReconciliationResult> reconciliation = reconciler.reconcile();
+
+        // The broker services are already awaited while the bootstrap service is not ready yet
+        assertThat(reconciliation.isComplete(), is(false));
+        verify(supplier.serviceOperations, times(1)).hasIngressAddress(any(), eq(NAMESPACE), eq(CLUSTER_NAME + "-kafka-0"), anyLong(), anyLong());
+        verify(supplier.serviceOperations, times(1)).hasIngressAddress(any(), eq(NAMESPACE), eq(CLUSTER_NAME + "-kafka-1"), anyLong(), anyLong());
+        verify(supplier.serviceOperations, times(1)).hasIngressAddress(any(), eq(NAMESPACE), eq(CLUSTER_NAME + "-kafka-2"), anyLong(), anyLong());
+
+        bootstrapAddress.complete();
+
+        reconciliation
+                .onComplete(context.succeeding(res -> context.verify(() -> {
+                    assertThat(res.listenerStatuses.size(), is(1));
+                    assertThat(res.listenerStatuses.get(0).getBootstrapServers(), is("bootstrap-broker.test.dns.name:9094"));
+                    assertThat(res.advertisedHostnames.get(0).get("EXTERNAL_9094"), is(DNS_NAME_FOR_BROKER_0));
+
+                    async.flag();
+                })));
+    }
+
     private ResourceOperatorSupplier prepareResourceOperatorSupplier() {
         ResourceOperatorSupplier supplier = ResourceUtils.supplierWithMocks(false);
 
@@ -48,6 +48,7 @@ import io.strimzi.operator.common.operator.resource.ServiceOperator;
 import io.strimzi.test.TestUtils;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
@@ -57,6 +58,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -67,7 +69,7 @@ import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
 
 import static java.util.Arrays.asList;
-import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -80,9 +82,11 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+@SuppressWarnings("checkstyle:ClassFanOutComplexity")
 @ExtendWith(VertxExtension.class)
 public class KafkaMirrorMaker2AssemblyOperatorTest {
 
@@ -147,7 +151,7 @@ public class KafkaMirrorMaker2AssemblyOperatorTest {
         when(mockMirrorMaker2Ops.updateStatusAsync(any(), mirrorMaker2Captor.capture())).thenReturn(Future.succeededFuture());
 
         KafkaConnectApi mockConnectClient = mock(KafkaConnectApi.class);
-        when(mockConnectClient.list(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyList()));
+        when(mockConnectClient.listWithStatusAndInfo(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyMap()));
         when(mockConnectClient.updateConnectLoggers(any(), anyString(), anyInt(), anyString(), any(OrderedProperties.class))).thenReturn(Future.succeededFuture());
 
         KafkaMirrorMaker2AssemblyOperator ops = new KafkaMirrorMaker2AssemblyOperator(vertx, new PlatformFeaturesAvailability(true, kubernetesVersion),
@@ -253,7 +257,7 @@ public class KafkaMirrorMaker2AssemblyOperatorTest {
         when(mockPdbOps.reconcile(any(), anyString(), any(), pdbCaptor.capture())).thenReturn(Future.succeededFuture());
 
         KafkaConnectApi mockConnectClient = mock(KafkaConnectApi.class);
-        when(mockConnectClient.list(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyList()));
+        when(mockConnectClient.listWithStatusAndInfo(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyMap()));
         when(mockConnectClient.updateConnectLoggers(any(), anyString(), anyInt(), anyString(), any(OrderedProperties.class))).thenReturn(Future.succeededFuture());
 
         KafkaMirrorMaker2AssemblyOperator ops = new KafkaMirrorMaker2AssemblyOperator(vertx, new PlatformFeaturesAvailability(true, kubernetesVersion),
@@ -367,7 +371,7 @@ public class KafkaMirrorMaker2AssemblyOperatorTest {
         }).when(mockCmOps).reconcile(any(), eq(kmm2Namespace), anyString(), any());
 
         KafkaConnectApi mockConnectClient = mock(KafkaConnectApi.class);
-        when(mockConnectClient.list(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyList()));
+        when(mockConnectClient.listWithStatusAndInfo(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyMap()));
         when(mockConnectClient.updateConnectLoggers(any(), anyString(), anyInt(), anyString(), any(OrderedProperties.class))).thenReturn(Future.succeededFuture());
 
         KafkaMirrorMaker2AssemblyOperator ops = new KafkaMirrorMaker2AssemblyOperator(vertx, new PlatformFeaturesAvailability(true, kubernetesVersion),
@@ -528,7 +532,7 @@ public class KafkaMirrorMaker2AssemblyOperatorTest {
         when(mockNetPolOps.reconcile(any(), eq(kmm2.getMetadata().getNamespace()), eq(KafkaMirrorMaker2Resources.deploymentName(kmm2.getMetadata().getName())), any())).thenReturn(Future.succeededFuture(ReconcileResult.created(new NetworkPolicy())));
 
         KafkaConnectApi mockConnectClient = mock(KafkaConnectApi.class);
-        when(mockConnectClient.list(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyList()));
+        when(mockConnectClient.listWithStatusAndInfo(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyMap()));
         when(mockConnectClient.updateConnectLoggers(any(), anyString(), anyInt(), anyString(), any(OrderedProperties.class))).thenReturn(Future.succeededFuture());
 
         KafkaMirrorMaker2AssemblyOperator ops = new KafkaMirrorMaker2AssemblyOperator(vertx, new PlatformFeaturesAvailability(true, kubernetesVersion),
@@ -590,7 +594,7 @@ public class KafkaMirrorMaker2AssemblyOperatorTest {
         when(mockNetPolOps.reconcile(any(), eq(kmm2.getMetadata().getNamespace()), eq(KafkaMirrorMaker2Resources.deploymentName(kmm2.getMetadata().getName())), any())).thenReturn(Future.succeededFuture(ReconcileResult.created(new NetworkPolicy())));
 
         KafkaConnectApi mockConnectClient = mock(KafkaConnectApi.class);
-        when(mockConnectClient.list(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyList()));
+        when(mockConnectClient.listWithStatusAndInfo(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyMap()));
         when(mockConnectClient.updateConnectLoggers(any(), anyString(), anyInt(), anyString(), any(OrderedProperties.class))).thenReturn(Future.succeededFuture());
 
         KafkaMirrorMaker2AssemblyOperator ops = new KafkaMirrorMaker2AssemblyOperator(vertx, new PlatformFeaturesAvailability(true, kubernetesVersion),
@@ -759,7 +763,7 @@ public class KafkaMirrorMaker2AssemblyOperatorTest {
         when(mockMirrorMaker2Ops.updateStatusAsync(any(), mirrorMaker2Captor.capture())).thenReturn(Future.succeededFuture());
 
         KafkaConnectApi mockConnectClient = mock(KafkaConnectApi.class);
-        when(mockConnectClient.list(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyList()));
+        when(mockConnectClient.listWithStatusAndInfo(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyMap()));
         when(mockConnectClient.updateConnectLoggers(any(), anyString(), anyInt(), anyString(), any(OrderedProperties.class))).thenReturn(Future.succeededFuture());
 
         KafkaMirrorMaker2AssemblyOperator ops = new KafkaMirrorMaker2AssemblyOperator(vertx, new PlatformFeaturesAvailability(true, kubernetesVersion),
@@ -859,7 +863,7 @@ public class KafkaMirrorMaker2AssemblyOperatorTest {
         when(mockMirrorMaker2Ops.updateStatusAsync(any(), mirrorMaker2Captor.capture())).thenReturn(Future.succeededFuture());
 
         KafkaConnectApi mockConnectClient = mock(KafkaConnectApi.class);
-        when(mockConnectClient.list(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyList()));
+        when(mockConnectClient.listWithStatusAndInfo(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyMap()));
         when(mockConnectClient.updateConnectLoggers(any(), anyString(), anyInt(), anyString(), any(OrderedProperties.class))).thenReturn(Future.succeededFuture());
 
         KafkaMirrorMaker2AssemblyOperator ops = new KafkaMirrorMaker2AssemblyOperator(vertx, new PlatformFeaturesAvailability(true, kubernetesVersion),
@@ -1017,6 +1021,126 @@ public class KafkaMirrorMaker2AssemblyOperatorTest {
             })));
     }
 
+    @Test
+    public void testReconcileConnectorsOfAllMirrorsTogether(VertxTestContext context) {
+        String kmm2Name = "foo";
+        String namespace = "target-ns";
+        String host = KafkaMirrorMaker2Resources.qualifiedServiceName(kmm2Name, namespace);
+
+        ResourceOperatorSupplier supplier = ResourceUtils.supplierWithMocks(true);
+        KafkaMirrorMaker2 kmm2 = ResourceUtils.createEmptyKafkaMirrorMaker2(namespace, kmm2Name);
+        ArgumentCaptor<KafkaMirrorMaker2> mirrorMaker2Captor = createMirrorMaker2CaptorMock(namespace, kmm2Name, kmm2, supplier);
+
+        kmm2.getSpec().setClusters(List.of(
+                new KafkaMirrorMaker2ClusterSpecBuilder().withAlias("src-1").withBootstrapServers("src-1:9092").build(),
+                new KafkaMirrorMaker2ClusterSpecBuilder().withAlias("src-2").withBootstrapServers("src-2:9092").build(),
+                new KafkaMirrorMaker2ClusterSpecBuilder().withAlias("tgt").withBootstrapServers("tgt:9092").build()));
+        kmm2.getSpec().setMirrors(List.of(
+                new KafkaMirrorMaker2MirrorSpecBuilder().withSourceCluster("src-1").withTargetCluster("tgt").withNewSourceConnector().withTasksMax(1).endSourceConnector().build(),
+                new KafkaMirrorMaker2MirrorSpecBuilder().withSourceCluster("src-2").withTargetCluster("tgt").withNewSourceConnector().withTasksMax(1).endSourceConnector().build()));
+
+        // Snapshot of the running connectors used by the second reconciliation
+        Map<String, Map<String, Object>> runningConnectors = new HashMap<>();
+        runningConnectors.put("old->tgt.MirrorSourceConnector", connectorSnapshot("old->tgt.MirrorSourceConnector", Map.of()));
+
+        KafkaConnectApi mockConnectClient = mock(KafkaConnectApi.class);
+        when(mockConnectClient.updateConnectLoggers(any(), anyString(), anyInt(), anyString(), any(OrderedProperties.class))).thenReturn(Future.succeededFuture());
+        when(mockConnectClient.listWithStatusAndInfo(any(), anyString(), anyInt()))
+                .thenReturn(Future.succeededFuture(emptyMap()))
+                .thenReturn(Future.succeededFuture(runningConnectors));
+        when(mockConnectClient.getConnectorConfig(any(), any(), anyString(), anyInt(), anyString()))
+                .thenReturn(Future.failedFuture(new ConnectRestException("GET", "/connectors/my-connector/config", 404, "Not Found", "Not Found")));
+        when(mockConnectClient.createOrUpdatePutRequest(any(), anyString(), anyInt(), anyString(), any())).thenAnswer(invocation -> {
+            // Running connector with the config which was just applied
+            String connectorName = invocation.getArgument(3);
+            runningConnectors.put(connectorName, connectorSnapshot(connectorName, ((JsonObject) invocation.getArgument(4)).getMap()));
+            return Future.succeededFuture();
+        });
+        when(mockConnectClient.statusWithBackOff(any(), any(), anyString(), anyInt(), anyString()))
+                .thenAnswer(invocation -> Future.succeededFuture(connectorStatus(invocation.getArgument(4))));
+        when(mockConnectClient.status(any(), anyString(), anyInt(), anyString()))
+                .thenAnswer(invocation -> Future.succeededFuture(connectorStatus(invocation.getArgument(3))));
+        when(mockConnectClient.getConnectorTopics(any(), anyString(), anyInt(), anyString())).thenReturn(Future.succeededFuture(List.of()));
+        when(mockConnectClient.delete(any(), anyString(), anyInt(), anyString())).thenReturn(Future.succeededFuture());
+
+        KafkaMirrorMaker2AssemblyOperator mm2AssemblyOperator = new KafkaMirrorMaker2AssemblyOperator(vertx, new PlatformFeaturesAvailability(true, kubernetesVersion),
+                supplier, ResourceUtils.dummyClusterOperatorConfig(VERSIONS), x -> mockConnectClient);
+
+        Checkpoint async = context.checkpoint();
+        mm2AssemblyOperator.reconcile(new Reconciliation("first", KafkaMirrorMaker2.RESOURCE_KIND, namespace, kmm2Name))
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                // All connectors are created with a single listing, logger update and status update
+                verify(mockConnectClient, times(1)).listWithStatusAndInfo(any(), eq(host), anyInt());
+                verify(mockConnectClient, times(1)).updateConnectLoggers(any(), eq(host), anyInt(), anyString(), any(OrderedProperties.class));
+                verify(mockConnectClient, times(1)).createOrUpdatePutRequest(any(), eq(host), anyInt(), eq("src-1->tgt.MirrorSourceConnector"), any());
+                verify(mockConnectClient, times(1)).createOrUpdatePutRequest(any(), eq(host), anyInt(), eq("src-2->tgt.MirrorSourceConnector"), any());
+
+                assertThat(mirrorMaker2Captor.getAllValues(), hasSize(1));
+                KafkaMirrorMaker2Status status = mirrorMaker2Captor.getValue().getStatus();
+                assertThat(status.getConditions().get(0).getType(), is("Ready"));
+                assertThat(status.getConnectors().stream().map(c -> c.get("name")).toList(), is(List.of("src-1->tgt.MirrorSourceConnector", "src-2->tgt.MirrorSourceConnector")));
+            })))
+            .compose(v -> mm2AssemblyOperator.reconcile(new Reconciliation("second", KafkaMirrorMaker2.RESOURCE_KIND, namespace, kmm2Name)))
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                // The unchanged connectors are not updated, the connector which is not desired anymore is deleted. The
+                // configuration of the running connectors is taken from the listing.
+                verify(mockConnectClient, times(2)).createOrUpdatePutRequest(any(), eq(host), anyInt(), anyString(), any());
+                verify(mockConnectClient, times(1)).delete(any(), eq(host), anyInt(), eq("old->tgt.MirrorSourceConnector"));
+                verify(mockConnectClient, times(2)).getConnectorConfig(any(), any(), anyString(), anyInt(), anyString());
+
+                // The status did not change, so it is not written again
+                assertThat(mirrorMaker2Captor.getAllValues(), hasSize(1));
+                KafkaMirrorMaker2Status status = kmm2.getStatus();
+                assertThat(status.getConditions().get(0).getType(), is("Ready"));
+                assertThat(status.getConnectors(), hasSize(2));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testInvalidMirrorFailsReconciliation(VertxTestContext context) {
+        String kmm2Name = "foo";
+        String namespace = "target-ns";
+
+        ResourceOperatorSupplier supplier = ResourceUtils.supplierWithMocks(true);
+        KafkaMirrorMaker2 kmm2 = ResourceUtils.createEmptyKafkaMirrorMaker2(namespace, kmm2Name);
+        ArgumentCaptor<KafkaMirrorMaker2> mirrorMaker2Captor = createMirrorMaker2CaptorMock(namespace, kmm2Name, kmm2, supplier);
+        KafkaConnectApi mockConnectClient = createConnectClientMock();
+
+        kmm2.getSpec().setClusters(List.of(new KafkaMirrorMaker2ClusterSpecBuilder().withAlias("tgt").withBootstrapServers("tgt:9092").build()));
+        kmm2.getSpec().setMirrors(List.of(new KafkaMirrorMaker2MirrorSpecBuilder().withSourceCluster("missing").withTargetCluster("tgt").build()));
+
+        KafkaMirrorMaker2AssemblyOperator mm2AssemblyOperator = new KafkaMirrorMaker2AssemblyOperator(vertx, new PlatformFeaturesAvailability(true, kubernetesVersion),
+                supplier, ResourceUtils.dummyClusterOperatorConfig(VERSIONS), x -> mockConnectClient);
+
+        Checkpoint async = context.checkpoint();
+        mm2AssemblyOperator.reconcile(new Reconciliation("test-invalid", KafkaMirrorMaker2.RESOURCE_KIND, namespace, kmm2Name))
+            .onComplete(context.failing(v -> context.verify(() -> {
+                // The error is reported in the single status update at the end of the reconciliation
+                assertThat(mirrorMaker2Captor.getAllValues(), hasSize(1));
+                KafkaMirrorMaker2Status status = mirrorMaker2Captor.getValue().getStatus();
+                assertThat(status.getConditions().get(0).getType(), is("NotReady"));
+                assertThat(status.getConditions().get(0).getMessage(), is("sourceCluster with alias missing cannot be found in the list of clusters at spec.clusters"));
+                async.flag();
+            })));
+    }
+
+    private static Map<String, Object> connectorStatus(String connectorName) {
+        // Mutable maps as the status is stored in the custom resource
+        Map<String, Object> status = new HashMap<>();
+        status.put("name", connectorName);
+        status.put("connector", new HashMap<>(Map.of("state", "RUNNING", "worker_id", "somehost0:8083")));
+        status.put("tasks", new ArrayList<>(List.of(new HashMap<>(Map.of("id", 0, "state", "RUNNING", "worker_id", "somehost0:8083")))));
+        return status;
+    }
+
+    private static Map<String, Object> connectorSnapshot(String connectorName, Map<String, Object> config) {
+        Map<String, Object> configWithName = new HashMap<>(config);
+        configWithName.put("name", connectorName);
+
+        return Map.of("status", connectorStatus(connectorName), "info", Map.of("name", connectorName, "config", configWithName));
+    }
+
     private ArgumentCaptor<KafkaMirrorMaker2> createMirrorMaker2CaptorMock(String targetNamespace, String kmm2Name, KafkaMirrorMaker2 kmm2, ResourceOperatorSupplier supplier) {
         CrdOperator mockMirrorMaker2Ops = supplier.mirrorMaker2Operator;
         DeploymentOperator mockDcOps = supplier.deploymentOperations;
@@ -1058,7 +1182,7 @@ public class KafkaMirrorMaker2AssemblyOperatorTest {
 
     private KafkaConnectApi createConnectClientMock() {
         KafkaConnectApi mockConnectClient = mock(KafkaConnectApi.class);
-        when(mockConnectClient.list(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyList()));
+        when(mockConnectClient.listWithStatusAndInfo(any(), anyString(), anyInt())).thenReturn(Future.succeededFuture(emptyMap()));
         when(mockConnectClient.updateConnectLoggers(any(), anyString(), anyInt(), anyString(), any(OrderedProperties.class))).thenReturn(Future.succeededFuture());
         return mockConnectClient;
     }
@@ -30,6 +30,7 @@ import io.strimzi.operator.cluster.ResourceUtils;
 import io.strimzi.operator.cluster.model.CruiseControl;
 import io.strimzi.operator.cluster.model.InvalidResourceException;
 import io.strimzi.operator.cluster.model.NoSuchResourceException;
+import io.strimzi.operator.cluster.operator.resource.HttpClientPool;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlApi;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlEndpoints;
@@ -157,6 +158,7 @@ public class KafkaRebalanceAssemblyOperatorTest {
         mockKube.start();
 
         ResourceOperatorSupplier supplier = ResourceUtils.supplierWithMocks(false);
+        HttpClientPool httpClientPool = new HttpClientPool(vertx, "CruiseControl");
 
         // Override to inject mocked cruise control address so real cruise control not required
         kcrao = new KafkaRebalanceAssemblyOperator(vertx, supplier, ResourceUtils.dummyClusterOperatorConfig()) {
@@ -167,7 +169,7 @@ public class KafkaRebalanceAssemblyOperatorTest {
 
             @Override
             public CruiseControlApi cruiseControlClientProvider(Secret ccSecret, Secret ccApiSecret, boolean apiAuthEnabled, boolean apiSslEnabled) {
-                return new CruiseControlApiImpl(vertx, 1, ccSecret, ccApiSecret, true, true);
+                return new CruiseControlApiImpl(vertx, 1, ccSecret, ccApiSecret, true, true, httpClientPool);
             }
 
             @Override
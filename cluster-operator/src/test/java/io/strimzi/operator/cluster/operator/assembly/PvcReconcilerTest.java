@@ -16,9 +16,12 @@ import io.strimzi.operator.cluster.ResourceUtils;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.PvcOperator;
+import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.operator.common.operator.resource.StorageClassOperator;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
@@ -28,9 +31,11 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.instanceOf;
@@ -73,6 +78,7 @@ public class PvcReconcilerTest {
 
         // Mock the PVC Operator
         PvcOperator mockPvcOps = supplier.pvcOperations;
+        when(mockPvcOps.listAsync(eq(NAMESPACE), any(Labels.class))).thenReturn(Future.succeededFuture(List.of()));
         when(mockPvcOps.getAsync(eq(NAMESPACE), ArgumentMatchers.startsWith("data-"))).thenReturn(Future.succeededFuture());
         ArgumentCaptor<PersistentVolumeClaim> pvcCaptor = ArgumentCaptor.forClass(PersistentVolumeClaim.class);
         when(mockPvcOps.reconcile(any(), anyString(), anyString(), pvcCaptor.capture())).thenReturn(Future.succeededFuture());
@@ -115,6 +121,7 @@ public class PvcReconcilerTest {
 
         // Mock the PVC Operator
         PvcOperator mockPvcOps = supplier.pvcOperations;
+        when(mockPvcOps.listAsync(eq(NAMESPACE), any(Labels.class))).thenReturn(Future.succeededFuture(List.of()));
         when(mockPvcOps.getAsync(eq(NAMESPACE), ArgumentMatchers.startsWith("data-")))
                 .thenAnswer(invocation -> {
                     String pvcName = invocation.getArgument(1);
@@ -161,6 +168,7 @@ public class PvcReconcilerTest {
 
         // Mock the PVC Operator
         PvcOperator mockPvcOps = supplier.pvcOperations;
+        when(mockPvcOps.listAsync(eq(NAMESPACE), any(Labels.class))).thenReturn(Future.succeededFuture(List.of()));
         when(mockPvcOps.getAsync(eq(NAMESPACE), ArgumentMatchers.startsWith("data-")))
                 .thenAnswer(invocation -> {
                     String pvcName = invocation.getArgument(1);
@@ -226,6 +234,7 @@ public class PvcReconcilerTest {
 
         // Mock the PVC Operator
         PvcOperator mockPvcOps = supplier.pvcOperations;
+        when(mockPvcOps.listAsync(eq(NAMESPACE), any(Labels.class))).thenReturn(Future.succeededFuture(List.of()));
         when(mockPvcOps.getAsync(eq(NAMESPACE), ArgumentMatchers.startsWith("data-")))
                 .thenAnswer(invocation -> {
                     String pvcName = invocation.getArgument(1);
@@ -286,6 +295,7 @@ public class PvcReconcilerTest {
 
         // Mock the PVC Operator
         PvcOperator mockPvcOps = supplier.pvcOperations;
+        when(mockPvcOps.listAsync(eq(NAMESPACE), any(Labels.class))).thenReturn(Future.succeededFuture(List.of()));
         when(mockPvcOps.getAsync(eq(NAMESPACE), ArgumentMatchers.startsWith("data-")))
                 .thenAnswer(invocation -> {
                     String pvcName = invocation.getArgument(1);
@@ -358,6 +368,7 @@ public class PvcReconcilerTest {
 
         // Mock the PVC Operator
         PvcOperator mockPvcOps = supplier.pvcOperations;
+        when(mockPvcOps.listAsync(eq(NAMESPACE), any(Labels.class))).thenReturn(Future.succeededFuture(List.of()));
         when(mockPvcOps.getAsync(eq(NAMESPACE), ArgumentMatchers.startsWith("data-")))
                 .thenAnswer(invocation -> {
                     String pvcName = invocation.getArgument(1);
@@ -430,6 +441,7 @@ public class PvcReconcilerTest {
 
         // Mock the PVC Operator
         PvcOperator mockPvcOps = supplier.pvcOperations;
+        when(mockPvcOps.listAsync(eq(NAMESPACE), any(Labels.class))).thenReturn(Future.succeededFuture(List.of()));
         when(mockPvcOps.getAsync(eq(NAMESPACE), ArgumentMatchers.startsWith("data-")))
                 .thenAnswer(invocation -> {
                     String pvcName = invocation.getArgument(1);
@@ -499,6 +511,7 @@ public class PvcReconcilerTest {
 
         // Mock the PVC Operator
         PvcOperator mockPvcOps = supplier.pvcOperations;
+        when(mockPvcOps.listAsync(eq(NAMESPACE), any(Labels.class))).thenReturn(Future.succeededFuture(List.of()));
         when(mockPvcOps.getAsync(eq(NAMESPACE), ArgumentMatchers.startsWith("data-")))
                 .thenAnswer(invocation -> {
                     String pvcName = invocation.getArgument(1);
@@ -561,6 +574,7 @@ public class PvcReconcilerTest {
 
         // Mock the PVC Operator
         PvcOperator mockPvcOps = supplier.pvcOperations;
+        when(mockPvcOps.listAsync(eq(NAMESPACE), any(Labels.class))).thenReturn(Future.succeededFuture(List.of()));
         when(mockPvcOps.getAsync(eq(NAMESPACE), ArgumentMatchers.startsWith("data-")))
                 .thenAnswer(invocation -> {
                     String pvcName = invocation.getArgument(1);
@@ -624,6 +638,7 @@ public class PvcReconcilerTest {
 
         // Mock the PVC Operator
         PvcOperator mockPvcOps = supplier.pvcOperations;
+        when(mockPvcOps.listAsync(eq(NAMESPACE), any(Labels.class))).thenReturn(Future.succeededFuture(List.of()));
         when(mockPvcOps.getAsync(eq(NAMESPACE), ArgumentMatchers.startsWith("data-")))
                 .thenAnswer(invocation -> {
                     String pvcName = invocation.getArgument(1);
@@ -705,6 +720,7 @@ public class PvcReconcilerTest {
 
         // Mock the PVC Operator
         PvcOperator mockPvcOps = supplier.pvcOperations;
+        when(mockPvcOps.listAsync(eq(NAMESPACE), any(Labels.class))).thenReturn(Future.succeededFuture(List.of()));
         when(mockPvcOps.getAsync(eq(NAMESPACE), ArgumentMatchers.startsWith("data-")))
                 .thenAnswer(invocation -> {
                     String pvcName = invocation.getArgument(1);
@@ -736,6 +752,126 @@ public class PvcReconcilerTest {
                 });
     }
 
+    // Existing volumes are listed in a single call and reconciled with limited parallelism
+    @Test
+    public void testListedVolumesWithLimitedParallelism(VertxTestContext context)  {
+        List<PersistentVolumeClaim> pvcs = List.of(
+                createPvc("data-pod-0"),
+                createPvc("data-pod-1"),
+                createPvc("data-pod-2"),
+                createPvc("data-pod-3"),
+                createPvc("data-pod-4")
+        );
+
+        ResourceOperatorSupplier supplier = ResourceUtils.supplierWithMocks(false);
+
+        // Mock the PVC Operator
+        PvcOperator mockPvcOps = supplier.pvcOperations;
+        when(mockPvcOps.listAsync(eq(NAMESPACE), any(Labels.class)))
+                .thenReturn(Future.succeededFuture(pvcs.stream()
+                        .filter(pvc -> !"data-pod-4".equals(pvc.getMetadata().getName()))
+                        .map(pvc -> new PersistentVolumeClaimBuilder(pvc)
+                                .withNewStatus()
+                                    .withPhase("Bound")
+                                    .withCapacity(Map.of("storage", new Quantity("100Gi", null)))
+                                .endStatus()
+                                .build())
+                        .toList()));
+        ArgumentCaptor<String> getCaptor = ArgumentCaptor.forClass(String.class);
+        when(mockPvcOps.getAsync(eq(NAMESPACE), getCaptor.capture())).thenReturn(Future.succeededFuture());
+
+        AtomicInteger inFlight = new AtomicInteger(0);
+        AtomicInteger maxInFlight = new AtomicInteger(0);
+        List<Promise<ReconcileResult<PersistentVolumeClaim>>> pending = new ArrayList<>();
+        ArgumentCaptor<PersistentVolumeClaim> pvcCaptor = ArgumentCaptor.forClass(PersistentVolumeClaim.class);
+        when(mockPvcOps.reconcile(any(), anyString(), anyString(), pvcCaptor.capture())).thenAnswer(i -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Promise<ReconcileResult<PersistentVolumeClaim>> promise = Promise.promise();
+            pending.add(promise);
+            return promise.future().onComplete(r -> inFlight.decrementAndGet());
+        });
+
+        // Mock the StorageClass Operator
+        StorageClassOperator mockSco = supplier.storageClassOperations;
+        when(mockSco.getAsync(eq(STORAGE_CLASS_NAME))).thenReturn(Future.succeededFuture(RESIZABLE_STORAGE_CLASS));
+
+        // Reconcile the PVCs
+        PvcReconciler reconciler = new PvcReconciler(
+                new Reconciliation("test-trigger", Kafka.RESOURCE_KIND, NAMESPACE, CLUSTER_NAME),
+                mockPvcOps,
+                mockSco,
+                2
+        );
+
+        Checkpoint async = context.checkpoint();
+        Future<Collection<String>> result = reconciler.resizeAndReconcilePvcs(new KafkaStatus(), i -> "pod-" + i, pvcs);
+
+        // Complete the pending operations one by one
+        while (!pending.isEmpty())  {
+            pending.remove(0).complete(ReconcileResult.noop(null));
+        }
+
+        result.onComplete(res -> context.verify(() -> {
+            assertThat(res.succeeded(), is(true));
+
+            assertThat(pvcCaptor.getAllValues().size(), is(5));
+            assertThat(maxInFlight.get(), is(2));
+
+            // Only the PVC which was not listed is fetched individually
+            assertThat(getCaptor.getAllValues(), is(List.of("data-pod-4")));
+
+            async.flag();
+        }));
+    }
+
+    // Failed PVC operation does not stop the other PVC operations
+    @Test
+    public void testFailedVolumeDoesNotStopOtherVolumes(VertxTestContext context)  {
+        List<PersistentVolumeClaim> pvcs = List.of(
+                createPvc("data-pod-0"),
+                createPvc("data-pod-1"),
+                createPvc("data-pod-2")
+        );
+
+        ResourceOperatorSupplier supplier = ResourceUtils.supplierWithMocks(false);
+
+        // Mock the PVC Operator
+        PvcOperator mockPvcOps = supplier.pvcOperations;
+        when(mockPvcOps.listAsync(eq(NAMESPACE), any(Labels.class))).thenReturn(Future.succeededFuture(List.of()));
+        when(mockPvcOps.getAsync(eq(NAMESPACE), ArgumentMatchers.startsWith("data-"))).thenReturn(Future.succeededFuture());
+        ArgumentCaptor<PersistentVolumeClaim> pvcCaptor = ArgumentCaptor.forClass(PersistentVolumeClaim.class);
+        when(mockPvcOps.reconcile(any(), anyString(), anyString(), pvcCaptor.capture())).thenAnswer(i -> {
+            if ("data-pod-0".equals(i.getArgument(2))) {
+                return Future.failedFuture(new RuntimeException("Failed to reconcile data-pod-0"));
+            } else {
+                return Future.succeededFuture();
+            }
+        });
+
+        // Mock the StorageClass Operator
+        StorageClassOperator mockSco = supplier.storageClassOperations;
+        when(mockSco.getAsync(eq(STORAGE_CLASS_NAME))).thenReturn(Future.succeededFuture(RESIZABLE_STORAGE_CLASS));
+
+        // Reconcile the PVCs one by one
+        PvcReconciler reconciler = new PvcReconciler(
+                new Reconciliation("test-trigger", Kafka.RESOURCE_KIND, NAMESPACE, CLUSTER_NAME),
+                mockPvcOps,
+                mockSco,
+                1
+        );
+
+        Checkpoint async = context.checkpoint();
+        reconciler.resizeAndReconcilePvcs(new KafkaStatus(), i -> "pod-" + i, pvcs)
+                .onComplete(res -> context.verify(() -> {
+                    assertThat(res.failed(), is(true));
+                    assertThat(res.cause().getMessage(), is("Failed to reconcile data-pod-0"));
+
+                    assertThat(pvcCaptor.getAllValues(), is(pvcs));
+
+                    async.flag();
+                }));
+    }
+
     private PersistentVolumeClaim createPvc(String name)   {
         return new PersistentVolumeClaimBuilder()
                 .withNewMetadata()
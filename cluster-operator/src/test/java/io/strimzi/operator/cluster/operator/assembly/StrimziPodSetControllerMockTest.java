@@ -13,6 +13,8 @@ import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.fabric8.kubernetes.client.dsl.base.PatchContext;
+import io.fabric8.kubernetes.client.dsl.base.PatchType;
 import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
@@ -53,6 +55,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
@@ -60,6 +64,7 @@ import java.util.concurrent.atomic.AtomicReference;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
@@ -787,4 +792,141 @@ public class StrimziPodSetControllerMockTest {
             podSetOp().inNamespace(NAMESPACE).withName(podSetName).delete();
         }
     }
+
+    /**
+     * Tests that the desired pods are decoded from the StrimziPodSet only when its resourceVersion changes
+     */
+    @Test
+    public void testDesiredPodsAreDecodedOnlyWhenPodSetChanges() {
+        String podSetName = "decoded-pods";
+        Pod pod = pod("decoded-pods-0", KAFKA_NAME, podSetName, "Kafka");
+        StrimziPodSet podSet = new StrimziPodSetBuilder(podSet(podSetName, KAFKA_NAME, "Kafka", pod))
+                .editMetadata()
+                    .withResourceVersion("1")
+                .endMetadata()
+                .build();
+
+        List<Pod> pods = controller.desiredPods(podSet);
+        assertThat(pods, is(List.of(pod)));
+
+        // Same resource version => the pods are not decoded again
+        assertThat(controller.desiredPods(new StrimziPodSetBuilder(podSet).build()), is(sameInstance(pods)));
+
+        // New resource version => the pods are decoded again
+        StrimziPodSet updatedPodSet = new StrimziPodSetBuilder(podSet)
+                .editMetadata()
+                    .withResourceVersion("2")
+                .endMetadata()
+                .build();
+        List<Pod> updatedPods = controller.desiredPods(updatedPodSet);
+        assertThat(updatedPods, is(not(sameInstance(pods))));
+        assertThat(updatedPods, is(List.of(pod)));
+    }
+
+    /**
+     * Tests that the cached desired pods are removed when the StrimziPodSet stops matching the selector and when it is
+     * deleted
+     *
+     * @param context   Test context
+     */
+    @Test
+    public void testDesiredPodsAreRemovedFromCache(VertxTestContext context) {
+        String podSetName = "cached-pods";
+        String otherPodSetName = "other-cached-pods";
+
+        try {
+            Pod otherPod = pod(otherPodSetName + "-0", KAFKA_NAME, otherPodSetName, "Kafka");
+            podSetOp().inNamespace(NAMESPACE).resource(podSet(podSetName, KAFKA_NAME, "Kafka", pod(podSetName + "-0", KAFKA_NAME, podSetName, "Kafka"))).create();
+            podSetOp().inNamespace(NAMESPACE).resource(podSet(otherPodSetName, KAFKA_NAME, "Kafka", otherPod)).create();
+
+            TestUtils.waitFor(
+                    "Wait for the desired Pods to be cached",
+                    100,
+                    10_000,
+                    () -> controller.isDesiredPodsCached(NAMESPACE, podSetName) && controller.isDesiredPodsCached(NAMESPACE, otherPodSetName),
+                    () -> context.failNow("Test timed out waiting for the desired Pods to be cached!"));
+
+            // Move the PodSet to the Kafka cluster which does not match the selector
+            podSetOp().inNamespace(NAMESPACE).withName(otherPodSetName).patch(PatchContext.of(PatchType.JSON), podSet(otherPodSetName, OTHER_KAFKA_NAME, "Kafka", otherPod));
+
+            TestUtils.waitFor(
+                    "Wait for the desired Pods of the non-matching PodSet to be removed from the cache",
+                    100,
+                    10_000,
+                    () -> !controller.isDesiredPodsCached(NAMESPACE, otherPodSetName),
+                    () -> context.failNow("Test timed out waiting for the desired Pods to be removed from the cache!"));
+
+            // Delete the PodSet
+            podSetOp().inNamespace(NAMESPACE).withName(podSetName).delete();
+
+            TestUtils.waitFor(
+                    "Wait for the desired Pods of the deleted PodSet to be removed from the cache",
+                    100,
+                    10_000,
+                    () -> !controller.isDesiredPodsCached(NAMESPACE, podSetName),
+                    () -> context.failNow("Test timed out waiting for the desired Pods to be removed from the cache!"));
+
+            context.completeNow();
+        } finally {
+            podSetOp().inNamespace(NAMESPACE).withName(podSetName).delete();
+            podSetOp().inNamespace(NAMESPACE).withName(otherPodSetName).delete();
+        }
+    }
+
+    /**
+     * Tests that all pods of a StrimziPodSet with multiple pods are created when the pod operations run in parallel
+     *
+     * @param context   Test context
+     */
+    @Test
+    public void testMultiplePodsAreCreatedInParallel(VertxTestContext context) {
+        String podSetName = "parallel-pods";
+        Pod[] pods = new Pod[5];
+
+        for (int i = 0; i < pods.length; i++)   {
+            pods[i] = pod(podSetName + "-" + i, KAFKA_NAME, podSetName, "Kafka");
+        }
+
+        try {
+            podSetOp().inNamespace(NAMESPACE).resource(podSet(podSetName, KAFKA_NAME, "Kafka", pods)).create();
+
+            // Check that all pods are created and counted in the status
+            TestUtils.waitFor(
+                    "Wait for StrimziPodSetStatus",
+                    100,
+                    10_000,
+                    () -> {
+                        StrimziPodSet podSet = podSetOp().inNamespace(NAMESPACE).withName(podSetName).get();
+                        return podSet.getStatus() != null
+                                && podSet.getStatus().getPods() == pods.length
+                                && podSet.getStatus().getCurrentPods() == pods.length;
+                    },
+                    () -> context.failNow("Pod stats do not match"));
+
+            for (Pod pod : pods)    {
+                Pod actualPod = client.pods().inNamespace(NAMESPACE).withName(pod.getMetadata().getName()).get();
+                assertThat(actualPod, is(notNullValue()));
+                checkOwnerReference(actualPod, podSetName);
+            }
+
+            context.completeNow();
+        } finally {
+            podSetOp().inNamespace(NAMESPACE).withName(podSetName).delete();
+        }
+    }
+
+    /**
+     * Tests that the errors from failed pod operations are aggregated into a single exception
+     */
+    @Test
+    public void testPodOperationsErrorsAreAggregated() {
+        Map<String, Throwable> failed = new LinkedHashMap<>();
+        failed.put("my-pod-0", new RuntimeException("Forbidden"));
+        failed.put("my-pod-2", new RuntimeException("Conflict"));
+
+        StrimziPodSetController.PodOperationsException e = new StrimziPodSetController.PodOperationsException(failed);
+
+        assertThat(e.getMessage(), is("2 pod operation(s) failed: my-pod-0: Forbidden; my-pod-2: Conflict"));
+        assertThat(e.getSuppressed().length, is(2));
+    }
 }
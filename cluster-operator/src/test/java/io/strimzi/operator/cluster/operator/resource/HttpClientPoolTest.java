@@ -0,0 +1,124 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServer;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ExtendWith(VertxExtension.class)
+public class HttpClientPoolTest {
+    private static Vertx vertx;
+    private static HttpServer server;
+    private static final AtomicInteger CONNECTIONS = new AtomicInteger(0);
+
+    @BeforeAll
+    public static void before() throws Exception {
+        vertx = Vertx.vertx();
+        server = vertx.createHttpServer()
+                .connectionHandler(connection -> CONNECTIONS.incrementAndGet())
+                .requestHandler(request -> request.response().end("{\"path\":\"" + request.path() + "\"}"))
+                .listen(0)
+                .toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    @Test
+    public void testConnectionsAreReused(VertxTestContext context) {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        HttpClientPool pool = new HttpClientPool(vertx, "test", 1, 1, 60, new MicrometerMetricsProvider(registry));
+        Checkpoint checkpoint = context.checkpoint();
+        int connectionsBefore = CONNECTIONS.get();
+
+        Future<String> requests = Future.succeededFuture();
+        for (int i = 0; i < 5; i++) {
+            requests = requests.compose(i2 -> get(pool, "/connectors/my-connector"));
+        }
+
+        requests.onComplete(context.succeeding(body -> context.verify(() -> {
+            assertThat(body, is("{\"path\":\"/connectors/my-connector\"}"));
+            assertThat(CONNECTIONS.get() - connectionsBefore, is(1));
+            assertThat(pool.size(), is(1));
+
+            Timer timer = registry.find(HttpClientPool.METRIC_NAME).tag("client", "test").tag("endpoint", "GET /connectors/{name}").timer();
+            assertThat(timer, is(notNullValue()));
+            assertThat(timer.count(), is(5L));
+
+            checkpoint.flag();
+        })));
+    }
+
+    @Test
+    public void testClientsAreSharedOnlyWithTheSameOptions(VertxTestContext context) {
+        HttpClientPool pool = new HttpClientPool(vertx, "test");
+        Checkpoint checkpoint = context.checkpoint();
+
+        get(pool, "/")
+                .compose(i -> get(pool, "/"))
+                .onComplete(context.succeeding(i -> context.verify(() -> assertThat(pool.size(), is(1)))))
+                .compose(i -> pool.<Integer>withHttpClient("localhost", server.actualPort(), new HttpClientOptions().setConnectTimeout(5_000), "GET /",
+                        (httpClient, result) -> httpClient.request(HttpMethod.GET, server.actualPort(), "localhost", "/")
+                                .compose(request -> request.send())
+                                .map(response -> response.statusCode())
+                                .onComplete(result)))
+                .onComplete(context.succeeding(status -> context.verify(() -> {
+                    assertThat(status, is(200));
+                    assertThat(pool.size(), is(2));
+                    checkpoint.flag();
+                })));
+    }
+
+    @Test
+    public void testIdleClientsAreEvicted(VertxTestContext context) {
+        HttpClientPool pool = new HttpClientPool(vertx, "test", 1, 1, 1, null);
+        Checkpoint checkpoint = context.checkpoint();
+
+        get(pool, "/")
+                .onComplete(context.succeeding(i -> context.verify(() -> {
+                    // Evicts nothing as the idle timeout did not pass yet
+                    pool.evictIdleClients();
+                    assertThat(pool.size(), is(1));
+
+                    vertx.setTimer(1_500, t -> context.verify(() -> {
+                        pool.evictIdleClients();
+                        assertThat(pool.size(), is(0));
+                        checkpoint.flag();
+                    }));
+                })));
+    }
+
+    private static Future<String> get(HttpClientPool pool, String path) {
+        return pool.withHttpClient("localhost", server.actualPort(), new HttpClientOptions(), "GET /connectors/{name}",
+                (httpClient, result) -> httpClient.request(HttpMethod.GET, server.actualPort(), "localhost", path)
+                        .compose(request -> request.send())
+                        .compose(response -> response.body())
+                        .map(body -> body.toString())
+                        .onComplete(result));
+    }
+}
@@ -388,6 +388,81 @@ public class ZookeeperLeaderFinderTest {
             })));
     }
 
+    @Test
+    public void testLeaderIsCachedUntilInvalidated(VertxTestContext context) throws InterruptedException {
+        int leader = 1;
+        String leaderPod = "my-cluster-kafka-1";
+
+        int[] ports = startMockZks(context, 2, (id, attempt) -> id == leader);
+
+        ZookeeperLeaderFinder finder = new TestingZookeeperLeaderFinder(this::backoff, ports);
+        Set<String> pods = treeSet(createPodWithId(0), createPodWithId(1));
+
+        Checkpoint a = context.checkpoint();
+        finder.findZookeeperLeader(Reconciliation.DUMMY_RECONCILIATION, pods, dummySecret(), dummySecret())
+            .compose(l -> {
+                context.verify(() -> assertThat(l, is(leaderPod)));
+                // The leader is cached => the nodes are not probed again
+                return finder.findZookeeperLeader(Reconciliation.DUMMY_RECONCILIATION, pods, dummySecret(), dummySecret());
+            })
+            .compose(l -> {
+                context.verify(() -> {
+                    assertThat(l, is(leaderPod));
+                    for (FakeZk zk : zks) {
+                        assertThat("Unexpected number of attempts for node " + zk.id, zk.attempts.get(), is(1));
+                    }
+                });
+
+                // Invalidated leader => the nodes are probed again
+                finder.invalidateLeader(Reconciliation.DUMMY_RECONCILIATION);
+                return finder.findZookeeperLeader(Reconciliation.DUMMY_RECONCILIATION, pods, dummySecret(), dummySecret());
+            })
+            .onComplete(context.succeeding(l -> context.verify(() -> {
+                assertThat(l, is(leaderPod));
+                for (FakeZk zk : zks) {
+                    assertThat("Unexpected number of attempts for node " + zk.id, zk.attempts.get(), is(2));
+                }
+                a.flag();
+            })));
+    }
+
+    @Test
+    public void testEvict(VertxTestContext context) throws InterruptedException {
+        int leader = 1;
+        String leaderPod = "my-cluster-kafka-1";
+
+        int[] ports = startMockZks(context, 2, (id, attempt) -> id == leader);
+
+        ZookeeperLeaderFinder finder = new TestingZookeeperLeaderFinder(this::backoff, ports);
+        Set<String> pods = treeSet(createPodWithId(0), createPodWithId(1));
+
+        Checkpoint a = context.checkpoint();
+        finder.findZookeeperLeader(Reconciliation.DUMMY_RECONCILIATION, pods, dummySecret(), dummySecret())
+            .compose(l -> {
+                context.verify(() -> {
+                    assertThat(l, is(leaderPod));
+                    assertThat(finder.leaders.size(), is(1));
+                    assertThat(finder.clients.size(), is(1));
+                });
+
+                // The Kafka cluster was deleted => the leader and the client are removed
+                finder.evict(Reconciliation.DUMMY_RECONCILIATION);
+                context.verify(() -> {
+                    assertThat(finder.leaders.size(), is(0));
+                    assertThat(finder.clients.size(), is(0));
+                });
+
+                return finder.findZookeeperLeader(Reconciliation.DUMMY_RECONCILIATION, pods, dummySecret(), dummySecret());
+            })
+            .onComplete(context.succeeding(l -> context.verify(() -> {
+                assertThat(l, is(leaderPod));
+                for (FakeZk zk : zks) {
+                    assertThat("Unexpected number of attempts for node " + zk.id, zk.attempts.get(), is(2));
+                }
+                a.flag();
+            })));
+    }
+
     String createPodWithId(int id) {
         return "my-cluster-kafka-" + id;
     }
@@ -31,6 +31,7 @@ import java.util.Base64;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
@@ -43,6 +44,7 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -215,7 +217,10 @@ public class ZookeeperScalerTest {
         Checkpoint check = context.checkpoint();
         scaler.scale(1).onComplete(context.succeeding(res -> context.verify(() -> {
             verify(mockZooAdmin, never()).reconfigure(isNull(), isNull(), anyList(), anyLong(), isNull());
-            verify(mockZooAdmin, times(1)).close(anyInt());
+            verify(mockZooAdmin, never()).close(anyInt());
+
+            scaler.close();
+            verify(mockZooAdmin, timeout(10_000).times(1)).close(anyInt());
             check.flag();
         })));
     }
@@ -245,11 +250,86 @@ public class ZookeeperScalerTest {
         Checkpoint check = context.checkpoint();
         scaler.scale(1).onComplete(context.succeeding(res -> context.verify(() -> {
             verify(mockZooAdmin, times(1)).reconfigure(isNull(), isNull(), anyList(), anyLong(), isNull());
-            verify(mockZooAdmin, times(1)).close(anyInt());
+            verify(mockZooAdmin, never()).close(anyInt());
+
+            scaler.close();
+            verify(mockZooAdmin, timeout(10_000).times(1)).close(anyInt());
             check.flag();
         })));
     }
 
+    @Test
+    public void testSessionIsReusedAcrossScalingSteps(VertxTestContext context) throws KeeperException, InterruptedException {
+        String config = "server.1=my-cluster-zookeeper-0.my-cluster-zookeeper-nodes.myproject.svc:2888:3888:participant;127.0.0.1:12181\n" +
+                "server.2=my-cluster-zookeeper-1.my-cluster-zookeeper-nodes.myproject.svc:2888:3888:participant;127.0.0.1:12181\n" +
+                "server.3=my-cluster-zookeeper-2.my-cluster-zookeeper-nodes.myproject.svc:2888:3888:participant;127.0.0.1:12181\n" +
+                "version=100000000b";
+
+        ZooKeeperAdmin mockZooAdmin = mock(ZooKeeperAdmin.class);
+        when(mockZooAdmin.getConfig(false, null)).thenReturn(config.getBytes(StandardCharsets.US_ASCII));
+        when(mockZooAdmin.reconfigure(isNull(), isNull(), anyList(), anyLong(), isNull())).thenReturn(config.getBytes(StandardCharsets.US_ASCII));
+        when(mockZooAdmin.getState()).thenReturn(ZooKeeper.States.CONNECTED);
+
+        AtomicInteger sessions = new AtomicInteger(0);
+        ZooKeeperAdminProvider zooKeeperAdminProvider = (connectString, sessionTimeout, watcher, conf) -> {
+            sessions.incrementAndGet();
+            watcher.process(new WatchedEvent(null, Watcher.Event.KeeperState.SyncConnected, null));
+            return mockZooAdmin;
+        };
+
+        ZookeeperScaler scaler = new ZookeeperScaler(new Reconciliation("test", "TestResource", "my-namespace", "my-resource"),
+                vertx, zooKeeperAdminProvider, "zookeeper:2181", zkNodeAddress, dummyCaSecret, dummyCoSecret, 1_000, 10_000);
+
+        Checkpoint check = context.checkpoint();
+        scaler.scale(2)
+                .compose(i -> scaler.scale(1))
+                .onComplete(context.succeeding(res -> context.verify(() -> {
+                    assertThat(sessions.get(), is(1));
+                    verify(mockZooAdmin, times(2)).reconfigure(isNull(), isNull(), anyList(), anyLong(), isNull());
+                    verify(mockZooAdmin, never()).close(anyInt());
+
+                    scaler.close();
+                    verify(mockZooAdmin, timeout(10_000).times(1)).close(anyInt());
+                    check.flag();
+                })));
+    }
+
+    @Test
+    public void testSessionIsReopenedAfterFailure(VertxTestContext context) throws KeeperException, InterruptedException {
+        String config = "server.1=my-cluster-zookeeper-0.my-cluster-zookeeper-nodes.myproject.svc:2888:3888:participant;127.0.0.1:12181\n" +
+                "version=100000000b";
+
+        ZooKeeperAdmin mockZooAdmin = mock(ZooKeeperAdmin.class);
+        when(mockZooAdmin.getConfig(false, null))
+                .thenThrow(KeeperException.ConnectionLossException.class)
+                .thenReturn(config.getBytes(StandardCharsets.US_ASCII));
+        when(mockZooAdmin.getState()).thenReturn(ZooKeeper.States.CONNECTED);
+
+        AtomicInteger sessions = new AtomicInteger(0);
+        ZooKeeperAdminProvider zooKeeperAdminProvider = (connectString, sessionTimeout, watcher, conf) -> {
+            sessions.incrementAndGet();
+            watcher.process(new WatchedEvent(null, Watcher.Event.KeeperState.SyncConnected, null));
+            return mockZooAdmin;
+        };
+
+        ZookeeperScaler scaler = new ZookeeperScaler(new Reconciliation("test", "TestResource", "my-namespace", "my-resource"),
+                vertx, zooKeeperAdminProvider, "zookeeper:2181", zkNodeAddress, dummyCaSecret, dummyCoSecret, 1_000, 10_000);
+
+        Checkpoint check = context.checkpoint();
+        scaler.scale(1)
+                .recover(error -> {
+                    context.verify(() -> verify(mockZooAdmin, times(1)).close(anyInt()));
+                    return scaler.scale(1);
+                })
+                .onComplete(context.succeeding(res -> context.verify(() -> {
+                    assertThat(sessions.get(), is(2));
+
+                    scaler.close();
+                    verify(mockZooAdmin, timeout(10_000).times(2)).close(anyInt());
+                    check.flag();
+                })));
+    }
+
     @Test
     public void testWhenThrows(VertxTestContext context) throws KeeperException, InterruptedException {
         String config = "server.1=my-cluster-zookeeper-0.my-cluster-zookeeper-nodes.myproject.svc:2888:3888:participant;127.0.0.1:12181\n" +
@@ -7,8 +7,10 @@ package io.strimzi.operator.cluster.model;
 import io.fabric8.kubernetes.api.model.OwnerReference;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.strimzi.api.kafka.model.CertificateExpirationPolicy;
+import io.strimzi.api.kafka.model.CertificateKeyAlgorithm;
 import io.strimzi.certs.CertAndKey;
 import io.strimzi.certs.CertManager;
+import io.strimzi.certs.KeyAlgorithm;
 import io.strimzi.certs.SecretCertProvider;
 import io.strimzi.certs.Subject;
 import io.strimzi.operator.common.Annotations;
@@ -259,6 +261,7 @@ public abstract class Ca {
     protected RenewalType renewalType;
     protected boolean caCertsRemoved;
     protected final CertificateExpirationPolicy policy;
+    protected final KeyAlgorithm keyAlgorithm;
 
     /**
      * Constructs the CA object
@@ -280,6 +283,32 @@ public abstract class Ca {
               String caCertSecretName, Secret caCertSecret,
               String caKeySecretName, Secret caKeySecret,
               int validityDays, int renewalDays, boolean generateCa, CertificateExpirationPolicy policy) {
+        this(reconciliation, certManager, passwordGenerator, commonName, caCertSecretName, caCertSecret, caKeySecretName, caKeySecret,
+                validityDays, renewalDays, generateCa, policy, null);
+    }
+
+    /**
+     * Constructs the CA object
+     *
+     * @param reconciliation        Reconciliation marker
+     * @param certManager           Certificate manager instance
+     * @param passwordGenerator     Password generator instance
+     * @param commonName            Common name which should be used by this CA
+     * @param caCertSecretName      Name of the Kubernetes Secret where the CA public key wil be stored
+     * @param caCertSecret          Kubernetes Secret where the CA public key will be stored
+     * @param caKeySecretName       Name of the Kubernetes Secret where the CA private key wil be stored
+     * @param caKeySecret           Kubernetes Secret where the CA private key will be stored
+     * @param validityDays          Number of days for which the CA certificate should be value
+     * @param renewalDays           Number of day before expiration, when the certificate should be renewed
+     * @param generateCa            Flag indicating whether the CA should be generated by Strimzi or not
+     * @param policy                Policy defining the behavior when the CA expires (renewal or completely replacing the CA)
+     * @param keyAlgorithm          Algorithm used for newly generated CA and end-entity keys (RSA when null)
+     */
+    public Ca(Reconciliation reconciliation, CertManager certManager, PasswordGenerator passwordGenerator, String commonName,
+              String caCertSecretName, Secret caCertSecret,
+              String caKeySecretName, Secret caKeySecret,
+              int validityDays, int renewalDays, boolean generateCa, CertificateExpirationPolicy policy,
+              CertificateKeyAlgorithm keyAlgorithm) {
         this.reconciliation = reconciliation;
         this.commonName = commonName;
         this.caCertSecret = caCertSecret;
@@ -292,6 +321,7 @@ public abstract class Ca {
         this.renewalDays = renewalDays;
         this.generateCa = generateCa;
         this.policy = policy == null ? CertificateExpirationPolicy.RENEW_CERTIFICATE : policy;
+        this.keyAlgorithm = keyAlgorithm(keyAlgorithm);
         this.renewalType = RenewalType.NOOP;
         this.clock = Clock.systemUTC();
     }
@@ -300,6 +330,25 @@ public abstract class Ca {
         this.clock = clock;
     }
 
+    /**
+     * Maps the key algorithm from the CertificateAuthority configuration to the algorithm used by the certificate manager
+     *
+     * @param keyAlgorithm  Key algorithm from the custom resource or null if not configured
+     *
+     * @return  Key algorithm used by the certificate manager
+     */
+    /* test */ static KeyAlgorithm keyAlgorithm(CertificateKeyAlgorithm keyAlgorithm) {
+        if (keyAlgorithm == null) {
+            return KeyAlgorithm.RSA;
+        }
+
+        return switch (keyAlgorithm) {
+            case ECDSA_P256 -> KeyAlgorithm.ECDSA_P256;
+            case ECDSA_P384 -> KeyAlgorithm.ECDSA_P384;
+            default -> KeyAlgorithm.RSA;
+        };
+    }
+
     protected static void delete(Reconciliation reconciliation, File file) {
         if (!file.delete()) {
             LOGGER.warnCr(reconciliation, "{} cannot be deleted", file.getName());
@@ -381,7 +430,7 @@ public abstract class Ca {
                                            File csrFile, File keyFile, File certFile, File keyStoreFile) throws IOException {
         LOGGER.infoCr(reconciliation, "Generating certificate {}, signed by CA {}", subject, this);
 
-        certManager.generateCsr(keyFile, csrFile, subject);
+        certManager.generateCsr(keyFile, csrFile, subject, keyAlgorithm);
         certManager.generateCert(csrFile, currentCaKey(), currentCaCertBytes(),
                 certFile, subject, validityDays);
 
@@ -955,7 +1004,7 @@ public abstract class Ca {
                         trustStorePassword = passwordGenerator.generate();
                     }
                     try {
-                        certManager.generateSelfSignedCert(keyFile, certFile, subject, validityDays);
+                        certManager.generateSelfSignedCert(keyFile, certFile, subject, validityDays, keyAlgorithm);
                         certManager.addCertToTrustStore(certFile, CA_CRT, trustStoreFile, trustStorePassword);
                         CertAndKey ca = new CertAndKey(
                                 Files.readAllBytes(keyFile.toPath()),
@@ -4,12 +4,16 @@
  */
 package io.strimzi.operator.cluster.model;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.fabric8.zjsonpatch.JsonDiff;
 import io.strimzi.api.kafka.model.status.Status;
 import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.operator.resource.AbstractJsonDiff;
 
+import java.util.HexFormat;
 import java.util.regex.Pattern;
 
 /**
@@ -55,6 +59,31 @@ public class StatusDiff extends AbstractJsonDiff {
         this.isEmpty = num == 0;
     }
 
+    /**
+     * Computes a canonical hash of the status. The fields ignored by the status diff (the lastTransitionTime of the
+     * conditions) are not part of the hash. So two statuses with the same hash have an empty status diff.
+     *
+     * @param status    Status which should be hashed
+     *
+     * @return  SHA-1 hash of the status
+     */
+    public static String hash(Status status) {
+        JsonNode node = PATCH_MAPPER.valueToTree(status);
+        JsonNode conditions = node.path("conditions");
+
+        for (JsonNode condition : conditions) {
+            if (condition instanceof ObjectNode objectCondition) {
+                objectCondition.remove("lastTransitionTime");
+            }
+        }
+
+        try {
+            return HexFormat.of().formatHex(Util.sha1Digest(PATCH_MAPPER.writeValueAsBytes(node)));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize the status", e);
+        }
+    }
+
     /**
      * Returns whether the Diff is empty or not
      *
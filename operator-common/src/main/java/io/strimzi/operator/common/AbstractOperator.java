@@ -6,6 +6,7 @@ package io.strimzi.operator.common;
 
 import io.fabric8.kubernetes.api.model.LabelSelector;
 import io.fabric8.kubernetes.client.CustomResource;
+import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.Watch;
 import io.fabric8.kubernetes.client.WatcherException;
 import io.micrometer.core.instrument.Meter;
@@ -38,6 +39,7 @@ import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -67,6 +69,7 @@ public abstract class AbstractOperator<
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(AbstractOperator.class);
 
     private static final long PROGRESS_WARNING = 60_000L;
+    private static final int MAX_STATUS_CONFLICT_RETRIES = 3;
     protected static final int LOCK_TIMEOUT_MS = 10000;
 
     /**
@@ -82,6 +85,10 @@ public abstract class AbstractOperator<
 
     protected final OperatorMetricsHolder metrics;
 
+    private final ReconciliationScheduler scheduler;
+
+    private volatile NamespaceOwnership namespaceOwnership = NamespaceOwnership.ALL;
+
     private Map<String, AtomicInteger> resourcesStateCounter = new ConcurrentHashMap<>(1);
 
     /**
@@ -96,11 +103,29 @@ public abstract class AbstractOperator<
      * @param selectorLabels    Selector labels for selecting custom resources which should be operated
      */
     public AbstractOperator(Vertx vertx, String kind, O resourceOperator, OperatorMetricsHolder metrics, Labels selectorLabels) {
+        this(vertx, kind, resourceOperator, metrics, selectorLabels, 0, Map.of());
+    }
+
+    /**
+     * Constructs the AbstractOperator with limited number of concurrent reconciliations. The reconciliations which
+     * cannot run right away are queued and scheduled by the {@link ReconciliationScheduler}.
+     *
+     * @param vertx                         Vert.x instance
+     * @param kind                          Resource kind which will be operated by this operator
+     * @param resourceOperator              Resource operator for given custom resource
+     * @param metrics                       MetricsHolder for managing operator metrics
+     * @param selectorLabels                Selector labels for selecting custom resources which should be operated
+     * @param maxConcurrentReconciliations  Maximal number of concurrent reconciliations. Zero or a negative number
+     *                                      means no limit.
+     * @param namespaceWeights              Weights of the namespaces used when scheduling the queued reconciliations
+     */
+    public AbstractOperator(Vertx vertx, String kind, O resourceOperator, OperatorMetricsHolder metrics, Labels selectorLabels, int maxConcurrentReconciliations, Map<String, Integer> namespaceWeights) {
         this.vertx = vertx;
         this.kind = kind;
         this.resourceOperator = resourceOperator;
         this.selector = (selectorLabels == null || selectorLabels.toMap().isEmpty()) ? Optional.empty() : Optional.of(new LabelSelector(null, selectorLabels.toMap()));
         this.metrics = metrics;
+        this.scheduler = new ReconciliationScheduler(maxConcurrentReconciliations, namespaceWeights, metrics);
     }
 
     /**
@@ -118,6 +143,23 @@ public abstract class AbstractOperator<
         this(vertx, kind, resourceOperator, new OperatorMetricsHolder(kind, selectorLabels, metricsProvider), selectorLabels);
     }
 
+    /**
+     * Constructs the AbstractOperator with limited number of concurrent reconciliations using the MetricsProvider
+     * instance.
+     *
+     * @param vertx                         Vert.x instance
+     * @param kind                          Resource kind which will be operated by this operator
+     * @param resourceOperator              Resource operator for given custom resource
+     * @param metricsProvider               Metrics provider which should be used to create the OperatorMetricsHolder instance
+     * @param selectorLabels                Selector labels for selecting custom resources which should be operated
+     * @param maxConcurrentReconciliations  Maximal number of concurrent reconciliations. Zero or a negative number
+     *                                      means no limit.
+     * @param namespaceWeights              Weights of the namespaces used when scheduling the queued reconciliations
+     */
+    public AbstractOperator(Vertx vertx, String kind, O resourceOperator, MetricsProvider metricsProvider, Labels selectorLabels, int maxConcurrentReconciliations, Map<String, Integer> namespaceWeights) {
+        this(vertx, kind, resourceOperator, new OperatorMetricsHolder(kind, selectorLabels, metricsProvider), selectorLabels, maxConcurrentReconciliations, namespaceWeights);
+    }
+
     @Override
     public String kind() {
         return kind;
@@ -128,6 +170,28 @@ public abstract class AbstractOperator<
         return metrics;
     }
 
+    /**
+     * Sets the namespace ownership which decides whether this operator instance owns the given namespace. When several
+     * operator replicas share the work, each of them reconciles only the resources in the namespaces it owns. By
+     * default, this operator owns all namespaces.
+     *
+     * @param namespaceOwnership    Namespace ownership of this operator instance
+     */
+    public void setNamespaceOwnership(NamespaceOwnership namespaceOwnership) {
+        this.namespaceOwnership = namespaceOwnership;
+    }
+
+    /**
+     * Checks whether this operator instance owns the given namespace and should reconcile the resources in it.
+     *
+     * @param namespace     Namespace which should be checked
+     *
+     * @return  True if this operator instance owns the namespace. False otherwise.
+     */
+    public boolean ownsNamespace(String namespace) {
+        return namespaceOwnership.isOwner(namespace);
+    }
+
     /**
      * Gets the name of the lock to be used for operating on the given {@code namespace} and
      * cluster {@code name}
@@ -174,16 +238,26 @@ public abstract class AbstractOperator<
         String namespace = reconciliation.namespace();
         String name = reconciliation.name();
 
+        if (!ownsNamespace(namespace)) {
+            LOGGER.debugCr(reconciliation, "{} {} in namespace {} is owned by another operator instance and will be ignored", kind, name, namespace);
+            return Future.succeededFuture();
+        }
+
         metrics().reconciliationsCounter(reconciliation.namespace()).increment();
-        Timer.Sample reconciliationTimerSample = Timer.start(metrics().metricsProvider().meterRegistry());
+        AtomicReference<Timer.Sample> reconciliationTimerSample = new AtomicReference<>();
 
-        Future<Void> handler = withLock(reconciliation, LOCK_TIMEOUT_MS, () ->
-            resourceOperator.getAsync(namespace, name)
-                .compose(cr -> cr != null ? reconcileResource(reconciliation, cr) : reconcileDeletion(reconciliation)));
+        Future<Void> handler = scheduler.schedule(reconciliation, () -> {
+            // The timer is started only when the reconciliation starts. The time spent in the queue has its own timer.
+            reconciliationTimerSample.set(Timer.start(metrics().metricsProvider().meterRegistry()));
+
+            return withLock(reconciliation, LOCK_TIMEOUT_MS, () ->
+                resourceOperator.getAsync(namespace, name)
+                    .compose(cr -> cr != null ? reconcileResource(reconciliation, cr) : reconcileDeletion(reconciliation)));
+        });
 
         Promise<Void> result = Promise.promise();
         handler.onComplete(reconcileResult ->
-            callSafely(reconciliation, () -> handleResult(reconciliation, reconcileResult, reconciliationTimerSample))
+            callSafely(reconciliation, () -> handleResult(reconciliation, reconcileResult, reconciliationTimerSample.get()))
                 .onComplete(handleSafely(reconciliation, ignored -> result.handle(reconcileResult))));
 
         return result.future();
@@ -310,7 +384,8 @@ public abstract class AbstractOperator<
 
     /**
      * Updates the Status field of the Kafka CR. It diffs the desired status against the current status and calls
-     * the update only when there is any difference in non-timestamp fields.
+     * the update only when there is any difference in non-timestamp fields. When the update fails because of a
+     * conflict, it is retried with the latest version of the resource.
      *
      * @param reconciliation the reconciliation identified
      * @param desiredStatus The KafkaStatus which should be set
@@ -318,6 +393,10 @@ public abstract class AbstractOperator<
      * @return
      */
     Future<Void> updateStatus(Reconciliation reconciliation, S desiredStatus) {
+        return updateStatus(reconciliation, desiredStatus, MAX_STATUS_CONFLICT_RETRIES);
+    }
+
+    private Future<Void> updateStatus(Reconciliation reconciliation, S desiredStatus, int conflictRetries) {
         if (desiredStatus == null)  {
             LOGGER.debugCr(reconciliation, "Desired status is null - status will not be updated");
             return Future.succeededFuture();
@@ -340,6 +419,11 @@ public abstract class AbstractOperator<
                                         LOGGER.debugCr(reconciliation, "Completed status update");
                                         return Future.succeededFuture();
                                     }, error -> {
+                                            if (error instanceof KubernetesClientException kce && kce.getCode() == 409 && conflictRetries > 0) {
+                                                LOGGER.debugCr(reconciliation, "{} {} changed while trying to update status => retrying", reconciliation.kind(), name);
+                                                return updateStatus(reconciliation, desiredStatus, conflictRetries - 1);
+                                            }
+
                                             LOGGER.errorCr(reconciliation, "Failed to update status", error);
                                             return Future.failedFuture(error);
                                         });
@@ -370,6 +454,9 @@ public abstract class AbstractOperator<
      * and call the given {@code callable} with the lock held.
      * Once the callable returns (or if it throws) release the lock and complete the returned Future.
      * If the lock cannot be acquired the given {@code callable} is not called and the returned Future is completed with {@link UnableToAcquireLockException}.
+     * If this operator instance does not own the namespace of the resource anymore when the lock is acquired, the
+     * given {@code callable} is not called and the returned Future is completed with null. Otherwise, the namespace
+     * is not handed over to another operator instance until the callable completes.
      * @param reconciliation
      * @param callable
      * @param <T>
@@ -386,11 +473,23 @@ public abstract class AbstractOperator<
                 LOGGER.debugCr(reconciliation, "Lock {} acquired", lockName);
 
                 Lock lock = res.result();
+                NamespaceOwnership ownership = namespaceOwnership;
+
+                if (!ownership.acquire(namespace)) {
+                    // The namespace was handed over to another operator instance while waiting for the lock
+                    LOGGER.debugCr(reconciliation, "{} {} in namespace {} is owned by another operator instance and will be ignored", kind, name, namespace);
+                    lock.release();
+                    LOGGER.debugCr(reconciliation, "Lock {} released", lockName);
+                    handler.complete();
+                    return;
+                }
+
                 long timerId = vertx.setPeriodic(PROGRESS_WARNING, timer -> {
                     LOGGER.infoCr(reconciliation, "Reconciliation is in progress");
                 });
 
                 callSafely(reconciliation, callable)
+                    .andThen(ignored -> ownership.release(namespace))
                     .onSuccess(handleSafely(reconciliation, handler::complete))
                     .onFailure(handleSafely(reconciliation, handler::fail))
                     .eventually(ignored -> releaseLockAndTimer(reconciliation, lock, lockName, timerId));
@@ -511,6 +610,12 @@ public abstract class AbstractOperator<
 
     /**
      * Log the reconciliation outcome.
+     *
+     * @param reconciliation            The reconciliation
+     * @param result                    Result of the reconciliation
+     * @param reconciliationTimerSample Timer sample started when the reconciliation started. Null when the
+     *                                  reconciliation was merged into another reconciliation of the same resource
+     *                                  which was already queued.
      */
     private Future<Void> handleResult(Reconciliation reconciliation, AsyncResult<Void> result, Timer.Sample reconciliationTimerSample) {
         Promise<Void> handlingResult = Promise.promise();
@@ -518,7 +623,7 @@ public abstract class AbstractOperator<
         if (result.succeeded()) {
             updateResourceState(reconciliation, true, null).onComplete(stateUpdateResult -> {
                 metrics().successfulReconciliationsCounter(reconciliation.namespace()).increment();
-                reconciliationTimerSample.stop(metrics().reconciliationsTimer(reconciliation.namespace()));
+                stopReconciliationTimer(reconciliation, reconciliationTimerSample);
                 LOGGER.infoCr(reconciliation, "reconciled");
                 handlingResult.handle(stateUpdateResult);
             });
@@ -528,7 +633,7 @@ public abstract class AbstractOperator<
             if (cause instanceof InvalidConfigParameterException) {
                 updateResourceState(reconciliation, false, cause).onComplete(stateUpdateResult -> {
                     metrics().failedReconciliationsCounter(reconciliation.namespace()).increment();
-                    reconciliationTimerSample.stop(metrics().reconciliationsTimer(reconciliation.namespace()));
+                    stopReconciliationTimer(reconciliation, reconciliationTimerSample);
                     LOGGER.warnCr(reconciliation, "Failed to reconcile {}", cause.getMessage());
                     handlingResult.handle(stateUpdateResult);
                 });
@@ -538,7 +643,7 @@ public abstract class AbstractOperator<
             } else {
                 updateResourceState(reconciliation, false, cause).onComplete(stateUpdateResult -> {
                     metrics().failedReconciliationsCounter(reconciliation.namespace()).increment();
-                    reconciliationTimerSample.stop(metrics().reconciliationsTimer(reconciliation.namespace()));
+                    stopReconciliationTimer(reconciliation, reconciliationTimerSample);
                     LOGGER.warnCr(reconciliation, "Failed to reconcile", cause);
                     handlingResult.handle(stateUpdateResult);
                 });
@@ -548,6 +653,12 @@ public abstract class AbstractOperator<
         return handlingResult.future();
     }
 
+    private void stopReconciliationTimer(Reconciliation reconciliation, Timer.Sample reconciliationTimerSample) {
+        if (reconciliationTimerSample != null) {
+            reconciliationTimerSample.stop(metrics().reconciliationsTimer(reconciliation.namespace()));
+        }
+    }
+
     /**
      * Updates the resource state metric for the provided reconciliation which brings kind, name and namespace
      * of the custom resource.
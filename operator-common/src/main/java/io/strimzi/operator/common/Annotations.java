@@ -63,6 +63,12 @@ public class Annotations {
      */
     public static final String STRIMZI_IO_CONNECT_BUILD_REVISION = STRIMZI_DOMAIN + "connect-build-revision";
 
+    /**
+     * Annotation used to store the revisions of the individual connector plugins of the Kafka Connect build. It is
+     * used to tell which plugins changed when a new build is needed.
+     */
+    public static final String STRIMZI_IO_CONNECT_BUILD_PLUGIN_REVISIONS = STRIMZI_DOMAIN + "connect-build-plugin-revisions";
+
     /**
      * Annotation used to store the container image created by Kafka Connect build (This is used to track what was the
      * result of previous build when it does not change)
@@ -0,0 +1,404 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.shareddata.Shareable;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the blocking operations such as the Kubernetes client or Kafka Admin API calls. By default, the operations
+ * run in the shared Vert.x worker pool named kubernetes-ops-pool. When the virtual threads are enabled, each blocking
+ * operation runs in a virtual thread instead and a semaphore limits how many of them run at the same time.
+ *
+ * The virtual threads are available only on Java 21 and newer. They are looked up using reflection so that the
+ * operators can still run on older Java versions. When they are not available, the virtual threads mode falls back to
+ * the worker pool.
+ *
+ * The executor is created by the operator when it starts and attached to its Vertx instance. The code running in
+ * Vert.x gets it from the Vertx instance using BlockingExecutor#forVertx. Vertx instances without any executor
+ * attached, such as the ones used in the tests, use the worker pool.
+ */
+public class BlockingExecutor {
+    private static final Logger LOGGER = LogManager.getLogger(BlockingExecutor.class);
+
+    /**
+     * Name of the shared Vert.x worker pool used for the blocking operations
+     */
+    public static final String KUBERNETES_OPS_POOL = "kubernetes-ops-pool";
+
+    /**
+     * Blocking executor which runs the blocking operations in the worker pool and uses the platform threads
+     */
+    public static final BlockingExecutor WORKER_POOL = new BlockingExecutor(null);
+
+    private static final String LOCAL_MAP_NAME = "strimzi.blocking-executor";
+    private static final String LOCAL_MAP_KEY = "executor";
+
+    private static final ThreadFactory VIRTUAL_THREAD_FACTORY = virtualThreadFactoryOrNull();
+
+    private final ExecutorService virtualThreadExecutor;
+    private final Map<Context, OrderedTasks> orderedTasks = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /* test */ BlockingExecutor(ExecutorService virtualThreadExecutor) {
+        this.virtualThreadExecutor = virtualThreadExecutor;
+    }
+
+    /**
+     * Creates the blocking executor. When the virtual threads are enabled but not supported by the Java runtime, the
+     * worker pool is used instead.
+     *
+     * @param virtualThreadsEnabled     Indicates whether the blocking operations should run in virtual threads
+     * @param maxConcurrency            Maximal number of the blocking operations running at the same time in the
+     *                                  virtual threads
+     *
+     * @return  The blocking executor
+     */
+    public static BlockingExecutor create(boolean virtualThreadsEnabled, int maxConcurrency) {
+        ExecutorService executor = virtualThreadsEnabled ? newBoundedVirtualThreadExecutor(maxConcurrency) : null;
+
+        if (executor != null) {
+            LOGGER.info("Blocking operations will run in virtual threads with maximal concurrency {}", maxConcurrency);
+            return new BlockingExecutor(executor);
+        } else {
+            return WORKER_POOL;
+        }
+    }
+
+    /**
+     * Returns the blocking executor attached to the Vertx instance
+     *
+     * @param vertx     Vertx instance
+     *
+     * @return  The blocking executor attached to the Vertx instance or the worker pool executor if none is attached
+     */
+    public static BlockingExecutor forVertx(Vertx vertx) {
+        Object attachment = vertx.sharedData().getLocalMap(LOCAL_MAP_NAME).get(LOCAL_MAP_KEY);
+        return attachment != null ? ((Attachment) attachment).executor : WORKER_POOL;
+    }
+
+    /**
+     * Attaches this blocking executor to the Vertx instance. The blocking operations of the code using this Vertx
+     * instance will run in this executor.
+     *
+     * @param vertx     Vertx instance
+     */
+    public void attachTo(Vertx vertx) {
+        vertx.sharedData().getLocalMap(LOCAL_MAP_NAME).put(LOCAL_MAP_KEY, new Attachment(this));
+    }
+
+    /**
+     * @return  True if the blocking operations run in virtual threads. False otherwise.
+     */
+    public boolean isVirtualThreadsEnabled() {
+        return virtualThreadExecutor != null;
+    }
+
+    /**
+     * @return  The bounded executor service which runs the blocking operations in virtual threads or null when the
+     *          virtual threads are not enabled
+     */
+    public ExecutorService virtualThreadExecutor() {
+        return virtualThreadExecutor;
+    }
+
+    /**
+     * @return  True if the virtual threads are supported by the Java runtime. False otherwise.
+     */
+    public static boolean isVirtualThreadsSupported() {
+        return VIRTUAL_THREAD_FACTORY != null;
+    }
+
+    /**
+     * Runs the blocking code and passes its result to the result handler on the calling Vert.x context. This has the
+     * same semantics as WorkerExecutor#executeBlocking: the ordered blocking operations from the same context run one
+     * after another in the order in which they were submitted, both in the worker pool and in the virtual threads.
+     *
+     * @param vertx                 Vertx instance
+     * @param blockingCodeHandler   Handler with the blocking code
+     * @param ordered               Indicates whether the blocking operations from the same context should be executed
+     *                              in order
+     * @param resultHandler         Handler which is called with the result
+     *
+     * @param <T>   Type of the result
+     */
+    public <T> void executeBlocking(Vertx vertx, Handler<Promise<T>> blockingCodeHandler, boolean ordered, Handler<AsyncResult<T>> resultHandler) {
+        if (virtualThreadExecutor == null) {
+            vertx.createSharedWorkerExecutor(KUBERNETES_OPS_POOL).executeBlocking(blockingCodeHandler, ordered, resultHandler);
+        } else {
+            Context context = vertx.getOrCreateContext();
+            Promise<T> promise = Promise.promise();
+            promise.future().onComplete(res -> context.runOnContext(v -> resultHandler.handle(res)));
+
+            Runnable task = () -> {
+                try {
+                    blockingCodeHandler.handle(promise);
+                } catch (Throwable t) {
+                    promise.tryFail(t);
+                }
+            };
+
+            try {
+                if (ordered) {
+                    orderedTasks.computeIfAbsent(context, c -> new OrderedTasks(virtualThreadExecutor)).execute(task);
+                } else {
+                    virtualThreadExecutor.execute(task);
+                }
+            } catch (RejectedExecutionException e) {
+                promise.tryFail(e);
+            }
+        }
+    }
+
+    /**
+     * Runs the blocking code and returns a Future with its result. The blocking operations submitted by this method
+     * from the same context run in order.
+     *
+     * @param vertx                 Vertx instance
+     * @param blockingCodeHandler   Handler with the blocking code
+     *
+     * @return  Future which completes with the result of the blocking code
+     *
+     * @param <T>   Type of the result
+     */
+    public <T> Future<T> executeBlocking(Vertx vertx, Handler<Promise<T>> blockingCodeHandler) {
+        Promise<T> result = Promise.promise();
+        executeBlocking(vertx, blockingCodeHandler, true, result);
+        return result.future();
+    }
+
+    /**
+     * Creates a new thread. When the virtual threads are enabled, the thread is a virtual thread. Otherwise, it is a
+     * platform thread.
+     *
+     * @param task  Runnable which should be run by the thread
+     * @param name  Name of the thread
+     *
+     * @return  New thread which has not been started yet
+     */
+    public Thread newThread(Runnable task, String name) {
+        if (isVirtualThreadsEnabled()) {
+            Thread thread = VIRTUAL_THREAD_FACTORY.newThread(task);
+            thread.setName(name);
+            return thread;
+        } else {
+            return new Thread(task, name);
+        }
+    }
+
+    /**
+     * Shuts down the virtual threads executor. The blocking operations submitted afterwards fail.
+     */
+    public void close() {
+        if (virtualThreadExecutor != null) {
+            virtualThreadExecutor.shutdown();
+        }
+    }
+
+    /**
+     * Creates an executor service which runs each task in a new virtual thread. A semaphore limits how many of the
+     * tasks run at the same time. The remaining tasks wait for the permit in their virtual threads.
+     *
+     * @param maxConcurrency    Maximal number of tasks running at the same time
+     *
+     * @return  The executor service or null when the virtual threads are not supported
+     */
+    private static ExecutorService newBoundedVirtualThreadExecutor(int maxConcurrency) {
+        if (!isVirtualThreadsSupported()) {
+            LOGGER.warn("Virtual threads are not supported by the Java runtime {}. The platform threads will be used instead.", Runtime.version());
+            return null;
+        } else if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("The maximal concurrency has to be a positive number");
+        }
+
+        return new BoundedExecutor(VIRTUAL_THREAD_FACTORY, maxConcurrency);
+    }
+
+    /**
+     * Uses reflection to get the virtual thread factory. Thread.ofVirtual() is available only from Java 21.
+     *
+     * @return  The virtual thread factory or null when the virtual threads are not supported
+     */
+    private static ThreadFactory virtualThreadFactoryOrNull() {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Method factory = Class.forName("java.lang.Thread$Builder").getMethod("factory");
+            return (ThreadFactory) factory.invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Wraps the blocking executor so that it can be stored in the local map of the Vertx instance. It is a separate
+     * class so that the operators which do not use Vert.x do not need it on their class path.
+     */
+    private record Attachment(BlockingExecutor executor) implements Shareable { }
+
+    /**
+     * Queue of the ordered blocking operations from a single Vert.x context. The operations run one after another in
+     * a single virtual thread which is started when the first operation is queued and finishes when the queue is empty.
+     */
+    private static class OrderedTasks {
+        private final ExecutorService executor;
+        private final Deque<Runnable> tasks = new ArrayDeque<>();
+        private boolean running = false;
+
+        OrderedTasks(ExecutorService executor) {
+            this.executor = executor;
+        }
+
+        void execute(Runnable task) {
+            synchronized (this) {
+                tasks.addLast(task);
+
+                if (running) {
+                    return;
+                }
+
+                running = true;
+            }
+
+            try {
+                executor.execute(this::runTasks);
+            } catch (RejectedExecutionException e) {
+                // Nothing was running, so the queue contains only the rejected task
+                synchronized (this) {
+                    tasks.clear();
+                    running = false;
+                }
+
+                throw e;
+            }
+        }
+
+        private void runTasks() {
+            while (true) {
+                Runnable task;
+
+                synchronized (this) {
+                    task = tasks.pollFirst();
+
+                    if (task == null) {
+                        running = false;
+                        return;
+                    }
+                }
+
+                task.run();
+            }
+        }
+    }
+
+    /**
+     * Executor service which starts a new thread for each task and limits the number of tasks running at the same
+     * time using a semaphore.
+     */
+    /* test */ static class BoundedExecutor extends AbstractExecutorService {
+        private final ThreadFactory threadFactory;
+        private final Semaphore permits;
+        private int activeTasks = 0;
+        private boolean shutdown = false;
+
+        /* test */ BoundedExecutor(ThreadFactory threadFactory, int maxConcurrency) {
+            this.threadFactory = threadFactory;
+            this.permits = new Semaphore(maxConcurrency);
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            synchronized (this) {
+                if (shutdown) {
+                    throw new RejectedExecutionException("The executor has been shut down");
+                }
+
+                activeTasks++;
+            }
+
+            threadFactory.newThread(() -> {
+                try {
+                    permits.acquireUninterruptibly();
+
+                    try {
+                        command.run();
+                    } finally {
+                        permits.release();
+                    }
+                } finally {
+                    synchronized (this) {
+                        activeTasks--;
+                        notifyAll();
+                    }
+                }
+            }).start();
+        }
+
+        @Override
+        public synchronized void shutdown() {
+            shutdown = true;
+        }
+
+        @Override
+        public synchronized List<Runnable> shutdownNow() {
+            // The tasks run in their own threads right away, so there are never any tasks waiting to be started
+            shutdown = true;
+            return List.of();
+        }
+
+        @Override
+        public synchronized boolean isShutdown() {
+            return shutdown;
+        }
+
+        @Override
+        public synchronized boolean isTerminated() {
+            return shutdown && activeTasks == 0;
+        }
+
+        @Override
+        public synchronized boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            long deadline = System.nanoTime() + unit.toNanos(timeout);
+
+            while (!isTerminated()) {
+                long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+
+                if (remainingMs <= 0) {
+                    return false;
+                }
+
+                wait(remainingMs);
+            }
+
+            return true;
+        }
+
+        /**
+         * @return  Number of tasks which were submitted and did not finish yet
+         */
+        /* test */ synchronized int activeTasks() {
+            return activeTasks;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+/**
+ * Decides which namespaces are reconciled by this operator instance when several operator replicas share the work.
+ * Besides checking the ownership, it tracks the reconciliations in progress in each namespace. This allows the
+ * implementations to hand a namespace over to another operator instance only once all reconciliations in it finished.
+ */
+public interface NamespaceOwnership {
+    /**
+     * Namespace ownership used when the work is not shared. The operator instance owns all namespaces.
+     */
+    NamespaceOwnership ALL = new NamespaceOwnership() {
+        @Override
+        public boolean isOwner(String namespace) {
+            return true;
+        }
+
+        @Override
+        public boolean acquire(String namespace) {
+            return true;
+        }
+
+        @Override
+        public void release(String namespace) {
+            // Nothing to do
+        }
+    };
+
+    /**
+     * Checks whether this operator instance owns the given namespace
+     *
+     * @param namespace     Namespace which should be checked
+     *
+     * @return  True if this operator instance owns the namespace and should reconcile the resources in it. False
+     *          otherwise.
+     */
+    boolean isOwner(String namespace);
+
+    /**
+     * Checks whether this operator instance owns the given namespace and if it does, it registers a reconciliation
+     * in progress in it. The namespace is not handed over to another operator instance until the reconciliation is
+     * released. Every successful call has to be followed by a call to release(String).
+     *
+     * @param namespace     Namespace in which the reconciliation runs
+     *
+     * @return  True if this operator instance owns the namespace and the reconciliation can proceed. False otherwise.
+     */
+    boolean acquire(String namespace);
+
+    /**
+     * Releases the reconciliation in progress registered by acquire(String)
+     *
+     * @param namespace     Namespace in which the reconciliation ran
+     */
+    void release(String namespace);
+}
@@ -0,0 +1,296 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.strimzi.operator.common.metrics.OperatorMetricsHolder;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Schedules the reconciliations of a single kind of custom resources. The operators are shared by all watched
+ * namespaces, so a burst of reconciliations in one namespace could otherwise starve the reconciliations of the other
+ * namespaces. The scheduler:
+ *   - Limits the number of reconciliations of the kind which run concurrently.
+ *   - Queues the reconciliations which cannot run right away. There is one queue (flow) per namespace and the flows
+ *     are served using weighted fair queuing. By default, all namespaces have the same weight.
+ *   - Prefers the reconciliations triggered by watch events over the periodic reconciliations.
+ *   - Merges a reconciliation with the reconciliation of the same resource which is already waiting in the queue.
+ *   - Does not start a reconciliation while another reconciliation of the same resource is running.
+ *
+ * When the maximal number of concurrent reconciliations is not positive, the reconciliations are not limited and are
+ * started right away.
+ */
+public class ReconciliationScheduler {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ReconciliationScheduler.class);
+
+    /**
+     * Priority of the reconciliation
+     */
+    private enum Priority {
+        /**
+         * Reconciliations triggered by the watch events
+         */
+        HIGH,
+
+        /**
+         * Periodic reconciliations and everything else
+         */
+        LOW
+    }
+
+    private final int maxConcurrentReconciliations;
+    private final Map<String, Integer> namespaceWeights;
+    private final OperatorMetricsHolder metrics;
+
+    private final Map<String, Flow> flows = new LinkedHashMap<>();
+    private final Map<String, Entry> queued = new HashMap<>();
+    private final Set<String> running = new HashSet<>();
+    private double virtualTime = 0;
+
+    /**
+     * Constructs the reconciliation scheduler
+     *
+     * @param maxConcurrentReconciliations  Maximal number of reconciliations running at the same time. Zero or a
+     *                                      negative number means no limit.
+     * @param namespaceWeights              Weights of the namespaces. The namespaces which are not listed have weight 1.
+     * @param metrics                       Metrics holder used for the queue metrics. Can be null.
+     */
+    public ReconciliationScheduler(int maxConcurrentReconciliations, Map<String, Integer> namespaceWeights, OperatorMetricsHolder metrics) {
+        this.maxConcurrentReconciliations = maxConcurrentReconciliations;
+        this.namespaceWeights = namespaceWeights != null ? namespaceWeights : Map.of();
+        this.metrics = metrics;
+    }
+
+    /**
+     * Schedules the reconciliation. The reconciliation is started right away when the limit allows it. Otherwise, it
+     * waits in the queue.
+     *
+     * @param reconciliation    Reconciliation which should be scheduled
+     * @param task              Supplier which runs the reconciliation
+     *
+     * @return  Future which completes with the result of the reconciliation
+     */
+    public Future<Void> schedule(Reconciliation reconciliation, Supplier<Future<Void>> task) {
+        if (maxConcurrentReconciliations <= 0) {
+            return task.get();
+        }
+
+        Promise<Void> result = Promise.promise();
+        String key = key(reconciliation);
+        Priority priority = priority(reconciliation);
+
+        synchronized (this) {
+            Entry existing = queued.get(key);
+
+            if (existing != null) {
+                LOGGER.debugCr(reconciliation, "Reconciliation of the same resource is already queued and will be reused");
+                existing.results.add(result);
+
+                if (priority.ordinal() < existing.priority.ordinal()) {
+                    // Watch event for a resource queued by the periodic reconciliation => move it to the end of the
+                    // watch event queue, so that it runs before the periodic reconciliations but after the watch
+                    // events which were queued before it
+                    Flow flow = flows.get(reconciliation.namespace());
+                    flow.queue(existing.priority).remove(existing);
+                    existing.priority = priority;
+                    flow.queue(priority).addLast(existing);
+                }
+            } else {
+                Entry entry = new Entry(key, reconciliation, priority, task, result);
+                Flow flow = flows.computeIfAbsent(reconciliation.namespace(), ns -> new Flow(namespaceWeights.getOrDefault(ns, 1)));
+
+                if (flow.isEmpty()) {
+                    // A flow which was idle does not get the credit for the time when it was idle
+                    flow.virtualFinishTime = Math.max(flow.virtualFinishTime, virtualTime);
+                }
+
+                flow.queue(priority).addLast(entry);
+                queued.put(key, entry);
+
+                if (metrics != null) {
+                    metrics.queuedReconciliationsCounter(reconciliation.namespace()).incrementAndGet();
+                }
+            }
+        }
+
+        dispatch();
+
+        return result.future();
+    }
+
+    /**
+     * Starts the queued reconciliations while the limit allows it
+     */
+    private void dispatch() {
+        while (true) {
+            Entry next;
+
+            synchronized (this) {
+                if (running.size() >= maxConcurrentReconciliations) {
+                    return;
+                }
+
+                next = next(Priority.HIGH);
+                if (next == null) {
+                    next = next(Priority.LOW);
+                }
+
+                if (next == null) {
+                    return;
+                }
+
+                queued.remove(next.key);
+                running.add(next.key);
+            }
+
+            start(next);
+        }
+    }
+
+    /**
+     * Picks the next reconciliation with given priority. The flow with the lowest virtual finish time is served first.
+     * Reconciliations of resources with another reconciliation running are skipped.
+     *
+     * @param priority  Priority of the reconciliation
+     *
+     * @return  The next reconciliation or null if there is none which can be started
+     */
+    private Entry next(Priority priority) {
+        Flow selectedFlow = null;
+        Entry selected = null;
+
+        for (Flow flow : flows.values()) {
+            if (selectedFlow != null && flow.virtualFinishTime >= selectedFlow.virtualFinishTime) {
+                continue;
+            }
+
+            for (Entry entry : flow.queue(priority)) {
+                if (!running.contains(entry.key)) {
+                    selectedFlow = flow;
+                    selected = entry;
+                    break;
+                }
+            }
+        }
+
+        if (selected != null) {
+            selectedFlow.queue(priority).remove(selected);
+            virtualTime = selectedFlow.virtualFinishTime;
+            selectedFlow.virtualFinishTime += 1.0 / selectedFlow.weight;
+        }
+
+        return selected;
+    }
+
+    /**
+     * Starts the reconciliation and dispatches the next one once it completes
+     *
+     * @param entry     Queued reconciliation
+     */
+    private void start(Entry entry) {
+        if (metrics != null) {
+            metrics.queuedReconciliationsCounter(entry.reconciliation.namespace()).decrementAndGet();
+            metrics.reconciliationsQueueWaitTimer(entry.reconciliation.namespace()).record(System.nanoTime() - entry.enqueuedNanos, TimeUnit.NANOSECONDS);
+        }
+
+        LOGGER.debugCr(entry.reconciliation, "Starting reconciliation after {} ms in the queue", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - entry.enqueuedNanos));
+
+        Future<Void> reconciliation;
+        try {
+            reconciliation = entry.task.get();
+        } catch (Throwable t) {
+            reconciliation = Future.failedFuture(t);
+        }
+
+        reconciliation.onComplete(res -> {
+            synchronized (this) {
+                running.remove(entry.key);
+            }
+
+            for (Promise<Void> result : entry.results) {
+                result.handle(res);
+            }
+
+            dispatch();
+        });
+    }
+
+    /**
+     * @return  Number of reconciliations waiting in the queue
+     */
+    /* test */ synchronized int queuedCount() {
+        return queued.size();
+    }
+
+    /**
+     * @return  Number of reconciliations running
+     */
+    /* test */ synchronized int runningCount() {
+        return running.size();
+    }
+
+    private static Priority priority(Reconciliation reconciliation) {
+        // The watch triggers are "watch", "connector-watch", "kafkarebalance-watch", etc.
+        return reconciliation.trigger() != null && reconciliation.trigger().endsWith("watch") ? Priority.HIGH : Priority.LOW;
+    }
+
+    private static String key(Reconciliation reconciliation) {
+        return reconciliation.namespace() + "/" + reconciliation.name();
+    }
+
+    /**
+     * Queues of a single namespace
+     */
+    private static class Flow {
+        private final int weight;
+        private final Deque<Entry> high = new ArrayDeque<>();
+        private final Deque<Entry> low = new ArrayDeque<>();
+        private double virtualFinishTime = 0;
+
+        Flow(int weight) {
+            this.weight = Math.max(weight, 1);
+        }
+
+        Deque<Entry> queue(Priority priority) {
+            return priority == Priority.HIGH ? high : low;
+        }
+
+        boolean isEmpty() {
+            return high.isEmpty() && low.isEmpty();
+        }
+    }
+
+    /**
+     * Queued reconciliation
+     */
+    private static class Entry {
+        private final String key;
+        private final Reconciliation reconciliation;
+        private final Supplier<Future<Void>> task;
+        private final List<Promise<Void>> results = new ArrayList<>(1);
+        private final long enqueuedNanos = System.nanoTime();
+        private Priority priority;
+
+        Entry(String key, Reconciliation reconciliation, Priority priority, Supplier<Future<Void>> task, Promise<Void> result) {
+            this.key = key;
+            this.reconciliation = reconciliation;
+            this.priority = priority;
+            this.task = task;
+            this.results.add(result);
+        }
+    }
+}
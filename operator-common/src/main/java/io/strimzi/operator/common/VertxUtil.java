@@ -66,6 +66,30 @@ public final class VertxUtil {
         return result.future();
     }
 
+    /**
+     * Runs the asynchronous operations in parallel while making sure that at most {@code maxConcurrency} of them run
+     * at the same time. The operations are split into lanes which run in parallel. Each lane runs its operations one
+     * after another. A failed operation does not stop the following operations in its lane, so all operations are
+     * always run. The returned Future completes when all operations are complete and fails when any of them failed.
+     *
+     * @param maxConcurrency    Maximal number of operations running at the same time
+     * @param operations        Operations which should be run
+     *
+     * @return  Future which completes when all operations are complete
+     */
+    public static Future<Void> runWithLimit(int maxConcurrency, List<Supplier<Future<Void>>> operations) {
+        int lanes = Math.max(1, Math.min(maxConcurrency, operations.size()));
+        List<Future<Void>> results = new ArrayList<>(operations.size());
+
+        for (int i = 0; i < operations.size(); i++) {
+            Supplier<Future<Void>> operation = operations.get(i);
+            Future<Void> previousInLane = i < lanes ? Future.succeededFuture() : results.get(i - lanes);
+            results.add(previousInLane.transform(ignore -> operation.get()));
+        }
+
+        return Future.join(results).mapEmpty();
+    }
+
     /**
      * Converts a standard Java {@link CompletionStage} to a Vert.x {@link Future}.
      *
@@ -124,7 +148,7 @@ public final class VertxUtil {
         Handler<Long> handler = new Handler<>() {
             @Override
             public void handle(Long timerId) {
-                vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+                BlockingExecutor.forVertx(vertx).executeBlocking(vertx,
                     future -> {
                         try {
                             if (completed.getAsBoolean())   {
@@ -5,6 +5,7 @@
 package io.strimzi.operator.common.controller;
 
 import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.BlockingExecutor;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.metrics.ControllerMetricsHolder;
@@ -39,13 +40,14 @@ public abstract class AbstractControllerLoop {
      * @param workQueue             Queue from which events should be consumed
      * @param lockManager           Lock manager for making sure no parallel reconciliations for a given resource can happen
      * @param scheduledExecutor     Scheduled executor service used to run the progress warnings
+     * @param blockingExecutor      Blocking executor used to create the thread in which the controller loop runs
      */
-    public AbstractControllerLoop(String name, ControllerQueue workQueue, ReconciliationLockManager lockManager, ScheduledExecutorService scheduledExecutor) {
+    public AbstractControllerLoop(String name, ControllerQueue workQueue, ReconciliationLockManager lockManager, ScheduledExecutorService scheduledExecutor, BlockingExecutor blockingExecutor) {
         this.name = name;
         this.workQueue = workQueue;
         this.lockManager = lockManager;
         this.scheduledExecutor = scheduledExecutor;
-        this.controllerThread = new Thread(new Runner(), name);
+        this.controllerThread = blockingExecutor.newThread(new Runner(), name);
     }
 
     /**
@@ -0,0 +1,279 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.controller;
+
+import io.fabric8.kubernetes.client.CustomResource;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.strimzi.api.kafka.model.status.Status;
+import io.strimzi.operator.cluster.model.StatusDiff;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Writes the status subresource of custom resources reconciled by the controllers. It tries to minimize the number of
+ * status updates sent to the Kubernetes API:
+ *   - Writes which would not change the status are skipped. The statuses are compared using their canonical hash (see
+ *     {@link StatusDiff#hash(Status)}). This includes the situation when the same status was already written but the
+ *     informer cache did not receive the update yet.
+ *   - When the status of the same resource is updated repeatedly within the coalescing window, only the latest status
+ *     is written at the end of the window.
+ *   - When the update fails with a conflict, it is retried with the latest resource from the Kubernetes API.
+ *   - Writes of statuses computed from an older generation of the resource than the latest one are dropped. The
+ *     reconciliation of the newer generation writes its own status.
+ *
+ * The writer can be shared by multiple controller loops. The writes for the same resource are serialized.
+ *
+ * @param <T>   Type of the custom resource
+ * @param <S>   Type of the status of the custom resource
+ */
+public class StatusWriter<T extends CustomResource<?, S>, S extends Status> {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(StatusWriter.class);
+
+    /**
+     * Default coalescing window in milliseconds
+     */
+    public static final long DEFAULT_COALESCING_WINDOW_MS = 250L;
+
+    /* test */ static final int MAX_CONFLICT_RETRIES = 3;
+
+    private final Function<Reconciliation, T> cachedResource;
+    private final Function<Reconciliation, T> latestResource;
+    private final BiFunction<T, S, T> withStatus;
+    private final UnaryOperator<T> statusUpdater;
+    private final ScheduledExecutorService scheduledExecutor;
+    private final long coalescingWindowMs;
+
+    /* test */ final Map<String, ResourceState<S>> states = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs the status writer
+     *
+     * @param cachedResource        Function which gets the resource from the informer cache
+     * @param latestResource        Function which gets the latest resource directly from the Kubernetes API. It is
+     *                              used when retrying the update after a conflict.
+     * @param withStatus            Function which creates a copy of the resource with the new status
+     * @param statusUpdater         Function which updates the status subresource in the Kubernetes API and returns
+     *                              the updated resource
+     * @param scheduledExecutor     Scheduled executor used to write the coalesced statuses. When null, the statuses
+     *                              are not coalesced.
+     * @param coalescingWindowMs    Minimal time between two status writes for the same resource. When zero, the
+     *                              statuses are not coalesced.
+     */
+    public StatusWriter(
+            Function<Reconciliation, T> cachedResource,
+            Function<Reconciliation, T> latestResource,
+            BiFunction<T, S, T> withStatus,
+            UnaryOperator<T> statusUpdater,
+            ScheduledExecutorService scheduledExecutor,
+            long coalescingWindowMs
+    ) {
+        this.cachedResource = cachedResource;
+        this.latestResource = latestResource;
+        this.withStatus = withStatus;
+        this.statusUpdater = statusUpdater;
+        this.scheduledExecutor = scheduledExecutor;
+        this.coalescingWindowMs = scheduledExecutor != null ? coalescingWindowMs : 0L;
+    }
+
+    /**
+     * Updates the status of the custom resource if it differs from the current status. Depending on when the status
+     * of the same resource was written last time, the status is either written right away or at the end of the
+     * coalescing window.
+     *
+     * @param reconciliation    Reconciliation in which this is executed
+     * @param resource          Resource with the current status as used in the reconciliation
+     * @param desiredStatus     The desired status which should be set if it differs
+     */
+    public void maybeUpdateStatus(Reconciliation reconciliation, T resource, S desiredStatus) {
+        // Resource or desiredStatus being null means deletion => no status to update
+        if (resource == null || desiredStatus == null) {
+            return;
+        }
+
+        String desiredHash = StatusDiff.hash(desiredStatus);
+        ResourceState<S> state = states.computeIfAbsent(key(reconciliation), k -> new ResourceState<>());
+
+        synchronized (state) {
+            if (isUpToDate(state, resource, desiredHash)) {
+                LOGGER.debugCr(reconciliation, "Status of {} {} in namespace {} did not change", reconciliation.kind(), reconciliation.name(), reconciliation.namespace());
+                // Any status waiting for the end of the coalescing window is outdated now
+                state.pendingStatus = null;
+                return;
+            }
+
+            long sinceLastWriteMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - state.lastWriteNanos);
+
+            if (state.lastWriteNanos != 0 && sinceLastWriteMs < coalescingWindowMs) {
+                LOGGER.debugCr(reconciliation, "Status of {} {} in namespace {} was updated recently => the update will be coalesced", reconciliation.kind(), reconciliation.name(), reconciliation.namespace());
+                boolean scheduled = state.pendingStatus != null;
+                state.pendingStatus = desiredStatus;
+                state.pendingReconciliation = reconciliation;
+                state.pendingGeneration = resource.getMetadata().getGeneration();
+
+                if (!scheduled) {
+                    scheduledExecutor.schedule(() -> writePending(state), coalescingWindowMs - sinceLastWriteMs, TimeUnit.MILLISECONDS);
+                }
+            } else {
+                state.pendingStatus = null;
+                write(reconciliation, state, desiredStatus, desiredHash, resource.getMetadata().getGeneration());
+            }
+        }
+    }
+
+    /**
+     * Removes the tracked state of a resource. This should be called when the resource is deleted.
+     *
+     * @param reconciliation    Reconciliation identifying the resource
+     */
+    public void forget(Reconciliation reconciliation) {
+        states.remove(key(reconciliation));
+    }
+
+    /**
+     * Writes the status waiting for the end of the coalescing window
+     *
+     * @param state     State of the resource with the pending status
+     */
+    private void writePending(ResourceState<S> state) {
+        synchronized (state) {
+            S desiredStatus = state.pendingStatus;
+            Reconciliation reconciliation = state.pendingReconciliation;
+            Long generation = state.pendingGeneration;
+            state.pendingStatus = null;
+            state.pendingReconciliation = null;
+            state.pendingGeneration = null;
+
+            if (desiredStatus != null) {
+                try {
+                    write(reconciliation, state, desiredStatus, StatusDiff.hash(desiredStatus), generation);
+                } catch (Throwable t) {
+                    LOGGER.errorCr(reconciliation, "Failed to update status of {} {} in namespace {}", reconciliation.kind(), reconciliation.name(), reconciliation.namespace(), t);
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes the status. The latest resource is taken from the informer cache first. When the update fails with a
+     * conflict, the resource is re-read directly from the Kubernetes API and the update is retried. When the latest
+     * resource has a newer generation than the resource from which the desired status was computed, the status is
+     * outdated and is not written.
+     *
+     * @param reconciliation    Reconciliation in which this is executed
+     * @param state             State of the resource
+     * @param desiredStatus     The desired status
+     * @param desiredHash       Hash of the desired status
+     * @param generation        Generation of the resource from which the desired status was computed or null if
+     *                          not known
+     */
+    private void write(Reconciliation reconciliation, ResourceState<S> state, S desiredStatus, String desiredHash, Long generation) {
+        T latest = cachedResource.apply(reconciliation);
+
+        for (int attempt = 0; latest != null; attempt++) {
+            if (isUpToDate(state, latest, desiredHash)) {
+                LOGGER.debugCr(reconciliation, "Status of {} {} in namespace {} is already up-to-date", reconciliation.kind(), reconciliation.name(), reconciliation.namespace());
+                return;
+            } else if (isOutdated(latest, generation)) {
+                LOGGER.debugCr(reconciliation, "{} {} in namespace {} has a newer generation than the status => status will not be updated", reconciliation.kind(), reconciliation.name(), reconciliation.namespace());
+                return;
+            }
+
+            try {
+                LOGGER.debugCr(reconciliation, "Updating status of {} {} in namespace {}", reconciliation.kind(), reconciliation.name(), reconciliation.namespace());
+                T updated = statusUpdater.apply(withStatus.apply(latest, desiredStatus));
+
+                state.writtenHash = desiredHash;
+                state.baseResourceVersion = latest.getMetadata().getResourceVersion();
+                state.writtenResourceVersion = updated != null ? updated.getMetadata().getResourceVersion() : null;
+                state.lastWriteNanos = System.nanoTime();
+                return;
+            } catch (KubernetesClientException e) {
+                if (e.getCode() == 409 && attempt < MAX_CONFLICT_RETRIES) {
+                    LOGGER.debugCr(reconciliation, "{} {} in namespace {} changed while trying to update status => retrying", reconciliation.kind(), reconciliation.name(), reconciliation.namespace());
+                    latest = latestResource.apply(reconciliation);
+                } else if (e.getCode() == 409) {
+                    LOGGER.debugCr(reconciliation, "{} {} in namespace {} changed while trying to update status", reconciliation.kind(), reconciliation.name(), reconciliation.namespace());
+                    return;
+                } else if (e.getCode() == 404) {
+                    LOGGER.debugCr(reconciliation, "{} {} in namespace {} was deleted while trying to update status", reconciliation.kind(), reconciliation.name(), reconciliation.namespace());
+                    return;
+                } else {
+                    LOGGER.errorCr(reconciliation, "Failed to update status of {} {} in namespace {}", reconciliation.kind(), reconciliation.name(), reconciliation.namespace(), e);
+                    return;
+                }
+            }
+        }
+
+        LOGGER.debugCr(reconciliation, "{} {} in namespace {} does not exist anymore => status will not be updated", reconciliation.kind(), reconciliation.name(), reconciliation.namespace());
+    }
+
+    /**
+     * Checks whether the resource already has the desired status. This is the case when its current status has the
+     * same hash as the desired status or when the desired status was already written by this writer and the resource
+     * is either the one the write was based on (the informer cache did not receive the update yet) or the one created
+     * by the write.
+     *
+     * @param state         State of the resource
+     * @param resource      Resource with its current status
+     * @param desiredHash   Hash of the desired status
+     *
+     * @return  True if the status does not need to be updated. False otherwise.
+     */
+    private boolean isUpToDate(ResourceState<S> state, T resource, String desiredHash) {
+        if (desiredHash.equals(StatusDiff.hash(resource.getStatus()))) {
+            return true;
+        } else {
+            String resourceVersion = resource.getMetadata().getResourceVersion();
+
+            return desiredHash.equals(state.writtenHash)
+                    && resourceVersion != null
+                    && (resourceVersion.equals(state.baseResourceVersion) || resourceVersion.equals(state.writtenResourceVersion));
+        }
+    }
+
+    /**
+     * Checks whether the resource has a newer generation than the resource from which the desired status was computed
+     *
+     * @param resource      Latest resource
+     * @param generation    Generation of the resource from which the desired status was computed or null if not known
+     *
+     * @return  True if the desired status is outdated. False otherwise.
+     */
+    private boolean isOutdated(T resource, Long generation) {
+        Long latestGeneration = resource.getMetadata().getGeneration();
+
+        return generation != null
+                && latestGeneration != null
+                && latestGeneration > generation;
+    }
+
+    private static String key(Reconciliation reconciliation) {
+        return reconciliation.namespace() + "/" + reconciliation.name();
+    }
+
+    /**
+     * Tracks the status writes for a single resource
+     *
+     * @param <S>   Type of the status
+     */
+    /* test */ static class ResourceState<S> {
+        String writtenHash;
+        String baseResourceVersion;
+        String writtenResourceVersion;
+        long lastWriteNanos = 0;
+
+        S pendingStatus;
+        Reconciliation pendingReconciliation;
+        Long pendingGeneration;
+    }
+}
@@ -4,14 +4,20 @@
  */
 package io.strimzi.operator.common.metrics;
 
+import io.micrometer.core.instrument.Timer;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.model.Labels;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * A metrics holder for operators.
  */
 public class OperatorMetricsHolder extends MetricsHolder {
-
+    private final Map<String, Timer> reconciliationsQueueWaitTimerMap = new ConcurrentHashMap<>(1);
+    private final Map<String, AtomicInteger> queuedReconciliationsCounterMap = new ConcurrentHashMap<>(1);
 
     /**
      * Constructs the operator metrics holder
@@ -32,4 +38,29 @@ public class OperatorMetricsHolder extends MetricsHolder {
         resourceCounterMap.forEach((key, value) -> value.set(0));
         pausedResourceCounterMap.forEach((key, value) -> value.set(0));
     }
+
+    /**
+     * Timer which measures how long the reconciliations wait in the reconciliation scheduler queue before they are
+     * started.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics timer
+     */
+    public Timer reconciliationsQueueWaitTimer(String namespace) {
+        return getTimer(namespace, kind, METRICS_PREFIX + "reconciliations.queue.wait", metricsProvider, selectorLabels, reconciliationsQueueWaitTimerMap,
+                "The time the reconciliation waits in the queue before it is started");
+    }
+
+    /**
+     * Gauge metric for the number of reconciliations waiting in the reconciliation scheduler queue.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics gauge
+     */
+    public AtomicInteger queuedReconciliationsCounter(String namespace) {
+        return getGauge(namespace, kind, METRICS_PREFIX + "reconciliations.queued", metricsProvider, selectorLabels, queuedReconciliationsCounterMap,
+                "Number of reconciliations waiting in the queue");
+    }
 }
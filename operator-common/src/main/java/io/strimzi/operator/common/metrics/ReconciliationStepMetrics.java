@@ -0,0 +1,122 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.Future;
+
+import java.util.function.Supplier;
+
+/**
+ * Measures how long the individual steps of a reconciliation take. The steps are identified by their name which is
+ * prefixed by the name of the parent phase (e.g. kafka.listeners for the listeners step of the Kafka phase). The timers
+ * are tagged with the kind, namespace and name of the reconciled resource so that slow phases of a particular cluster
+ * can be found.
+ */
+public class ReconciliationStepMetrics {
+    /**
+     * Name of the timer metric used for the reconciliation steps
+     */
+    public static final String METRIC_NAME = MetricsHolder.METRICS_PREFIX + "reconciliations.step.duration";
+
+    private final MetricsProvider metricsProvider;
+    private final Reconciliation reconciliation;
+    private final String prefix;
+
+    /**
+     * Constructs the reconciliation step metrics
+     *
+     * @param metricsProvider   Metrics provider used to create the timers. When null, the steps are not measured.
+     * @param reconciliation    Reconciliation marker
+     */
+    public ReconciliationStepMetrics(MetricsProvider metricsProvider, Reconciliation reconciliation) {
+        this(metricsProvider, reconciliation, "");
+    }
+
+    private ReconciliationStepMetrics(MetricsProvider metricsProvider, Reconciliation reconciliation, String prefix) {
+        this.metricsProvider = metricsProvider;
+        this.reconciliation = reconciliation;
+        this.prefix = prefix;
+    }
+
+    /**
+     * Creates a new instance for measuring the sub-steps of given phase
+     *
+     * @param phase     Name of the phase
+     *
+     * @return  Reconciliation step metrics for the sub-steps of the phase
+     */
+    public ReconciliationStepMetrics forPhase(String phase)  {
+        return new ReconciliationStepMetrics(metricsProvider, reconciliation, prefix + phase + ".");
+    }
+
+    /**
+     * Runs the reconciliation step and records how long it took to complete. The duration is recorded regardless of
+     * whether the step succeeded or failed.
+     *
+     * @param step      Name of the step
+     * @param stepFn    Supplier which starts the step
+     *
+     * @return  Future which completes when the step completes
+     *
+     * @param <T>   Type of the result of the step
+     */
+    public <T> Future<T> timed(String step, Supplier<Future<T>> stepFn) {
+        if (metricsProvider == null) {
+            return stepFn.get();
+        }
+
+        Timer.Sample sample = Timer.start(metricsProvider.meterRegistry());
+
+        return stepFn.get()
+                .onComplete(i -> sample.stop(timer(prefix + step)));
+    }
+
+    /**
+     * Removes the timers of all steps of the reconciled resource. This should be called when the resource is deleted
+     * so that the timers of the deleted resources do not pile up in the registry.
+     *
+     * @param metricsProvider   Metrics provider with the timers. When null, nothing is removed.
+     * @param reconciliation    Reconciliation marker identifying the deleted resource
+     */
+    public static void removeMetrics(MetricsProvider metricsProvider, Reconciliation reconciliation)    {
+        if (metricsProvider == null || metricsProvider.meterRegistry() == null) {
+            return;
+        }
+
+        MeterRegistry registry = metricsProvider.meterRegistry();
+
+        registry.getMeters()
+                .stream()
+                .filter(meter -> meter.getId().getName().equals(METRIC_NAME)
+                        && reconciliation.kind().equals(meter.getId().getTag("kind"))
+                        && reconciliation.namespace().equals(meter.getId().getTag("namespace"))
+                        && reconciliation.name().equals(meter.getId().getTag("cluster")))
+                .toList()
+                .forEach(registry::remove);
+    }
+
+    /**
+     * Creates or gets the timer for given step
+     *
+     * @param step  Full name of the step
+     *
+     * @return  Timer metric
+     */
+    /* test */ Timer timer(String step)  {
+        Tags tags = Tags.of(
+                Tag.of("kind", reconciliation.kind()),
+                Tag.of("namespace", reconciliation.namespace()),
+                Tag.of("cluster", reconciliation.name()),
+                Tag.of("step", step));
+
+        return metricsProvider.timer(METRIC_NAME, "The time the individual reconciliation steps take to complete", tags);
+    }
+}
@@ -17,6 +17,7 @@ import io.fabric8.kubernetes.client.dsl.Resource;
 import io.fabric8.kubernetes.client.dsl.base.PatchContext;
 import io.fabric8.kubernetes.client.dsl.base.PatchType;
 import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.strimzi.operator.common.BlockingExecutor;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.VertxUtil;
@@ -31,6 +32,8 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
@@ -99,7 +102,7 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
         }
 
         Promise<ReconcileResult<T>> promise = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+        BlockingExecutor.forVertx(vertx).executeBlocking(vertx,
             future -> {
                 T current = operation().inNamespace(namespace).withName(name).get();
                 if (desired != null) {
@@ -427,6 +430,34 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
             () -> predicate.test(namespace, name));
     }
 
+    /**
+     * Returns a future that completes when the resource identified by the given {@code namespace} and {@code name}
+     * matches the predicate. Unlike {@link #waitFor(Reconciliation, String, String, String, long, long, BiPredicate)},
+     * this method does not poll the Kubernetes API. It watches the resource and evaluates the predicate only when the
+     * resource changes. This is useful for long waits such as waiting for builds to finish.
+     *
+     * @param reconciliation The reconciliation
+     * @param namespace The namespace.
+     * @param name The resource name.
+     * @param logState The state we are waiting for use in log messages
+     * @param timeoutMs The timeout, in milliseconds.
+     * @param predicate The predicate evaluated against the resource. It is not called when the resource does not exist.
+     * @return A future that completes with the resource when it matches the predicate.
+     */
+    public Future<T> watchFor(Reconciliation reconciliation, String namespace, String name, String logState, long timeoutMs, Predicate<T> predicate) {
+        R resourceOp = operation().inNamespace(namespace).withName(name);
+        Function<T, T> matches = resource -> resource != null && predicate.test(resource) ? resource : null;
+
+        return resourceSupport.selfClosingWatch(
+            reconciliation,
+            resourceOp,
+            resourceOp,
+            timeoutMs,
+            "wait for " + resourceKind + " " + namespace + "/" + name + " to be " + logState,
+            (action, resource) -> matches.apply(resource),
+            matches);
+    }
+
     /**
      * Asynchronously deletes the resource with the given {@code name} in the given {@code namespace}.
      *
@@ -9,6 +9,7 @@ import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.ScalableResource;
 import io.strimzi.operator.common.Annotations;
+import io.strimzi.operator.common.BlockingExecutor;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.vertx.core.Future;
@@ -71,7 +72,7 @@ public abstract class AbstractScalableNamespacedResourceOperator<C extends Kuber
      */
     public Future<Integer> scaleUp(Reconciliation reconciliation, String namespace, String name, int scaleTo, long timeoutMs) {
         Promise<Integer> promise = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+        BlockingExecutor.forVertx(vertx).executeBlocking(vertx,
             future -> {
                 try {
                     Integer currentScale = currentScale(namespace, name);
@@ -111,7 +112,7 @@ public abstract class AbstractScalableNamespacedResourceOperator<C extends Kuber
      */
     public Future<Integer> scaleDown(Reconciliation reconciliation, String namespace, String name, int scaleTo, long timeoutMs) {
         Promise<Integer> promise = Promise.promise();
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+        BlockingExecutor.forVertx(vertx).executeBlocking(vertx,
             future -> {
                 try {
                     Integer nextReplicas = currentScale(namespace, name);
@@ -15,8 +15,10 @@ import java.io.StringReader;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.stream.Collectors;
 import java.util.Properties;
@@ -131,6 +133,22 @@ public interface ConfigParameterParser<T> {
         };
     }
 
+    /**
+     * Non-negative Number
+     * @param parser ConfigParameterParser object
+     * @param <T>    Type of parameter
+     * @return Zero or positive number
+     */
+    static <T extends Number> ConfigParameterParser<T> nonNegative(ConfigParameterParser<T> parser) {
+        return configValue -> {
+            var value = parser.parse(configValue);
+            if (value.longValue() < 0) {
+                throw new InvalidConfigurationException("Failed to parse. Negative value is not supported for this configuration");
+            }
+            return value;
+        };
+    }
+
     /**
      * A Java Boolean
      */
@@ -189,5 +207,29 @@ public interface ConfigParameterParser<T> {
 
         return namespaces;
     };
-}
 
+    /**
+     * Map of namespaces to positive integer weights in the format namespace1=weight1,namespace2=weight2
+     */
+    ConfigParameterParser<Map<String, Integer>> NAMESPACE_WEIGHTS = weightsList -> {
+        Map<String, Integer> weights = new HashMap<>();
+
+        if (!weightsList.isBlank()) {
+            for (String weight : weightsList.trim().split("\\s*,+\\s*")) {
+                String[] parts = weight.split("\\s*=\\s*");
+
+                try {
+                    if (parts.length != 2 || !parts[0].matches("[a-z0-9.-]+") || Integer.parseInt(parts[1]) <= 0) {
+                        throw new InvalidConfigurationException("Not a valid namespace weight: " + weight);
+                    }
+
+                    weights.put(parts[0], Integer.parseInt(parts[1]));
+                } catch (NumberFormatException e) {
+                    throw new InvalidConfigurationException("Not a valid namespace weight: " + weight, e);
+                }
+            }
+        }
+
+        return weights;
+    };
+}
@@ -12,6 +12,7 @@ import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.fabric8.kubernetes.client.dsl.base.PatchContext;
 import io.fabric8.kubernetes.client.dsl.base.PatchType;
+import io.strimzi.operator.common.BlockingExecutor;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.VertxUtil;
@@ -93,7 +94,7 @@ public class CrdOperator<C extends KubernetesClient,
     public Future<T> patchAsync(Reconciliation reconciliation, T resource) {
         Promise<T> blockingPromise = Promise.promise();
 
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(future -> {
+        BlockingExecutor.forVertx(vertx).executeBlocking(vertx, future -> {
             String namespace = resource.getMetadata().getNamespace();
             String name = resource.getMetadata().getName();
             try {
@@ -120,7 +121,7 @@ public class CrdOperator<C extends KubernetesClient,
     public Future<T> updateStatusAsync(Reconciliation reconciliation, T resource) {
         Promise<T> blockingPromise = Promise.promise();
 
-        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(future -> {
+        BlockingExecutor.forVertx(vertx).executeBlocking(vertx, future -> {
             String namespace = resource.getMetadata().getNamespace();
             String name = resource.getMetadata().getName();
 
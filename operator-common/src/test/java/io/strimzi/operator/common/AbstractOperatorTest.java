@@ -27,11 +27,16 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 @ExtendWith(VertxExtension.class)
@@ -210,6 +215,106 @@ class AbstractOperatorTest {
         handlersRegistered.complete();
     }
 
+    @Test
+    void testResourcesInNotOwnedNamespacesAreNotReconciled(VertxTestContext context) {
+        // The resource operator has no Kubernetes client => any attempt to reconcile the resource would fail
+        var resourceOperator = new DefaultWatchableStatusedResourceOperator<>(vertx, null, "TestResource");
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        var target = new DefaultOperator(vertx, "Test", resourceOperator, new MicrometerMetricsProvider(), null);
+        TestNamespaceOwnership ownership = new TestNamespaceOwnership("other-namespace");
+        target.setNamespaceOwnership(ownership);
+
+        assertThat(target.ownsNamespace("my-namespace"), is(false));
+        assertThat(target.ownsNamespace("other-namespace"), is(true));
+
+        target.reconcile(new Reconciliation("test", "TestResource", "my-namespace", "my-resource"))
+                .onComplete(context.succeeding(v -> context.verify(() -> {
+                    assertThat(ownership.inFlight.get(), is(0));
+                    context.completeNow();
+                })));
+    }
+
+    @Test
+    void testOwnershipIsCheckedWhenTheLockIsAcquired(VertxTestContext context) {
+        var resourceOperator = new DefaultWatchableStatusedResourceOperator<>(vertx, null, "TestResource");
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        var target = new DefaultOperator(vertx, "Test", resourceOperator, new MicrometerMetricsProvider(), null);
+        TestNamespaceOwnership ownership = new TestNamespaceOwnership("my-namespace");
+        target.setNamespaceOwnership(ownership);
+        Reconciliation reconciliation = new Reconciliation("test", "TestResource", "my-namespace", "my-resource");
+        Checkpoint checkpoint = context.checkpoint();
+
+        vertx.sharedData().getLockWithTimeout(target.getLockName("my-namespace", "my-resource"), 10000L)
+                .onComplete(context.succeeding(lock -> {
+                    // The reconciliation waits for the lock while the namespace is handed over to another instance
+                    @SuppressWarnings("unchecked")
+                    Future<String> result = target.withLockTest(reconciliation, () -> Future.failedFuture(new UnsupportedOperationException(EXPECTED_MESSAGE)));
+                    ownership.owned.clear();
+                    lock.release();
+
+                    result.onComplete(context.succeeding(v -> context.verify(() -> {
+                        assertThat(v, is(nullValue()));
+                        assertThat(ownership.acquired.get(), is(0));
+                        checkpoint.flag();
+                    })));
+                }));
+    }
+
+    @Test
+    void testReconciliationsInProgressAreTracked(VertxTestContext context) {
+        var resourceOperator = new DefaultWatchableStatusedResourceOperator<>(vertx, null, "TestResource");
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        var target = new DefaultOperator(vertx, "Test", resourceOperator, new MicrometerMetricsProvider(), null);
+        TestNamespaceOwnership ownership = new TestNamespaceOwnership("my-namespace");
+        target.setNamespaceOwnership(ownership);
+        Reconciliation reconciliation = new Reconciliation("test", "TestResource", "my-namespace", "my-resource");
+
+        @SuppressWarnings("unchecked")
+        Future<Integer> result = target.withLockTest(reconciliation, () -> Future.succeededFuture(ownership.inFlight.get()));
+
+        result.onComplete(context.succeeding(inFlight -> context.verify(() -> {
+            assertThat(inFlight, is(1));
+            assertThat(ownership.acquired.get(), is(1));
+            assertThat(ownership.inFlight.get(), is(0));
+            context.completeNow();
+        })));
+    }
+
+    /**
+     * Namespace ownership which owns a fixed set of namespaces and counts the reconciliations in progress
+     */
+    private static class TestNamespaceOwnership implements NamespaceOwnership {
+        private final Set<String> owned;
+        private final AtomicInteger acquired = new AtomicInteger(0);
+        private final AtomicInteger inFlight = new AtomicInteger(0);
+
+        TestNamespaceOwnership(String... owned) {
+            this.owned = ConcurrentHashMap.newKeySet();
+            this.owned.addAll(List.of(owned));
+        }
+
+        @Override
+        public boolean isOwner(String namespace) {
+            return owned.contains(namespace);
+        }
+
+        @Override
+        public boolean acquire(String namespace) {
+            if (isOwner(namespace)) {
+                acquired.incrementAndGet();
+                inFlight.incrementAndGet();
+                return true;
+            } else {
+                return false;
+            }
+        }
+
+        @Override
+        public void release(String namespace) {
+            inFlight.decrementAndGet();
+        }
+    }
+
     private static class DefaultOperator<
             T extends CustomResource<P, S>,
             P extends Spec,
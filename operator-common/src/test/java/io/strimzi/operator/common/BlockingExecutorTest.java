@@ -0,0 +1,186 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@ExtendWith(VertxExtension.class)
+public class BlockingExecutorTest {
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    @Test
+    public void testWorkerPoolIsUsedByDefault(VertxTestContext context) {
+        Checkpoint checkpoint = context.checkpoint();
+
+        assertThat(BlockingExecutor.forVertx(vertx), is(BlockingExecutor.WORKER_POOL));
+
+        BlockingExecutor.forVertx(vertx).<String>executeBlocking(vertx, promise -> promise.complete(Thread.currentThread().getName()))
+                .onComplete(context.succeeding(threadName -> context.verify(() -> {
+                    assertThat(threadName, startsWith(BlockingExecutor.KUBERNETES_OPS_POOL));
+                    checkpoint.flag();
+                })));
+    }
+
+    @Test
+    public void testFallbackWhenVirtualThreadsAreNotSupported() {
+        BlockingExecutor executor = BlockingExecutor.create(true, 10);
+
+        try {
+            assertThat(executor.isVirtualThreadsEnabled(), is(BlockingExecutor.isVirtualThreadsSupported()));
+            assertThat(executor.virtualThreadExecutor() != null, is(BlockingExecutor.isVirtualThreadsSupported()));
+            assertThat(BlockingExecutor.create(false, 10), is(BlockingExecutor.WORKER_POOL));
+            assertThat(BlockingExecutor.WORKER_POOL.virtualThreadExecutor(), is(nullValue()));
+        } finally {
+            executor.close();
+        }
+    }
+
+    @Test
+    public void testExecutorIsAttachedToVertx(VertxTestContext context) {
+        Vertx otherVertx = Vertx.vertx();
+        BlockingExecutor executor = new BlockingExecutor(new BlockingExecutor.BoundedExecutor(r -> new Thread(r, "attached-executor"), 10));
+        executor.attachTo(otherVertx);
+        Checkpoint checkpoint = context.checkpoint();
+
+        // The executor is used only by the Vertx instance to which it is attached
+        assertThat(BlockingExecutor.forVertx(otherVertx), is(executor));
+        assertThat(BlockingExecutor.forVertx(vertx), is(BlockingExecutor.WORKER_POOL));
+
+        BlockingExecutor.forVertx(otherVertx).<String>executeBlocking(otherVertx, promise -> promise.complete(Thread.currentThread().getName()))
+                .onComplete(context.succeeding(threadName -> context.verify(() -> {
+                    assertThat(threadName, is("attached-executor"));
+                    executor.close();
+                    otherVertx.close();
+                    checkpoint.flag();
+                })));
+    }
+
+    @Test
+    public void testOrderedTasksRunInOrder(VertxTestContext context) {
+        BlockingExecutor executor = new BlockingExecutor(new BlockingExecutor.BoundedExecutor(Executors.defaultThreadFactory(), 10));
+        List<Integer> completed = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger running = new AtomicInteger(0);
+        AtomicInteger maxRunning = new AtomicInteger(0);
+        Checkpoint checkpoint = context.checkpoint();
+
+        vertx.runOnContext(v -> {
+            List<Future<Integer>> results = new ArrayList<>();
+
+            for (int i = 0; i < 20; i++) {
+                int task = i;
+                results.add(executor.executeBlocking(vertx, promise -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+
+                    try {
+                        // The earlier tasks take longer so that they would finish last if they ran in parallel
+                        Thread.sleep(20 - task);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+
+                    completed.add(task);
+                    running.decrementAndGet();
+                    promise.complete(task);
+                }));
+            }
+
+            Future.all(results).onComplete(context.succeeding(res -> context.verify(() -> {
+                assertThat(completed, is(IntStream.range(0, 20).boxed().collect(Collectors.toList())));
+                assertThat(maxRunning.get(), is(1));
+                executor.close();
+                checkpoint.flag();
+            })));
+        });
+    }
+
+    @Test
+    public void testVirtualThreads(VertxTestContext context) {
+        assumeTrue(BlockingExecutor.isVirtualThreadsSupported());
+        BlockingExecutor executor = BlockingExecutor.create(true, 10);
+        Checkpoint checkpoint = context.checkpoint();
+
+        executor.<String>executeBlocking(vertx, promise -> promise.complete(Thread.currentThread().toString()))
+                .onComplete(context.succeeding(thread -> context.verify(() -> {
+                    assertThat(thread, startsWith("VirtualThread"));
+                    assertThat(executor.newThread(() -> { }, "loop").getName(), is("loop"));
+                    executor.close();
+                    checkpoint.flag();
+                })));
+    }
+
+    @Test
+    public void testBoundedExecutorLimitsConcurrency() throws InterruptedException {
+        BlockingExecutor.BoundedExecutor executor = new BlockingExecutor.BoundedExecutor(Executors.defaultThreadFactory(), 2);
+        AtomicInteger running = new AtomicInteger(0);
+        AtomicInteger maxRunning = new AtomicInteger(0);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(5);
+
+        for (int i = 0; i < 5; i++) {
+            executor.execute(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    running.decrementAndGet();
+                    finished.countDown();
+                }
+            });
+        }
+
+        // Give the tasks some time to try to run
+        Thread.sleep(200);
+        assertThat(running.get(), is(2));
+        assertThat(executor.activeTasks(), is(5));
+
+        release.countDown();
+        assertThat(finished.await(10, TimeUnit.SECONDS), is(true));
+        assertThat(maxRunning.get(), is(2));
+
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS), is(true));
+        assertThat(executor.isTerminated(), is(true));
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> { }));
+    }
+}
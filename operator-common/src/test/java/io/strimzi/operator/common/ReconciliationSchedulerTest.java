@@ -0,0 +1,194 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.metrics.OperatorMetricsHolder;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ReconciliationSchedulerTest {
+    private final List<String> started = new ArrayList<>();
+    private final Map<String, Promise<Void>> promises = new HashMap<>();
+
+    private Supplier<Future<Void>> task(String id) {
+        return () -> {
+            started.add(id);
+            Promise<Void> promise = Promise.promise();
+            promises.put(id, promise);
+            return promise.future();
+        };
+    }
+
+    private static Reconciliation watch(String namespace, String name) {
+        return new Reconciliation("watch", "Kafka", namespace, name);
+    }
+
+    private static Reconciliation timer(String namespace, String name) {
+        return new Reconciliation("timer", "Kafka", namespace, name);
+    }
+
+    @Test
+    public void testUnlimited() {
+        ReconciliationScheduler scheduler = new ReconciliationScheduler(0, null, null);
+
+        scheduler.schedule(watch("ns", "a"), task("a"));
+        scheduler.schedule(watch("ns", "b"), task("b"));
+        scheduler.schedule(watch("ns", "c"), task("c"));
+
+        assertThat(started, is(List.of("a", "b", "c")));
+    }
+
+    @Test
+    public void testConcurrencyIsLimited() {
+        ReconciliationScheduler scheduler = new ReconciliationScheduler(2, null, null);
+
+        scheduler.schedule(watch("ns", "a"), task("a"));
+        scheduler.schedule(watch("ns", "b"), task("b"));
+        Future<Void> c = scheduler.schedule(watch("ns", "c"), task("c"));
+
+        assertThat(started, is(List.of("a", "b")));
+        assertThat(scheduler.runningCount(), is(2));
+        assertThat(scheduler.queuedCount(), is(1));
+
+        promises.get("b").complete();
+        assertThat(started, is(List.of("a", "b", "c")));
+        assertThat(c.isComplete(), is(false));
+
+        promises.get("c").fail(new RuntimeException("failed"));
+        assertThat(c.failed(), is(true));
+        assertThat(scheduler.runningCount(), is(1));
+    }
+
+    @Test
+    public void testWatchEventsArePreferred() {
+        ReconciliationScheduler scheduler = new ReconciliationScheduler(1, null, null);
+
+        scheduler.schedule(watch("ns", "blocker"), task("blocker"));
+        scheduler.schedule(timer("ns", "a"), task("a"));
+        scheduler.schedule(timer("ns", "b"), task("b"));
+        scheduler.schedule(watch("ns", "c"), task("c"));
+
+        promises.get("blocker").complete();
+        promises.get("c").complete();
+        promises.get("a").complete();
+
+        assertThat(started, is(List.of("blocker", "c", "a", "b")));
+    }
+
+    @Test
+    public void testNamespacesAreServedFairly() {
+        ReconciliationScheduler scheduler = new ReconciliationScheduler(1, null, null);
+
+        scheduler.schedule(watch("busy", "blocker"), task("blocker"));
+        for (int i = 0; i < 4; i++) {
+            scheduler.schedule(watch("busy", "busy-" + i), task("busy-" + i));
+        }
+        scheduler.schedule(watch("quiet", "quiet-0"), task("quiet-0"));
+        scheduler.schedule(watch("quiet", "quiet-1"), task("quiet-1"));
+
+        while (scheduler.runningCount() > 0) {
+            promises.get(started.get(started.size() - 1)).complete();
+        }
+
+        assertThat(started, is(List.of("blocker", "quiet-0", "busy-0", "quiet-1", "busy-1", "busy-2", "busy-3")));
+    }
+
+    @Test
+    public void testNamespaceWeights() {
+        ReconciliationScheduler scheduler = new ReconciliationScheduler(1, Map.of("heavy", 2), null);
+
+        scheduler.schedule(watch("other", "blocker"), task("blocker"));
+        for (int i = 0; i < 4; i++) {
+            scheduler.schedule(watch("heavy", "heavy-" + i), task("heavy-" + i));
+            scheduler.schedule(watch("light", "light-" + i), task("light-" + i));
+        }
+
+        while (scheduler.runningCount() > 0) {
+            promises.get(started.get(started.size() - 1)).complete();
+        }
+
+        assertThat(started.subList(1, 7), is(List.of("heavy-0", "light-0", "heavy-1", "heavy-2", "light-1", "heavy-3")));
+    }
+
+    @Test
+    public void testQueuedReconciliationsOfTheSameResourceAreMerged() {
+        ReconciliationScheduler scheduler = new ReconciliationScheduler(1, null, null);
+
+        scheduler.schedule(watch("ns", "blocker"), task("blocker"));
+        Future<Void> first = scheduler.schedule(timer("ns", "a"), task("a"));
+        scheduler.schedule(timer("ns", "b"), task("b"));
+        // The watch event moves the queued periodic reconciliation of a to the watch event queue
+        Future<Void> second = scheduler.schedule(watch("ns", "a"), task("a-again"));
+
+        assertThat(scheduler.queuedCount(), is(2));
+
+        promises.get("blocker").complete();
+        promises.get("a").complete();
+
+        assertThat(started, is(List.of("blocker", "a", "b")));
+        assertThat(first.succeeded(), is(true));
+        assertThat(second.succeeded(), is(true));
+    }
+
+    @Test
+    public void testPromotedReconciliationIsQueuedAfterWatchEvents() {
+        ReconciliationScheduler scheduler = new ReconciliationScheduler(1, null, null);
+
+        scheduler.schedule(watch("ns", "blocker"), task("blocker"));
+        scheduler.schedule(timer("ns", "a"), task("a"));
+        scheduler.schedule(watch("ns", "b"), task("b"));
+        // The watch event moves the queued periodic reconciliation of a behind the watch event of b
+        scheduler.schedule(watch("ns", "a"), task("a-again"));
+
+        while (scheduler.runningCount() > 0) {
+            promises.get(started.get(started.size() - 1)).complete();
+        }
+
+        assertThat(started, is(List.of("blocker", "b", "a")));
+    }
+
+    @Test
+    public void testRunningResourceIsNotReconciledConcurrently() {
+        ReconciliationScheduler scheduler = new ReconciliationScheduler(2, null, null);
+
+        scheduler.schedule(watch("ns", "a"), task("a"));
+        scheduler.schedule(watch("ns", "a"), task("a-again"));
+        scheduler.schedule(watch("ns", "b"), task("b"));
+
+        // The second reconciliation of a waits for the first one even though there is a free slot
+        assertThat(started, is(List.of("a", "b")));
+
+        promises.get("a").complete();
+        assertThat(started, is(List.of("a", "b", "a-again")));
+    }
+
+    @Test
+    public void testMetrics() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        OperatorMetricsHolder metrics = new OperatorMetricsHolder("Kafka", null, new MicrometerMetricsProvider(registry));
+        ReconciliationScheduler scheduler = new ReconciliationScheduler(1, null, metrics);
+
+        scheduler.schedule(watch("ns", "a"), task("a"));
+        scheduler.schedule(watch("ns", "b"), task("b"));
+        assertThat(metrics.queuedReconciliationsCounter("ns").get(), is(1));
+
+        promises.get("a").complete();
+        assertThat(metrics.queuedReconciliationsCounter("ns").get(), is(0));
+        assertThat(metrics.reconciliationsQueueWaitTimer("ns").count(), is(2L));
+        assertThat(registry.get("strimzi.reconciliations.queue.wait").tag("kind", "Kafka").tag("namespace", "ns").timer().count(), is(2L));
+    }
+}
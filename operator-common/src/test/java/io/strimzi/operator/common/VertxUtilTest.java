@@ -4,11 +4,13 @@
  */
 package io.strimzi.operator.common;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.Test;
 
@@ -35,6 +37,7 @@ import io.strimzi.api.kafka.model.authentication.KafkaClientAuthenticationPlain;
 import io.strimzi.api.kafka.model.authentication.KafkaClientAuthenticationScramSha512;
 import io.strimzi.operator.common.operator.resource.SecretOperator;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 
 class VertxUtilTest {
 
@@ -274,4 +277,39 @@ class VertxUtilTest {
                 });
     }
 
+
+    @Test
+    void testRunWithLimit() {
+        List<Promise<Void>> promises = new ArrayList<>();
+        List<Supplier<Future<Void>>> operations = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            operations.add(() -> {
+                Promise<Void> promise = Promise.promise();
+                promises.add(promise);
+                return promise.future();
+            });
+        }
+
+        Future<Void> result = VertxUtil.runWithLimit(2, operations);
+        assertThat(promises.size(), is(2));
+
+        // The failed operation does not stop the next operation in its lane
+        promises.get(0).fail(new RuntimeException("failed"));
+        assertThat(promises.size(), is(3));
+        assertThat(result.isComplete(), is(false));
+
+        promises.get(1).complete();
+        promises.get(2).complete();
+        assertThat(promises.size(), is(5));
+        promises.get(3).complete();
+        promises.get(4).complete();
+
+        assertThat(result.failed(), is(true));
+        assertThat(result.cause().getMessage(), is("failed"));
+    }
+
+    @Test
+    void testRunWithLimitWithoutOperations() {
+        assertThat(VertxUtil.runWithLimit(2, List.of()).succeeded(), is(true));
+    }
 }
@@ -0,0 +1,234 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.controller;
+
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.strimzi.api.kafka.model.KafkaUser;
+import io.strimzi.api.kafka.model.KafkaUserBuilder;
+import io.strimzi.api.kafka.model.status.ConditionBuilder;
+import io.strimzi.api.kafka.model.status.KafkaUserStatus;
+import io.strimzi.api.kafka.model.status.KafkaUserStatusBuilder;
+import io.strimzi.operator.common.Reconciliation;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class StatusWriterTest {
+    private static final Reconciliation RECONCILIATION = new Reconciliation("test", "KafkaUser", "my-namespace", "my-user");
+
+    private static KafkaUser user(String resourceVersion, KafkaUserStatus status) {
+        return user(resourceVersion, null, status);
+    }
+
+    private static KafkaUser user(String resourceVersion, Long generation, KafkaUserStatus status) {
+        return new KafkaUserBuilder()
+                .withNewMetadata()
+                    .withName("my-user")
+                    .withNamespace("my-namespace")
+                    .withResourceVersion(resourceVersion)
+                    .withGeneration(generation)
+                .endMetadata()
+                .withStatus(status)
+                .build();
+    }
+
+    private static KafkaUserStatus status(String type, String lastTransitionTime) {
+        return new KafkaUserStatusBuilder()
+                .withObservedGeneration(1L)
+                .withConditions(new ConditionBuilder()
+                        .withType(type)
+                        .withStatus("True")
+                        .withLastTransitionTime(lastTransitionTime)
+                        .build())
+                .build();
+    }
+
+    private static StatusWriter<KafkaUser, KafkaUserStatus> writer(AtomicReference<KafkaUser> cached, List<KafkaUser> updates, ScheduledExecutorService executor, long windowMs) {
+        AtomicInteger resourceVersion = new AtomicInteger(100);
+
+        return new StatusWriter<>(
+                r -> cached.get(),
+                r -> cached.get(),
+                (user, status) -> new KafkaUserBuilder(user).withStatus(status).build(),
+                user -> {
+                    updates.add(user);
+                    return new KafkaUserBuilder(user).editMetadata().withResourceVersion(String.valueOf(resourceVersion.incrementAndGet())).endMetadata().build();
+                },
+                executor,
+                windowMs
+        );
+    }
+
+    @Test
+    public void testNoOpUpdateIsSkipped() {
+        KafkaUser user = user("1", status("Ready", "2023-01-01T00:00:00Z"));
+        List<KafkaUser> updates = new ArrayList<>();
+        StatusWriter<KafkaUser, KafkaUserStatus> writer = writer(new AtomicReference<>(user), updates, null, 0L);
+
+        // Only the last transition time differs => nothing to update
+        writer.maybeUpdateStatus(RECONCILIATION, user, status("Ready", "2023-02-02T00:00:00Z"));
+        assertThat(updates.size(), is(0));
+
+        writer.maybeUpdateStatus(RECONCILIATION, user, status("NotReady", "2023-02-02T00:00:00Z"));
+        assertThat(updates.size(), is(1));
+        assertThat(updates.get(0).getStatus().getConditions().get(0).getType(), is("NotReady"));
+    }
+
+    @Test
+    public void testWrittenStatusIsNotWrittenAgainFromStaleCache() {
+        // The informer cache still has the old version of the resource
+        KafkaUser user = user("1", status("Ready", "2023-01-01T00:00:00Z"));
+        AtomicReference<KafkaUser> cached = new AtomicReference<>(user);
+        List<KafkaUser> updates = new ArrayList<>();
+        StatusWriter<KafkaUser, KafkaUserStatus> writer = writer(cached, updates, null, 0L);
+
+        writer.maybeUpdateStatus(RECONCILIATION, user, status("NotReady", "2023-01-01T00:00:00Z"));
+        writer.maybeUpdateStatus(RECONCILIATION, user, status("NotReady", "2023-01-01T00:00:00Z"));
+        assertThat(updates.size(), is(1));
+
+        // The status was changed by someone else => the status is written again
+        cached.set(user("2", user.getStatus()));
+        writer.maybeUpdateStatus(RECONCILIATION, cached.get(), status("NotReady", "2023-01-01T00:00:00Z"));
+        assertThat(updates.size(), is(2));
+    }
+
+    @Test
+    public void testConflictIsRetried() {
+        KafkaUser user = user("1", status("Ready", "2023-01-01T00:00:00Z"));
+        AtomicInteger attempts = new AtomicInteger(0);
+        AtomicInteger latestGets = new AtomicInteger(0);
+        List<KafkaUser> updates = new ArrayList<>();
+
+        StatusWriter<KafkaUser, KafkaUserStatus> writer = new StatusWriter<>(
+                r -> user,
+                r -> {
+                    latestGets.incrementAndGet();
+                    return user("2", user.getStatus());
+                },
+                (u, status) -> new KafkaUserBuilder(u).withStatus(status).build(),
+                u -> {
+                    if (attempts.getAndIncrement() == 0) {
+                        throw new KubernetesClientException("Conflict", 409, null);
+                    }
+
+                    updates.add(u);
+                    return u;
+                },
+                null,
+                0L
+        );
+
+        writer.maybeUpdateStatus(RECONCILIATION, user, status("NotReady", "2023-01-01T00:00:00Z"));
+
+        assertThat(attempts.get(), is(2));
+        assertThat(latestGets.get(), is(1));
+        assertThat(updates.size(), is(1));
+        assertThat(updates.get(0).getMetadata().getResourceVersion(), is("2"));
+    }
+
+    @Test
+    public void testOutdatedStatusIsNotWrittenAfterConflict() {
+        KafkaUser user = user("1", 1L, status("Ready", "2023-01-01T00:00:00Z"));
+        AtomicInteger attempts = new AtomicInteger(0);
+        List<KafkaUser> updates = new ArrayList<>();
+
+        StatusWriter<KafkaUser, KafkaUserStatus> writer = new StatusWriter<>(
+                r -> user,
+                // The resource was changed in the meantime => it has a newer generation
+                r -> user("2", 2L, user.getStatus()),
+                (u, status) -> new KafkaUserBuilder(u).withStatus(status).build(),
+                u -> {
+                    if (attempts.getAndIncrement() == 0) {
+                        throw new KubernetesClientException("Conflict", 409, null);
+                    }
+
+                    updates.add(u);
+                    return u;
+                },
+                null,
+                0L
+        );
+
+        writer.maybeUpdateStatus(RECONCILIATION, user, status("NotReady", "2023-01-01T00:00:00Z"));
+
+        assertThat(attempts.get(), is(1));
+        assertThat(updates.size(), is(0));
+    }
+
+    @Test
+    public void testConflictRetriesAreLimited() {
+        KafkaUser user = user("1", status("Ready", "2023-01-01T00:00:00Z"));
+        AtomicInteger attempts = new AtomicInteger(0);
+
+        StatusWriter<KafkaUser, KafkaUserStatus> writer = new StatusWriter<>(
+                r -> user,
+                r -> user,
+                (u, status) -> new KafkaUserBuilder(u).withStatus(status).build(),
+                u -> {
+                    attempts.incrementAndGet();
+                    throw new KubernetesClientException("Conflict", 409, null);
+                },
+                null,
+                0L
+        );
+
+        writer.maybeUpdateStatus(RECONCILIATION, user, status("NotReady", "2023-01-01T00:00:00Z"));
+
+        assertThat(attempts.get(), is(StatusWriter.MAX_CONFLICT_RETRIES + 1));
+    }
+
+    @Test
+    public void testUpdatesAreCoalesced() {
+        KafkaUser user = user("1", status("Ready", "2023-01-01T00:00:00Z"));
+        AtomicReference<KafkaUser> cached = new AtomicReference<>(user);
+        List<KafkaUser> updates = new ArrayList<>();
+        ScheduledExecutorService executor = mock(ScheduledExecutorService.class);
+        StatusWriter<KafkaUser, KafkaUserStatus> writer = writer(cached, updates, executor, 60_000L);
+
+        // First update is written right away
+        writer.maybeUpdateStatus(RECONCILIATION, user, status("NotReady", "2023-01-01T00:00:00Z"));
+        assertThat(updates.size(), is(1));
+        cached.set(user("101", updates.get(0).getStatus()));
+
+        // Next updates within the window are coalesced
+        writer.maybeUpdateStatus(RECONCILIATION, cached.get(), status("Warning", "2023-01-01T00:00:00Z"));
+        writer.maybeUpdateStatus(RECONCILIATION, cached.get(), status("Ready", "2023-01-01T00:00:00Z"));
+        assertThat(updates.size(), is(1));
+
+        ArgumentCaptor<Runnable> flush = ArgumentCaptor.forClass(Runnable.class);
+        verify(executor, times(1)).schedule(flush.capture(), anyLong(), any(TimeUnit.class));
+
+        // At the end of the window, only the latest status is written
+        flush.getValue().run();
+        assertThat(updates.size(), is(2));
+        assertThat(updates.get(1).getStatus().getConditions().get(0).getType(), is("Ready"));
+    }
+
+    @Test
+    public void testForget() {
+        KafkaUser user = user("1", status("Ready", "2023-01-01T00:00:00Z"));
+        StatusWriter<KafkaUser, KafkaUserStatus> writer = writer(new AtomicReference<>(user), new ArrayList<>(), null, 0L);
+
+        writer.maybeUpdateStatus(RECONCILIATION, user, status("NotReady", "2023-01-01T00:00:00Z"));
+        assertThat(writer.states.size(), is(1));
+
+        writer.forget(RECONCILIATION);
+        assertThat(writer.states.size(), is(0));
+    }
+}
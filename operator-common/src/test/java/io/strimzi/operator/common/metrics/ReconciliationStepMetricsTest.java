@@ -0,0 +1,65 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.Future;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ReconciliationStepMetricsTest {
+    private static final Reconciliation RECONCILIATION = new Reconciliation("test-trigger", "Kafka", "my-namespace", "my-cluster");
+
+    @Test
+    public void testStepsAreTimed() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ReconciliationStepMetrics steps = new ReconciliationStepMetrics(new MicrometerMetricsProvider(registry), RECONCILIATION);
+
+        assertThat(steps.timed("cas", () -> Future.succeededFuture("done")).result(), is("done"));
+        assertThat(steps.forPhase("kafka").timed("listeners", () -> Future.failedFuture("failed")).failed(), is(true));
+
+        Timer cas = registry.find(ReconciliationStepMetrics.METRIC_NAME)
+                .tags("kind", "Kafka", "namespace", "my-namespace", "cluster", "my-cluster", "step", "cas")
+                .timer();
+        assertThat(cas.count(), is(1L));
+
+        // Failed steps are measured as well
+        Timer listeners = registry.find(ReconciliationStepMetrics.METRIC_NAME)
+                .tags("kind", "Kafka", "namespace", "my-namespace", "cluster", "my-cluster", "step", "kafka.listeners")
+                .timer();
+        assertThat(listeners.count(), is(1L));
+    }
+
+    @Test
+    public void testRemoveMetrics() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        MicrometerMetricsProvider metricsProvider = new MicrometerMetricsProvider(registry);
+        Reconciliation otherReconciliation = new Reconciliation("test-trigger", "Kafka", "my-namespace", "other-cluster");
+
+        new ReconciliationStepMetrics(metricsProvider, RECONCILIATION).timed("cas", () -> Future.succeededFuture());
+        new ReconciliationStepMetrics(metricsProvider, RECONCILIATION).forPhase("kafka").timed("listeners", () -> Future.succeededFuture());
+        new ReconciliationStepMetrics(metricsProvider, otherReconciliation).timed("cas", () -> Future.succeededFuture());
+        assertThat(registry.find(ReconciliationStepMetrics.METRIC_NAME).timers().size(), is(3));
+
+        ReconciliationStepMetrics.removeMetrics(metricsProvider, RECONCILIATION);
+
+        // Only the timers of the other cluster are kept
+        assertThat(registry.find(ReconciliationStepMetrics.METRIC_NAME).tags("cluster", "my-cluster").timers().size(), is(0));
+        assertThat(registry.find(ReconciliationStepMetrics.METRIC_NAME).tags("cluster", "other-cluster").timers().size(), is(1));
+    }
+
+    @Test
+    public void testStepsWithoutMetricsProvider() {
+        ReconciliationStepMetrics steps = new ReconciliationStepMetrics(null, RECONCILIATION).forPhase("kafka");
+
+        assertThat(steps.timed("listeners", () -> Future.succeededFuture()).result(), is(nullValue()));
+    }
+}
@@ -5,6 +5,7 @@
 package io.strimzi.operator.common.operator;
 
 import io.strimzi.certs.CertManager;
+import io.strimzi.certs.KeyAlgorithm;
 import io.strimzi.certs.Subject;
 
 import java.io.ByteArrayOutputStream;
@@ -299,10 +300,11 @@ public class MockCertManager implements CertManager {
      * @param certFile path to the file which will contain the self signed certificate
      * @param sbj      subject information
      * @param days     certificate duration
+     * @param keyAlgorithm key algorithm (ignored, the mock always uses the same RSA keys)
      * @throws IOException
      */
     @Override
-    public void generateSelfSignedCert(File keyFile, File certFile, Subject sbj, int days) throws IOException {
+    public void generateSelfSignedCert(File keyFile, File certFile, Subject sbj, int days, KeyAlgorithm keyAlgorithm) throws IOException {
 
         write(keyFile, CLUSTER_KEY);
         write(certFile, CLUSTER_CERT);
@@ -360,9 +362,10 @@ public class MockCertManager implements CertManager {
      * @param keyFile path to the file which will contain the private key
      * @param csrFile path to the file which will contain the certificate sign request
      * @param sbj     subject information
+     * @param keyAlgorithm key algorithm (ignored, the mock always uses the same RSA key)
      */
     @Override
-    public void generateCsr(File keyFile, File csrFile, Subject sbj) throws IOException {
+    public void generateCsr(File keyFile, File csrFile, Subject sbj, KeyAlgorithm keyAlgorithm) throws IOException {
         write(keyFile, END_ENTITY_KEY);
         // A real CSR file is not needed for tests to pass
         write(csrFile, "csr file");
@@ -590,4 +590,92 @@ public abstract class AbstractNamespacedResourceOperatorTest<C extends Kubernete
             async.flag();
         })));
     }
+
+    @Test
+    public void testWatchForCompletesWhenWatchEventMatches(VertxTestContext context) {
+        T resource = resource();
+        T modifiedResource = modifiedResource();
+        Resource mockResource = mock(resourceType());
+        when(mockResource.get()).thenReturn(resource);
+        AtomicBoolean watchClosed = new AtomicBoolean(false);
+        when(mockResource.watch(any())).thenAnswer(invocation -> {
+            Watcher watcher = invocation.getArgument(0);
+            watcher.eventReceived(Watcher.Action.MODIFIED, resource);
+            watcher.eventReceived(Watcher.Action.MODIFIED, modifiedResource);
+            return (Watch) () -> watchClosed.set(true);
+        });
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(matches(RESOURCE_NAME))).thenReturn(mockResource);
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(matches(NAMESPACE))).thenReturn(mockNameable);
+
+        C mockClient = mock(clientType());
+        mocker(mockClient, mockCms);
+
+        AbstractNamespacedResourceOperator<C, T, L, R> op = createResourceOperations(vertx, mockClient);
+
+        Checkpoint async = context.checkpoint();
+        op.watchFor(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, RESOURCE_NAME, "modified", 5_000, r -> r == modifiedResource)
+            .onComplete(context.succeeding(r -> context.verify(() -> {
+                assertThat(r == modifiedResource, is(true));
+                assertThat(watchClosed.get(), is(true));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testWatchForCompletesWhenResourceAlreadyMatches(VertxTestContext context) {
+        T resource = resource();
+        Resource mockResource = mock(resourceType());
+        when(mockResource.get()).thenReturn(resource);
+        AtomicBoolean watchClosed = new AtomicBoolean(false);
+        when(mockResource.watch(any())).thenReturn((Watch) () -> watchClosed.set(true));
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(matches(RESOURCE_NAME))).thenReturn(mockResource);
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(matches(NAMESPACE))).thenReturn(mockNameable);
+
+        C mockClient = mock(clientType());
+        mocker(mockClient, mockCms);
+
+        AbstractNamespacedResourceOperator<C, T, L, R> op = createResourceOperations(vertx, mockClient);
+
+        Checkpoint async = context.checkpoint();
+        op.watchFor(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, RESOURCE_NAME, "ready", 5_000, r -> true)
+            .onComplete(context.succeeding(r -> context.verify(() -> {
+                assertThat(r == resource, is(true));
+                assertThat(watchClosed.get(), is(true));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testWatchForTimesOut(VertxTestContext context) {
+        T resource = resource();
+        Resource mockResource = mock(resourceType());
+        when(mockResource.get()).thenReturn(resource);
+        when(mockResource.watch(any())).thenReturn((Watch) () -> { });
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(matches(RESOURCE_NAME))).thenReturn(mockResource);
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(matches(NAMESPACE))).thenReturn(mockNameable);
+
+        C mockClient = mock(clientType());
+        mocker(mockClient, mockCms);
+
+        AbstractNamespacedResourceOperator<C, T, L, R> op = createResourceOperations(vertx, mockClient);
+
+        Checkpoint async = context.checkpoint();
+        op.watchFor(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, RESOURCE_NAME, "ready", 100, r -> false)
+            .onComplete(context.failing(e -> context.verify(() -> {
+                assertThat(e instanceof TimeoutException, is(true));
+                async.flag();
+            })));
+    }
 }
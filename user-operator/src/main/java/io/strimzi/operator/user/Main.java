@@ -16,6 +16,7 @@ import io.micrometer.prometheus.PrometheusConfig;
 import io.micrometer.prometheus.PrometheusMeterRegistry;
 import io.strimzi.certs.OpenSslCertManager;
 import io.strimzi.operator.common.AdminClientProvider;
+import io.strimzi.operator.common.BlockingExecutor;
 import io.strimzi.operator.common.DefaultAdminClientProvider;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.MicrometerMetricsProvider;
@@ -67,8 +68,18 @@ public class Main {
                 "strimzi-user-operator", Main.class.getPackage().getImplementationVersion()
         ).build();
         Admin adminClient = createAdminClient(config, client, new DefaultAdminClientProvider());
-        AtomicInteger kafkaUserOperatorExecutorThreadCounter = new AtomicInteger(0);
-        ExecutorService kafkaUserOperatorExecutor = Executors.newFixedThreadPool(config.getUserOperationsThreadPoolSize(), r -> new Thread(r, "operator-thread-pool-" + kafkaUserOperatorExecutorThreadCounter.getAndIncrement()));
+
+        // Use virtual threads for the controller loops and the user operations when enabled and supported
+        BlockingExecutor blockingExecutor = BlockingExecutor.create(config.isVirtualThreadsEnabled(), config.getVirtualThreadsMaxConcurrency());
+
+        ExecutorService kafkaUserOperatorExecutor;
+        if (blockingExecutor.isVirtualThreadsEnabled()) {
+            kafkaUserOperatorExecutor = blockingExecutor.virtualThreadExecutor();
+        } else {
+            AtomicInteger kafkaUserOperatorExecutorThreadCounter = new AtomicInteger(0);
+            kafkaUserOperatorExecutor = Executors.newFixedThreadPool(config.getUserOperationsThreadPoolSize(), r -> new Thread(r, "operator-thread-pool-" + kafkaUserOperatorExecutorThreadCounter.getAndIncrement()));
+        }
+
         KafkaUserOperator kafkaUserOperator = new KafkaUserOperator(
                 config,
                 client,
@@ -86,7 +97,8 @@ public class Main {
                 config,
                 client,
                 kafkaUserOperator,
-                metricsProvider
+                metricsProvider,
+                blockingExecutor
         );
 
         // Create the health check and metrics server
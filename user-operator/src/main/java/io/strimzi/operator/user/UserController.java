@@ -11,7 +11,10 @@ import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
 import io.fabric8.kubernetes.client.informers.cache.Lister;
 import io.strimzi.api.kafka.Crds;
 import io.strimzi.api.kafka.model.KafkaUser;
+import io.strimzi.api.kafka.model.KafkaUserBuilder;
+import io.strimzi.api.kafka.model.status.KafkaUserStatus;
 import io.strimzi.operator.common.Annotations;
+import io.strimzi.operator.common.BlockingExecutor;
 import io.strimzi.operator.common.InformerUtils;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.ReconciliationLogger;
@@ -19,6 +22,7 @@ import io.strimzi.operator.common.controller.AbstractControllerLoop;
 import io.strimzi.operator.common.controller.ControllerQueue;
 import io.strimzi.operator.common.controller.ReconciliationLockManager;
 import io.strimzi.operator.common.controller.SimplifiedReconciliation;
+import io.strimzi.operator.common.controller.StatusWriter;
 import io.strimzi.operator.common.http.Liveness;
 import io.strimzi.operator.common.http.Readiness;
 import io.strimzi.operator.common.metrics.ControllerMetricsHolder;
@@ -63,6 +67,7 @@ public class UserController implements Liveness, Readiness {
     private final SharedIndexInformer<KafkaUser> userInformer;
 
     private final ScheduledExecutorService scheduledExecutor;
+    private final ScheduledExecutorService statusExecutor;
 
     /**
      * Creates the User controller responsible for controlling users in a single namespace
@@ -73,6 +78,19 @@ public class UserController implements Liveness, Readiness {
      * @param metricsProvider Metrics provider for handling metrics
      */
     public UserController(UserOperatorConfig config, KubernetesClient client, KafkaUserOperator userOperator, MetricsProvider metricsProvider) {
+        this(config, client, userOperator, metricsProvider, BlockingExecutor.WORKER_POOL);
+    }
+
+    /**
+     * Creates the User controller responsible for controlling users in a single namespace
+     *
+     * @param config            User Operator configuration
+     * @param client            Kubernetes client
+     * @param userOperator      The User Operator which encapsulates the logic for updating the users
+     * @param metricsProvider   Metrics provider for handling metrics
+     * @param blockingExecutor  Blocking executor used to create the threads of the reconciliation loops
+     */
+    public UserController(UserOperatorConfig config, KubernetesClient client, KafkaUserOperator userOperator, MetricsProvider metricsProvider, BlockingExecutor blockingExecutor) {
         this.userOperator = userOperator;
 
         // Store some useful settings into local fields
@@ -114,13 +132,27 @@ public class UserController implements Liveness, Readiness {
         // Creates the scheduled executor service used for periodical reconciliations and progress warnings
         this.scheduledExecutor = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "UserControllerScheduledExecutor"));
 
+        // Creates the scheduled executor service used for the coalesced status updates. It is separate from the
+        // executor for the periodical reconciliations and progress warnings, because the status updates are blocking.
+        this.statusExecutor = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "UserControllerStatusExecutor"));
+
+        // Create the status writer shared by all reconciliation loops
+        StatusWriter<KafkaUser, KafkaUserStatus> statusWriter = new StatusWriter<>(
+                r -> userLister.namespace(r.namespace()).get(r.name()),
+                r -> Crds.kafkaUserOperation(client).inNamespace(r.namespace()).withName(r.name()).get(),
+                (user, status) -> new KafkaUserBuilder(user).withStatus(status).build(),
+                user -> Crds.kafkaUserOperation(client).inNamespace(user.getMetadata().getNamespace()).resource(user).updateStatus(),
+                statusExecutor,
+                StatusWriter.DEFAULT_COALESCING_WINDOW_MS
+        );
+
         // Create the reconciliation lock manager
         ReconciliationLockManager lockManager = new ReconciliationLockManager();
 
         // Create a thread pool for the reconciliation loops and add the reconciliation loops
         this.threadPool = new ArrayList<>(config.getControllerThreadPoolSize());
         for (int i = 0; i < config.getControllerThreadPoolSize(); i++) {
-            threadPool.add(new UserControllerLoop(RESOURCE_KIND + "-ControllerLoop-" + i, workQueue, lockManager, scheduledExecutor, client, userLister, secretLister, userOperator, metrics, config));
+            threadPool.add(new UserControllerLoop(RESOURCE_KIND + "-ControllerLoop-" + i, workQueue, lockManager, scheduledExecutor, statusWriter, userLister, secretLister, userOperator, metrics, config, blockingExecutor));
         }
     }
 
@@ -172,6 +204,9 @@ public class UserController implements Liveness, Readiness {
         LOGGER.infoOp("Stopping scheduled executor service");
         scheduledExecutor.shutdownNow(); // We do not wait for termination
 
+        LOGGER.infoOp("Stopping status executor service");
+        statusExecutor.shutdownNow(); // We do not wait for termination
+
         LOGGER.infoOp("Stopping User Controller loops");
         threadPool.forEach(t -> {
             try {
@@ -5,21 +5,18 @@
 package io.strimzi.operator.user;
 
 import io.fabric8.kubernetes.api.model.Secret;
-import io.fabric8.kubernetes.client.KubernetesClient;
-import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.informers.cache.Lister;
-import io.strimzi.api.kafka.Crds;
 import io.strimzi.api.kafka.model.KafkaUser;
-import io.strimzi.api.kafka.model.KafkaUserBuilder;
 import io.strimzi.api.kafka.model.status.Condition;
 import io.strimzi.api.kafka.model.status.KafkaUserStatus;
-import io.strimzi.operator.cluster.model.StatusDiff;
 import io.strimzi.operator.common.Annotations;
+import io.strimzi.operator.common.BlockingExecutor;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.controller.AbstractControllerLoop;
 import io.strimzi.operator.common.controller.ControllerQueue;
 import io.strimzi.operator.common.controller.ReconciliationLockManager;
+import io.strimzi.operator.common.controller.StatusWriter;
 import io.strimzi.operator.common.metrics.ControllerMetricsHolder;
 import io.strimzi.operator.common.operator.resource.StatusUtils;
 import io.strimzi.operator.user.model.KafkaUserModel;
@@ -38,9 +35,8 @@ import java.util.concurrent.TimeoutException;
  */
 public class UserControllerLoop extends AbstractControllerLoop {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(UserControllerLoop.class);
-    private static final String ALL_NAMESPACE_VALUE = "*";
 
-    private final KubernetesClient client;
+    private final StatusWriter<KafkaUser, KafkaUserStatus> statusWriter;
     private final Lister<KafkaUser> userLister;
     private final Lister<Secret> secretLister;
     private final KafkaUserOperator userOperator;
@@ -59,28 +55,30 @@ public class UserControllerLoop extends AbstractControllerLoop {
      * @param lockManager           LockManager which is used to avoid the same resource being reconciled in multiple loops in parallel
      * @param scheduledExecutor     Scheduled executor service which will be passed to the AbstractControllerLoop and
      *                              used to run the progress warnings
-     * @param client                The Kubernetes client
+     * @param statusWriter          The status writer used to update the status of the KafkaUser resources
      * @param userLister            The KafkaUser resource lister for getting the resources
      * @param secretLister          The Secret lister for getting the secrets
      * @param userOperator          The KafkaUserOperator which has the logic for updating the Kubernetes or Kafka resources
      * @param metrics               The metrics holder for providing metrics about the reconciliation
      * @param config                The User Operator config
+     * @param blockingExecutor      The blocking executor used to create the thread of the reconciliation loop
      */
     public UserControllerLoop(
             String name,
             ControllerQueue workQueue,
             ReconciliationLockManager lockManager,
             ScheduledExecutorService scheduledExecutor,
-            KubernetesClient client,
+            StatusWriter<KafkaUser, KafkaUserStatus> statusWriter,
             Lister<KafkaUser> userLister,
             Lister<Secret> secretLister,
             KafkaUserOperator userOperator,
             ControllerMetricsHolder metrics,
-            UserOperatorConfig config
+            UserOperatorConfig config,
+            BlockingExecutor blockingExecutor
     ) {
-        super(name, workQueue, lockManager, scheduledExecutor);
+        super(name, workQueue, lockManager, scheduledExecutor, blockingExecutor);
 
-        this.client = client;
+        this.statusWriter = statusWriter;
         this.userLister = userLister;
         this.secretLister = secretLister;
         this.userOperator = userOperator;
@@ -106,7 +104,7 @@ public class UserControllerLoop extends AbstractControllerLoop {
             LOGGER.infoCr(reconciliation, "Reconciliation of {} {} in namespace {} is paused", reconciliation.kind(), reconciliation.name(), reconciliation.namespace());
             KafkaUserStatus status = UserControllerUtils.pausedStatus(reconciliation, user);
             metrics().successfulReconciliationsCounter(reconciliation.namespace()).increment();
-            maybeUpdateStatus(reconciliation, user, status);
+            statusWriter.maybeUpdateStatus(reconciliation, user, status);
         } else {
             // Resource is not paused or is null (and we should trigger deletion) => we should proceed with reconciliation
             CompletionStage<KafkaUserStatus> reconciliationResult = userOperator
@@ -134,7 +132,9 @@ public class UserControllerLoop extends AbstractControllerLoop {
                     // Update the status if the user exists
                     if (user != null) {
                         StatusUtils.addConditionsToStatus(status, unknownAndDeprecatedConditions);
-                        maybeUpdateStatus(reconciliation, user, status);
+                        statusWriter.maybeUpdateStatus(reconciliation, user, status);
+                    } else {
+                        statusWriter.forget(reconciliation);
                     }
                 }
             } catch (Throwable t) {
@@ -144,44 +144,6 @@ public class UserControllerLoop extends AbstractControllerLoop {
         }
     }
 
-    /**
-     * Updates the status of the KafkaUser. The status will be updated only when it changed since last time.
-     *
-     * @param reconciliation    Reconciliation in which this is executed
-     * @param kafkaUser         Original KafkaUser with the current status
-     * @param desiredStatus     The desired status which should be set if it differs
-     */
-    private void maybeUpdateStatus(Reconciliation reconciliation, KafkaUser kafkaUser, KafkaUserStatus desiredStatus) {
-        // KafkaUser or desiredStatus being null means deletion => no status to update
-        if (kafkaUser != null && desiredStatus != null) {
-            if (!new StatusDiff(kafkaUser.getStatus(), desiredStatus).isEmpty())  {
-                try {
-                    LOGGER.debugCr(reconciliation, "Updating status of {} {} in namespace {}", reconciliation.kind(), reconciliation.name(), reconciliation.namespace());
-                    KafkaUser latestKafkaUser = userLister.namespace(reconciliation.namespace()).get(reconciliation.name());
-                    if (latestKafkaUser != null) {
-                        KafkaUser updateKafkaUser = new KafkaUserBuilder(latestKafkaUser)
-                                .withStatus(desiredStatus)
-                                .build();
-
-                        if (ALL_NAMESPACE_VALUE.equals(reconciliation.namespace())) {
-                            Crds.kafkaUserOperation(client).inAnyNamespace().resource(updateKafkaUser).updateStatus();
-                        } else {
-                            Crds.kafkaUserOperation(client).inNamespace(reconciliation.namespace()).resource(updateKafkaUser).updateStatus();
-                        }
-                    }
-                } catch (KubernetesClientException e)   {
-                    if (e.getCode() == 409) {
-                        LOGGER.debugCr(reconciliation, "{} {} in namespace {} changed while trying to update status", reconciliation.kind(), reconciliation.name(), reconciliation.namespace());
-                    } else if (e.getCode() == 404) {
-                        LOGGER.debugCr(reconciliation, "{} {} in namespace {} was deleted while trying to update status", reconciliation.kind(), reconciliation.name(), reconciliation.namespace());
-                    } else {
-                        LOGGER.errorCr(reconciliation, "Failed to update status of {} {} in namespace {}", reconciliation.kind(), reconciliation.name(), reconciliation.namespace(), e);
-                    }
-                }
-            }
-        }
-    }
-
     @Override
     protected ControllerMetricsHolder metrics() {
         return metrics;
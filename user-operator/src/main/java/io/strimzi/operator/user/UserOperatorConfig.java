@@ -4,7 +4,10 @@
  */
 package io.strimzi.operator.user;
 
+import io.strimzi.api.kafka.model.CertificateKeyAlgorithm;
+import io.strimzi.operator.common.InvalidConfigurationException;
 import io.strimzi.operator.common.operator.resource.ConfigParameter;
+import io.strimzi.operator.common.operator.resource.ConfigParameterParser;
 import io.strimzi.operator.common.model.Labels;
 
 import java.util.HashMap;
@@ -79,6 +82,10 @@ public class UserOperatorConfig {
      * How long before the certificate expiration should the user certificate be renewed
      */
     public static final ConfigParameter<Integer> CERTS_RENEWAL_DAYS = new ConfigParameter<>("STRIMZI_CA_RENEWAL", strictlyPositive(INTEGER), "30", CONFIG_VALUES);
+    /**
+     * Algorithm used for the private keys of the user certificates
+     */
+    public static final ConfigParameter<CertificateKeyAlgorithm> CERTS_KEY_ALGORITHM = new ConfigParameter<>("STRIMZI_CA_KEY_ALGORITHM", keyAlgorithm(), "rsa", CONFIG_VALUES);
     /**
      * Length used for the Scram-Sha Password
      */
@@ -119,6 +126,14 @@ public class UserOperatorConfig {
      * Size of the thread pool for user operations done by KafkaUserOperator and the classes used by it
      */
     public static final ConfigParameter<Integer> USER_OPERATIONS_THREAD_POOL_SIZE = new ConfigParameter<>("STRIMZI_USER_OPERATIONS_THREAD_POOL_SIZE", INTEGER, "4", CONFIG_VALUES);
+    /**
+     * Indicates whether the controller loops and the user operations should run in virtual threads
+     */
+    public static final ConfigParameter<Boolean> VIRTUAL_THREADS_ENABLED = new ConfigParameter<>("STRIMZI_VIRTUAL_THREADS_ENABLED", BOOLEAN, "false", CONFIG_VALUES);
+    /**
+     * Maximal number of user operations running in virtual threads at the same time
+     */
+    public static final ConfigParameter<Integer> VIRTUAL_THREADS_MAX_CONCURRENCY = new ConfigParameter<>("STRIMZI_VIRTUAL_THREADS_MAX_CONCURRENCY", strictlyPositive(INTEGER), "100", CONFIG_VALUES);
     /**
      * Additional configuration for the Kafka Admin Client
      */
@@ -139,6 +154,21 @@ public class UserOperatorConfig {
         this.map = map;
     }
 
+    /**
+     * @return  Parser for the key algorithm values as used in the CertificateAuthority configuration
+     */
+    private static ConfigParameterParser<CertificateKeyAlgorithm> keyAlgorithm() {
+        return configValue -> {
+            CertificateKeyAlgorithm keyAlgorithm = CertificateKeyAlgorithm.forValue(configValue);
+
+            if (keyAlgorithm == null) {
+                throw new InvalidConfigurationException("Unsupported key algorithm " + configValue);
+            }
+
+            return keyAlgorithm;
+        };
+    }
+
     /**
      * Creates the `UserOperatorConfig` object by calling the constructor.
      *
@@ -352,6 +382,20 @@ public class UserOperatorConfig {
         return get(USER_OPERATIONS_THREAD_POOL_SIZE);
     }
 
+    /**
+     * @return  Indicates whether the controller loops and the user operations should run in virtual threads
+     */
+    public boolean isVirtualThreadsEnabled() {
+        return get(VIRTUAL_THREADS_ENABLED);
+    }
+
+    /**
+     * @return  Maximal number of user operations running in virtual threads at the same time
+     */
+    public int getVirtualThreadsMaxConcurrency() {
+        return get(VIRTUAL_THREADS_MAX_CONCURRENCY);
+    }
+
     /**
      * @return The number of certificates validity days.
      */
@@ -366,6 +410,13 @@ public class UserOperatorConfig {
         return get(CERTS_RENEWAL_DAYS);
     }
 
+    /**
+     * @return The algorithm used for the private keys of the user certificates.
+     */
+    public CertificateKeyAlgorithm getClientsCaKeyAlgorithm() {
+        return get(CERTS_KEY_ALGORITHM);
+    }
+
 
     @Override
     public String toString() {
@@ -382,6 +433,7 @@ public class UserOperatorConfig {
                 ", secretPrefix='" + getSecretPrefix() + '\'' +
                 ", clientsCaValidityDays=" + getClientsCaValidityDays() +
                 ", clientsCaRenewalDays=" + getClientsCaRenewalDays() +
+                ", clientsCaKeyAlgorithm=" + getClientsCaKeyAlgorithm() +
                 ", aclsAdminApiSupported=" + isAclsAdminApiSupported() +
                 ", scramPasswordLength=" + getScramPasswordLength() +
                 ", maintenanceWindows=" + getMaintenanceWindows() +
@@ -394,6 +446,8 @@ public class UserOperatorConfig {
                 ", batchMaxBlockSize=" + getBatchMaxBlockSize() +
                 ", batchMaxBlockTime=" + getBatchMaxBlockTime() +
                 ", userOperationsThreadPoolSize=" + getUserOperationsThreadPoolSize() +
+                ", virtualThreadsEnabled=" + isVirtualThreadsEnabled() +
+                ", virtualThreadsMaxConcurrency=" + getVirtualThreadsMaxConcurrency() +
                 '}';
     }
 }
@@ -10,6 +10,7 @@ import io.fabric8.kubernetes.api.model.OwnerReferenceBuilder;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.SecretBuilder;
 import io.strimzi.api.kafka.model.AclRule;
+import io.strimzi.api.kafka.model.CertificateKeyAlgorithm;
 import io.strimzi.api.kafka.model.KafkaUser;
 import io.strimzi.api.kafka.model.KafkaUserAuthentication;
 import io.strimzi.api.kafka.model.KafkaUserAuthorizationSimple;
@@ -218,10 +219,33 @@ public class KafkaUserModel {
      * @param clock The clock for supplying the reconciler with the time instant of each reconciliation cycle.
      *              That time is used for checking maintenance windows
      */
-    @SuppressWarnings("checkstyle:BooleanExpressionComplexity")
     public void maybeGenerateCertificates(Reconciliation reconciliation, CertManager certManager, PasswordGenerator passwordGenerator,
                                           Secret clientsCaCertSecret, Secret clientsCaKeySecret, Secret userSecret, int validityDays,
                                           int renewalDays, List<String> maintenanceWindows, Clock clock) {
+        maybeGenerateCertificates(reconciliation, certManager, passwordGenerator, clientsCaCertSecret, clientsCaKeySecret, userSecret,
+                validityDays, renewalDays, null, maintenanceWindows, clock);
+    }
+
+    /**
+     * Manage certificates generation based on those already present in the Secrets
+     *
+     * @param reconciliation The reconciliation
+     * @param certManager CertManager instance for handling certificates creation
+     * @param passwordGenerator PasswordGenerator instance for generating passwords
+     * @param clientsCaCertSecret The clients CA certificate Secret.
+     * @param clientsCaKeySecret The clients CA key Secret.
+     * @param userSecret Secret with the user certificate
+     * @param validityDays The number of days the certificate should be valid for.
+     * @param renewalDays The renewal days.
+     * @param keyAlgorithm The algorithm used for newly generated user keys. RSA is used when null.
+     * @param maintenanceWindows List of configured maintenance windows
+     * @param clock The clock for supplying the reconciler with the time instant of each reconciliation cycle.
+     *              That time is used for checking maintenance windows
+     */
+    @SuppressWarnings({"checkstyle:BooleanExpressionComplexity", "checkstyle:ParameterNumber"})
+    public void maybeGenerateCertificates(Reconciliation reconciliation, CertManager certManager, PasswordGenerator passwordGenerator,
+                                          Secret clientsCaCertSecret, Secret clientsCaKeySecret, Secret userSecret, int validityDays,
+                                          int renewalDays, CertificateKeyAlgorithm keyAlgorithm, List<String> maintenanceWindows, Clock clock) {
         validateCACertificates(clientsCaCertSecret, clientsCaKeySecret);
 
         ClientsCa clientsCa = new ClientsCa(
@@ -235,7 +259,8 @@ public class KafkaUserModel {
                 validityDays,
                 renewalDays,
                 false,
-                null);
+                null,
+                keyAlgorithm);
         this.caCert = clientsCa.currentCaCertBase64();
 
         if (userSecret != null) {
@@ -364,6 +364,7 @@ public class KafkaUserOperator {
                 userSecret,
                 config.getClientsCaValidityDays(),
                 config.getClientsCaRenewalDays(),
+                config.getClientsCaKeyAlgorithm(),
                 config.getMaintenanceWindows(),
                 Clock.systemUTC()
         );
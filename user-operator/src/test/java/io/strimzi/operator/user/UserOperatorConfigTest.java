@@ -4,6 +4,7 @@
  */
 package io.strimzi.operator.user;
 
+import io.strimzi.api.kafka.model.CertificateKeyAlgorithm;
 import io.strimzi.operator.common.InvalidConfigurationException;
 import io.strimzi.operator.common.model.Labels;
 import org.junit.jupiter.api.Test;
@@ -65,6 +66,25 @@ public class UserOperatorConfigTest {
         assertThat(config.getUserOperationsThreadPoolSize(), is(4));
     }
 
+    @Test
+    public void testVirtualThreads()  {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.ENV_VARS);
+
+        UserOperatorConfig config = UserOperatorConfig.buildFromMap(envVars);
+        assertThat(config.isVirtualThreadsEnabled(), is(false));
+        assertThat(config.getVirtualThreadsMaxConcurrency(), is(100));
+
+        envVars.put(UserOperatorConfig.VIRTUAL_THREADS_ENABLED.key(), "true");
+        envVars.put(UserOperatorConfig.VIRTUAL_THREADS_MAX_CONCURRENCY.key(), "20");
+
+        config = UserOperatorConfig.buildFromMap(envVars);
+        assertThat(config.isVirtualThreadsEnabled(), is(true));
+        assertThat(config.getVirtualThreadsMaxConcurrency(), is(20));
+
+        envVars.put(UserOperatorConfig.VIRTUAL_THREADS_MAX_CONCURRENCY.key(), "-1");
+        assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.buildFromMap(envVars));
+    }
+
     @Test
     public void testFromMapNamespaceEnvVarMissingThrows()  {
         Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.ENV_VARS);
@@ -152,6 +172,18 @@ public class UserOperatorConfigTest {
         assertThat(config.get(UserOperatorConfig.CERTS_RENEWAL_DAYS), is(Integer.parseInt(UserOperatorConfig.CERTS_RENEWAL_DAYS.defaultValue())));
     }
 
+    @Test
+    public void testFromMapCaKeyAlgorithm()  {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.ENV_VARS);
+        assertThat(UserOperatorConfig.buildFromMap(envVars).getClientsCaKeyAlgorithm(), is(CertificateKeyAlgorithm.RSA));
+
+        envVars.put(UserOperatorConfig.CERTS_KEY_ALGORITHM.key(), "ecdsa-p384");
+        assertThat(UserOperatorConfig.buildFromMap(envVars).getClientsCaKeyAlgorithm(), is(CertificateKeyAlgorithm.ECDSA_P384));
+
+        envVars.put(UserOperatorConfig.CERTS_KEY_ALGORITHM.key(), "dsa");
+        assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.buildFromMap(envVars));
+    }
+
     @Test
     public void testFromMapAclsAdminApiSupportedDefaults()  {
         Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.ENV_VARS);